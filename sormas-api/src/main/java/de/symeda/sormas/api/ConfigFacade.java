@@ -58,8 +58,6 @@ public interface ConfigFacade {
 
 	String getCustomFilesPath();
 
-	String getRScriptExecutable();
-
 	char getCsvSeparator();
 
 	String getAppLegacyUrl();
@@ -136,6 +134,12 @@ public interface ConfigFacade {
 
 	int getStepSizeForCsvExport();
 
+	int getDatabaseExportWorkers();
+
+	int getImportWorkers();
+
+	int getImportChunkSize();
+
 	long getDocumentUploadSizeLimitMb();
 
 	long getImportFileSizeLimitMb();
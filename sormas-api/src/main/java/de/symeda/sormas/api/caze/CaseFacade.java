@@ -48,6 +48,7 @@ import de.symeda.sormas.api.messaging.MessageType;
 import de.symeda.sormas.api.utils.DataHelper.Pair;
 import de.symeda.sormas.api.utils.SortProperty;
 import de.symeda.sormas.api.utils.ValidationRuntimeException;
+import de.symeda.sormas.api.utils.criteria.BulkSelection;
 
 @Remote
 public interface CaseFacade {
@@ -59,8 +60,23 @@ public interface CaseFacade {
 	 */
 	List<CaseDataDto> getAllActiveCasesAfter(Date date, boolean includeExtendedChangeDateFilters);
 
+	/**
+	 * Paged variant of {@link #getAllActiveCasesAfter(Date)} for the mobile synchronization: Returns at most {@code batchSize} cases,
+	 * ordered by change date and uuid, that come after the last synchronized case. The first batch is requested without
+	 * {@code lastChangeDate} and {@code lastSynchronizedUuid}, the following ones with the values of the last case of the previous batch.
+	 * The batch size is limited by the server.
+	 */
+	List<CaseDataDto> getAllActiveCasesAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid);
+
 	long count(CaseCriteria caseCriteria);
 
+	/**
+	 * Returns right away, so index lists can be rendered while the exact count is determined by {@link #count(CaseCriteria)}.
+	 *
+	 * @return The last count determined for the criteria, which might be outdated, or {@code null} if there is none
+	 */
+	Long getEstimatedCount(CaseCriteria caseCriteria);
+
 	long count(CaseCriteria caseCriteria, boolean ignoreUserFilter);
 
 	List<CaseIndexDto> getIndexList(CaseCriteria caseCriteria, Integer first, Integer max, List<SortProperty> sortProperties);
@@ -88,6 +104,22 @@ public interface CaseFacade {
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage);
 
+	/**
+	 * Keyset paginated variant of
+	 * {@link #getExportList(CaseCriteria, Collection, CaseExportType, int, int, ExportConfigurationDto, Language)}:
+	 * Returns up to {@code max} cases that come after the case identified by {@code lastReportDate} and {@code lastId} in the export
+	 * order (report date and id, both descending). Pass {@code null} for both to get the first chunk.
+	 */
+	List<CaseExportDto> getExportListAfter(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Date lastReportDate,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage);
+
 	CaseDataDto getCaseDataByUuid(String uuid);
 
 	CaseDataDto saveCase(@Valid CaseDataDto dto) throws ValidationRuntimeException;
@@ -134,6 +166,19 @@ public interface CaseFacade {
 
 	List<String> deleteCases(List<String> caseUuids);
 
+	List<String> deleteCases(BulkSelection<CaseCriteria> selection);
+
+	/**
+	 * A selection of all matching cases only includes the cases the user is allowed to edit, so its size can't be derived from
+	 * {@link #count(CaseCriteria)}.
+	 *
+	 * @param bulkEdit
+	 *            {@code true} for bulk edit, {@code false} for delete and archive, which admins may also do with cases they are not
+	 *            allowed to edit
+	 * @return The number of cases the bulk operation is applied to
+	 */
+	long countSelectedCases(BulkSelection<CaseCriteria> selection, boolean bulkEdit);
+
 	void deleteCaseAsDuplicate(String caseUuid, String duplicateOfCaseUuid) throws ExternalSurveillanceToolException;
 
 	Date getOldestCaseOnsetDate();
@@ -178,6 +223,8 @@ public interface CaseFacade {
 	 */
 	void updateArchived(List<String> caseUuids, boolean archived);
 
+	void updateArchived(BulkSelection<CaseCriteria> selection, boolean archived);
+
 	List<CaseReferenceDto> getRandomCaseReferences(CaseCriteria criteria, int count, Random randomGenerator);
 
 	FollowUpPeriodDto calculateFollowUpUntilDate(CaseDataDto caseDto, boolean ignoreOverwrite);
@@ -213,6 +260,15 @@ public interface CaseFacade {
 		boolean outcomeChange,
 		boolean surveillanceOfficerChange);
 
+	void saveBulkCase(
+		BulkSelection<CaseCriteria> selection,
+		@Valid CaseBulkEditData updatedCaseBulkEditData,
+		boolean diseaseChange,
+		boolean classificationChange,
+		boolean investigationStatusChange,
+		boolean outcomeChange,
+		boolean surveillanceOfficerChange);
+
 	void saveBulkEditWithFacilities(
 		List<String> caseUuidList,
 		@Valid CaseBulkEditData updatedCaseBulkEditData,
@@ -223,6 +279,16 @@ public interface CaseFacade {
 		boolean surveillanceOfficerChange,
 		Boolean doTransfer);
 
+	void saveBulkEditWithFacilities(
+		BulkSelection<CaseCriteria> selection,
+		@Valid CaseBulkEditData updatedCaseBulkEditData,
+		boolean diseaseChange,
+		boolean classificationChange,
+		boolean investigationStatusChange,
+		boolean outcomeChange,
+		boolean surveillanceOfficerChange,
+		Boolean doTransfer);
+
 	List<CasePersonDto> getDuplicates(@Valid CasePersonDto casePerson, int reportDateThreshold);
 
 	List<CasePersonDto> getDuplicates(@Valid CasePersonDto casePerson);
@@ -234,4 +300,12 @@ public interface CaseFacade {
 	void updateExternalData(@Valid List<ExternalDataDto> externalData) throws ExternalDataUpdateException;
 
 	int updateCompleteness();
+
+	/**
+	 * Recalculates the automatic classification of the given cases, e.g. after the classification rules have changed or many lab
+	 * results have been imported. Cases the current user is not allowed to edit are left out.
+	 *
+	 * @return The number of cases whose classification has changed
+	 */
+	int updateCaseClassifications(List<String> caseUuids);
 }
@@ -15,6 +15,8 @@
 
 package de.symeda.sormas.api.caze.caseimport;
 
+import java.util.List;
+
 import javax.ejb.Remote;
 import javax.validation.Valid;
 
@@ -32,6 +34,19 @@ public interface CaseImportFacade {
 		boolean ignoreEmptyEntries)
 		throws InvalidColumnException;
 
+	/**
+	 * Imports several lines in one transaction, each like {@link #importCaseData(String[], String[], String[], String[][], boolean)}.
+	 *
+	 * @return One result per line, in the order of {@code valuesList}.
+	 */
+	List<ImportLineResultDto<CaseImportEntities>> importCaseData(
+		List<String[]> valuesList,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean ignoreEmptyEntries)
+		throws InvalidColumnException;
+
 	ImportLineResultDto<CaseImportEntities> updateCaseWithImportData(
 		String personUuid,
 		String caseUuid,
@@ -1,6 +1,7 @@
 package de.symeda.sormas.api.caze.classification;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -20,6 +21,11 @@ public class ClassificationAllSymptomsCriteriaDto extends ClassificationCriteria
 	private SymptomState symptomState;
 	private FieldVisibilityCheckers fieldVisibilityCheckers;
 
+	/**
+	 * The visible symptom fields, looked up on first use so that evaluating the criteria does not look them up again
+	 */
+	private transient volatile List<Field> symptomFields;
+
 	public ClassificationAllSymptomsCriteriaDto(SymptomState symptomState, Disease disease, String countryLocale) {
 		this.symptomState = symptomState;
 		fieldVisibilityCheckers = FieldVisibilityCheckers.withDisease(disease).andWithCountry(countryLocale);
@@ -28,25 +34,36 @@ public class ClassificationAllSymptomsCriteriaDto extends ClassificationCriteria
 	@Override
 	public boolean eval(CaseDataDto caze, PersonDto person, List<PathogenTestDto> pathogenTests, List<EventDto> events, Date lastVaccinationDate) {
 
-		for (Field field : SymptomsDto.class.getDeclaredFields()) {
-
-			SymptomsDto symptomsDto = caze.getSymptoms();
-			if (field.getType() == SymptomState.class && fieldVisibilityCheckers.isVisible(SymptomsDto.class, field.getName())) {
-				field.setAccessible(true);
-				try {
-					boolean matchedFieldState = field.get(symptomsDto) == symptomState;
-					field.setAccessible(false);
-					if (!matchedFieldState) {
-						return false;
-					}
-				} catch (IllegalAccessException e) {
-					throw new RuntimeException(e);
+		SymptomsDto symptomsDto = caze.getSymptoms();
+		for (Field field : getSymptomFields()) {
+			try {
+				if (field.get(symptomsDto) != symptomState) {
+					return false;
 				}
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
 			}
 		}
 		return true;
 	}
 
+	private List<Field> getSymptomFields() {
+
+		List<Field> fields = symptomFields;
+		if (fields == null) {
+			fields = new ArrayList<>();
+			for (Field field : SymptomsDto.class.getDeclaredFields()) {
+				if (field.getType() == SymptomState.class && fieldVisibilityCheckers.isVisible(SymptomsDto.class, field.getName())) {
+					field.setAccessible(true);
+					fields.add(field);
+				}
+			}
+			symptomFields = fields;
+		}
+
+		return fields;
+	}
+
 	@Override
 	public String buildDescription() {
 		StringBuilder stringBuilder = new StringBuilder();
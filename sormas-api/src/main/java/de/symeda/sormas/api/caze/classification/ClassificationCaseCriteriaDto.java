@@ -47,6 +47,11 @@ public class ClassificationCaseCriteriaDto extends ClassificationCriteriaDto {
 	protected String propertyId;
 	protected List<Object> propertyValues;
 
+	/**
+	 * Getter of the property, resolved on first use so that evaluating the criteria does not look it up again
+	 */
+	private transient volatile Method propertyGetter;
+
 	public ClassificationCaseCriteriaDto() {
 
 	}
@@ -67,11 +72,40 @@ public class ClassificationCaseCriteriaDto extends ClassificationCriteriaDto {
 	@Override
 	public boolean eval(CaseDataDto caze, PersonDto person, List<PathogenTestDto> pathogenTests, List<EventDto> events, Date lastVaccinationDate) {
 
+		Object value = getPropertyValue(getInvokeObject(caze));
+		return propertyValues.contains(value);
+	}
+
+	/**
+	 * @return The value of the criteria's property of the given object, which has to be an instance of {@link #getInvokeClass()}
+	 */
+	protected Object getPropertyValue(Object invokeObject) {
+
+		Method getter = propertyGetter;
+		if (getter == null) {
+			getter = findPropertyGetter();
+			propertyGetter = getter;
+		}
+
 		try {
-			Method method = getInvokeClass().getMethod("get" + propertyId.substring(0, 1).toUpperCase() + propertyId.substring(1));
-			Object value = method.invoke(getInvokeObject(caze));
-			return propertyValues.contains(value);
-		} catch (NoSuchMethodException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | SecurityException e) {
+			return getter.invoke(invokeObject);
+		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private Method findPropertyGetter() {
+
+		String capitalizedPropertyId = propertyId.substring(0, 1).toUpperCase() + propertyId.substring(1);
+		try {
+			return getInvokeClass().getMethod("get" + capitalizedPropertyId);
+		} catch (NoSuchMethodException e) {
+			try {
+				return getInvokeClass().getMethod("is" + capitalizedPropertyId);
+			} catch (NoSuchMethodException newE) {
+				throw new RuntimeException(newE);
+			}
+		} catch (SecurityException e) {
 			throw new RuntimeException(e);
 		}
 	}
@@ -109,6 +143,7 @@ public class ClassificationCaseCriteriaDto extends ClassificationCriteriaDto {
 
 	public void setPropertyId(String propertyId) {
 		this.propertyId = propertyId;
+		this.propertyGetter = null;
 	}
 
 	public List<Object> getPropertyValues() {
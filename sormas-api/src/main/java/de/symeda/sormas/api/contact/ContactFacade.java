@@ -43,6 +43,13 @@ public interface ContactFacade {
 
 	List<ContactDto> getAllActiveContactsAfter(Date date);
 
+	/**
+	 * Paged variant of {@link #getAllActiveContactsAfter(Date)}.
+	 * 
+	 * @see de.symeda.sormas.api.caze.CaseFacade#getAllActiveCasesAfter(Date, Integer, Date, String)
+	 */
+	List<ContactDto> getAllActiveContactsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid);
+
 	ContactDto getContactByUuid(String uuid);
 
 	Boolean isValidContactUuid(String uuid);
@@ -115,6 +122,13 @@ public interface ContactFacade {
 
 	long count(ContactCriteria contactCriteria);
 
+	/**
+	 * Returns right away, so index lists can be rendered while the exact count is determined by {@link #count(ContactCriteria)}.
+	 *
+	 * @return The last count determined for the criteria, which might be outdated, or {@code null} if there is none
+	 */
+	Long getEstimatedCount(ContactCriteria contactCriteria);
+
 	List<String> getDeletedUuidsSince(Date since);
 
 	boolean isDeleted(String contactUuid);
@@ -0,0 +1,128 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.dashboard;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.person.PresentCondition;
+import de.symeda.sormas.api.sample.PathogenTestResultType;
+
+/**
+ * Case counts shown on the surveillance dashboard for one period.
+ * <p>
+ * {@link #getCaseCountByClassification()} always contains all classifications including
+ * {@link CaseClassification#NO_CASE}. All other counts only include "not a case" cases if
+ * {@link DashboardCriteria#shouldIncludeNotACaseClassification()} is set.
+ */
+public class DashboardCaseStatisticsDto implements Serializable {
+
+	private static final long serialVersionUID = 3485218735912376601L;
+
+	private long caseCount;
+	private long fatalCaseCount;
+	private long inQuarantineCount;
+	private long placedInQuarantineCount;
+	private long referenceDefinitionFulfilledCount;
+	private Map<CaseClassification, Integer> caseCountByClassification = new EnumMap<>(CaseClassification.class);
+	private Map<Disease, Long> caseCountByDisease = new EnumMap<>(Disease.class);
+	private Map<PresentCondition, Integer> caseCountByPresentCondition = new EnumMap<>(PresentCondition.class);
+	private Map<PathogenTestResultType, Long> testResultCountByResultType = new EnumMap<>(PathogenTestResultType.class);
+
+	public long getCaseCount() {
+		return caseCount;
+	}
+
+	public void setCaseCount(long caseCount) {
+		this.caseCount = caseCount;
+	}
+
+	public long getFatalCaseCount() {
+		return fatalCaseCount;
+	}
+
+	public void setFatalCaseCount(long fatalCaseCount) {
+		this.fatalCaseCount = fatalCaseCount;
+	}
+
+	/**
+	 * @return Cases whose quarantine overlaps with the period.
+	 */
+	public long getInQuarantineCount() {
+		return inQuarantineCount;
+	}
+
+	public void setInQuarantineCount(long inQuarantineCount) {
+		this.inQuarantineCount = inQuarantineCount;
+	}
+
+	/**
+	 * @return Cases whose quarantine started within the period.
+	 */
+	public long getPlacedInQuarantineCount() {
+		return placedInQuarantineCount;
+	}
+
+	public void setPlacedInQuarantineCount(long placedInQuarantineCount) {
+		this.placedInQuarantineCount = placedInQuarantineCount;
+	}
+
+	public long getReferenceDefinitionFulfilledCount() {
+		return referenceDefinitionFulfilledCount;
+	}
+
+	public void setReferenceDefinitionFulfilledCount(long referenceDefinitionFulfilledCount) {
+		this.referenceDefinitionFulfilledCount = referenceDefinitionFulfilledCount;
+	}
+
+	public Map<CaseClassification, Integer> getCaseCountByClassification() {
+		return caseCountByClassification;
+	}
+
+	public void setCaseCountByClassification(Map<CaseClassification, Integer> caseCountByClassification) {
+		this.caseCountByClassification = caseCountByClassification;
+	}
+
+	public Map<Disease, Long> getCaseCountByDisease() {
+		return caseCountByDisease;
+	}
+
+	public void setCaseCountByDisease(Map<Disease, Long> caseCountByDisease) {
+		this.caseCountByDisease = caseCountByDisease;
+	}
+
+	public Map<PresentCondition, Integer> getCaseCountByPresentCondition() {
+		return caseCountByPresentCondition;
+	}
+
+	public void setCaseCountByPresentCondition(Map<PresentCondition, Integer> caseCountByPresentCondition) {
+		this.caseCountByPresentCondition = caseCountByPresentCondition;
+	}
+
+	/**
+	 * @return Result of the latest adequate sample of each case.
+	 */
+	public Map<PathogenTestResultType, Long> getTestResultCountByResultType() {
+		return testResultCountByResultType;
+	}
+
+	public void setTestResultCountByResultType(Map<PathogenTestResultType, Long> testResultCountByResultType) {
+		this.testResultCountByResultType = testResultCountByResultType;
+	}
+}
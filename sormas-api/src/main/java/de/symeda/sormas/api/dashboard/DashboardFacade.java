@@ -13,7 +13,6 @@ import de.symeda.sormas.api.event.EventStatus;
 import de.symeda.sormas.api.person.PresentCondition;
 import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
-import de.symeda.sormas.api.sample.PathogenTestResultType;
 
 @Remote
 public interface DashboardFacade {
@@ -24,7 +23,10 @@ public interface DashboardFacade {
 
 	String getLastReportedDistrictName(DashboardCriteria dashboardCriteria);
 
-	Map<PathogenTestResultType, Long> getTestResultCountByResultType(List<DashboardCaseDto> cases);
+	/**
+	 * Counts the cases matching {@code dashboardCriteria} with grouped queries instead of loading them.
+	 */
+	DashboardCaseStatisticsDto getCaseStatistics(DashboardCriteria dashboardCriteria);
 
 	long countCasesConvertedFromContacts(DashboardCriteria dashboardCriteria);
 
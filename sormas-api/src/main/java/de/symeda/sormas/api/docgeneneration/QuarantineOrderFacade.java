@@ -44,6 +44,19 @@ public interface QuarantineOrderFacade {
 		Properties extraProperties)
 		throws DocumentTemplateException;
 
+	/**
+	 * Generates the documents of all root entities into a ZIP archive in the temp files directory, without holding them in
+	 * memory.
+	 *
+	 * @return The path of the archive.
+	 */
+	String getGeneratedDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> rootEntityReferences,
+		Properties extraProperties)
+		throws DocumentTemplateException;
+
 	List<String> getAvailableTemplates(DocumentWorkflow workflow);
 
 	DocumentVariables getDocumentVariables(DocumentWorkflow documentWorkflow, String templateName) throws DocumentTemplateException;
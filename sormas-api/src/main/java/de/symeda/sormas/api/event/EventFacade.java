@@ -61,6 +61,13 @@ public interface EventFacade {
 
 	long count(EventCriteria eventCriteria);
 
+	/**
+	 * Returns right away, so index lists can be rendered while the exact count is determined by {@link #count(EventCriteria)}.
+	 *
+	 * @return The last count determined for the criteria, which might be outdated, or {@code null} if there is none
+	 */
+	Long getEstimatedCount(EventCriteria eventCriteria);
+
 	List<EventIndexDto> getIndexList(EventCriteria eventCriteria, Integer first, Integer max, List<SortProperty> sortProperties);
 
 	Page<EventIndexDto> getIndexPage(@NotNull EventCriteria eventCriteria, Integer offset, Integer size, List<SortProperty> sortProperties);
@@ -17,11 +17,13 @@
  *******************************************************************************/
 package de.symeda.sormas.api.geo;
 
-import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
-import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
+import java.util.List;
 
 import javax.ejb.Remote;
 
+import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
+import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
+
 @Remote
 public interface GeoShapeProvider {
 
@@ -40,6 +42,11 @@ public interface GeoShapeProvider {
 
 	DistrictReferenceDto getDistrictByCoord(GeoLatLon latLon);
 
+	/**
+	 * @return the district of each coordinate in the same order, {@code null} for coordinates outside of all districts
+	 */
+	List<DistrictReferenceDto> getDistrictsByCoords(List<GeoLatLon> latLons);
+
 	GeoLatLon getCenterOfDistrict(DistrictReferenceDto district);
 
 	GeoLatLon[][] getCountryShape();
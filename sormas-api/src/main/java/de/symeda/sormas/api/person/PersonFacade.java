@@ -39,6 +39,13 @@ public interface PersonFacade {
 
 	List<PersonDto> getPersonsAfter(Date date);
 
+	/**
+	 * Paged variant of {@link #getPersonsAfter(Date)}.
+	 * 
+	 * @see de.symeda.sormas.api.caze.CaseFacade#getAllActiveCasesAfter(Date, Integer, Date, String)
+	 */
+	List<PersonDto> getPersonsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid);
+
 	List<PersonDto> getDeathsBetween(Date fromDate, Date toDate, DistrictReferenceDto districtRef, Disease disease);
 
 	PersonReferenceDto getReferenceByUuid(String uuid);
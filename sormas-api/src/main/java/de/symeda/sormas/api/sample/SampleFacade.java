@@ -35,6 +35,13 @@ public interface SampleFacade {
 
 	List<SampleDto> getAllActiveSamplesAfter(Date date);
 
+	/**
+	 * Paged variant of {@link #getAllActiveSamplesAfter(Date)}.
+	 * 
+	 * @see de.symeda.sormas.api.caze.CaseFacade#getAllActiveCasesAfter(Date, Integer, Date, String)
+	 */
+	List<SampleDto> getAllActiveSamplesAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid);
+
 	List<SampleIndexDto> getIndexList(SampleCriteria sampleCriteria, Integer first, Integer max, List<SortProperty> sortProperties);
 
 	Page<SampleIndexDto> getIndexPage(SampleCriteria sampleCriteria, Integer offset, Integer size, List<SortProperty> sortProperties);
@@ -45,6 +52,13 @@ public interface SampleFacade {
 
 	long count(SampleCriteria sampleCriteria);
 
+	/**
+	 * Returns right away, so index lists can be rendered while the exact count is determined by {@link #count(SampleCriteria)}.
+	 *
+	 * @return The last count determined for the criteria, which might be outdated, or {@code null} if there is none
+	 */
+	Long getEstimatedCount(SampleCriteria sampleCriteria);
+
 	SampleDto getSampleByUuid(String uuid);
 
 	SampleDto saveSample(@Valid SampleDto dto);
@@ -39,6 +39,13 @@ public interface TaskFacade {
 
 	List<TaskDto> getAllActiveTasksAfter(Date date);
 
+	/**
+	 * Paged variant of {@link #getAllActiveTasksAfter(Date)}.
+	 * 
+	 * @see de.symeda.sormas.api.caze.CaseFacade#getAllActiveCasesAfter(Date, Integer, Date, String)
+	 */
+	List<TaskDto> getAllActiveTasksAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid);
+
 	List<TaskDto> getAllByCase(CaseReferenceDto caseRef);
 
 	Page<TaskIndexDto> getIndexPage(TaskCriteria taskCriteria, Integer offset, Integer size, List<SortProperty> sortProperties);
@@ -67,6 +74,13 @@ public interface TaskFacade {
 
 	long count(TaskCriteria criteria);
 
+	/**
+	 * Returns right away, so index lists can be rendered while the exact count is determined by {@link #count(TaskCriteria)}.
+	 *
+	 * @return The last count determined for the criteria, which might be outdated, or {@code null} if there is none
+	 */
+	Long getEstimatedCount(TaskCriteria criteria);
+
 	List<TaskIndexDto> getIndexList(TaskCriteria criteria, Integer first, Integer max, List<SortProperty> sortProperties);
 
 	List<TaskExportDto> getExportList(TaskCriteria criteria, Collection<String> selectedRows, int first, int max);
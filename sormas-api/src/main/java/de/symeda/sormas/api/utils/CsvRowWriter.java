@@ -0,0 +1,295 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.collections.Predicate;
+import org.apache.commons.lang3.StringUtils;
+
+import de.symeda.sormas.api.EntityDto;
+import de.symeda.sormas.api.importexport.ExportConfigurationDto;
+import de.symeda.sormas.api.importexport.ExportEntity;
+import de.symeda.sormas.api.importexport.ExportProperty;
+import de.symeda.sormas.api.importexport.format.ExportFormat;
+import de.symeda.sormas.api.importexport.format.FormatterProvider;
+import de.symeda.sormas.api.importexport.format.IExportFormatter;
+import de.symeda.sormas.api.utils.fieldvisibility.checkers.CountryFieldVisibilityChecker;
+
+/**
+ * Writes export rows into a reusable {@code String[]} without inspecting the export row class again for every row.
+ * <p>
+ * The annotations of an export row class ({@link Order}, {@link ExportProperty}, {@link ExportEntity}, {@link ExportFormat}) are
+ * read only once per class and cached. {@link #compile} then selects the columns of one export (country visibility, the passed
+ * method filter, e.g. for {@link de.symeda.sormas.api.importexport.ExportTarget}, and the {@link ExportConfigurationDto}) and
+ * expands sub entities into their columns. Writing a row only invokes the read methods and the already resolved formatters.
+ *
+ * @param <T>
+ *            Type of the export rows.
+ */
+public final class CsvRowWriter<T> {
+
+	private static final Map<Class<?>, List<ColumnDefinition>> COLUMN_DEFINITIONS = new ConcurrentHashMap<>();
+
+	private final String[] fieldClassNames;
+	private final String[] fieldIds;
+	private final String[] labels;
+
+	private final Method[] subEntityReadMethods;
+	private final Object[] subEntities;
+	private final ColumnDefinition[] columns;
+	/**
+	 * Index into {@link #subEntityReadMethods} for every column, {@code -1} when the value is read from the export row itself.
+	 */
+	private final int[] columnSubEntities;
+	private final String[] values;
+
+	private CsvRowWriter(
+		String[] fieldClassNames,
+		String[] fieldIds,
+		String[] labels,
+		Method[] subEntityReadMethods,
+		ColumnDefinition[] columns,
+		int[] columnSubEntities) {
+
+		this.fieldClassNames = fieldClassNames;
+		this.fieldIds = fieldIds;
+		this.labels = labels;
+		this.subEntityReadMethods = subEntityReadMethods;
+		this.subEntities = new Object[subEntityReadMethods.length];
+		this.columns = columns;
+		this.columnSubEntities = columnSubEntities;
+		this.values = new String[columns.length];
+	}
+
+	/**
+	 * @param exportRowClass
+	 *            The class whose {@link Order} annotated read methods are exported.
+	 * @param propertyIdCaptionSupplier
+	 *            Builds the caption of a column from its field name and type.
+	 * @param exportConfiguration
+	 *            Optional selection of the exported properties.
+	 * @param readMethodFilter
+	 *            Optional additional filter for the read methods of {@code exportRowClass}.
+	 * @param countryLocale
+	 *            Used to skip columns that are hidden for the server country.
+	 */
+	public static <T> CsvRowWriter<T> compile(
+		Class<T> exportRowClass,
+		CsvStreamUtils.SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
+		ExportConfigurationDto exportConfiguration,
+		Predicate readMethodFilter,
+		String countryLocale) {
+
+		CountryFieldVisibilityChecker countryFieldVisibilityChecker = new CountryFieldVisibilityChecker(countryLocale);
+
+		List<ColumnDefinition> subEntityColumns = new ArrayList<>();
+		List<ColumnDefinition> columns = new ArrayList<>();
+		List<Integer> columnSubEntities = new ArrayList<>();
+
+		// 1. fields in order of declaration
+		for (ColumnDefinition column : getColumnDefinitions(exportRowClass)) {
+			if (!countryFieldVisibilityChecker.isVisible(column.readMethod)
+				|| (readMethodFilter != null && !readMethodFilter.evaluate(column.readMethod))
+				|| (exportConfiguration != null && !isConfiguredForExport(column, exportConfiguration))) {
+				continue;
+			}
+
+			if (column.subEntityClass != null) {
+				// 2. replace entity fields with all the columns of the entity
+				int subEntityIndex = subEntityColumns.size();
+				subEntityColumns.add(column);
+				for (ColumnDefinition subColumn : getColumnDefinitions(column.subEntityClass)) {
+					columns.add(subColumn);
+					columnSubEntities.add(subEntityIndex);
+				}
+			} else {
+				columns.add(column);
+				columnSubEntities.add(-1);
+			}
+		}
+
+		Class<?> entityClass = null;
+		if (exportRowClass.isAnnotationPresent(ExportEntity.class)) {
+			entityClass = exportRowClass.getAnnotation(ExportEntity.class).value();
+		}
+
+		String[] fieldClassNames = entityClass != null ? new String[columns.size()] : null;
+		String[] fieldIds = new String[columns.size()];
+		String[] labels = new String[columns.size()];
+		int[] columnSubEntityIndexes = new int[columns.size()];
+		for (int i = 0; i < columns.size(); i++) {
+			ColumnDefinition column = columns.get(i);
+			int subEntityIndex = columnSubEntities.get(i);
+
+			String propertyId = column.propertyId;
+			Class<?> fieldEntityClass = column.exportEntityClass != null ? column.exportEntityClass : entityClass;
+			if (subEntityIndex >= 0) {
+				ColumnDefinition subEntityColumn = subEntityColumns.get(subEntityIndex);
+				fieldEntityClass = subEntityColumn.subEntityClass;
+				propertyId = subEntityColumn.fieldName + "." + propertyId;
+			}
+
+			if (fieldClassNames != null && fieldEntityClass != null) {
+				fieldClassNames[i] = DataHelper.getHumanClassName(fieldEntityClass);
+			}
+			fieldIds[i] = propertyId;
+			labels[i] = propertyIdCaptionSupplier.apply(column.fieldName, column.readMethod.getReturnType());
+			columnSubEntityIndexes[i] = subEntityIndex;
+		}
+
+		Method[] subEntityReadMethods = new Method[subEntityColumns.size()];
+		for (int i = 0; i < subEntityReadMethods.length; i++) {
+			subEntityReadMethods[i] = subEntityColumns.get(i).readMethod;
+		}
+
+		return new CsvRowWriter<>(
+			fieldClassNames,
+			fieldIds,
+			labels,
+			subEntityReadMethods,
+			columns.toArray(new ColumnDefinition[0]),
+			columnSubEntityIndexes);
+	}
+
+	/**
+	 * @return The human readable entity class names of the columns or {@code null} if the export row class is not annotated with
+	 *         {@link ExportEntity}.
+	 */
+	public String[] getFieldClassNames() {
+		return fieldClassNames;
+	}
+
+	public String[] getFieldIds() {
+		return fieldIds;
+	}
+
+	public String[] getLabels() {
+		return labels;
+	}
+
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Formats all column values of {@code exportRow}.
+	 *
+	 * @return The same array for every call. It is only valid until the next row is written.
+	 */
+	public String[] write(T exportRow) {
+
+		try {
+			for (int i = 0; i < subEntityReadMethods.length; i++) {
+				subEntities[i] = subEntityReadMethods[i].invoke(exportRow);
+			}
+
+			for (int i = 0; i < columns.length; i++) {
+				int subEntityIndex = columnSubEntities[i];
+				Object entity = subEntityIndex >= 0 ? subEntities[subEntityIndex] : exportRow;
+				// Sub entity might be null
+				Object value = entity != null ? columns[i].readMethod.invoke(entity) : null;
+
+				IExportFormatter<Object> formatter = columns[i].formatter;
+				values[i] = formatter != null ? formatter.format(value) : DataHelper.valueToString(value);
+			}
+		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			throw new RuntimeException(e);
+		}
+
+		return values;
+	}
+
+	private static boolean isConfiguredForExport(ColumnDefinition column, ExportConfigurationDto exportConfiguration) {
+
+		if (column.exportPropertyPath == null) {
+			throw new RuntimeException("Missing @ExportProperty annotation on method [" + column.readMethod.getName() + "]");
+		}
+
+		return exportConfiguration.getProperties().contains(column.exportPropertyPath);
+	}
+
+	private static List<ColumnDefinition> getColumnDefinitions(Class<?> exportRowClass) {
+		return COLUMN_DEFINITIONS.computeIfAbsent(exportRowClass, CsvRowWriter::buildColumnDefinitions);
+	}
+
+	private static List<ColumnDefinition> buildColumnDefinitions(Class<?> exportRowClass) {
+
+		// not using Introspector here, because it gives properties in alphabetical order
+		List<Method> readMethods = new ArrayList<>();
+		for (Method method : exportRowClass.getDeclaredMethods()) {
+			if ((method.getName().startsWith("get") || method.getName().startsWith("is")) && method.isAnnotationPresent(Order.class)) {
+				readMethods.add(method);
+			}
+		}
+		readMethods.sort(Comparator.comparingInt(m -> m.getAnnotation(Order.class).value()));
+
+		List<ColumnDefinition> columns = new ArrayList<>(readMethods.size());
+		for (Method readMethod : readMethods) {
+			columns.add(new ColumnDefinition(readMethod));
+		}
+
+		return Collections.unmodifiableList(columns);
+	}
+
+	/**
+	 * Everything the export needs to know about one read method of an export row class.
+	 */
+	private static final class ColumnDefinition {
+
+		private final Method readMethod;
+		private final String fieldName;
+		private final String propertyId;
+		/**
+		 * Joined {@link ExportProperty#value()} used to match the properties of an {@link ExportConfigurationDto}.
+		 */
+		private final String exportPropertyPath;
+		private final Class<?> exportEntityClass;
+		private final Class<?> subEntityClass;
+		private final IExportFormatter<Object> formatter;
+
+		private ColumnDefinition(Method readMethod) {
+
+			readMethod.setAccessible(true);
+			this.readMethod = readMethod;
+			this.fieldName = getFieldNameFromMethod(readMethod);
+
+			ExportProperty exportProperty = readMethod.getAnnotation(ExportProperty.class);
+			this.exportPropertyPath = exportProperty != null ? StringUtils.join(exportProperty.value(), ".") : null;
+			this.propertyId = exportProperty != null && !exportProperty.combined() ? exportPropertyPath : fieldName;
+
+			ExportEntity exportEntity = readMethod.getAnnotation(ExportEntity.class);
+			this.exportEntityClass = exportEntity != null ? exportEntity.value() : null;
+			this.subEntityClass = EntityDto.class.isAssignableFrom(readMethod.getReturnType()) ? readMethod.getReturnType() : null;
+
+			ExportFormat exportFormat = readMethod.getAnnotation(ExportFormat.class);
+			this.formatter = exportFormat != null ? FormatterProvider.getExportFormatter(exportFormat.value()) : null;
+		}
+
+		private static String getFieldNameFromMethod(Method method) {
+			String propertyId = method.getName().startsWith("get") ? method.getName().substring(3) : method.getName().substring(2);
+			propertyId = Character.toLowerCase(propertyId.charAt(0)) + propertyId.substring(1);
+			return propertyId;
+		}
+	}
+}
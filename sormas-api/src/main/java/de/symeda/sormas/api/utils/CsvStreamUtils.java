@@ -17,258 +17,109 @@ package de.symeda.sormas.api.utils;
 
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.Predicate;
-import org.apache.commons.lang3.StringUtils;
 
 import com.opencsv.CSVWriter;
 
 import de.symeda.sormas.api.ConfigFacade;
-import de.symeda.sormas.api.EntityDto;
 import de.symeda.sormas.api.importexport.ExportConfigurationDto;
-import de.symeda.sormas.api.importexport.ExportEntity;
-import de.symeda.sormas.api.importexport.ExportProperty;
-import de.symeda.sormas.api.importexport.format.ExportFormat;
-import de.symeda.sormas.api.importexport.format.FormatterProvider;
-import de.symeda.sormas.api.importexport.format.IExportFormatter;
-import de.symeda.sormas.api.utils.fieldvisibility.checkers.CountryFieldVisibilityChecker;
 
 public class CsvStreamUtils {
 
 	public static <T> void writeCsvContentToStream(
 		Class<T> csvRowClass,
-		SupplierBiFunction<Integer, Integer, List<T>> exportRowsSupplier,
+		final SupplierBiFunction<Integer, Integer, List<T>> exportRowsSupplier,
 		SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
 		ExportConfigurationDto exportConfiguration,
 		final Predicate redMethodFilter,
 		ConfigFacade configFacade,
 		OutputStream out) {
 
-		try (
-			CSVWriter writer = CSVUtils.createCSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8.name()), configFacade.getCsvSeparator())) {
-
-			// 1. fields in order of declaration - not using Introspector here, because it gives properties in alphabetical order
-			List<Method> readMethods =
-				getExportRowClassReadMethods(csvRowClass, exportConfiguration, redMethodFilter, configFacade.getCountryLocale());
-
-			// 2. replace entity fields with all the columns of the entity
-			Map<Method, SubEntityProvider<T>> subEntityProviders = new HashMap<Method, SubEntityProvider<T>>();
-			for (int i = 0; i < readMethods.size(); i++) {
-				final Method method = readMethods.get(i);
-				if (EntityDto.class.isAssignableFrom(method.getReturnType())) {
-
-					// allows us to access the sub entity
-					SubEntityProvider<T> subEntityProvider = createSubEntityProvider(method);
+		final int stepSize = configFacade.getStepSizeForCsvExport();
+		writeCsvContent(csvRowClass, new ChunkSupplier<T>() {
 
-					// remove entity field
-					readMethods.remove(i);
+			private int startIndex = 0;
 
-					// add columns of the entity
-					List<Method> subReadMethods = getReadMethods(method.getReturnType(), null);
-					readMethods.addAll(i, subReadMethods);
-					i--;
-
-					for (Method subReadMethod : subReadMethods) {
-						subEntityProviders.put(subReadMethod, subEntityProvider);
-					}
-				}
+			@Override
+			public List<T> next(T lastExportRow) {
+				List<T> exportRows = exportRowsSupplier.apply(startIndex, stepSize);
+				startIndex += stepSize;
+				return exportRows;
 			}
+		}, propertyIdCaptionSupplier, exportConfiguration, redMethodFilter, configFacade, out);
+	}
 
-			Class<?> entityClass = null;
-			if (csvRowClass.isAnnotationPresent(ExportEntity.class)) {
-				entityClass = csvRowClass.getAnnotation(ExportEntity.class).value();
-			}
-			String[] fieldClassNames = new String[readMethods.size()];
-			String[] fieldIds = new String[readMethods.size()];
-			String[] labels = new String[readMethods.size()];
-			for (int i = 0; i < readMethods.size(); i++) {
-				final Method method = readMethods.get(i);
-				String fieldName = getFieldNameFromMethod(method);
+	/**
+	 * Writes the export rows chunk by chunk, but instead of an offset the {@code exportRowsSupplier} receives the last row of the
+	 * previous chunk ({@code null} for the first one) and the step size. This allows the supplier to continue the query behind the
+	 * sort key of that row (keyset pagination), so fetching a chunk does not get slower the further the export has progressed.
+	 */
+	public static <T> void writeCsvContentToStreamByKeyset(
+		Class<T> csvRowClass,
+		final SupplierBiFunction<T, Integer, List<T>> exportRowsSupplier,
+		SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
+		ExportConfigurationDto exportConfiguration,
+		final Predicate redMethodFilter,
+		ConfigFacade configFacade,
+		OutputStream out) {
 
-				String propertyId = fieldName;
+		final int stepSize = configFacade.getStepSizeForCsvExport();
+		writeCsvContent(csvRowClass, new ChunkSupplier<T>() {
 
-				if (method.isAnnotationPresent(ExportProperty.class)) {
-					final ExportProperty exportProperty = method.getAnnotation(ExportProperty.class);
-					if (!exportProperty.combined()) {
-						propertyId = StringUtils.join(exportProperty.value(), ".");
-					}
-				}
+			@Override
+			public List<T> next(T lastExportRow) {
+				return exportRowsSupplier.apply(lastExportRow, stepSize);
+			}
+		}, propertyIdCaptionSupplier, exportConfiguration, redMethodFilter, configFacade, out);
+	}
 
-				Class<?> fieldEntityClass = entityClass;
-				if (method.isAnnotationPresent(ExportEntity.class)) {
-					fieldEntityClass = method.getAnnotation(ExportEntity.class).value();
-				}
+	private static <T> void writeCsvContent(
+		Class<T> csvRowClass,
+		ChunkSupplier<T> exportRowsSupplier,
+		SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
+		ExportConfigurationDto exportConfiguration,
+		final Predicate redMethodFilter,
+		ConfigFacade configFacade,
+		OutputStream out) {
 
-				if (subEntityProviders.containsKey(method)) {
-					fieldEntityClass = subEntityProviders.get(method).getEntityClass();
-					propertyId = subEntityProviders.get(method).getName() + "." + propertyId;
-				}
+		try (
+			CSVWriter writer = CSVUtils.createCSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8.name()), configFacade.getCsvSeparator())) {
 
-				if (fieldEntityClass != null) {
-					fieldClassNames[i] = DataHelper.getHumanClassName(fieldEntityClass);
-				}
-				fieldIds[i] = propertyId;
-				labels[i] = propertyIdCaptionSupplier.apply(fieldName, method.getReturnType());
-			}
+			CsvRowWriter<T> rowWriter = CsvRowWriter
+				.compile(csvRowClass, propertyIdCaptionSupplier, exportConfiguration, redMethodFilter, configFacade.getCountryLocale());
 
-			if (entityClass != null) {
-				writer.writeNext(fieldClassNames);
+			if (rowWriter.getFieldClassNames() != null) {
+				writer.writeNext(rowWriter.getFieldClassNames());
 			}
-			writer.writeNext(fieldIds);
+			writer.writeNext(rowWriter.getFieldIds());
+			String[] labels = rowWriter.getLabels().clone();
 			labels[0] = CSVCommentLineValidator.DEFAULT_COMMENT_LINE_PREFIX + labels[0];
 			writer.writeNext(labels, false);
 
-			int startIndex = 0;
-			int stepSize = configFacade.getStepSizeForCsvExport();
-
-			List<T> exportRows = exportRowsSupplier.apply(startIndex, stepSize);
+			List<T> exportRows = exportRowsSupplier.next(null);
 			while (!exportRows.isEmpty()) {
-				try {
-					for (T exportRow : exportRows) {
-						for (int i = 0; i < readMethods.size(); i++) {
-							Method method = readMethods.get(i);
-							SubEntityProvider<T> subEntityProvider = subEntityProviders.get(method);
-							Object entity = subEntityProvider != null ? subEntityProvider.get(exportRow) : exportRow;
-							// Sub entity might be null
-							Object value = entity != null ? method.invoke(entity) : null;
-
-							String formattedValue;
-							ExportFormat formatterAnnotation = method.getAnnotation(ExportFormat.class);
-							if (formatterAnnotation != null) {
-								IExportFormatter<Object> formatter = FormatterProvider.getExportFormatter(formatterAnnotation.value());
-								formattedValue = formatter.format(value);
-							} else {
-								formattedValue = DataHelper.valueToString(value);
-							}
-
-							labels[i] = formattedValue;
-						}
-						writer.writeNext(labels);
-					}
-				} catch (InvocationTargetException | IllegalAccessException | IllegalArgumentException e) {
-					throw new RuntimeException(e);
-				} catch (Exception e) {
-					throw new RuntimeException(e);
+				for (T exportRow : exportRows) {
+					writer.writeNext(rowWriter.write(exportRow));
 				}
 
 				writer.flush();
-				startIndex += stepSize;
-				exportRows = exportRowsSupplier.apply(startIndex, stepSize);
+				exportRows = exportRowsSupplier.next(exportRows.get(exportRows.size() - 1));
 			}
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
 
-	private static String getFieldNameFromMethod(Method method) {
-		String propertyId = method.getName().startsWith("get") ? method.getName().substring(3) : method.getName().substring(2);
-		propertyId = Character.toLowerCase(propertyId.charAt(0)) + propertyId.substring(1);
-		return propertyId;
-	}
-
-	private static <T> List<Method> getExportRowClassReadMethods(
-		Class<T> exportRowClass,
-		final ExportConfigurationDto exportConfiguration,
-		final Predicate redMethodFilter,
-		String countryLocale) {
-		final CountryFieldVisibilityChecker countryFieldVisibilityChecker = new CountryFieldVisibilityChecker(countryLocale);
-
-		return getReadMethods(exportRowClass, new Predicate() {
-
-			@Override
-			public boolean evaluate(Object o) {
-				Method m = (Method) o;
-
-				return (countryFieldVisibilityChecker.isVisible(m))
-					&& (redMethodFilter == null || redMethodFilter.evaluate(o))
-					&& (exportConfiguration == null || isConfiguredForExport(m, exportConfiguration));
-			}
-		});
-	}
-
-	private static boolean isConfiguredForExport(Method m, ExportConfigurationDto exportConfiguration) {
-		ExportProperty exportProperty = m.getAnnotation(ExportProperty.class);
-
-		if (exportProperty == null) {
-			throw new RuntimeException("Missing @ExportProperty annotation on method [" + m.getName() + "]");
-		}
-
-		return exportConfiguration.getProperties().contains(StringUtils.join(exportProperty.value(), "."));
-	}
-
-	private static List<Method> getReadMethods(Class<?> clazz, final Predicate filters) {
-		ArrayList<Method> readMethods = new ArrayList<>(Arrays.asList(clazz.getDeclaredMethods()));
-
-		CollectionUtils.filter(readMethods, new Predicate() {
-
-			@Override
-			public boolean evaluate(Object o) {
-				Method m = (Method) o;
-				return (m.getName().startsWith("get") || m.getName().startsWith("is"))
-					&& m.isAnnotationPresent(Order.class)
-					&& (filters == null || filters.evaluate(o));
-			}
-		});
-		Collections.sort(readMethods, new Comparator<Method>() {
-
-			@Override
-			public int compare(Method m1, Method m2) {
-				int o1 = m1.getAnnotation(Order.class).value();
-				int o2 = m2.getAnnotation(Order.class).value();
-
-				return o1 - o2;
-			}
-		});
-
-		return readMethods;
-	}
-
 	public interface SupplierBiFunction<T, U, R> {
 
 		R apply(T t, U u);
 	}
 
-	private interface SubEntityProvider<T> {
-
-		String getName();
-
-		Class<?> getEntityClass();
-
-		Object get(T parent);
-	}
-
-	private static <T> SubEntityProvider<T> createSubEntityProvider(final Method getter) {
-		return new SubEntityProvider<T>() {
+	private interface ChunkSupplier<T> {
 
-			@Override
-			public String getName() {
-				return getFieldNameFromMethod(getter);
-			}
-
-			@Override
-			public Class<?> getEntityClass() {
-				return getter.getReturnType();
-			}
-
-			@Override
-			public Object get(T parent) {
-				try {
-					return getter.invoke(parent);
-				} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-					throw new RuntimeException(e);
-				}
-			}
-		};
+		List<T> next(T lastExportRow);
 	}
 }
@@ -0,0 +1,96 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils.criteria;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The entities a bulk operation is performed on, without having to load them.
+ * <p>
+ * Either all entities matching the criteria except the excluded ones are selected, or only the included ones.
+ */
+public class BulkSelection<C extends BaseCriteria> implements Serializable {
+
+	private static final long serialVersionUID = 7215614338513418946L;
+
+	private final C criteria;
+	private final Set<String> includedUuids = new LinkedHashSet<>();
+	private final Set<String> excludedUuids = new LinkedHashSet<>();
+
+	private BulkSelection(C criteria) {
+		this.criteria = criteria;
+	}
+
+	public static <C extends BaseCriteria> BulkSelection<C> ofUuids(Collection<String> uuids) {
+
+		BulkSelection<C> selection = new BulkSelection<>(null);
+		selection.includedUuids.addAll(uuids);
+		return selection;
+	}
+
+	/**
+	 * @param criteria
+	 *            Is kept as it is, so it must not be changed afterwards.
+	 */
+	public static <C extends BaseCriteria> BulkSelection<C> allMatching(C criteria) {
+		return new BulkSelection<>(criteria);
+	}
+
+	public boolean isAllMatching() {
+		return criteria != null;
+	}
+
+	/**
+	 * @return The criteria all selected entities match, or {@code null} if only the included entities are selected.
+	 */
+	public C getCriteria() {
+		return criteria;
+	}
+
+	public Set<String> getIncludedUuids() {
+		return Collections.unmodifiableSet(includedUuids);
+	}
+
+	public Set<String> getExcludedUuids() {
+		return Collections.unmodifiableSet(excludedUuids);
+	}
+
+	public void include(String uuid) {
+
+		if (isAllMatching()) {
+			excludedUuids.remove(uuid);
+		} else {
+			includedUuids.add(uuid);
+		}
+	}
+
+	public void exclude(String uuid) {
+
+		if (isAllMatching()) {
+			excludedUuids.add(uuid);
+		} else {
+			includedUuids.remove(uuid);
+		}
+	}
+
+	public boolean isSelected(String uuid) {
+		return isAllMatching() ? !excludedUuids.contains(uuid) : includedUuids.contains(uuid);
+	}
+}
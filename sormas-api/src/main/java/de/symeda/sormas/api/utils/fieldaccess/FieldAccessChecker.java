@@ -27,4 +27,12 @@ public interface FieldAccessChecker {
 	boolean isEmbedded(Field field);
 
 	boolean hasRight();
+
+	/**
+	 * @return A value that is equal for all checkers that make the same decisions for every field (same configuration and same
+	 *         right), so the decisions can be cached; {@code null} if the decisions of this checker must not be cached.
+	 */
+	default Object getCacheKey() {
+		return null;
+	}
 }
@@ -90,6 +90,25 @@ public class FieldAccessCheckers {
 		return true;
 	}
 
+	/**
+	 * @return A value that is equal for all {@link FieldAccessCheckers} that make the same decisions for every field;
+	 *         {@code null} if one of the checkers does not support caching its decisions.
+	 * @see FieldAccessChecker#getCacheKey()
+	 */
+	public Object getCacheKey() {
+
+		List<Object> cacheKey = new ArrayList<>(checkers.size());
+		for (FieldAccessChecker checker : checkers) {
+			Object checkerCacheKey = checker.getCacheKey();
+			if (checkerCacheKey == null) {
+				return null;
+			}
+			cacheKey.add(checkerCacheKey);
+		}
+
+		return cacheKey;
+	}
+
 	public FieldAccessCheckers add(FieldAccessChecker checker) {
 		checkers.add(checker);
 		return this;
@@ -17,8 +17,12 @@ package de.symeda.sormas.api.utils.pseudonymization;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.fieldaccess.FieldAccessChecker;
@@ -27,6 +31,16 @@ import de.symeda.sormas.api.utils.pseudonymization.valuepseudonymizers.DefaultVa
 
 public class DtoPseudonymizer {
 
+	/**
+	 * Plans of all pseudonymizers whose checkers support caching, see {@link FieldAccessCheckers#getCacheKey()}.
+	 */
+	private static final Map<Object, PseudonymizationPlan> SHARED_PLANS = new ConcurrentHashMap<>();
+
+	/**
+	 * Declared fields of a class and its super classes.
+	 */
+	private static final Map<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<>();
+
 	protected FieldAccessCheckers inJurisdictionCheckers;
 	protected FieldAccessCheckers outsideJurisdictionCheckers;
 
@@ -34,6 +48,14 @@ public class DtoPseudonymizer {
 
 	private final boolean pseudonymizeMandatoryFields;
 
+	/**
+	 * Plans of this pseudonymizer, if its checkers do not support caching.
+	 */
+	private final Map<Object, PseudonymizationPlan> plans = new HashMap<>();
+	private Object inJurisdictionCheckersCacheKey;
+	private Object outsideJurisdictionCheckersCacheKey;
+	private boolean checkersCacheKeysResolved;
+
 	protected DtoPseudonymizer(
 		FieldAccessCheckers inJurisdictionCheckers,
 		FieldAccessCheckers outsideJurisdictionCheckers,
@@ -49,6 +71,9 @@ public class DtoPseudonymizer {
 	public void addFieldAccessChecker(FieldAccessChecker inJurisdictionChecker, FieldAccessChecker outsideJurisdictionChecker) {
 		this.inJurisdictionCheckers.add(inJurisdictionChecker);
 		this.outsideJurisdictionCheckers.add(outsideJurisdictionChecker);
+
+		plans.clear();
+		checkersCacheKeysResolved = false;
 	}
 
 	public <DTO> void pseudonymizeDtoCollection(
@@ -67,19 +92,15 @@ public class DtoPseudonymizer {
 		final CustomCollectionItemPseudonymization<DTO> customPseudonymization,
 		boolean skipEmbeddedFields) {
 
-		List<Field> pseudonymizableFieldsInJurisdiction = getPseudonymizableFields(type, true);
-		List<Field> pseudonymizableFieldsOutsideJurisdiction = getPseudonymizableFields(type, false);
-		List<Field> embeddedFieldsInJurisdiction = getEmbeddedFields(type, true);
-		List<Field> embeddedFieldsOutsideJurisdiction = getEmbeddedFields(type, false);
+		PseudonymizationPlan planInJurisdiction = getPlan(type, null, true);
+		PseudonymizationPlan planOutsideJurisdiction = getPlan(type, null, false);
 
 		for (final DTO dto : dtos) {
 			final boolean isInJurisdiction = jurisdictionValidator.validate(dto);
 			pseudonymizeDto(
 				dto,
-				isInJurisdiction ? pseudonymizableFieldsInJurisdiction : pseudonymizableFieldsOutsideJurisdiction,
-				isInJurisdiction ? embeddedFieldsInJurisdiction : embeddedFieldsOutsideJurisdiction,
+				isInJurisdiction ? planInJurisdiction : planOutsideJurisdiction,
 				isInJurisdiction,
-				null,
 				customPseudonymization == null ? null : new CustomPseudonymization<DTO>() {
 
 					@Override
@@ -92,17 +113,14 @@ public class DtoPseudonymizer {
 	}
 
 	public <DTO> void pseudonymizeDto(Class<DTO> type, DTO dto, boolean isInJurisdiction, CustomPseudonymization<DTO> customPseudonymization) {
-		List<Field> declaredFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
-
-		pseudonymizeDto(dto, declaredFields, embeddedFields, isInJurisdiction, null, customPseudonymization, false);
+		pseudonymizeDto(dto, getPlan(type, null, isInJurisdiction), isInJurisdiction, customPseudonymization, false);
 	}
 
 	public <DTO> boolean isAccessible(Class<DTO> type, String fieldName, boolean isInJurisdiction) {
-		List<Field> pseudonymizableFields = getPseudonymizableFields(type, isInJurisdiction);
-		for (Field field : pseudonymizableFields) {
-			if (fieldName.equals(field.getName())) {
-				return getFieldAccessCheckers(isInJurisdiction).isAccessible(field, pseudonymizeMandatoryFields);
+		PseudonymizationPlan plan = getPlan(type, null, isInJurisdiction);
+		for (int i = 0; i < plan.checkedFields.length; i++) {
+			if (fieldName.equals(plan.checkedFields[i].getName())) {
+				return plan.accessible[i];
 			}
 		}
 		throw new RuntimeException("Could not find field: " + fieldName);
@@ -113,22 +131,18 @@ public class DtoPseudonymizer {
 			return;
 		}
 
-		List<Field> pseudonymizableFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
+		PseudonymizationPlan plan = getPlan(type, null, isInJurisdiction);
 
-		for (Field pseudonymizedField : pseudonymizableFields) {
-			if (!getFieldAccessCheckers(isInJurisdiction).isAccessible(pseudonymizedField, pseudonymizeMandatoryFields) || dto.isPseudonymized()) {
-				restoreOriginalValue(dto, pseudonymizedField, originalDto);
+		for (int i = 0; i < plan.checkedFields.length; i++) {
+			if (!plan.accessible[i] || dto.isPseudonymized()) {
+				restoreOriginalValue(dto, plan.checkedFields[i], originalDto);
 			}
 		}
-		for (Field embeddedField : embeddedFields) {
+		for (Field embeddedField : plan.embeddedFields) {
 			Class<?> fieldType = embeddedField.getType();
 
 			if (Pseudonymizable.class.isAssignableFrom(fieldType)) {
-				boolean isAccessible = embeddedField.isAccessible();
 				try {
-					embeddedField.setAccessible(true);
-
 					restorePseudonymizedValues(
 						(Class<Pseudonymizable>) fieldType,
 						(Pseudonymizable) embeddedField.get(dto),
@@ -136,39 +150,15 @@ public class DtoPseudonymizer {
 						isInJurisdiction);
 				} catch (IllegalAccessException e) {
 					throw new RuntimeException("Couldn't restore embedded field " + dto.getClass().getName() + "." + embeddedField.getName(), e);
-				} finally {
-					embeddedField.setAccessible(isAccessible);
 				}
 			}
 		}
 	}
 
-	private <DTO> boolean pseudonymizeDto(
-		Class<DTO> type,
-		DTO dto,
-		boolean isInJurisdiction,
-		Class<? extends ValuePseudonymizer> defaultPseudonymizerClass,
-		CustomPseudonymization<DTO> customPseudonymization,
-		boolean skipEmbeddedFields) {
-		List<Field> declaredFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
-
-		return pseudonymizeDto(
-			dto,
-			declaredFields,
-			embeddedFields,
-			isInJurisdiction,
-			defaultPseudonymizerClass,
-			customPseudonymization,
-			skipEmbeddedFields);
-	}
-
 	private <DTO> boolean pseudonymizeDto(
 		DTO dto,
-		List<Field> pseudonymizableFields,
-		List<Field> embeddedFields,
+		PseudonymizationPlan plan,
 		boolean inJurisdiction,
-		Class<? extends ValuePseudonymizer> defaultPseudonymizerClass,
 		CustomPseudonymization<DTO> customPseudonymization,
 		boolean skipEmbeddedFields) {
 		if (dto == null) {
@@ -177,36 +167,28 @@ public class DtoPseudonymizer {
 
 		boolean didPseudonymization = false;
 
-		for (Field field : pseudonymizableFields) {
-			if (!getFieldAccessCheckers(inJurisdiction).isAccessible(field, pseudonymizeMandatoryFields)) {
-				pseudonymizeField(dto, field, defaultPseudonymizerClass);
+		for (int i = 0; i < plan.checkedFields.length; i++) {
+			if (!plan.accessible[i]) {
+				pseudonymizeField(dto, plan.checkedFields[i], plan.valuePseudonymizers[i]);
 				didPseudonymization = true;
 			}
 		}
 
 		if (!skipEmbeddedFields) {
-			for (Field embeddedField : embeddedFields) {
-				boolean accessible = embeddedField.isAccessible();
+			for (int i = 0; i < plan.embeddedFields.length; i++) {
+				Field embeddedField = plan.embeddedFields[i];
 				try {
+					PseudonymizationPlan embeddedPlan = plan.embeddedPlans[i];
+					if (embeddedPlan == null) {
+						embeddedPlan = getPlan(embeddedField.getType(), plan.embeddedPseudonymizerClasses[i], inJurisdiction);
+						plan.embeddedPlans[i] = embeddedPlan;
+					}
 
-					embeddedField.setAccessible(true);
-					Pseudonymizer pseudonymizerAnnotation = embeddedField.getAnnotation(Pseudonymizer.class);
-					Class<? extends ValuePseudonymizer> psudonomyzerClass =
-						pseudonymizerAnnotation != null ? pseudonymizerAnnotation.value() : defaultPseudonymizerClass;
-
-					didPseudonymization = pseudonymizeDto(
-						(Class<Object>) embeddedField.getType(),
-						embeddedField.get(dto),
-						inJurisdiction,
-						psudonomyzerClass,
-						null,
-						skipEmbeddedFields);
+					didPseudonymization = pseudonymizeDto(embeddedField.get(dto), embeddedPlan, inJurisdiction, null, skipEmbeddedFields);
 				} catch (IllegalAccessException e) {
 					throw new RuntimeException(
 						"Failed to pseudonymize embedded field " + dto.getClass().getName() + "." + embeddedField.getName(),
 						e);
-				} finally {
-					embeddedField.setAccessible(accessible);
 				}
 			}
 		}
@@ -222,93 +204,175 @@ public class DtoPseudonymizer {
 		return didPseudonymization;
 	}
 
-	private <DTO> void pseudonymizeField(DTO dto, Field field, Class<? extends ValuePseudonymizer> pseudonymizerClass) {
+	private <DTO> void pseudonymizeField(DTO dto, Field field, ValuePseudonymizer<?> pseudonymizer) {
 
 		try {
-			field.setAccessible(true);
-
-			ValuePseudonymizer<?> pseudonymizer = getPseudonymizer(field, pseudonymizerClass);
 			Object emptyValue = pseudonymizer.pseudonymize(field.get(dto));
 			field.set(dto, emptyValue);
-		} catch (IllegalAccessException | InstantiationException e) {
+		} catch (IllegalAccessException e) {
 			throw new RuntimeException(e);
-		} finally {
-			field.setAccessible(false);
 		}
 	}
 
-	private ValuePseudonymizer<?> getPseudonymizer(Field field, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass)
-		throws IllegalAccessException, InstantiationException {
+	private ValuePseudonymizer<?> getPseudonymizer(Field field, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass) {
 		Pseudonymizer pseudonymizerAnnotation = field.getAnnotation(Pseudonymizer.class);
 
-		if (pseudonymizerAnnotation == null) {
-			if (defaultPseudonymizerClass != null) {
-				return defaultPseudonymizerClass.newInstance();
+		try {
+			if (pseudonymizerAnnotation == null) {
+				if (defaultPseudonymizerClass != null) {
+					return defaultPseudonymizerClass.newInstance();
+				}
+
+				return new DefaultValuePseudonymizer<>(stringValuePlaceholder);
 			}
 
-			return new DefaultValuePseudonymizer<>(stringValuePlaceholder);
+			return pseudonymizerAnnotation.value().newInstance();
+		} catch (IllegalAccessException | InstantiationException e) {
+			throw new RuntimeException(e);
 		}
-
-		return pseudonymizerAnnotation.value().newInstance();
 	}
 
 	private <DTO extends Pseudonymizable> void restoreOriginalValue(DTO dto, Field field, DTO originalDto) {
 
 		try {
-			field.setAccessible(true);
 			Object originalValue = field.get(originalDto);
 			field.set(dto, originalValue);
 		} catch (IllegalAccessException e) {
 			throw new RuntimeException(e);
-		} finally {
-			field.setAccessible(false);
 		}
 	}
 
-	private List<Field> getPseudonymizableFields(Class<?> type, boolean inJurisdiction) {
-		final FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
-
-		return filterFields(type, new FieldFilter() {
+	/**
+	 * The plan only depends on the type, the default pseudonymizer passed down from an embedding field and the configuration and
+	 * rights of the checkers. It is shared between all pseudonymizers with equal checkers, so pseudonymizing DTOs does not need
+	 * to look up fields or annotations once the plan exists.
+	 */
+	private PseudonymizationPlan getPlan(Class<?> type, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass, boolean inJurisdiction) {
+
+		Object checkersCacheKey = getCheckersCacheKey(inJurisdiction);
+		if (checkersCacheKey == null) {
+			List<Object> planKey = Arrays.asList(type, defaultPseudonymizerClass, inJurisdiction);
+			PseudonymizationPlan plan = plans.get(planKey);
+			if (plan == null) {
+				plan = createPlan(type, defaultPseudonymizerClass, inJurisdiction);
+				plans.put(planKey, plan);
+			}
+			return plan;
+		}
 
-			@Override
-			public boolean apply(Field field) {
-				return fieldAccessCheckers.isConfiguredForCheck(field, pseudonymizeMandatoryFields);
+		List<Object> planKey =
+			Arrays.asList(type, defaultPseudonymizerClass, inJurisdiction, checkersCacheKey, stringValuePlaceholder, pseudonymizeMandatoryFields);
+		PseudonymizationPlan plan = SHARED_PLANS.get(planKey);
+		if (plan == null) {
+			// no computeIfAbsent, because creating the plan must not block or recursively update the shared map
+			plan = createPlan(type, defaultPseudonymizerClass, inJurisdiction);
+			PseudonymizationPlan existingPlan = SHARED_PLANS.putIfAbsent(planKey, plan);
+			if (existingPlan != null) {
+				plan = existingPlan;
 			}
-		});
+		}
+		return plan;
 	}
 
-	private List<Field> getEmbeddedFields(Class<?> type, boolean inJurisdiction) {
-		final FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
+	private Object getCheckersCacheKey(boolean inJurisdiction) {
 
-		return filterFields(type, new FieldFilter() {
+		if (!checkersCacheKeysResolved) {
+			inJurisdictionCheckersCacheKey = inJurisdictionCheckers.getCacheKey();
+			outsideJurisdictionCheckersCacheKey = outsideJurisdictionCheckers.getCacheKey();
+			checkersCacheKeysResolved = true;
+		}
 
-			@Override
-			public boolean apply(Field field) {
-				return fieldAccessCheckers.isEmbedded(field);
-			}
-		});
+		return inJurisdiction ? inJurisdictionCheckersCacheKey : outsideJurisdictionCheckersCacheKey;
 	}
 
-	private List<Field> filterFields(Class<?> type, FieldFilter filter) {
-		List<Field> declaredFields = new ArrayList<>();
+	private PseudonymizationPlan createPlan(Class<?> type, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass, boolean inJurisdiction) {
+
+		FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
 
-		for (Field field : type.getDeclaredFields()) {
-			if (filter.apply(field)) {
-				declaredFields.add(field);
+		List<Field> checkedFields = new ArrayList<>();
+		List<Field> embeddedFields = new ArrayList<>();
+		for (Field field : getFields(type)) {
+			if (fieldAccessCheckers.isConfiguredForCheck(field, pseudonymizeMandatoryFields)) {
+				checkedFields.add(field);
+			}
+			if (fieldAccessCheckers.isEmbedded(field)) {
+				embeddedFields.add(field);
 			}
 		}
 
-		if (type.getSuperclass() != null) {
-			declaredFields.addAll(filterFields(type.getSuperclass(), filter));
+		PseudonymizationPlan plan = new PseudonymizationPlan(checkedFields.size(), embeddedFields.size());
+		for (int i = 0; i < checkedFields.size(); i++) {
+			Field field = checkedFields.get(i);
+			plan.checkedFields[i] = field;
+			plan.accessible[i] = fieldAccessCheckers.isAccessible(field, pseudonymizeMandatoryFields);
+			plan.valuePseudonymizers[i] = plan.accessible[i] ? null : getPseudonymizer(field, defaultPseudonymizerClass);
+		}
+		for (int i = 0; i < embeddedFields.size(); i++) {
+			Field field = embeddedFields.get(i);
+			Pseudonymizer pseudonymizerAnnotation = field.getAnnotation(Pseudonymizer.class);
+			plan.embeddedFields[i] = field;
+			plan.embeddedPseudonymizerClasses[i] = pseudonymizerAnnotation != null ? pseudonymizerAnnotation.value() : defaultPseudonymizerClass;
 		}
 
-		return declaredFields;
+		return plan;
+	}
+
+	private static Field[] getFields(Class<?> type) {
+
+		Field[] fields = FIELDS.get(type);
+		if (fields == null) {
+			List<Field> declaredFields = new ArrayList<>();
+			for (Class<?> declaringType = type; declaringType != null; declaringType = declaringType.getSuperclass()) {
+				for (Field field : declaringType.getDeclaredFields()) {
+					field.setAccessible(true);
+					declaredFields.add(field);
+				}
+			}
+
+			fields = declaredFields.toArray(new Field[0]);
+			FIELDS.put(type, fields);
+		}
+
+		return fields;
 	}
 
 	protected FieldAccessCheckers getFieldAccessCheckers(boolean inJurisdiction) {
 		return inJurisdiction ? inJurisdictionCheckers : outsideJurisdictionCheckers;
 	}
 
+	/**
+	 * Precomputed fields and value pseudonymizers of one DTO type.
+	 */
+	private static final class PseudonymizationPlan {
+
+		/**
+		 * Fields that are configured for a check by any of the checkers.
+		 */
+		private final Field[] checkedFields;
+		private final boolean[] accessible;
+		/**
+		 * The pseudonymizer for each of the {@link #checkedFields}; {@code null} for the accessible ones.
+		 */
+		private final ValuePseudonymizer<?>[] valuePseudonymizers;
+
+		private final Field[] embeddedFields;
+		private final Class<? extends ValuePseudonymizer>[] embeddedPseudonymizerClasses;
+		/**
+		 * Plans of the {@link #embeddedFields}, resolved on first use.
+		 */
+		private final PseudonymizationPlan[] embeddedPlans;
+
+		@SuppressWarnings("unchecked")
+		private PseudonymizationPlan(int checkedFieldCount, int embeddedFieldCount) {
+			checkedFields = new Field[checkedFieldCount];
+			accessible = new boolean[checkedFieldCount];
+			valuePseudonymizers = new ValuePseudonymizer<?>[checkedFieldCount];
+			embeddedFields = new Field[embeddedFieldCount];
+			embeddedPseudonymizerClasses = new Class[embeddedFieldCount];
+			embeddedPlans = new PseudonymizationPlan[embeddedFieldCount];
+		}
+	}
+
 	public interface RightCheck {
 
 		boolean hasRight(UserRight userRight);
@@ -328,10 +392,4 @@ public class DtoPseudonymizer {
 
 		void pseudonymize(DTO dto);
 	}
-
-	private interface FieldFilter {
-
-		boolean apply(Field field);
-	}
-
 }
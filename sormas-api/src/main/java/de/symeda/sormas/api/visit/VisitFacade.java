@@ -35,12 +35,25 @@ public interface VisitFacade {
 
 	List<VisitDto> getAllActiveVisitsAfter(Date date);
 
+	/**
+	 * Paged variant of {@link #getAllActiveVisitsAfter(Date)}.
+	 * 
+	 * @see de.symeda.sormas.api.caze.CaseFacade#getAllActiveCasesAfter(Date, Integer, Date, String)
+	 */
+	List<VisitDto> getAllActiveVisitsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid);
+
 	List<VisitDto> getVisitsByCase(CaseReferenceDto caseRef);
 
 	VisitDto getVisitByUuid(String uuid);
 
 	VisitDto saveVisit(@Valid VisitDto dto);
 
+	/**
+	 * Saves all visits like {@link #saveVisit(VisitDto)}, but recalculates the follow-up of every affected contact and updates the
+	 * symptoms of every affected case only once, after all visits have been saved.
+	 */
+	List<VisitDto> saveVisits(@Valid List<VisitDto> dtos);
+
 	void validate(VisitDto dto);
 
 	ExternalVisitDto saveExternalVisit(@Valid ExternalVisitDto dto);
@@ -0,0 +1,209 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import de.symeda.sormas.api.EntityDto;
+import de.symeda.sormas.api.importexport.ExportConfigurationDto;
+import de.symeda.sormas.api.importexport.ExportProperty;
+import de.symeda.sormas.api.importexport.format.ExportFormat;
+import de.symeda.sormas.api.importexport.format.FormatterProvider;
+import de.symeda.sormas.api.importexport.format.ImportExportFormat;
+
+public class CsvRowWriterTest {
+
+	@Test
+	public void testCompile() {
+
+		CsvRowWriter<ExportRow> rowWriter = CsvRowWriter.compile(ExportRow.class, (propertyId, type) -> "caption." + propertyId, null, null, "en");
+
+		assertThat(rowWriter.getFieldClassNames(), is(nullValue()));
+		assertThat(rowWriter.getFieldIds(), arrayContaining("uuid", "sub.value", "sub.flag", "date", "combinedName"));
+		assertThat(
+			rowWriter.getLabels(),
+			arrayContaining("caption.uuid", "caption.value", "caption.flag", "caption.date", "caption.combinedName"));
+	}
+
+	@Test
+	public void testCompileWithExportConfiguration() {
+
+		ExportConfigurationDto exportConfiguration = new ExportConfigurationDto();
+		exportConfiguration.setProperties(new HashSet<>(Arrays.asList("uuid", "date")));
+
+		CsvRowWriter<ExportRow> rowWriter = CsvRowWriter.compile(ExportRow.class, (propertyId, type) -> propertyId, exportConfiguration, null, "en");
+		assertThat(rowWriter.getFieldIds(), arrayContaining("uuid", "date"));
+
+		rowWriter = CsvRowWriter.compile(ExportRow.class, (propertyId, type) -> propertyId, null, o -> ((Method) o).getName().equals("getSub"), "en");
+		assertThat(rowWriter.getFieldIds(), arrayContaining("sub.value", "sub.flag"));
+	}
+
+	@Test
+	public void testWrite() {
+
+		CsvRowWriter<ExportRow> rowWriter = CsvRowWriter.compile(ExportRow.class, (propertyId, type) -> propertyId, null, null, "en");
+
+		Date date = new Date();
+		String[] values = rowWriter.write(new ExportRow("uuid-1", new SubEntity("someValue", true), date, "A B"));
+		assertThat(values, arrayContaining("uuid-1", "someValue", "Yes", FormatterProvider.getExportFormatter(ImportExportFormat.DATE_TIME).format(date), "A B"));
+
+		// missing sub entity results in empty columns, the array is reused
+		String[] nextValues = rowWriter.write(new ExportRow("uuid-2", null, null, null));
+		assertThat(nextValues == values, is(true));
+		assertThat(nextValues, arrayContaining("uuid-2", "", "", "", ""));
+	}
+
+	@Ignore("Only for comparison with the per cell reflection lookup")
+	@Test
+	public void testWriteFast() throws Exception {
+
+		List<ExportRow> rows = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			rows.add(new ExportRow("uuid-" + i, new SubEntity("value-" + i, i % 2 == 0), new Date(), "name " + i));
+		}
+
+		// warm up both variants first
+		writeReflective(rows);
+		writeCompiled(rows);
+
+		long t0 = System.nanoTime();
+		writeReflective(rows);
+		long reflective = System.nanoTime() - t0;
+
+		t0 = System.nanoTime();
+		writeCompiled(rows);
+		long compiled = System.nanoTime() - t0;
+
+		System.out.println("CsvRowWriterTest.testWriteFast(): reflective= " + reflective / 1_000_000 + " ms, compiled= " + compiled / 1_000_000 + " ms");
+		assertThat(compiled, lessThan(reflective));
+	}
+
+	private static void writeCompiled(List<ExportRow> rows) {
+
+		CsvRowWriter<ExportRow> rowWriter = CsvRowWriter.compile(ExportRow.class, (propertyId, type) -> propertyId, null, null, "en");
+		for (ExportRow row : rows) {
+			rowWriter.write(row);
+		}
+	}
+
+	/**
+	 * The lookups {@link CsvStreamUtils} did for every cell before the columns were compiled.
+	 */
+	private static void writeReflective(List<ExportRow> rows) throws Exception {
+
+		List<Method> readMethods = new ArrayList<>();
+		for (Method method : ExportRow.class.getDeclaredMethods()) {
+			if (method.isAnnotationPresent(Order.class) && !EntityDto.class.isAssignableFrom(method.getReturnType())) {
+				readMethods.add(method);
+			}
+		}
+		readMethods.sort(Comparator.comparingInt(m -> m.getAnnotation(Order.class).value()));
+		Method subEntityMethod = ExportRow.class.getMethod("getSub");
+		List<Method> subReadMethods = Arrays.asList(SubEntity.class.getMethod("getValue"), SubEntity.class.getMethod("getFlag"));
+		readMethods.addAll(1, subReadMethods);
+
+		String[] values = new String[readMethods.size()];
+		for (ExportRow row : rows) {
+			for (int i = 0; i < readMethods.size(); i++) {
+				Method method = readMethods.get(i);
+				Object entity = subReadMethods.contains(method) ? subEntityMethod.invoke(row) : row;
+				Object value = entity != null ? method.invoke(entity) : null;
+				ExportFormat formatterAnnotation = method.getAnnotation(ExportFormat.class);
+				values[i] = formatterAnnotation != null
+					? FormatterProvider.getExportFormatter(formatterAnnotation.value()).format(value)
+					: DataHelper.valueToString(value);
+			}
+		}
+	}
+
+	public static class ExportRow {
+
+		private final String uuid;
+		private final SubEntity sub;
+		private final Date date;
+		private final String combinedName;
+
+		public ExportRow(String uuid, SubEntity sub, Date date, String combinedName) {
+			this.uuid = uuid;
+			this.sub = sub;
+			this.date = date;
+			this.combinedName = combinedName;
+		}
+
+		@Order(0)
+		@ExportProperty("uuid")
+		public String getUuid() {
+			return uuid;
+		}
+
+		@Order(1)
+		@ExportProperty("sub")
+		public SubEntity getSub() {
+			return sub;
+		}
+
+		@Order(2)
+		@ExportProperty("date")
+		@ExportFormat(ImportExportFormat.DATE_TIME)
+		public Date getDate() {
+			return date;
+		}
+
+		@Order(3)
+		@ExportProperty(value = {
+			"first",
+			"last" }, combined = true)
+		public String getCombinedName() {
+			return combinedName;
+		}
+	}
+
+	public static class SubEntity extends EntityDto {
+
+		private final String value;
+		private final Boolean flag;
+
+		public SubEntity(String value, Boolean flag) {
+			this.value = value;
+			this.flag = flag;
+		}
+
+		@Order(0)
+		public String getValue() {
+			return value;
+		}
+
+		@Order(1)
+		public Boolean getFlag() {
+			return flag;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.symeda.sormas.api.ConfigFacade;
+
+public class CsvStreamUtilsTest {
+
+	private static final List<ExportRow> ROWS =
+		Arrays.asList(new ExportRow(5, "e"), new ExportRow(4, "d"), new ExportRow(3, "c"), new ExportRow(2, "b"), new ExportRow(1, "a"));
+
+	private ConfigFacade configFacade;
+
+	@Before
+	public void setUp() {
+		configFacade = mock(ConfigFacade.class);
+		when(configFacade.getCsvSeparator()).thenReturn(',');
+		when(configFacade.getCountryLocale()).thenReturn("en");
+		when(configFacade.getStepSizeForCsvExport()).thenReturn(2);
+	}
+
+	@Test
+	public void testWriteCsvContentToStream() {
+
+		List<Integer> requestedOffsets = new ArrayList<>();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CsvStreamUtils.writeCsvContentToStream(ExportRow.class, (first, max) -> {
+			requestedOffsets.add(first);
+			return ROWS.subList(Math.min(first, ROWS.size()), Math.min(first + max, ROWS.size()));
+		}, (propertyId, type) -> propertyId, null, null, configFacade, out);
+
+		assertEquals(Arrays.asList(0, 2, 4, 6), requestedOffsets);
+		assertEquals(expectedCsv(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testWriteCsvContentToStreamByKeyset() {
+
+		List<ExportRow> lastRows = new ArrayList<>();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CsvStreamUtils.writeCsvContentToStreamByKeyset(ExportRow.class, (lastRow, max) -> {
+			lastRows.add(lastRow);
+			List<ExportRow> rows = ROWS.stream().filter(r -> lastRow == null || r.getId() < lastRow.getId()).collect(Collectors.toList());
+			return rows.isEmpty() ? Collections.emptyList() : rows.subList(0, Math.min(max, rows.size()));
+		}, (propertyId, type) -> propertyId, null, null, configFacade, out);
+
+		assertEquals(4, lastRows.size());
+		assertNull(lastRows.get(0));
+		assertEquals(4, lastRows.get(1).getId());
+		assertEquals(2, lastRows.get(2).getId());
+		assertEquals(1, lastRows.get(3).getId());
+		assertEquals(expectedCsv(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	private static String expectedCsv() {
+
+		StringBuilder expected = new StringBuilder("\"id\",\"name\"\n##id,name\n");
+		for (ExportRow row : ROWS) {
+			expected.append("\"").append(row.getId()).append("\",\"").append(row.getName()).append("\"\n");
+		}
+		return expected.toString();
+	}
+
+	public static class ExportRow {
+
+		private final long id;
+		private final String name;
+
+		public ExportRow(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Order(0)
+		public long getId() {
+			return id;
+		}
+
+		@Order(1)
+		public String getName() {
+			return name;
+		}
+	}
+}
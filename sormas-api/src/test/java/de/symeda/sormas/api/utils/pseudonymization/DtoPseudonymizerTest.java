@@ -0,0 +1,207 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils.pseudonymization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.caze.CaseIndexDto;
+import de.symeda.sormas.api.contact.ContactIndexDto;
+import de.symeda.sormas.api.location.LocationDto;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.utils.fieldaccess.FieldAccessCheckers;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.PersonalDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.SensitiveDataFieldAccessChecker;
+
+public class DtoPseudonymizerTest {
+
+	@Test
+	public void testPseudonymizeWithoutRights() {
+
+		PersonDto person = createPerson();
+		createPseudonymizer(false).pseudonymizeDto(PersonDto.class, person, false, null);
+
+		assertEquals("***", person.getFirstName());
+		assertEquals("***", person.getAddress().getStreet());
+		assertTrue(person.isPseudonymized());
+	}
+
+	@Test
+	public void testPseudonymizeWithRights() {
+
+		PersonDto person = createPerson();
+		createPseudonymizer(true).pseudonymizeDto(PersonDto.class, person, false, null);
+
+		assertEquals("John", person.getFirstName());
+		assertEquals("Main street", person.getAddress().getStreet());
+		assertFalse(person.isPseudonymized());
+	}
+
+	@Test
+	public void testCachedPlansDependOnRights() {
+
+		// pseudonymizers with equal checkers share their plans, but the rights must never be mixed up
+		for (int i = 0; i < 3; i++) {
+			PersonDto withoutRights = createPerson();
+			createPseudonymizer(false).pseudonymizeDto(PersonDto.class, withoutRights, false, null);
+			assertEquals("***", withoutRights.getFirstName());
+
+			PersonDto withRights = createPerson();
+			createPseudonymizer(true).pseudonymizeDto(PersonDto.class, withRights, false, null);
+			assertEquals("John", withRights.getFirstName());
+		}
+
+		assertTrue(createPseudonymizer(true).isAccessible(PersonDto.class, PersonDto.FIRST_NAME, false));
+		assertFalse(createPseudonymizer(false).isAccessible(PersonDto.class, PersonDto.FIRST_NAME, false));
+	}
+
+	@Test
+	public void testUncachedCheckers() {
+
+		DtoPseudonymizer pseudonymizer = new DtoPseudonymizer(new FieldAccessCheckers(), new FieldAccessCheckers(), "***", true) {
+		};
+		PersonDto person = createPerson();
+		pseudonymizer.pseudonymizeDto(PersonDto.class, person, false, null);
+		assertEquals("John", person.getFirstName());
+
+		// a checker without cache key is only cached by its pseudonymizer and added checkers take effect immediately
+		pseudonymizer.addFieldAccessChecker(PersonalDataFieldAccessChecker.forcedNoAccess(), PersonalDataFieldAccessChecker.forcedNoAccess());
+		pseudonymizer.pseudonymizeDto(PersonDto.class, person, false, null);
+		assertEquals("***", person.getFirstName());
+	}
+
+	@Test
+	public void testRestorePseudonymizedValues() {
+
+		PersonDto original = createPerson();
+		PersonDto person = createPerson();
+		DtoPseudonymizer pseudonymizer = createPseudonymizer(false);
+		pseudonymizer.pseudonymizeDto(PersonDto.class, person, false, null);
+
+		person.setBirthName("Doe");
+		pseudonymizer.restorePseudonymizedValues(PersonDto.class, person, original, false);
+
+		assertEquals("John", person.getFirstName());
+		assertEquals("Main street", person.getAddress().getStreet());
+		assertNull(person.getBirthName());
+	}
+
+	@Ignore("Only for measuring the pseudonymization of index pages")
+	@Test
+	public void testPseudonymizeIndexPagesFast() {
+
+		measure(CaseIndexDto.class, DtoPseudonymizerTest::createCaseIndexDto);
+		measure(ContactIndexDto.class, DtoPseudonymizerTest::createContactIndexDto);
+		measure(PersonDto.class, DtoPseudonymizerTest::createPerson);
+	}
+
+	private static <T> void measure(Class<T> type, Supplier<T> dtoSupplier) {
+
+		List<List<T>> pages = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			List<T> page = new ArrayList<>();
+			for (int j = 0; j < 100; j++) {
+				page.add(dtoSupplier.get());
+			}
+			pages.add(page);
+		}
+
+		// like the facades, every page gets its own pseudonymizer
+		long t0 = System.nanoTime();
+		createPseudonymizer(false).pseudonymizeDtoCollection(type, pages.get(0), dto -> false, null);
+		long firstPage = System.nanoTime() - t0;
+
+		t0 = System.nanoTime();
+		for (List<T> page : pages.subList(1, pages.size())) {
+			createPseudonymizer(false).pseudonymizeDtoCollection(type, page, dto -> false, null);
+		}
+		long otherPages = (System.nanoTime() - t0) / (pages.size() - 1);
+
+		System.out.println(
+			"DtoPseudonymizerTest.testPseudonymizeIndexPagesFast(): " + type.getSimpleName() + " first page= " + firstPage / 1_000
+				+ " micros, following pages= " + otherPages / 1_000 + " micros");
+	}
+
+	private static DtoPseudonymizer createPseudonymizer(boolean hasRights) {
+
+		return new DtoPseudonymizer(
+			FieldAccessCheckers.withCheckers(
+				PersonalDataFieldAccessChecker.inJurisdiction(r -> hasRights),
+				SensitiveDataFieldAccessChecker.inJurisdiction(r -> hasRights)),
+			FieldAccessCheckers.withCheckers(
+				PersonalDataFieldAccessChecker.outsideJurisdiction(r -> hasRights),
+				SensitiveDataFieldAccessChecker.outsideJurisdiction(r -> hasRights)),
+			"***",
+			true) {
+		};
+	}
+
+	private static PersonDto createPerson() {
+
+		PersonDto person = PersonDto.build();
+		person.setFirstName("John");
+		person.setLastName("Smith");
+		LocationDto address = LocationDto.build();
+		address.setStreet("Main street");
+		address.setLatitude(52.0);
+		person.setAddress(address);
+		person.setAddresses(Collections.emptyList());
+		return person;
+	}
+
+	private static CaseIndexDto createCaseIndexDto() {
+
+		//@formatter:off
+		return new CaseIndexDto(1, "uuid", "epid", null, null, null, "personUuid", "John", "Smith", Disease.EVD,
+			null, null, null, null,
+			null, new Date(), new Date(), "regionUuid",
+			"districtUuid", "facilityUuid", "Facility", null,
+			null, null, null, null, null,
+			30, null, 1, 1, 1990, null, null,
+			null, null, null, null, null, new Date(), null,
+			"regionUuid", "districtUuid", "District", false);
+		//@formatter:on
+	}
+
+	private static ContactIndexDto createContactIndexDto() {
+
+		//@formatter:off
+		return new ContactIndexDto("uuid", "personUuid", "John", "Smith", "caseUuid",
+			Disease.EVD, null, "Jane", "Smith", "Region",
+			"District", new Date(), null,
+			null, null, null, null,
+			null, null, null, null, null,
+			null, new Date(),
+			null, "Region", "District",
+			new Date(),
+			null, null, null, false, false,
+			0,
+			new Date());
+		//@formatter:on
+	}
+}
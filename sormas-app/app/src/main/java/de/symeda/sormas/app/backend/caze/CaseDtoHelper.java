@@ -80,6 +80,11 @@ public class CaseDtoHelper extends AdoDtoHelper<Case, CaseDataDto> {
 		return RetroProvider.getCaseFacade().pullAllSince(since);
 	}
 
+	@Override
+	protected Call<List<CaseDataDto>> pullBatchSince(long since, int batchSize, Long lastChangeDate, String lastUuid) throws NoConnectionException {
+		return RetroProvider.getCaseFacade().pullBatchSince(since, batchSize, lastChangeDate, lastUuid);
+	}
+
 	@Override
 	protected Call<List<CaseDataDto>> pullByUuids(List<String> uuids) throws NoConnectionException {
 		return RetroProvider.getCaseFacade().pullByUuids(uuids);
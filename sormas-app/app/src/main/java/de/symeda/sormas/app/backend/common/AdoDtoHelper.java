@@ -42,12 +42,33 @@ public abstract class AdoDtoHelper<ADO extends AbstractDomainObject, DTO extends
 
 	private static final Logger logger = LoggerFactory.getLogger(AdoDtoHelper.class);
 
+	/**
+	 * Number of entities pulled per request by helpers that support {@link #pullBatchSince}.
+	 * Must not exceed the maximum batch size of the server.
+	 */
+	private static final int PULL_BATCH_SIZE = 250;
+
 	protected abstract Class<ADO> getAdoClass();
 
 	protected abstract Class<DTO> getDtoClass();
 
 	protected abstract Call<List<DTO>> pullAllSince(long since) throws NoConnectionException;
 
+	/**
+	 * Pulls the next batch of the entities changed since the given date. The server returns the batches ordered by change date and
+	 * uuid, the following batches are requested with change date and uuid of the last entity of the previous batch.
+	 * <p>
+	 * Helpers that do not support batches pull everything with the first call and return null for the following ones.
+	 *
+	 * @param lastChangeDate
+	 *            null for the first batch
+	 * @param lastUuid
+	 *            null for the first batch
+	 */
+	protected Call<List<DTO>> pullBatchSince(long since, int batchSize, Long lastChangeDate, String lastUuid) throws NoConnectionException {
+		return lastUuid == null ? pullAllSince(since) : null;
+	}
+
 	/**
 	 * Explicitly pull missing entities.
 	 * This is needed, because entities are synced based on user access rights and these might change
@@ -80,19 +101,9 @@ public abstract class AdoDtoHelper<ADO extends AbstractDomainObject, DTO extends
 			final AbstractAdoDao<ADO> dao = DatabaseHelper.getAdoDao(getAdoClass());
 
 			Date maxModifiedDate = dao.getLatestChangeDate();
-			Call<List<DTO>> dtoCall = pullAllSince(maxModifiedDate != null ? maxModifiedDate.getTime() : 0);
-			if (dtoCall == null) {
-				return;
-			}
-
-			Response<List<DTO>> response;
-			try {
-				response = dtoCall.execute();
-			} catch (IOException e) {
-				throw new ServerCommunicationException(e);
-			}
-
-			handlePullResponse(markAsRead, dao, response);
+			// The server only returns entities changed after the given millisecond. An interrupted synchronization may have saved
+			// only some of the entities changed in the millisecond of the latest saved one, so that millisecond is pulled again.
+			pullBatches(markAsRead, dao, maxModifiedDate != null ? maxModifiedDate.getTime() - 1 : 0);
 
 		} catch (RuntimeException e) {
 			Log.e(getClass().getName(), "Exception thrown when trying to pull entities");
@@ -104,7 +115,26 @@ public abstract class AdoDtoHelper<ADO extends AbstractDomainObject, DTO extends
 		try {
 			final AbstractAdoDao<ADO> dao = DatabaseHelper.getAdoDao(getAdoClass());
 
-			Call<List<DTO>> dtoCall = pullAllSince(0);
+			pullBatches(false, dao, 0);
+
+		} catch (RuntimeException e) {
+			Log.e(getClass().getName(), "Exception thrown when trying to pull entities");
+			throw new DaoException(e);
+		}
+	}
+
+	/**
+	 * Pulls and saves one batch after the other, so neither the server nor the app has to hold all changed entities at once.
+	 * Every batch is saved before the next one is requested, so an interrupted synchronization continues with the millisecond of the
+	 * last saved entity (see {@link #pullEntities(boolean)}).
+	 */
+	private void pullBatches(final boolean markAsRead, final AbstractAdoDao<ADO> dao, long since)
+		throws DaoException, ServerCommunicationException, ServerConnectionException, NoConnectionException {
+
+		Long lastChangeDate = null;
+		String lastUuid = null;
+		while (true) {
+			Call<List<DTO>> dtoCall = pullBatchSince(since, PULL_BATCH_SIZE, lastChangeDate, lastUuid);
 			if (dtoCall == null) {
 				return;
 			}
@@ -116,11 +146,17 @@ public abstract class AdoDtoHelper<ADO extends AbstractDomainObject, DTO extends
 				throw new ServerCommunicationException(e);
 			}
 
-			handlePullResponse(false, dao, response);
+			// take the cursor before the result is prepared for saving
+			List<DTO> result = response.isSuccessful() ? response.body() : null;
+			DTO lastDto = result != null && !result.isEmpty() ? result.get(result.size() - 1) : null;
 
-		} catch (RuntimeException e) {
-			Log.e(getClass().getName(), "Exception thrown when trying to pull entities");
-			throw new DaoException(e);
+			int pulledCount = handlePullResponse(markAsRead, dao, response);
+			if (pulledCount < PULL_BATCH_SIZE || lastDto == null || lastDto.getChangeDate() == null || lastDto.getUuid().equals(lastUuid)) {
+				return;
+			}
+
+			lastChangeDate = lastDto.getChangeDate().getTime();
+			lastUuid = lastDto.getUuid();
 		}
 	}
 
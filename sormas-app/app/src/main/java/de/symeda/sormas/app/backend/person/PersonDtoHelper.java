@@ -56,6 +56,11 @@ public class PersonDtoHelper extends AdoDtoHelper<Person, PersonDto> {
 		return RetroProvider.getPersonFacade().pullAllSince(since);
 	}
 
+	@Override
+	protected Call<List<PersonDto>> pullBatchSince(long since, int batchSize, Long lastChangeDate, String lastUuid) throws NoConnectionException {
+		return RetroProvider.getPersonFacade().pullBatchSince(since, batchSize, lastChangeDate, lastUuid);
+	}
+
 	@Override
 	protected Call<List<PersonDto>> pullByUuids(List<String> uuids) throws NoConnectionException {
 		return RetroProvider.getPersonFacade().pullByUuids(uuids);
@@ -53,6 +53,11 @@ public class TaskDtoHelper extends AdoDtoHelper<Task, TaskDto> {
 		return RetroProvider.getTaskFacade().pullAllSince(since);
 	}
 
+	@Override
+	protected Call<List<TaskDto>> pullBatchSince(long since, int batchSize, Long lastChangeDate, String lastUuid) throws NoConnectionException {
+		return RetroProvider.getTaskFacade().pullBatchSince(since, batchSize, lastChangeDate, lastUuid);
+	}
+
 	@Override
 	protected Call<List<TaskDto>> pullByUuids(List<String> uuids) throws NoConnectionException {
 		return RetroProvider.getTaskFacade().pullByUuids(uuids);
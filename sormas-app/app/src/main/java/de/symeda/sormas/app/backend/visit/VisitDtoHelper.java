@@ -51,6 +51,11 @@ public class VisitDtoHelper extends AdoDtoHelper<Visit, VisitDto> {
 		return RetroProvider.getVisitFacade().pullAllSince(since);
 	}
 
+	@Override
+	protected Call<List<VisitDto>> pullBatchSince(long since, int batchSize, Long lastChangeDate, String lastUuid) throws NoConnectionException {
+		return RetroProvider.getVisitFacade().pullBatchSince(since, batchSize, lastChangeDate, lastUuid);
+	}
+
 	@Override
 	protected Call<List<VisitDto>> pullByUuids(List<String> uuids) throws NoConnectionException {
 		return RetroProvider.getVisitFacade().pullByUuids(uuids);
@@ -24,6 +24,7 @@ import retrofit2.http.Body;
 import retrofit2.http.GET;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
+import retrofit2.http.Query;
 
 /**
  * Created by Mate Strysewske on 06.02.2017.
@@ -34,6 +35,13 @@ public interface SampleFacadeRetro {
 	@GET("samples/all/{since}")
 	Call<List<SampleDto>> pullAllSince(@Path("since") long since);
 
+	@GET("samples/all/{since}")
+	Call<List<SampleDto>> pullBatchSince(
+		@Path("since") long since,
+		@Query("size") int size,
+		@Query("lastChangeDate") Long lastChangeDate,
+		@Query("lastUuid") String lastUuid);
+
 	@POST("samples/query")
 	Call<List<SampleDto>> pullByUuids(@Body List<String> uuids);
 
@@ -24,6 +24,7 @@ import retrofit2.http.Body;
 import retrofit2.http.GET;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
+import retrofit2.http.Query;
 
 /**
  * Created by Stefan Szczesny on 24.10.2016.
@@ -33,6 +34,13 @@ public interface TaskFacadeRetro {
 	@GET("tasks/all/{since}")
 	Call<List<TaskDto>> pullAllSince(@Path("since") long since);
 
+	@GET("tasks/all/{since}")
+	Call<List<TaskDto>> pullBatchSince(
+		@Path("since") long since,
+		@Query("size") int size,
+		@Query("lastChangeDate") Long lastChangeDate,
+		@Query("lastUuid") String lastUuid);
+
 	@POST("tasks/query")
 	Call<List<TaskDto>> pullByUuids(@Body List<String> uuids);
 
@@ -31,9 +31,8 @@ public interface AuditListener {
 	 * To be used for
 	 * <ul>
 	 * <li>PrePersist</li>
-	 * <li>PreUpdate</li>
 	 * </ul>
-	 * Performs the comparison of the entity with its original state.
+	 * Logs all attributes of the new entity.
 	 * 
 	 * @param o
 	 *            The entity to be audited.
@@ -43,14 +42,14 @@ public interface AuditListener {
 	/**
 	 * To be used for
 	 * <ul>
-	 * <li>PostLoad</li>
+	 * <li>PreUpdate</li>
 	 * </ul>
-	 * Saves the original state of an entity for later comparison.
+	 * Performs the comparison of the entity with the state it has been loaded with.
 	 * 
 	 * @param o
 	 *            The entity to be audited.
 	 */
-	void postLoad(HasUuid o);
+	void preUpdate(HasUuid o);
 
 	/**
 	 * To be used for
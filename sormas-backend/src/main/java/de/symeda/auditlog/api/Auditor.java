@@ -20,13 +20,14 @@ package de.symeda.auditlog.api;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.Embedded;
 
@@ -35,7 +36,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import de.symeda.auditlog.api.value.DefaultValueContainer;
 import de.symeda.auditlog.api.value.ValueContainer;
-import de.symeda.auditlog.api.value.format.CollectionFormatter;
 import de.symeda.auditlog.api.value.format.ValueFormatter;
 import de.symeda.auditlog.api.value.format.override.DateFormatOverrideDetector;
 import de.symeda.auditlog.api.value.format.override.OverrideDetector;
@@ -54,6 +54,22 @@ public class Auditor implements Serializable {
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Returned by an {@link OriginalState} for attributes that can't have changed.
+	 */
+	public static final Object UNCHANGED = new Object();
+
+	/**
+	 * Returned by an {@link OriginalState} for attributes whose original value is not known. They are logged with their current
+	 * value.
+	 */
+	public static final Object UNKNOWN = new Object();
+
+	/**
+	 * The audited attributes of each entity class, resolved once because the reflective inspection is expensive.
+	 */
+	private static final Map<Class<?>, List<AttributeAccessor>> ATTRIBUTE_ACCESSORS = new ConcurrentHashMap<>();
+
 	private final boolean auditorAttributeLoggingEnabled;
 
 	public Auditor() {
@@ -64,64 +80,59 @@ public class Auditor implements Serializable {
 		this.auditorAttributeLoggingEnabled = auditorAttributeLoggingEnabled;
 	}
 
-	/*
-	 * Should the Auditor be serialized, there will be an NPE for changes.
-	 * However, this is very unlikely.
-	 */
-	private final Map<EntityId, ValueContainer> changes = new HashMap<>();
-
 	/**
-	 * Registers a {@link HasUuid} to monitor its attributes. Later comparisons of attribute changes with
-	 * {@link #detectChanges(HasUuid)} take place against the entity's state to this point in time.
-	 * <p/>
-	 * Should therefore be called immediately after an entity has been loaded.
+	 * Returns the audited attributes of a new entity.
 	 * 
 	 * @param entity
 	 *            The entity to inspect.
+	 * @return All audited attributes, with the <code>key</code> of the map being the name of the attribute and the
+	 *         <code>value</code> being its value; always a {@link ChangeType#CREATE}.
 	 */
-	public void register(HasUuid entity) {
-
-		if (isAudited(entity)) {
-			final ValueContainer valueContainer = getValueContainerOf(entity);
+	public ChangeEvent detectChanges(HasUuid entity) {
 
-			if (valueContainer != null) {
-				this.changes.put(EntityId.getOidFromHasUuid(entity), new DefaultValueContainer(valueContainer));
-			}
+		if (!isAudited(entity)) {
+			return new ChangeEvent(Collections.emptySortedMap(), ChangeType.UPDATE);
 		}
+
+		return new ChangeEvent(getValueContainerOf(entity).getChanges(), ChangeType.CREATE);
 	}
 
 	/**
-	 * Checks which attributes have changed for this entity. Returns an empty map when no changes have been detected.
+	 * Checks which attributes of an entity that is about to be updated have changed since it has been loaded or last flushed.
+	 * <p/>
+	 * The original values are taken from {@code originalState}. Attributes that are {@link #UNCHANGED} are neither read nor
+	 * compared.
 	 * 
-	 * @param entity
-	 *            The entity to inspect.
-	 * @return
-	 *         <ol>
-	 *         <li>Returns a list of all changed attributes, with the <code>key</code> of the map being the name of the changed attribute
-	 *         and the <code>value</code> being the new value of the attribute.</li>
-	 *         <li>Specifies whether it is a {@link ChangeType#CREATE} or {@link ChangeType#UPDATE}.</li>
+	 * @param originalState
+	 *            The state the entity has been loaded with; if <code>null</code>, all attributes are {@link #UNKNOWN}.
+	 * @return The changed attributes; always a {@link ChangeType#UPDATE}.
 	 */
-	public ChangeEvent detectChanges(HasUuid entity) {
+	public ChangeEvent detectChanges(HasUuid entity, OriginalState originalState) {
 
-		if (!isAudited(entity)) {
+		if (!isAudited(entity) || !auditorAttributeLoggingEnabled) {
 			return new ChangeEvent(Collections.emptySortedMap(), ChangeType.UPDATE);
-		} else {
+		} else if (originalState == null) {
+			originalState = propertyName -> UNKNOWN;
+		}
 
-			final ChangeType changeType = detectChangeType(entity);
-			final SortedMap<String, String> entityChanges;
-			if (this.changes.containsKey(EntityId.getOidFromHasUuid(entity))) {
-				// Compare attributes because already existing
-				ValueContainer originalContainer = this.changes.get(EntityId.getOidFromHasUuid(entity));
-				entityChanges = getValueContainerOf(entity).compare(originalContainer);
-			} else {
-				// Entity is new
-				entityChanges = getValueContainerOf(entity).getChanges();
+		DefaultValueContainer originalContainer = new DefaultValueContainer();
+		DefaultValueContainer currentContainer = new DefaultValueContainer();
+		try {
+			for (AttributeAccessor accessor : getAttributeAccessors(entity.getClass())) {
+				Object originalValue = originalState.get(accessor.propertyName);
+				if (originalValue == UNCHANGED) {
+					continue;
+				}
+				if (originalValue != UNKNOWN) {
+					accessor.put(originalContainer, originalValue);
+				}
+				accessor.put(currentContainer, accessor.getter.invoke(entity));
 			}
-
-			// Save the current state for the next call within the same TX
-			register(entity);
-			return new ChangeEvent(entityChanges, changeType);
+		} catch (InvocationTargetException | IllegalAccessException e) {
+			throw new AuditlogException(String.format("No changes for entity %s can be detected.", entity.toString()), e);
 		}
+
+		return new ChangeEvent(currentContainer.compare(originalContainer), ChangeType.UPDATE);
 	}
 
 	/**
@@ -139,22 +150,6 @@ public class Auditor implements Serializable {
 		}
 	}
 
-	/**
-	 * Checks whether this entity is completely new or has been changed.
-	 * 
-	 * @param entity
-	 *            The entity to inspect.
-	 * @return Returns {@link ChangeType#UPDATE} if the entity has been changed in this transaction or {@link ChangeType#CREATE} otherwise.
-	 */
-	private ChangeType detectChangeType(HasUuid entity) {
-
-		if (this.changes.containsKey(EntityId.getOidFromHasUuid(entity))) {
-			return ChangeType.UPDATE;
-		} else {
-			return ChangeType.CREATE;
-		}
-	}
-
 	/**
 	 * Returns the ValueContainer to an auditable entity.
 	 * 
@@ -185,66 +180,83 @@ public class Auditor implements Serializable {
 	ValueContainer inspectEntity(HasUuid entity) {
 		DefaultValueContainer result = new DefaultValueContainer();
 
-		EntityInspector inspector = new EntityInspector(entity);
-		for (Method currentAttribute : inspector.getAuditedAttributes()) {
-
-			try {
-				AuditedAttribute auditedAttribute = currentAttribute.getAnnotation(AuditedAttribute.class);
-				AuditedCollection auditedCollection = currentAttribute.getAnnotation(AuditedCollection.class);
-				boolean isCollection = Collection.class.isAssignableFrom(currentAttribute.getReturnType());
-
-				if (auditedAttribute != null || !isCollection) {
-					logAttributeChange(result, inspector, currentAttribute, auditedAttribute);
-				} else if (auditedCollection != null || isCollection) {
-					logCollectionChange(result, inspector, currentAttribute, auditedCollection);
-				}
-			} catch (InvocationTargetException | IllegalAccessException e) {
-				throw new AuditlogException(String.format("No changes for entity %s can be detected.", entity.toString()), e);
+		try {
+			for (AttributeAccessor accessor : getAttributeAccessors(entity.getClass())) {
+				accessor.put(result, accessor.getter.invoke(entity));
 			}
+		} catch (InvocationTargetException | IllegalAccessException e) {
+			throw new AuditlogException(String.format("No changes for entity %s can be detected.", entity.toString()), e);
 		}
 
 		return result;
 	}
 
-	@SuppressWarnings("unchecked")
-	private void logCollectionChange(DefaultValueContainer result, EntityInspector inspector, Method currentAttribute, AuditedCollection annotation)
-		throws IllegalAccessException, InvocationTargetException {
-		@SuppressWarnings("rawtypes")
-		CollectionFormatter collectionFormatter = EntityInspector.getCollectionFormatter(annotation);
-
-		final Collection<?> fieldValue = (Collection<?>) inspector.getAttributeValue(currentAttribute);
-		final String fieldName = EntityInspector.buildFieldName(currentAttribute);
-
-		result.put(fieldName, fieldValue, collectionFormatter);
+	private List<AttributeAccessor> getAttributeAccessors(Class<?> entityClass) {
+		return ATTRIBUTE_ACCESSORS.computeIfAbsent(entityClass, this::buildAttributeAccessors);
 	}
 
-	private void logAttributeChange(DefaultValueContainer result, EntityInspector inspector, Method currentAttribute, AuditedAttribute annotation)
-		throws IllegalAccessException, InvocationTargetException {
-
-		if (isEmbeddedElement(currentAttribute)) {
-
-			if (isClassAudited(currentAttribute.getReturnType())) {
-				// Log the attributes of the Embeddable
-				Object embeddable = inspector.getAttributeValue(currentAttribute);
-				EntityInspector embeddableInspector = new EntityInspector(embeddable);
-
-				List<Method> auditedAttributes = embeddableInspector.getAuditedAttributes();
-
-				for (Method embeddableAttribute : auditedAttributes) {
-					logSingularAttributeChange(
-						result,
-						EntityInspector.buildFieldName(currentAttribute),
-						embeddableInspector,
-						embeddableAttribute,
-						embeddableAttribute.getDeclaredAnnotation(AuditedAttribute.class));
+	private List<AttributeAccessor> buildAttributeAccessors(Class<?> entityClass) {
+
+		List<AttributeAccessor> accessors = new ArrayList<>();
+		for (Method currentAttribute : EntityInspector.getAuditedAttributes(entityClass)) {
+
+			AuditedAttribute auditedAttribute = currentAttribute.getAnnotation(AuditedAttribute.class);
+			AuditedCollection auditedCollection = currentAttribute.getAnnotation(AuditedCollection.class);
+			boolean isCollection = Collection.class.isAssignableFrom(currentAttribute.getReturnType());
+			String fieldName = EntityInspector.buildFieldName(currentAttribute);
+
+			if (auditedAttribute != null || !isCollection) {
+				if (!isEmbeddedElement(currentAttribute)) {
+					// Log simple value
+					accessors.add(buildSingularAttributeAccessor(fieldName, "", currentAttribute, null, auditedAttribute));
+				} else if (isClassAudited(currentAttribute.getReturnType())) {
+					// Log the attributes of the Embeddable
+					for (Method embeddableAttribute : EntityInspector.getAuditedAttributes(currentAttribute.getReturnType())) {
+						accessors.add(
+							buildSingularAttributeAccessor(
+								fieldName,
+								fieldName,
+								currentAttribute,
+								embeddableAttribute,
+								embeddableAttribute.getDeclaredAnnotation(AuditedAttribute.class)));
+					}
 				}
-
+			} else {
+				accessors.add(
+					new AttributeAccessor(
+						fieldName,
+						fieldName,
+						currentAttribute,
+						null,
+						EntityInspector.getCollectionFormatter(auditedCollection),
+						null,
+						null));
 			}
-		} else {
-			// Log simple value
-			logSingularAttributeChange(result, inspector, currentAttribute, annotation);
 		}
 
+		return Collections.unmodifiableList(accessors);
+	}
+
+	private AttributeAccessor buildSingularAttributeAccessor(
+		String propertyName,
+		String prefix,
+		Method getter,
+		Method embeddableGetter,
+		AuditedAttribute annotation) {
+
+		Method valueGetter = embeddableGetter != null ? embeddableGetter : getter;
+		ValueFormatter<?> formatter = overrideFormatter(EntityInspector.getFormatter(annotation), valueGetter);
+		String fieldName = EntityInspector.buildFieldName(valueGetter);
+		boolean anonymous = annotation != null && annotation.anonymous();
+
+		return new AttributeAccessor(
+			propertyName,
+			prefixFieldNameWith(prefix, fieldName),
+			getter,
+			embeddableGetter,
+			formatter,
+			anonymous ? fieldName : null,
+			anonymous ? annotation.anonymizingString() : null);
 	}
 
 	private boolean isClassAudited(final Class<?> clazz) {
@@ -257,43 +269,6 @@ public class Auditor implements Serializable {
 		return currentAttribute.getDeclaredAnnotation(Embedded.class) != null;
 	}
 
-	private void logSingularAttributeChange(
-		DefaultValueContainer result,
-		EntityInspector inspector,
-		Method currentAttribute,
-		AuditedAttribute annotation)
-		throws IllegalAccessException, InvocationTargetException {
-
-		this.logSingularAttributeChange(result, "", inspector, currentAttribute, annotation);
-
-	}
-
-	@SuppressWarnings("unchecked")
-	private void logSingularAttributeChange(
-		DefaultValueContainer result,
-		String prefix,
-		EntityInspector inspector,
-		Method currentAttribute,
-		AuditedAttribute annotation)
-		throws IllegalAccessException, InvocationTargetException {
-
-		@SuppressWarnings("rawtypes")
-		ValueFormatter formatter = EntityInspector.getFormatter(annotation);
-
-		formatter = overrideFormatter(formatter, currentAttribute);
-
-		final String fieldName = EntityInspector.buildFieldName(currentAttribute);
-		final Object fieldValue = inspector.getAttributeValue(currentAttribute);
-
-		result.put(prefixFieldNameWith(prefix, fieldName), fieldValue, formatter);
-
-		if (annotation != null) {
-			if (annotation.anonymous()) {
-				result.configureAnonymizeValue(fieldName, annotation.anonymizingString());
-			}
-		}
-	}
-
 	private String prefixFieldNameWith(String prefix, final String fieldName) {
 
 		if (StringUtils.isBlank(prefix)) {
@@ -361,4 +336,72 @@ public class Auditor implements Serializable {
 	private static boolean isDefaultFormatter(Class<? extends ValueFormatter> specifiedFormatter) {
 		return AuditedAttribute.DEFAULT_FORMATTER.equals(specifiedFormatter);
 	}
+
+	/**
+	 * Provides the values an entity had when it has been loaded or last flushed.
+	 */
+	@FunctionalInterface
+	public interface OriginalState {
+
+		/**
+		 * @param propertyName
+		 *            The name of a property of the entity; for attributes of embeddables, the name of the embedded property.
+		 * @return The original value, {@link Auditor#UNCHANGED} or {@link Auditor#UNKNOWN}.
+		 */
+		Object get(String propertyName);
+	}
+
+	/**
+	 * Reads and formats one audited attribute.
+	 */
+	private static final class AttributeAccessor {
+
+		private final String propertyName;
+		private final String attributeName;
+		private final Method getter;
+		private final Method embeddableGetter;
+		@SuppressWarnings("rawtypes")
+		private final ValueFormatter formatter;
+		private final String anonymizedAttributeName;
+		private final String anonymizingString;
+
+		private AttributeAccessor(
+			String propertyName,
+			String attributeName,
+			Method getter,
+			Method embeddableGetter,
+			ValueFormatter<?> formatter,
+			String anonymizedAttributeName,
+			String anonymizingString) {
+
+			this.propertyName = propertyName;
+			this.attributeName = attributeName;
+			this.getter = getter;
+			this.embeddableGetter = embeddableGetter;
+			this.formatter = formatter;
+			this.anonymizedAttributeName = anonymizedAttributeName;
+			this.anonymizingString = anonymizingString;
+		}
+
+		/**
+		 * @param propertyValue
+		 *            The value of the entity property; the embeddable for attributes of embeddables.
+		 */
+		@SuppressWarnings("unchecked")
+		private void put(DefaultValueContainer container, Object propertyValue) throws IllegalAccessException, InvocationTargetException {
+
+			Object value = propertyValue;
+			if (embeddableGetter != null) {
+				if (propertyValue == null) {
+					return;
+				}
+				value = embeddableGetter.invoke(propertyValue);
+			}
+
+			container.put(attributeName, value, formatter);
+			if (anonymizedAttributeName != null) {
+				container.configureAnonymizeValue(anonymizedAttributeName, anonymizingString);
+			}
+		}
+	}
 }
@@ -23,7 +23,6 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
-import javax.persistence.PostLoad;
 import javax.persistence.PrePersist;
 import javax.persistence.PreRemove;
 import javax.persistence.PreUpdate;
@@ -36,6 +35,7 @@ public class AuditListenerCdiWrapper implements Serializable, AuditListener {
 	private static final long serialVersionUID = 1L;
 
 	private BeanManager beanManager;
+	private transient Bean<?> auditListenerBean;
 
 	private BeanManager getBeanManager() {
 
@@ -56,14 +56,17 @@ public class AuditListenerCdiWrapper implements Serializable, AuditListener {
 
 		BeanManager beanManager = this.getBeanManager();
 
-		Bean<?> bean = beanManager.resolve(beanManager.getBeans(DefaultAuditListener.class));
+		// resolving is the same for every call, but the reference has to be new because the listener's user is not scoped
+		if (auditListenerBean == null) {
+			auditListenerBean = beanManager.resolve(beanManager.getBeans(DefaultAuditListener.class));
+		}
+		Bean<?> bean = auditListenerBean;
 		AuditListener someBean = (AuditListener) beanManager.getReference(bean, bean.getBeanClass(), beanManager.createCreationalContext(bean));
 
 		return someBean;
 	}
 
 	@Override
-	@PreUpdate
 	@PrePersist
 	public void prePersist(HasUuid o) {
 
@@ -71,10 +74,10 @@ public class AuditListenerCdiWrapper implements Serializable, AuditListener {
 	}
 
 	@Override
-	@PostLoad
-	public void postLoad(HasUuid o) {
+	@PreUpdate
+	public void preUpdate(HasUuid o) {
 
-		this.getBeanByName().postLoad(o);
+		this.getBeanByName().preUpdate(o);
 	}
 
 	@Override
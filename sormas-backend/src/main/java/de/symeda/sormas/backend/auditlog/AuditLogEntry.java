@@ -27,6 +27,7 @@ import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -36,23 +37,44 @@ import javax.persistence.SequenceGenerator;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 
+import org.hibernate.annotations.Type;
+import org.hibernate.annotations.TypeDef;
+
+import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
+
 import de.symeda.auditlog.api.ChangeType;
+import de.symeda.sormas.backend.util.ModelConstants;
 
 /**
  * For saving changes on entities.
+ * <p/>
+ * Entries are only ever inserted. The changed attributes are stored with the entry; entries written before that keep them in
+ * {@code auditlogentry_attributes}.
  * 
  * @author Oliver Milke
  */
+@TypeDef(name = ModelConstants.HIBERNATE_TYPE_JSON, typeClass = JsonBinaryType.class)
 @Entity
 public class AuditLogEntry implements Serializable {
 
 	private static final long serialVersionUID = 1L;
 
+	public static final String ID = "id";
+	public static final String CLAZZ = "clazz";
+	public static final String UUID = "uuid";
+	public static final String DETECTION_TIMESTAMP = "detectionTimestamp";
+	public static final String LEGACY_ATTRIBUTES = "legacyAttributes";
+
 	private static final String SEQ_JPA_NAME = "Auditlog_seq";
 	private static final String SEQ_SQL_NAME = "auditlog_seq";
 
+	/**
+	 * Has to match the increment of the sequence.
+	 */
+	private static final int SEQ_ALLOCATION_SIZE = 50;
+
 	@Id
-	@SequenceGenerator(name = SEQ_JPA_NAME, allocationSize = 1, sequenceName = SEQ_SQL_NAME)
+	@SequenceGenerator(name = SEQ_JPA_NAME, allocationSize = SEQ_ALLOCATION_SIZE, sequenceName = SEQ_SQL_NAME)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQ_JPA_NAME)
 	private Long id;
 
@@ -71,11 +93,18 @@ public class AuditLogEntry implements Serializable {
 	@Column(nullable = false)
 	private ChangeType changeType;
 
-	@ElementCollection
+	@Type(type = ModelConstants.HIBERNATE_TYPE_JSON)
+	@Column(columnDefinition = "jsonb")
+	private Map<String, String> attributes;
+
+	/**
+	 * Read only; the attributes of entries written before they have been stored with the entry.
+	 */
+	@ElementCollection(fetch = FetchType.LAZY)
 	@CollectionTable(name = "auditlogentry_attributes", joinColumns = @JoinColumn(name = "auditlogentry_id", nullable = false))
 	@MapKeyColumn(name = "attribute_key", nullable = false)
 	@Column(name = "attribute_value", columnDefinition = "text")
-	private Map<String, String> attributes;
+	private Map<String, String> legacyAttributes;
 
 	public Long getId() {
 		return id;
@@ -139,11 +168,18 @@ public class AuditLogEntry implements Serializable {
 		this.transactionId = transactionId;
 	}
 
+	/**
+	 * @return The changed attributes, regardless of where they are stored.
+	 */
 	public Map<String, String> getAttributes() {
-		return attributes;
+		return attributes != null ? attributes : legacyAttributes;
 	}
 
 	public void setAttributes(Map<String, String> attributes) {
 		this.attributes = attributes;
 	}
+
+	void setLegacyAttributes(Map<String, String> legacyAttributes) {
+		this.legacyAttributes = legacyAttributes;
+	}
 }
@@ -18,6 +18,8 @@
 package de.symeda.sormas.backend.auditlog;
 
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
@@ -26,12 +28,16 @@ import javax.enterprise.event.Observes;
 import javax.enterprise.event.TransactionPhase;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TemporalType;
 
 import de.symeda.auditlog.api.ChangeEvent;
 import de.symeda.sormas.backend.util.ModelConstants;
 
 /**
  * Turns {@link ChangeEvent}s to {@link AuditLogEntry} and saves it.
+ * <p/>
+ * The entries of a transaction are kept in the persistence context of the audit log and are inserted in JDBC batches when it is
+ * flushed at commit.
  * 
  * @author Oliver Milke
  */
@@ -57,4 +63,46 @@ public class AuditLogServiceBean {
 
 		this.entityManager.persist(log);
 	}
+
+	/**
+	 * @return All entries of the entity with the given uuid, oldest first. Entries written before the attributes have been stored
+	 *         with the entry come with their attribute rows, so {@link AuditLogEntry#getAttributes()} works for both.
+	 */
+	public List<AuditLogEntry> getEntries(String entityUuid) {
+
+		return entityManager
+			.createQuery(
+				"SELECT DISTINCT e FROM " + AuditLogEntry.class.getSimpleName() + " e LEFT JOIN FETCH e." + AuditLogEntry.LEGACY_ATTRIBUTES
+					+ " WHERE e." + AuditLogEntry.UUID + " = :uuid ORDER BY e." + AuditLogEntry.DETECTION_TIMESTAMP + ", e." + AuditLogEntry.ID,
+				AuditLogEntry.class)
+			.setParameter("uuid", entityUuid)
+			.getResultList();
+	}
+
+	/**
+	 * Deletes at most {@code batchSize} of the entries detected before the given date in a transaction of its own, so the retention
+	 * of a large audit log doesn't run as one long transaction. Has to be called until less than {@code batchSize} entries are
+	 * deleted.
+	 * 
+	 * @return The number of deleted entries.
+	 */
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public int deleteEntriesBefore(Date date, int batchSize) {
+
+		@SuppressWarnings("unchecked")
+		List<Number> ids = entityManager.createNativeQuery("SELECT id FROM auditlogentry WHERE detection_ts < :date LIMIT :batchSize")
+			.setParameter("date", date, TemporalType.TIMESTAMP)
+			.setParameter("batchSize", batchSize)
+			.getResultList();
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		List<Long> entryIds = ids.stream().map(Number::longValue).collect(Collectors.toList());
+		entityManager.createNativeQuery("DELETE FROM auditlogentry_attributes WHERE auditlogentry_id IN (:ids)")
+			.setParameter("ids", entryIds)
+			.executeUpdate();
+
+		return entityManager.createNativeQuery("DELETE FROM auditlogentry WHERE id IN (:ids)").setParameter("ids", entryIds).executeUpdate();
+	}
 }
@@ -20,14 +20,21 @@ package de.symeda.sormas.backend.auditlog;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Map;
 
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
-import javax.persistence.PostLoad;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.persistence.PrePersist;
 import javax.persistence.PreRemove;
 import javax.persistence.PreUpdate;
 
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.tuple.entity.EntityMetamodel;
+
 import de.symeda.auditlog.api.AuditListener;
 import de.symeda.auditlog.api.Auditor;
 import de.symeda.auditlog.api.ChangeEvent;
@@ -37,9 +44,13 @@ import de.symeda.auditlog.api.EntityId;
 import de.symeda.auditlog.api.TransactionId;
 import de.symeda.auditlog.api.UserId;
 import de.symeda.sormas.api.HasUuid;
+import de.symeda.sormas.backend.util.ModelConstants;
 
 /**
  * Entity life cycle listener that can detect changes on entities.
+ * <p/>
+ * Updated entities are compared with the state Hibernate has loaded them with, so nothing has to be recorded when entities are
+ * only read.
  * 
  * @author Oliver Milke
  * @since 13.01.2016
@@ -63,9 +74,11 @@ public class DefaultAuditListener implements Serializable, AuditListener {
 	@Inject
 	Event<ChangeEvent> event;
 
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
 	@Override
 	@PrePersist
-	@PreUpdate
 	public void prePersist(HasUuid o) {
 
 		ChangeEvent data = new ChangeEvent(this.auditor.detectChanges(o), EntityId.getOidFromHasUuid(o), LocalDateTime.now(), userId, transactionId);
@@ -73,10 +86,63 @@ public class DefaultAuditListener implements Serializable, AuditListener {
 	}
 
 	@Override
-	@PostLoad
-	public void postLoad(HasUuid o) {
+	@PreUpdate
+	public void preUpdate(HasUuid o) {
+
+		ChangeEvent data = new ChangeEvent(
+			this.auditor.detectChanges(o, getOriginalState(o)),
+			EntityId.getOidFromHasUuid(o),
+			LocalDateTime.now(),
+			userId,
+			transactionId);
+		event.fire(data);
+	}
+
+	/**
+	 * @return The state the entity has been loaded with or has been flushed with last, or <code>null</code> if the entity is not
+	 *         managed by the current persistence context.
+	 */
+	private Auditor.OriginalState getOriginalState(HasUuid o) {
+
+		EntityEntry entry = em.unwrap(SessionImplementor.class).getPersistenceContext().getEntry(o);
+		if (entry == null || entry.getLoadedState() == null) {
+			return null;
+		}
+
+		Object[] loadedState = entry.getLoadedState();
+		EntityMetamodel metamodel = entry.getPersister().getEntityMetamodel();
+		return propertyName -> {
+			Integer index = metamodel.getPropertyIndexOrNull(propertyName);
+			if (index == null) {
+				// the identifier is not part of the loaded state and never changes
+				return Auditor.UNCHANGED;
+			}
+
+			Object loadedValue = loadedState[index];
+			if (loadedValue instanceof PersistentCollection) {
+				return getOriginalCollection((PersistentCollection) loadedValue, entry.getPersister().getPropertyValue(o, index));
+			}
+			return loadedValue;
+		};
+	}
+
+	/**
+	 * Collections are only compared when they have been replaced or changed; their elements are not loaded otherwise.
+	 */
+	private Object getOriginalCollection(PersistentCollection loadedCollection, Object currentValue) {
+
+		if (loadedCollection == currentValue && (!loadedCollection.wasInitialized() || !loadedCollection.isDirty())) {
+			return Auditor.UNCHANGED;
+		}
 
-		auditor.register(o);
+		Object snapshot = loadedCollection.wasInitialized() ? loadedCollection.getStoredSnapshot() : null;
+		if (snapshot instanceof Map) {
+			// snapshots of sets are maps of their elements
+			return ((Map<?, ?>) snapshot).keySet();
+		} else if (snapshot != null) {
+			return snapshot;
+		}
+		return Auditor.UNKNOWN;
 	}
 
 	@Override
@@ -0,0 +1,122 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.campaign.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.symeda.sormas.api.campaign.diagram.CampaignDiagramDataDto;
+import de.symeda.sormas.api.campaign.diagram.CampaignDiagramSeries;
+import de.symeda.sormas.api.campaign.form.CampaignFormElementType;
+
+/**
+ * Computes the data of all series of a campaign diagram from the result of a single query over the campaign form data.
+ * <p>
+ * Field value rows are grouped by form, field, field value and jurisdiction, with the field value being null for number fields.
+ * Their sum is the sum of all values for number fields and the number of entries with that value otherwise. Form count rows are
+ * grouped by form and jurisdiction.
+ */
+final class CampaignDiagramDataAggregator {
+
+	static final int FORM_UUID = 0;
+	static final int FORM_ID = 1;
+	static final int FIELD_ID = 2;
+	static final int FIELD_CAPTION = 3;
+	static final int FIELD_TYPE = 4;
+	static final int FIELD_VALUE = 5;
+	static final int SUM_VALUE = 6;
+	static final int JURISDICTION_UUID = 7;
+	static final int JURISDICTION_NAME = 8;
+
+	private final Map<List<String>, List<Object[]>> fieldValueRows = new HashMap<>();
+	private final Map<String, List<Object[]>> formCountRows = new HashMap<>();
+
+	void addFieldValueRows(List<Object[]> rows) {
+		for (Object[] row : rows) {
+			fieldValueRows.computeIfAbsent(Arrays.asList((String) row[FORM_ID], (String) row[FIELD_ID]), k -> new ArrayList<>()).add(row);
+		}
+	}
+
+	void addFormCountRows(List<Object[]> rows) {
+		for (Object[] row : rows) {
+			formCountRows.computeIfAbsent((String) row[FORM_ID], k -> new ArrayList<>()).add(row);
+		}
+	}
+
+	List<CampaignDiagramDataDto> getDiagramData(List<CampaignDiagramSeries> diagramSeries) {
+
+		List<CampaignDiagramDataDto> resultData = new ArrayList<>();
+		for (CampaignDiagramSeries series : diagramSeries) {
+			if (series.getFieldId() != null) {
+				addFieldSeriesData(series, resultData);
+			} else {
+				for (Object[] row : formCountRows.getOrDefault(series.getFormId(), Collections.emptyList())) {
+					resultData.add(toDiagramData(row, null, null, (Number) row[SUM_VALUE], series));
+				}
+			}
+		}
+
+		return resultData;
+	}
+
+	private void addFieldSeriesData(CampaignDiagramSeries series, List<CampaignDiagramDataDto> resultData) {
+
+		// Like the comparison in SQL, a missing reference value is compared as 'null'
+		String referenceValue = String.valueOf(series.getReferenceValue());
+
+		Map<List<Object>, Object[]> groupRows = new LinkedHashMap<>();
+		Map<List<Object>, long[]> groupSums = new HashMap<>();
+		for (Object[] row : fieldValueRows.getOrDefault(Arrays.asList(series.getFormId(), series.getFieldId()), Collections.emptyList())) {
+			List<Object> group = Arrays.asList(
+				row[FORM_UUID],
+				row[FIELD_ID],
+				row[FIELD_CAPTION],
+				row[FIELD_TYPE],
+				row[JURISDICTION_UUID],
+				row[JURISDICTION_NAME]);
+			groupRows.putIfAbsent(group, row);
+
+			long value;
+			if (CampaignFormElementType.NUMBER.toString().equals(row[FIELD_TYPE])) {
+				value = ((Number) row[SUM_VALUE]).longValue();
+			} else {
+				value = referenceValue.equals(row[FIELD_VALUE]) ? ((Number) row[SUM_VALUE]).longValue() : 0;
+			}
+			groupSums.computeIfAbsent(group, g -> new long[1])[0] += value;
+		}
+
+		groupRows.forEach(
+			(group, row) -> resultData
+				.add(toDiagramData(row, (String) row[FIELD_ID], (String) row[FIELD_CAPTION], groupSums.get(group)[0], series)));
+	}
+
+	private static CampaignDiagramDataDto toDiagramData(Object[] row, String fieldId, String fieldCaption, Number sum, CampaignDiagramSeries series) {
+		return new CampaignDiagramDataDto(
+			(String) row[FORM_UUID],
+			(String) row[FORM_ID],
+			fieldId,
+			fieldCaption,
+			sum,
+			(String) row[JURISDICTION_UUID],
+			(String) row[JURISDICTION_NAME],
+			series.getStack());
+	}
+}
@@ -23,8 +23,10 @@ package de.symeda.sormas.backend.campaign.data;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -45,7 +47,6 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
 import de.symeda.sormas.api.campaign.CampaignJurisdictionLevel;
-import de.symeda.sormas.api.campaign.CampaignReferenceDto;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataCriteria;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataDto;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataEntry;
@@ -501,222 +502,265 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 	@Override
 	public List<CampaignDiagramDataDto> getDiagramData(List<CampaignDiagramSeries> diagramSeries, CampaignDiagramCriteria campaignDiagramCriteria) {
 
-		List<CampaignDiagramDataDto> resultData = new ArrayList<>();
-		final AreaReferenceDto area = campaignDiagramCriteria.getArea();
-		final RegionReferenceDto region = campaignDiagramCriteria.getRegion();
-		final DistrictReferenceDto district = campaignDiagramCriteria.getDistrict();
-		final CampaignReferenceDto campaign = campaignDiagramCriteria.getCampaign();
-
+		// All series of the diagram are computed from one scan over the form values and one over the forms
+		Set<String> fieldFormIds = new HashSet<>();
+		Set<String> fieldIds = new HashSet<>();
+		Set<String> countFormIds = new HashSet<>();
 		for (CampaignDiagramSeries series : diagramSeries) {
-			//@formatter:off
-
-				final String areaFilter = area != null ? " AND " + Area.TABLE_NAME + "." + Area.UUID + " = :areaUuid" : "";
-				final String regionFilter = region != null ? " AND " + CampaignFormData.REGION + "." + Region.UUID + " = :regionUuid" : "";
-				final String districtFilter = district != null ? " AND " + CampaignFormData.DISTRICT + "." + District.UUID + " = :districtUuid" : "";
-				final String campaignFilter = campaign != null ? " AND " + Campaign.TABLE_NAME + "." + Campaign.UUID + " = :campaignUuid" : "";
-				//@formatter:on
-
-			// SELECT
-			StringBuilder selectBuilder = new StringBuilder("SELECT ").append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.UUID)
-				.append(" as formUuid,")
-				.append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.FORM_ID)
-				.append(" as formId");
-
 			if (series.getFieldId() != null) {
-				selectBuilder.append(", jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' as fieldId, jsonMeta->>'")
-					.append(CampaignFormElement.CAPTION)
-					.append("' as fieldCaption,")
-					.append("CASE WHEN (jsonMeta ->> '")
-					.append(CampaignFormElement.TYPE)
-					.append("') = '")
-					.append(CampaignFormElementType.NUMBER.toString())
-					.append("' THEN sum(cast_to_int(jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("', 0)) ELSE sum(CASE WHEN(jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("') = '")
-					.append(series.getReferenceValue())
-					.append("' THEN 1 ELSE 0 END) END as sumValue,");
+				fieldFormIds.add(series.getFormId());
+				fieldIds.add(series.getFieldId());
 			} else {
-				selectBuilder.append(", null as fieldId, null as fieldCaption, count(formId) as sumValue,");
+				countFormIds.add(series.getFormId());
 			}
+		}
 
-			final String jurisdictionGrouping;
-			switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
-			case REGION:
-				appendInfrastructureSelection(selectBuilder, Region.TABLE_NAME, Region.NAME);
-				break;
-			case DISTRICT:
-				appendInfrastructureSelection(selectBuilder, District.TABLE_NAME, District.NAME);
-				break;
-			case COMMUNITY:
-				appendInfrastructureSelection(selectBuilder, Community.TABLE_NAME, Community.NAME);
-				break;
-			case AREA:
-			default:
-				appendInfrastructureSelection(selectBuilder, Area.TABLE_NAME, Area.NAME);
-			}
+		CampaignDiagramDataAggregator aggregator = new CampaignDiagramDataAggregator();
+		if (!fieldIds.isEmpty()) {
+			aggregator.addFieldValueRows(getDiagramFieldValueRows(fieldFormIds, fieldIds, campaignDiagramCriteria));
+		}
+		if (!countFormIds.isEmpty()) {
+			aggregator.addFormCountRows(getDiagramFormCountRows(countFormIds, campaignDiagramCriteria));
+		}
 
-			// JOINS
-			StringBuilder joinBuilder = new StringBuilder(" LEFT JOIN ").append(CampaignFormMeta.TABLE_NAME)
-				.append(" ON ")
-				.append(CampaignFormData.CAMPAIGN_FORM_META)
-				.append("_id = ")
-				.append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.ID)
-				.append(" LEFT JOIN ")
-				.append(Region.TABLE_NAME)
-				.append(" ON ")
-				.append(CampaignFormData.REGION)
-				.append("_id =")
-				.append(Region.TABLE_NAME)
-				.append(".")
-				.append(Region.ID)
-				.append(" LEFT JOIN ")
-				.append(Area.TABLE_NAME)
-				.append(" ON ")
-				.append(Region.AREA)
-				.append("_id = ")
-				.append(Area.TABLE_NAME)
-				.append(".")
-				.append(Area.ID)
-				.append(" LEFT JOIN ")
-				.append(District.TABLE_NAME)
-				.append(" ON ")
-				.append(CampaignFormData.DISTRICT)
-				.append("_id = ")
-				.append(District.TABLE_NAME)
-				.append(".")
-				.append(District.ID)
-				.append(" LEFT JOIN ")
-				.append(Community.TABLE_NAME)
-				.append(" ON ")
-				.append(CampaignFormData.COMMUNITY)
-				.append("_id = ")
-				.append(Community.TABLE_NAME)
-				.append(".")
-				.append(Community.ID)
-				.append(" LEFT JOIN ")
-				.append(Campaign.TABLE_NAME)
-				.append(" ON ")
-				.append(CampaignFormData.CAMPAIGN)
-				.append("_id = ")
-				.append(Campaign.TABLE_NAME)
-				.append(".")
-				.append(Campaign.ID);
+		return aggregator.getDiagramData(diagramSeries);
+	}
 
-			if (series.getFieldId() != null) {
-				joinBuilder.append(", json_array_elements(")
-					.append(CampaignFormData.FORM_VALUES)
-					.append(") as jsonData, json_array_elements(")
-					.append(CampaignFormMeta.CAMPAIGN_FORM_ELEMENTS)
-					.append(") as jsonMeta");
-			}
+	private List<Object[]> getDiagramFieldValueRows(Set<String> formIds, Set<String> fieldIds, CampaignDiagramCriteria campaignDiagramCriteria) {
+
+		// number fields are summed up, other fields are counted by value
+		final String numberField = "(jsonMeta->>'" + CampaignFormElement.TYPE + "') = '" + CampaignFormElementType.NUMBER.toString() + "'";
+		final String fieldValue = "CASE WHEN " + numberField + " THEN NULL ELSE jsonData->>'" + CampaignFormDataEntry.VALUE + "' END";
+
+		// SELECT
+		StringBuilder selectBuilder = new StringBuilder("SELECT ").append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.UUID)
+			.append(" as formUuid,")
+			.append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.FORM_ID)
+			.append(" as formId, jsonData->>'")
+			.append(CampaignFormDataEntry.ID)
+			.append("' as fieldId, jsonMeta->>'")
+			.append(CampaignFormElement.CAPTION)
+			.append("' as fieldCaption, jsonMeta->>'")
+			.append(CampaignFormElement.TYPE)
+			.append("' as fieldType, ")
+			.append(fieldValue)
+			.append(" as fieldValue, CASE WHEN ")
+			.append(numberField)
+			.append(" THEN sum(cast_to_int(jsonData->>'")
+			.append(CampaignFormDataEntry.VALUE)
+			.append("', 0)) ELSE count(*) END as sumValue,");
+		appendJurisdictionSelection(selectBuilder, campaignDiagramCriteria);
+
+		// JOINS
+		StringBuilder joinBuilder = new StringBuilder(createDiagramJoins()).append(", json_array_elements(")
+			.append(CampaignFormData.FORM_VALUES)
+			.append(") as jsonData, json_array_elements(")
+			.append(CampaignFormMeta.CAMPAIGN_FORM_ELEMENTS)
+			.append(") as jsonMeta");
+
+		// WHERE
+		StringBuilder whereBuilder =
+			new StringBuilder(" WHERE ").append(CampaignFormMeta.TABLE_NAME).append(".").append(CampaignFormMeta.FORM_ID).append(" IN (:campaignFormMetaIds)")
+				.append(" AND jsonData->>'")
+				.append(CampaignFormDataEntry.ID)
+				.append("' IN (:campaignFormDataIds)")
+				.append(" AND jsonData->>'")
+				.append(CampaignFormDataEntry.VALUE)
+				.append("' IS NOT NULL AND jsonData->>'")
+				.append(CampaignFormDataEntry.ID)
+				.append("' = jsonMeta->>'")
+				.append(CampaignFormElement.ID)
+				.append("'")
+				.append(createDiagramFilters(campaignDiagramCriteria));
+
+		// GROUP BY
+		StringBuilder groupByBuilder = new StringBuilder(" GROUP BY ").append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.UUID)
+			.append(",")
+			.append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.FORM_ID)
+			.append(", jsonData->>'")
+			.append(CampaignFormDataEntry.ID)
+			.append("', jsonMeta->>'")
+			.append(CampaignFormElement.CAPTION)
+			.append("', jsonMeta->>'")
+			.append(CampaignFormElement.TYPE)
+			.append("', ")
+			.append(fieldValue);
+		appendJurisdictionGrouping(groupByBuilder, campaignDiagramCriteria);
+
+		Query seriesDataQuery =
+			em.createNativeQuery(selectBuilder.toString() + " FROM " + CampaignFormData.TABLE_NAME + joinBuilder + whereBuilder + groupByBuilder);
+		seriesDataQuery.setParameter("campaignFormMetaIds", formIds);
+		seriesDataQuery.setParameter("campaignFormDataIds", fieldIds);
+		setDiagramFilterParameters(seriesDataQuery, campaignDiagramCriteria);
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> resultList = seriesDataQuery.getResultList();
+		return resultList;
+	}
 
-			// WHERE
-			StringBuilder whereBuilder =
-				new StringBuilder(" WHERE ").append(CampaignFormMeta.TABLE_NAME).append(".").append(CampaignFormMeta.FORM_ID).append(" = :campaignFormMetaId");
+	private List<Object[]> getDiagramFormCountRows(Set<String> formIds, CampaignDiagramCriteria campaignDiagramCriteria) {
+
+		// SELECT
+		StringBuilder selectBuilder = new StringBuilder("SELECT ").append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.UUID)
+			.append(" as formUuid,")
+			.append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.FORM_ID)
+			.append(" as formId, null as fieldId, null as fieldCaption, null as fieldType, null as fieldValue, count(formId) as sumValue,");
+		appendJurisdictionSelection(selectBuilder, campaignDiagramCriteria);
+
+		// WHERE
+		StringBuilder whereBuilder =
+			new StringBuilder(" WHERE ").append(CampaignFormMeta.TABLE_NAME).append(".").append(CampaignFormMeta.FORM_ID).append(" IN (:campaignFormMetaIds)")
+				.append(createDiagramFilters(campaignDiagramCriteria));
+
+		// GROUP BY
+		StringBuilder groupByBuilder = new StringBuilder(" GROUP BY ").append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.UUID)
+			.append(",")
+			.append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.FORM_ID);
+		appendJurisdictionGrouping(groupByBuilder, campaignDiagramCriteria);
+
+		Query seriesDataQuery = em.createNativeQuery(
+			selectBuilder.toString() + " FROM " + CampaignFormData.TABLE_NAME + createDiagramJoins() + whereBuilder + groupByBuilder);
+		seriesDataQuery.setParameter("campaignFormMetaIds", formIds);
+		setDiagramFilterParameters(seriesDataQuery, campaignDiagramCriteria);
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> resultList = seriesDataQuery.getResultList();
+		return resultList;
+	}
 
-			if (series.getFieldId() != null) {
-				whereBuilder.append(" AND jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' = :campaignFormDataId")
-					.append(" AND jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("' IS NOT NULL AND jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' = jsonMeta->>'")
-					.append(CampaignFormElement.ID)
-					.append("'");
-			}
+	private String createDiagramJoins() {
+
+		return new StringBuilder(" LEFT JOIN ").append(CampaignFormMeta.TABLE_NAME)
+			.append(" ON ")
+			.append(CampaignFormData.CAMPAIGN_FORM_META)
+			.append("_id = ")
+			.append(CampaignFormMeta.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormMeta.ID)
+			.append(" LEFT JOIN ")
+			.append(Region.TABLE_NAME)
+			.append(" ON ")
+			.append(CampaignFormData.REGION)
+			.append("_id =")
+			.append(Region.TABLE_NAME)
+			.append(".")
+			.append(Region.ID)
+			.append(" LEFT JOIN ")
+			.append(Area.TABLE_NAME)
+			.append(" ON ")
+			.append(Region.AREA)
+			.append("_id = ")
+			.append(Area.TABLE_NAME)
+			.append(".")
+			.append(Area.ID)
+			.append(" LEFT JOIN ")
+			.append(District.TABLE_NAME)
+			.append(" ON ")
+			.append(CampaignFormData.DISTRICT)
+			.append("_id = ")
+			.append(District.TABLE_NAME)
+			.append(".")
+			.append(District.ID)
+			.append(" LEFT JOIN ")
+			.append(Community.TABLE_NAME)
+			.append(" ON ")
+			.append(CampaignFormData.COMMUNITY)
+			.append("_id = ")
+			.append(Community.TABLE_NAME)
+			.append(".")
+			.append(Community.ID)
+			.append(" LEFT JOIN ")
+			.append(Campaign.TABLE_NAME)
+			.append(" ON ")
+			.append(CampaignFormData.CAMPAIGN)
+			.append("_id = ")
+			.append(Campaign.TABLE_NAME)
+			.append(".")
+			.append(Campaign.ID)
+			.toString();
+	}
 
-			whereBuilder.append(areaFilter).append(regionFilter).append(districtFilter).append(campaignFilter);
+	private String createDiagramFilters(CampaignDiagramCriteria campaignDiagramCriteria) {
 
-			// GROUP BY
-			StringBuilder groupByBuilder = new StringBuilder(" GROUP BY ").append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.UUID)
-				.append(",")
-				.append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.FORM_ID);
+		//@formatter:off
+		final String areaFilter = campaignDiagramCriteria.getArea() != null ? " AND " + Area.TABLE_NAME + "." + Area.UUID + " = :areaUuid" : "";
+		final String regionFilter = campaignDiagramCriteria.getRegion() != null ? " AND " + CampaignFormData.REGION + "." + Region.UUID + " = :regionUuid" : "";
+		final String districtFilter = campaignDiagramCriteria.getDistrict() != null ? " AND " + CampaignFormData.DISTRICT + "." + District.UUID + " = :districtUuid" : "";
+		final String campaignFilter = campaignDiagramCriteria.getCampaign() != null ? " AND " + Campaign.TABLE_NAME + "." + Campaign.UUID + " = :campaignUuid" : "";
+		//@formatter:on
 
-			if (series.getFieldId() != null) {
-				groupByBuilder.append(", jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("', jsonMeta->>'")
-					.append(CampaignFormElement.CAPTION)
-					.append("', jsonMeta->>'")
-					.append(CampaignFormElement.TYPE)
-					.append("'");
-			}
-
-			switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
-			case REGION:
-				jurisdictionGrouping = ", " + Region.TABLE_NAME + "." + Region.UUID + ", " + Region.TABLE_NAME + "." + Region.NAME;
-				break;
-			case DISTRICT:
-				jurisdictionGrouping = ", " + District.TABLE_NAME + "." + District.UUID + ", " + District.TABLE_NAME + "." + District.NAME;
-				break;
-			case COMMUNITY:
-				jurisdictionGrouping = ", " + Community.TABLE_NAME + "." + Community.UUID + ", " + Community.TABLE_NAME + "." + Community.NAME;
-				break;
-			case AREA:
-			default:
-				jurisdictionGrouping = ", " + Area.TABLE_NAME + "." + Area.UUID + ", " + Area.TABLE_NAME + "." + Area.NAME;
-			}
-
-			groupByBuilder.append(jurisdictionGrouping);
+		return areaFilter + regionFilter + districtFilter + campaignFilter;
+	}
 
-			//@formatter:off
-			Query seriesDataQuery = em.createNativeQuery(
-					selectBuilder.toString() + " FROM " + CampaignFormData.TABLE_NAME + joinBuilder + whereBuilder + groupByBuilder);
-			//@formatter:on
+	private void setDiagramFilterParameters(Query query, CampaignDiagramCriteria campaignDiagramCriteria) {
 
-			seriesDataQuery.setParameter("campaignFormMetaId", series.getFormId());
-			if (area != null) {
-				seriesDataQuery.setParameter("areaUuid", area.getUuid());
-			}
-			if (region != null) {
-				seriesDataQuery.setParameter("regionUuid", region.getUuid());
-			}
-			if (district != null) {
-				seriesDataQuery.setParameter("districtUuid", district.getUuid());
-			}
-			if (campaign != null) {
-				seriesDataQuery.setParameter("campaignUuid", campaign.getUuid());
-			}
+		if (campaignDiagramCriteria.getArea() != null) {
+			query.setParameter("areaUuid", campaignDiagramCriteria.getArea().getUuid());
+		}
+		if (campaignDiagramCriteria.getRegion() != null) {
+			query.setParameter("regionUuid", campaignDiagramCriteria.getRegion().getUuid());
+		}
+		if (campaignDiagramCriteria.getDistrict() != null) {
+			query.setParameter("districtUuid", campaignDiagramCriteria.getDistrict().getUuid());
+		}
+		if (campaignDiagramCriteria.getCampaign() != null) {
+			query.setParameter("campaignUuid", campaignDiagramCriteria.getCampaign().getUuid());
+		}
+	}
 
-			if (series.getFieldId() != null) {
-				seriesDataQuery.setParameter("campaignFormDataId", series.getFieldId());
-			}
+	private void appendJurisdictionSelection(StringBuilder selectBuilder, CampaignDiagramCriteria campaignDiagramCriteria) {
+
+		switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
+		case REGION:
+			appendInfrastructureSelection(selectBuilder, Region.TABLE_NAME, Region.NAME);
+			break;
+		case DISTRICT:
+			appendInfrastructureSelection(selectBuilder, District.TABLE_NAME, District.NAME);
+			break;
+		case COMMUNITY:
+			appendInfrastructureSelection(selectBuilder, Community.TABLE_NAME, Community.NAME);
+			break;
+		case AREA:
+		default:
+			appendInfrastructureSelection(selectBuilder, Area.TABLE_NAME, Area.NAME);
+		}
+	}
 
-			@SuppressWarnings("unchecked")
-			List<Object[]> resultList = seriesDataQuery.getResultList();
-
-			resultData.addAll(
-				resultList.stream()
-					.map(
-						(result) -> new CampaignDiagramDataDto(
-							(String) result[0],
-							(String) result[1],
-							(String) result[2],
-							(String) result[3],
-							(Number) result[4],
-							(String) result[5],
-							(String) result[6],
-							series.getStack()))
-					.collect(Collectors.toList()));
+	private void appendJurisdictionGrouping(StringBuilder groupByBuilder, CampaignDiagramCriteria campaignDiagramCriteria) {
+
+		final String jurisdictionGrouping;
+		switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
+		case REGION:
+			jurisdictionGrouping = ", " + Region.TABLE_NAME + "." + Region.UUID + ", " + Region.TABLE_NAME + "." + Region.NAME;
+			break;
+		case DISTRICT:
+			jurisdictionGrouping = ", " + District.TABLE_NAME + "." + District.UUID + ", " + District.TABLE_NAME + "." + District.NAME;
+			break;
+		case COMMUNITY:
+			jurisdictionGrouping = ", " + Community.TABLE_NAME + "." + Community.UUID + ", " + Community.TABLE_NAME + "." + Community.NAME;
+			break;
+		case AREA:
+		default:
+			jurisdictionGrouping = ", " + Area.TABLE_NAME + "." + Area.UUID + ", " + Area.TABLE_NAME + "." + Area.NAME;
 		}
 
-		return resultData;
+		groupByBuilder.append(jurisdictionGrouping);
 	}
 
 	private void appendInfrastructureSelection(StringBuilder sb, String tableNameField, String nameField) {
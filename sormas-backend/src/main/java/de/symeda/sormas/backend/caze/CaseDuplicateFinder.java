@@ -0,0 +1,310 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.caze;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.person.Sex;
+
+/**
+ * Finds potentially duplicate cases in memory.
+ * <p>
+ * Comparing every case with every other case is quadratic. Instead, the cases to compare with are split into blocks of the same
+ * disease and report date period, so a case is only compared with the blocks of its own and the two neighbouring periods.
+ * Within these blocks, only cases sharing at least one name trigram are compared, which are found through an inverted index.
+ * This finds exactly the pairs whose names have a trigram similarity (as computed by pg_trgm) above the threshold.
+ */
+final class CaseDuplicateFinder {
+
+	static final long MAX_DATE_DIFFERENCE_MILLIS = TimeUnit.DAYS.toMillis(30);
+
+	private final double nameSimilarityThreshold;
+	private final boolean ignoreRegion;
+	private final Date creationDateFrom;
+	private final Date creationDateTo;
+
+	/**
+	 * @param creationDateFrom
+	 *            Start of the creation date period of the cases whose duplicates are searched, or null
+	 * @param creationDateTo
+	 *            End of the creation date period of the cases whose duplicates are searched, or null
+	 */
+	CaseDuplicateFinder(double nameSimilarityThreshold, boolean ignoreRegion, Date creationDateFrom, Date creationDateTo) {
+		this.nameSimilarityThreshold = nameSimilarityThreshold;
+		this.ignoreRegion = ignoreRegion;
+		this.creationDateFrom = creationDateFrom;
+		this.creationDateTo = creationDateTo;
+	}
+
+	/**
+	 * @return The ids of each case and its potential duplicates among {@code comparisonCases}, ordered by the creation date of the
+	 *         case, latest first
+	 */
+	List<long[]> findDuplicates(Collection<Candidate> cases, Collection<Candidate> comparisonCases) {
+
+		Map<BlockKey, Block> blocks = new HashMap<>();
+		for (Candidate comparisonCase : comparisonCases) {
+			if (comparisonCase.isComparable()) {
+				blocks.computeIfAbsent(new BlockKey(comparisonCase.disease, getPeriod(comparisonCase.reportDate)), k -> new Block())
+					.add(comparisonCase);
+			}
+		}
+
+		return cases.stream()
+			.filter(Candidate::isComparable)
+			.sorted(Comparator.comparing((Candidate c) -> c.creationDate).reversed())
+			.flatMap(c -> findDuplicates(c, blocks).stream())
+			.collect(Collectors.toList());
+	}
+
+	private List<long[]> findDuplicates(Candidate caze, Map<BlockKey, Block> blocks) {
+
+		// Only cases with a report date at most 30 days apart can be duplicates, so the neighbouring periods are enough
+		long period = getPeriod(caze.reportDate);
+		Map<Candidate, int[]> sharedTrigrams = new HashMap<>();
+		for (long p = period - 1; p <= period + 1; p++) {
+			Block block = blocks.get(new BlockKey(caze.disease, p));
+			if (block != null) {
+				block.countSharedTrigrams(caze, sharedTrigrams);
+			}
+		}
+
+		List<long[]> duplicates = new ArrayList<>();
+		for (Map.Entry<Candidate, int[]> entry : sharedTrigrams.entrySet()) {
+			Candidate other = entry.getKey();
+			int shared = entry.getValue()[0];
+			double similarity = (double) shared / (caze.nameTrigrams.size() + other.nameTrigrams.size() - shared);
+			if (similarity > nameSimilarityThreshold && isDuplicate(caze, other)) {
+				duplicates.add(new long[] {
+					caze.id,
+					other.id });
+			}
+		}
+
+		return duplicates;
+	}
+
+	/**
+	 * @return Whether the properties other than name and disease allow both cases to be duplicates
+	 */
+	boolean isDuplicate(Candidate caze, Candidate other) {
+
+		if (caze.id == other.id) {
+			return false;
+		}
+		if (Math.abs(caze.reportDate - other.reportDate) > MAX_DATE_DIFFERENCE_MILLIS) {
+			return false;
+		}
+		if (caze.onsetDate != null && other.onsetDate != null && Math.abs(caze.onsetDate - other.onsetDate) > MAX_DATE_DIFFERENCE_MILLIS) {
+			return false;
+		}
+		if (caze.sex != null && other.sex != null && caze.sex != Sex.UNKNOWN && other.sex != Sex.UNKNOWN && caze.sex != other.sex) {
+			return false;
+		}
+		if (caze.hasCompleteBirthdate() && other.hasCompleteBirthdate() && !caze.hasSameBirthdate(other)) {
+			return false;
+		}
+		if (!ignoreRegion
+			&& (caze.responsibleRegionId == null
+				|| !caze.responsibleRegionId.equals(other.responsibleRegionId)
+				|| caze.regionId != null && !caze.regionId.equals(other.regionId))) {
+			return false;
+		}
+
+		// Pairs of two cases from the creation date period are only listed once, with the earlier case first
+		return caze.creationDate.before(other.creationDate)
+			|| creationDateFrom != null && !other.creationDate.after(creationDateFrom)
+			|| creationDateTo != null && !other.creationDate.before(creationDateTo);
+	}
+
+	private static long getPeriod(long reportDate) {
+		return Math.floorDiv(reportDate, MAX_DATE_DIFFERENCE_MILLIS);
+	}
+
+	/**
+	 * Splits a text into its trigrams the same way pg_trgm does: Every word of letters and digits is lower-cased, prefixed with two
+	 * spaces and suffixed with one.
+	 */
+	static Set<String> getTrigrams(String text) {
+
+		Set<String> trigrams = new HashSet<>();
+		int wordStart = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean wordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (wordCharacter && wordStart < 0) {
+				wordStart = i;
+			} else if (!wordCharacter && wordStart >= 0) {
+				String paddedWord = "  " + text.substring(wordStart, i).toLowerCase() + " ";
+				for (int j = 0; j + 3 <= paddedWord.length(); j++) {
+					trigrams.add(paddedWord.substring(j, j + 3));
+				}
+				wordStart = -1;
+			}
+		}
+
+		return trigrams;
+	}
+
+	/**
+	 * @return The trigram similarity of both texts as computed by the pg_trgm function {@code similarity}
+	 */
+	static double getSimilarity(String text1, String text2) {
+
+		Set<String> trigrams1 = getTrigrams(text1);
+		Set<String> trigrams2 = getTrigrams(text2);
+		if (trigrams1.isEmpty() || trigrams2.isEmpty()) {
+			return 0;
+		}
+
+		long shared = trigrams1.stream().filter(trigrams2::contains).count();
+		return (double) shared / (trigrams1.size() + trigrams2.size() - shared);
+	}
+
+	/**
+	 * The properties of a case that are needed to detect duplicates.
+	 */
+	static final class Candidate {
+
+		private final long id;
+		private final Disease disease;
+		private final Set<String> nameTrigrams;
+		private final Sex sex;
+		private final Integer birthdateDD;
+		private final Integer birthdateMM;
+		private final Integer birthdateYYYY;
+		private final long reportDate;
+		private final Long onsetDate;
+		private final Long responsibleRegionId;
+		private final Long regionId;
+		private final Date creationDate;
+
+		Candidate(
+			long id,
+			Disease disease,
+			String firstName,
+			String lastName,
+			Sex sex,
+			Integer birthdateDD,
+			Integer birthdateMM,
+			Integer birthdateYYYY,
+			Date reportDate,
+			Date onsetDate,
+			Long responsibleRegionId,
+			Long regionId,
+			Date creationDate) {
+
+			this.id = id;
+			this.disease = disease;
+			// Like the concatenation in SQL, a missing name part leaves nothing to compare
+			this.nameTrigrams = firstName != null && lastName != null ? getTrigrams(firstName + " " + lastName) : Collections.emptySet();
+			this.sex = sex;
+			this.birthdateDD = birthdateDD;
+			this.birthdateMM = birthdateMM;
+			this.birthdateYYYY = birthdateYYYY;
+			this.reportDate = reportDate.getTime();
+			this.onsetDate = onsetDate != null ? onsetDate.getTime() : null;
+			this.responsibleRegionId = responsibleRegionId;
+			this.regionId = regionId;
+			this.creationDate = creationDate;
+		}
+
+		Disease getDisease() {
+			return disease;
+		}
+
+		long getReportDate() {
+			return reportDate;
+		}
+
+		private boolean isComparable() {
+			return disease != null && !nameTrigrams.isEmpty();
+		}
+
+		private boolean hasCompleteBirthdate() {
+			return birthdateDD != null && birthdateMM != null && birthdateYYYY != null;
+		}
+
+		private boolean hasSameBirthdate(Candidate other) {
+			return birthdateDD.equals(other.birthdateDD) && birthdateMM.equals(other.birthdateMM) && birthdateYYYY.equals(other.birthdateYYYY);
+		}
+	}
+
+	private static final class BlockKey {
+
+		private final Disease disease;
+		private final long period;
+
+		private BlockKey(Disease disease, long period) {
+			this.disease = disease;
+			this.period = period;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			BlockKey blockKey = (BlockKey) o;
+			return period == blockKey.period && disease == blockKey.disease;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(disease, period);
+		}
+	}
+
+	/**
+	 * The cases of one disease and report date period, indexed by their name trigrams.
+	 */
+	private static final class Block {
+
+		private final Map<String, List<Candidate>> casesByTrigram = new HashMap<>();
+
+		private void add(Candidate caze) {
+			for (String trigram : caze.nameTrigrams) {
+				casesByTrigram.computeIfAbsent(trigram, t -> new ArrayList<>()).add(caze);
+			}
+		}
+
+		private void countSharedTrigrams(Candidate caze, Map<Candidate, int[]> sharedTrigrams) {
+			for (String trigram : caze.nameTrigrams) {
+				List<Candidate> cases = casesByTrigram.get(trigram);
+				if (cases != null) {
+					for (Candidate other : cases) {
+						sharedTrigrams.computeIfAbsent(other, c -> new int[1])[0]++;
+					}
+				}
+			}
+		}
+	}
+}
@@ -35,6 +35,7 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -42,6 +43,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -188,6 +190,7 @@ import de.symeda.sormas.api.utils.InfoProvider;
 import de.symeda.sormas.api.utils.SortProperty;
 import de.symeda.sormas.api.utils.ValidationRuntimeException;
 import de.symeda.sormas.api.utils.YesNoUnknown;
+import de.symeda.sormas.api.utils.criteria.BulkSelection;
 import de.symeda.sormas.api.utils.fieldvisibility.FieldVisibilityCheckers;
 import de.symeda.sormas.api.visit.VisitDto;
 import de.symeda.sormas.api.visit.VisitResultDto;
@@ -211,11 +214,12 @@ import de.symeda.sormas.backend.clinicalcourse.HealthConditions;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+import de.symeda.sormas.backend.common.IndexCountCache;
+import de.symeda.sormas.backend.common.TransactionalBatchExecutor;
 import de.symeda.sormas.backend.common.messaging.ManualMessageLogService;
 import de.symeda.sormas.backend.common.messaging.MessageContents;
 import de.symeda.sormas.backend.common.messaging.MessageSubject;
 import de.symeda.sormas.backend.common.messaging.MessagingService;
-import de.symeda.sormas.backend.common.messaging.NotificationDeliveryFailedException;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
@@ -306,6 +310,7 @@ import de.symeda.sormas.backend.therapy.TreatmentFacadeEjb.TreatmentFacadeEjbLoc
 import de.symeda.sormas.backend.therapy.TreatmentService;
 import de.symeda.sormas.backend.user.User;
 import de.symeda.sormas.backend.user.UserFacadeEjb;
+import de.symeda.sormas.backend.user.UserJurisdiction;
 import de.symeda.sormas.backend.user.UserReference;
 import de.symeda.sormas.backend.user.UserService;
 import de.symeda.sormas.backend.util.DtoHelper;
@@ -326,7 +331,7 @@ import de.symeda.sormas.utils.CaseJoins;
 public class CaseFacadeEjb implements CaseFacade {
 
 	private static final int ARCHIVE_BATCH_SIZE = 1000;
-	private static final long SECONDS_30_DAYS = 30L * 24L * 60L * 60L;
+	private static final int BULK_SELECTION_BATCH_SIZE = 1000;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -338,6 +343,10 @@ public class CaseFacadeEjb implements CaseFacade {
 	@EJB
 	private CaseService caseService;
 	@EJB
+	private IndexCountCache indexCountCache;
+	@EJB
+	private TransactionalBatchExecutor transactionalBatchExecutor;
+	@EJB
 	private CaseListCriteriaBuilder listQueryBuilder;
 	@EJB
 	private PersonService personService;
@@ -459,13 +468,27 @@ public class CaseFacadeEjb implements CaseFacade {
 
 	@Override
 	public List<CaseDataDto> getAllActiveCasesAfter(Date date, boolean includeExtendedChangeDateFilters) {
+		return getAllActiveCasesAfter(date, includeExtendedChangeDateFilters, null, null, null);
+	}
+
+	@Override
+	public List<CaseDataDto> getAllActiveCasesAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
+		return getAllActiveCasesAfter(date, false, batchSize, lastChangeDate, lastSynchronizedUuid);
+	}
+
+	private List<CaseDataDto> getAllActiveCasesAfter(
+		Date date,
+		boolean includeExtendedChangeDateFilters,
+		Integer batchSize,
+		Date lastChangeDate,
+		String lastSynchronizedUuid) {
 
 		if (userService.getCurrentUser() == null) {
 			return Collections.emptyList();
 		}
 
 		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight);
-		return caseService.getAllActiveCasesAfter(date, includeExtendedChangeDateFilters)
+		return caseService.getAllActiveCasesAfter(date, includeExtendedChangeDateFilters, batchSize, lastChangeDate, lastSynchronizedUuid)
 			.stream()
 			.map(c -> convertToDto(c, pseudonymizer))
 			.collect(Collectors.toList());
@@ -501,6 +524,15 @@ public class CaseFacadeEjb implements CaseFacade {
 
 	@Override
 	public long count(CaseCriteria caseCriteria, boolean ignoreUserFilter) {
+		return indexCountCache.count(Case.class, caseCriteria, ignoreUserFilter, () -> doCount(caseCriteria, ignoreUserFilter));
+	}
+
+	@Override
+	public Long getEstimatedCount(CaseCriteria caseCriteria) {
+		return indexCountCache.getEstimatedCount(Case.class, caseCriteria, false);
+	}
+
+	private long doCount(CaseCriteria caseCriteria, boolean ignoreUserFilter) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
@@ -586,8 +618,8 @@ public class CaseFacadeEjb implements CaseFacade {
 		// Load latest events info
 		// Adding a second query here is not perfect, but selecting the last event with a criteria query
 		// doesn't seem to be possible and using a native query is not an option because of user filters
-		List<EventSummaryDetails> eventSummaries =
-			eventService.getEventSummaryDetailsByCases(cases.stream().map(CaseIndexDetailedDto::getId).collect(Collectors.toList()));
+		Map<Long, EventSummaryDetails> latestEventSummaries =
+			eventService.getLatestEventSummaryDetailsByCases(cases.stream().map(CaseIndexDetailedDto::getId).collect(Collectors.toList()));
 
 		Map<String, ExternalShareInfoCountAndLatestDate> survToolShareCountAndDates = null;
 		if (externalSurveillanceToolGatewayFacade.isFeatureEnabled()) {
@@ -597,6 +629,9 @@ public class CaseFacadeEjb implements CaseFacade {
 					.collect(Collectors.toMap(ExternalShareInfoCountAndLatestDate::getAssociatedObjectUuid, Function.identity()));
 		}
 
+		Map<String, UserJurisdiction> reportingUsers = userService.getUserJurisdictions(cases, CaseIndexDetailedDto::getReportingUser);
+		User currentUser = userService.getCurrentUser();
+
 		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight, I18nProperties.getCaption(Captions.inaccessibleValue));
 		for (CaseIndexDetailedDto caze : cases) {
 			if (survToolShareCountAndDates != null) {
@@ -610,21 +645,17 @@ public class CaseFacadeEjb implements CaseFacade {
 			}
 
 			if (caze.getEventCount() > 0) {
-				eventSummaries.stream()
-					.filter(v -> v.getCaseId() == caze.getId())
-					.max(Comparator.comparing(EventSummaryDetails::getEventDate))
-					.ifPresent(eventSummary -> {
-						caze.setLatestEventId(eventSummary.getEventUuid());
-						caze.setLatestEventStatus(eventSummary.getEventStatus());
-						caze.setLatestEventTitle(eventSummary.getEventTitle());
-					});
+				Optional.ofNullable(latestEventSummaries.get(caze.getId())).ifPresent(eventSummary -> {
+					caze.setLatestEventId(eventSummary.getEventUuid());
+					caze.setLatestEventStatus(eventSummary.getEventStatus());
+					caze.setLatestEventTitle(eventSummary.getEventTitle());
+				});
 			}
 
 			Boolean isInJurisdiction = caze.getInJurisdiction();
 			pseudonymizer.pseudonymizeDto(CaseIndexDetailedDto.class, caze, isInJurisdiction, (c) -> {
 				pseudonymizer.pseudonymizeDto(AgeAndBirthDateDto.class, caze.getAgeAndBirthDate(), isInJurisdiction, null);
-				pseudonymizer
-					.pseudonymizeUser(userService.getByUuid(caze.getReportingUser().getUuid()), userService.getCurrentUser(), caze::setReportingUser);
+				pseudonymizer.pseudonymizeUser(reportingUsers.get(caze.getReportingUser().getUuid()), currentUser, caze::setReportingUser);
 			});
 		}
 
@@ -661,6 +692,43 @@ public class CaseFacadeEjb implements CaseFacade {
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage) {
 
+		return getExportList(caseCriteria, selectedRows, exportType, first, null, null, max, exportConfiguration, userLanguage);
+	}
+
+	@Override
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public List<CaseExportDto> getExportListAfter(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Date lastReportDate,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+
+		return getExportList(caseCriteria, selectedRows, exportType, null, lastReportDate, lastId, max, exportConfiguration, userLanguage);
+	}
+
+	/**
+	 * @param first
+	 *            Offset of the first case to be returned; {@code null} when paging by keyset.
+	 * @param lastReportDate
+	 *            Report date of the last case of the previous chunk when paging by keyset.
+	 * @param lastId
+	 *            Id of the last case of the previous chunk when paging by keyset.
+	 */
+	private List<CaseExportDto> getExportList(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Integer first,
+		Date lastReportDate,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+
 		Boolean previousCaseManagementDataCriteria = caseCriteria.getMustHaveCaseManagementData();
 		if (CaseExportType.CASE_MANAGEMENT == exportType) {
 			caseCriteria.setMustHaveCaseManagementData(Boolean.TRUE);
@@ -777,6 +845,14 @@ public class CaseFacadeEjb implements CaseFacade {
 		}
 		filter = CriteriaBuilderHelper.andInValues(selectedRows, filter, cb, caseRoot.get(Case.UUID));
 
+		if (lastReportDate != null && lastId != null) {
+			// Continue behind the last exported case instead of skipping an offset that has to be re-read for every chunk
+			Predicate keysetFilter = cb.or(
+				cb.lessThan(caseRoot.get(Case.REPORT_DATE), lastReportDate),
+				cb.and(cb.equal(caseRoot.get(Case.REPORT_DATE), lastReportDate), cb.lessThan(caseRoot.get(Case.ID), lastId)));
+			filter = CriteriaBuilderHelper.and(cb, filter, keysetFilter);
+		}
+
 		if (filter != null) {
 			cq.where(filter);
 		}
@@ -787,7 +863,11 @@ public class CaseFacadeEjb implements CaseFacade {
 		 */
 		cq.orderBy(cb.desc(caseRoot.get(Case.REPORT_DATE)), cb.desc(caseRoot.get(Case.ID)));
 
-		List<CaseExportDto> resultList = QueryHelper.getResultList(em, cq, first, max);
+		List<CaseExportDto> resultList = em.createQuery(cq)
+			.setHint(ModelConstants.HINT_HIBERNATE_FETCH_SIZE, max)
+			.setFirstResult(first != null ? first : 0)
+			.setMaxResults(max)
+			.getResultList();
 		List<Long> resultCaseIds = resultList.stream().map(CaseExportDto::getId).collect(Collectors.toList());
 
 		if (!resultList.isEmpty()) {
@@ -910,7 +990,7 @@ public class CaseFacadeEjb implements CaseFacade {
 				samples = samplesList.stream().collect(Collectors.groupingBy(s -> s.getAssociatedCase().getId()));
 			}
 
-			List<VisitSummaryExportDetails> visitSummaries = null;
+			Map<Long, List<VisitSummaryExportDetails>> visitSummaries = null;
 			if (featureConfigurationFacade.isFeatureEnabled(FeatureType.CASE_FOLLOWUP)
 				&& ExportHelper.shouldExportFields(
 					exportConfiguration,
@@ -932,7 +1012,10 @@ public class CaseFacadeEjb implements CaseFacade {
 					visitsJoin.get(Visit.VISIT_STATUS),
 					visitSymptomsJoin);
 
-				visitSummaries = em.createQuery(visitsCq).getResultList();
+				visitSummaries = em.createQuery(visitsCq)
+					.getResultList()
+					.stream()
+					.collect(Collectors.groupingBy(VisitSummaryExportDetails::getContactId));
 			}
 
 			Map<Long, List<Immunization>> immunizations = null;
@@ -961,14 +1044,14 @@ public class CaseFacadeEjb implements CaseFacade {
 			// Load latest events info
 			// Adding a second query here is not perfect, but selecting the last event with a criteria query
 			// doesn't seem to be possible and using a native query is not an option because of user filters
-			List<EventSummaryDetails> eventSummaries = null;
+			Map<Long, EventSummaryDetails> latestEventSummaries = null;
 			if (ExportHelper.shouldExportFields(
 				exportConfiguration,
 				CaseExportDto.LATEST_EVENT_ID,
 				CaseExportDto.LATEST_EVENT_STATUS,
 				CaseExportDto.LATEST_EVENT_TITLE)) {
 
-				eventSummaries = eventService.getEventSummaryDetailsByCases(resultCaseIds);
+				latestEventSummaries = eventService.getLatestEventSummaryDetailsByCases(resultCaseIds);
 			}
 
 			Map<Long, UserReference> caseUsers = getCaseUsersForExport(resultList, exportConfiguration);
@@ -1118,8 +1201,7 @@ public class CaseFacadeEjb implements CaseFacade {
 					});
 				}
 				if (visitSummaries != null) {
-					List<VisitSummaryExportDetails> visits =
-						visitSummaries.stream().filter(v -> v.getContactId() == exportDto.getId()).collect(Collectors.toList());
+					List<VisitSummaryExportDetails> visits = visitSummaries.getOrDefault(exportDto.getId(), Collections.emptyList());
 
 					VisitSummaryExportDetails lastCooperativeVisit = visits.stream()
 						.filter(v -> v.getVisitStatus() == VisitStatus.COOPERATIVE)
@@ -1141,15 +1223,12 @@ public class CaseFacadeEjb implements CaseFacade {
 					}
 				}
 
-				if (eventSummaries != null && exportDto.getEventCount() != 0) {
-					eventSummaries.stream()
-						.filter(v -> v.getCaseId() == exportDto.getId())
-						.max(Comparator.comparing(EventSummaryDetails::getEventDate))
-						.ifPresent(eventSummary -> {
-							exportDto.setLatestEventId(eventSummary.getEventUuid());
-							exportDto.setLatestEventStatus(eventSummary.getEventStatus());
-							exportDto.setLatestEventTitle(eventSummary.getEventTitle());
-						});
+				if (latestEventSummaries != null && exportDto.getEventCount() != 0) {
+					Optional.ofNullable(latestEventSummaries.get(exportDto.getId())).ifPresent(eventSummary -> {
+						exportDto.setLatestEventId(eventSummary.getEventUuid());
+						exportDto.setLatestEventStatus(eventSummary.getEventStatus());
+						exportDto.setLatestEventTitle(eventSummary.getEventTitle());
+					});
 				}
 
 				if (!caseUsers.isEmpty()) {
@@ -1335,131 +1414,72 @@ public class CaseFacadeEjb implements CaseFacade {
 	@Override
 	public List<CaseIndexDto[]> getCasesForDuplicateMerging(CaseCriteria criteria, boolean ignoreRegion) {
 
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
-		Root<Case> root = cq.from(Case.class);
-		final CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, root);
-		final CaseJoins<Case> joins = (CaseJoins<Case>) caseQueryContext.getJoins();
-
-		Root<Case> root2 = cq.from(Case.class);
-		Join<Case, Person> person = joins.getPerson();
-		Join<Case, Person> person2 = root2.join(Case.PERSON, JoinType.LEFT);
-		Join<Case, Region> responsibleRegion = joins.getResponsibleRegion();
-		Join<Case, Region> responsibleRegion2 = root2.join(Case.RESPONSIBLE_REGION, JoinType.LEFT);
-		Join<Case, Region> region = joins.getRegion();
-		Join<Case, Region> region2 = root2.join(Case.REGION, JoinType.LEFT);
-		Join<Case, Symptoms> symptoms = joins.getSymptoms();
-		Join<Case, Symptoms> symptoms2 = root2.join(Case.SYMPTOMS, JoinType.LEFT);
-
-		cq.distinct(true);
-
 		// similarity:
 		// * first & last name concatenated with whitespace. Similarity function with default threshold of 0.65D
-		// uses postgres pg_trgm: https://www.postgresql.org/docs/9.6/pgtrgm.html
+		// as computed by postgres pg_trgm: https://www.postgresql.org/docs/9.6/pgtrgm.html
 		// * same disease
 		// * same region (optional)
 		// * report date within 30 days of each other
 		// * same sex or same birth date (when defined)
 		// * same birth date (when fully defined)
 		// * onset date within 30 days of each other (when defined)
+		// Comparing the cases in the database is quadratic, so this is done in memory by CaseDuplicateFinder.
 
-		Predicate userFilter = caseService.createUserFilter(cb, cq, root);
-		Predicate criteriaFilter = criteria != null ? caseService.createCriteriaFilter(criteria, caseQueryContext) : null;
-		Expression<String> nameSimilarityExpr = cb.concat(person.get(Person.FIRST_NAME), " ");
-		nameSimilarityExpr = cb.concat(nameSimilarityExpr, person.get(Person.LAST_NAME));
-		Expression<String> nameSimilarityExpr2 = cb.concat(person2.get(Person.FIRST_NAME), " ");
-		nameSimilarityExpr2 = cb.concat(nameSimilarityExpr2, person2.get(Person.LAST_NAME));
-		Predicate nameSimilarityFilter =
-			cb.gt(cb.function("similarity", double.class, nameSimilarityExpr, nameSimilarityExpr2), configFacade.getNameSimilarityThreshold());
-		Predicate diseaseFilter = cb.equal(root.get(Case.DISEASE), root2.get(Case.DISEASE));
-		Predicate regionFilter = cb.and(
-			cb.equal(responsibleRegion.get(Region.ID), responsibleRegion2.get(Region.ID)),
-			cb.or(cb.and(cb.isNull(region)), cb.equal(region.get(Region.ID), region2.get(Region.ID))));
-		Predicate reportDateFilter = cb.lessThanOrEqualTo(
-			cb.abs(
-				cb.diff(
-					cb.function("date_part", Long.class, cb.parameter(String.class, "date_type"), root.get(Case.REPORT_DATE)),
-					cb.function("date_part", Long.class, cb.parameter(String.class, "date_type"), root2.get(Case.REPORT_DATE)))),
-			SECONDS_30_DAYS);
-
-		// // todo this should use PersonService.buildSimilarityCriteriaFilter
-		// Sex filter: only when sex is filled in for both cases
-		Predicate sexFilter = cb.or(
-			cb.or(cb.isNull(person.get(Person.SEX)), cb.isNull(person2.get(Person.SEX))),
-			cb.or(cb.equal(person.get(Person.SEX), Sex.UNKNOWN), cb.equal(person2.get(Person.SEX), Sex.UNKNOWN)),
-			cb.equal(person.get(Person.SEX), person2.get(Person.SEX)));
-		// Birth date filter: only when birth date is filled in for both cases
-		Predicate birthDateFilter = cb.or(
-			cb.or(
-				cb.isNull(person.get(Person.BIRTHDATE_DD)),
-				cb.isNull(person.get(Person.BIRTHDATE_MM)),
-				cb.isNull(person.get(Person.BIRTHDATE_YYYY)),
-				cb.isNull(person2.get(Person.BIRTHDATE_DD)),
-				cb.isNull(person2.get(Person.BIRTHDATE_MM)),
-				cb.isNull(person2.get(Person.BIRTHDATE_YYYY))),
-			cb.and(
-				cb.equal(person.get(Person.BIRTHDATE_DD), person2.get(Person.BIRTHDATE_DD)),
-				cb.equal(person.get(Person.BIRTHDATE_MM), person2.get(Person.BIRTHDATE_MM)),
-				cb.equal(person.get(Person.BIRTHDATE_YYYY), person2.get(Person.BIRTHDATE_YYYY))));
-		// Onset date filter: only when onset date is filled in for both cases
-		Predicate onsetDateFilter = cb.or(
-			cb.or(cb.isNull(symptoms.get(Symptoms.ONSET_DATE)), cb.isNull(symptoms2.get(Symptoms.ONSET_DATE))),
-			cb.lessThanOrEqualTo(
-				cb.abs(
-					cb.diff(
-						cb.function("date_part", Long.class, cb.parameter(String.class, "date_type"), symptoms.get(Symptoms.ONSET_DATE)),
-						cb.function("date_part", Long.class, cb.parameter(String.class, "date_type"), symptoms2.get(Symptoms.ONSET_DATE)))),
-				SECONDS_30_DAYS));
-
-		Predicate creationDateFilter = cb.or(
-			cb.lessThan(root.get(Case.CREATION_DATE), root2.get(Case.CREATION_DATE)),
-			cb.or(
-				cb.lessThanOrEqualTo(root2.get(Case.CREATION_DATE), DateHelper.getStartOfDay(criteria.getCreationDateFrom())),
-				cb.greaterThanOrEqualTo(root2.get(Case.CREATION_DATE), DateHelper.getEndOfDay(criteria.getCreationDateTo()))));
-
-		Predicate filter = cb.and(caseService.createDefaultFilter(cb, root), caseService.createDefaultFilter(cb, root2));
-		if (userFilter != null) {
-			filter = cb.and(filter, userFilter);
-		}
-		if (filter != null) {
-			filter = cb.and(filter, criteriaFilter);
-		} else {
-			filter = criteriaFilter;
-		}
-		if (filter != null) {
-			filter = cb.and(filter, nameSimilarityFilter);
-		} else {
-			filter = nameSimilarityFilter;
-		}
-		filter = cb.and(filter, diseaseFilter);
+		// The cases whose duplicates are searched are always limited to a creation date period, which defaults to today
+		Date creationDateFrom =
+			DateHelper.getStartOfDay(criteria != null && criteria.getCreationDateFrom() != null ? criteria.getCreationDateFrom() : new Date());
+		Date creationDateTo =
+			DateHelper.getEndOfDay(criteria != null && criteria.getCreationDateTo() != null ? criteria.getCreationDateTo() : new Date());
 
-		if (!ignoreRegion) {
-			filter = cb.and(filter, regionFilter);
-		}
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		List<CaseDuplicateFinder.Candidate> cases = getDuplicateMergingCandidates(caseQueryContext -> {
+			CriteriaQuery<?> cq = caseQueryContext.getQuery();
+			Root<Case> root = (Root<Case>) caseQueryContext.getRoot();
+			Predicate filter = cb.and(
+				caseService.createDefaultFilter(cb, root),
+				cb.between(root.get(Case.CREATION_DATE), creationDateFrom, creationDateTo));
+			filter = CriteriaBuilderHelper.and(cb, filter, caseService.createUserFilter(cb, cq, root));
+			if (criteria != null) {
+				filter = CriteriaBuilderHelper.and(cb, filter, caseService.createCriteriaFilter(criteria, caseQueryContext));
+			}
+			return filter;
+		});
 
-		filter = cb.and(filter, reportDateFilter);
-		filter = cb.and(filter, cb.and(sexFilter, birthDateFilter));
-		filter = cb.and(filter, onsetDateFilter);
-		filter = cb.and(filter, creationDateFilter);
-		filter = cb.and(filter, cb.notEqual(root.get(Case.ID), root2.get(Case.ID)));
+		List<long[]> foundIds;
+		if (cases.isEmpty()) {
+			foundIds = Collections.emptyList();
+		} else {
+			// Only cases of the same diseases reported at most 30 days apart can be duplicates
+			Set<Disease> diseases =
+				cases.stream().map(CaseDuplicateFinder.Candidate::getDisease).filter(Objects::nonNull).collect(Collectors.toSet());
+			LongSummaryStatistics reportDates = cases.stream().mapToLong(CaseDuplicateFinder.Candidate::getReportDate).summaryStatistics();
+			Date reportDateFrom = new Date(reportDates.getMin() - CaseDuplicateFinder.MAX_DATE_DIFFERENCE_MILLIS);
+			Date reportDateTo = new Date(reportDates.getMax() + CaseDuplicateFinder.MAX_DATE_DIFFERENCE_MILLIS);
+			List<CaseDuplicateFinder.Candidate> comparisonCases = diseases.isEmpty()
+				? Collections.emptyList()
+				: getDuplicateMergingCandidates(caseQueryContext -> {
+					Root<Case> root = (Root<Case>) caseQueryContext.getRoot();
+					return cb.and(
+						caseService.createDefaultFilter(cb, root),
+						root.get(Case.DISEASE).in(diseases),
+						cb.between(root.get(Case.REPORT_DATE), reportDateFrom, reportDateTo));
+				});
 
-		cq.where(filter);
-		cq.multiselect(root.get(Case.ID), root2.get(Case.ID), root.get(Case.CREATION_DATE));
-		cq.orderBy(cb.desc(root.get(Case.CREATION_DATE)));
+			foundIds = new CaseDuplicateFinder(configFacade.getNameSimilarityThreshold(), ignoreRegion, creationDateFrom, creationDateTo)
+				.findDuplicates(cases, comparisonCases);
+		}
 
-		List<Object[]> foundIds = em.createQuery(cq).setParameter("date_type", "epoch").getResultList();
 		List<CaseIndexDto[]> resultList = new ArrayList<>();
 
 		if (!foundIds.isEmpty()) {
 			CriteriaQuery<CaseIndexDto> indexCasesCq = cb.createQuery(CaseIndexDto.class);
 			Root<Case> indexRoot = indexCasesCq.from(Case.class);
 			selectIndexDtoFields(new CaseQueryContext(cb, indexCasesCq, indexRoot));
-			indexCasesCq.where(
-				indexRoot.get(Case.ID).in(foundIds.stream().map(a -> Arrays.copyOf(a, 2)).flatMap(Arrays::stream).collect(Collectors.toSet())));
+			indexCasesCq.where(indexRoot.get(Case.ID).in(foundIds.stream().flatMapToLong(Arrays::stream).boxed().collect(Collectors.toSet())));
 			Map<Long, CaseIndexDto> indexCases =
 				em.createQuery(indexCasesCq).getResultStream().collect(Collectors.toMap(c -> c.getId(), Function.identity()));
 
-			for (Object[] idPair : foundIds) {
+			for (long[] idPair : foundIds) {
 				try {
 					// Cloning is necessary here to allow us to add the same CaseIndexDto to the grid multiple times
 					CaseIndexDto parent = (CaseIndexDto) indexCases.get(idPair[0]).clone();
@@ -1487,6 +1507,51 @@ public class CaseFacadeEjb implements CaseFacade {
 		return resultList;
 	}
 
+	private List<CaseDuplicateFinder.Candidate> getDuplicateMergingCandidates(Function<CaseQueryContext, Predicate> filterBuilder) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Case> root = cq.from(Case.class);
+		final CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, root);
+		final CaseJoins<Case> joins = (CaseJoins<Case>) caseQueryContext.getJoins();
+		Join<Case, Person> person = joins.getPerson();
+
+		cq.multiselect(
+			root.get(Case.ID),
+			root.get(Case.DISEASE),
+			person.get(Person.FIRST_NAME),
+			person.get(Person.LAST_NAME),
+			person.get(Person.SEX),
+			person.get(Person.BIRTHDATE_DD),
+			person.get(Person.BIRTHDATE_MM),
+			person.get(Person.BIRTHDATE_YYYY),
+			root.get(Case.REPORT_DATE),
+			joins.getSymptoms().get(Symptoms.ONSET_DATE),
+			joins.getResponsibleRegion().get(Region.ID),
+			joins.getRegion().get(Region.ID),
+			root.get(Case.CREATION_DATE));
+		cq.where(filterBuilder.apply(caseQueryContext));
+
+		return em.createQuery(cq)
+			.getResultStream()
+			.map(
+				row -> new CaseDuplicateFinder.Candidate(
+					(Long) row[0],
+					(Disease) row[1],
+					(String) row[2],
+					(String) row[3],
+					(Sex) row[4],
+					(Integer) row[5],
+					(Integer) row[6],
+					(Integer) row[7],
+					(Date) row[8],
+					(Date) row[9],
+					(Long) row[10],
+					(Long) row[11],
+					(Date) row[12]))
+			.collect(Collectors.toList());
+	}
+
 	public void updateCompleteness(String caseUuid) {
 		caseService.updateCompleteness(caseUuid);
 	}
@@ -1541,6 +1606,51 @@ public class CaseFacadeEjb implements CaseFacade {
 		}
 	}
 
+	@Override
+	public void saveBulkCase(
+		BulkSelection<CaseCriteria> selection,
+		@Valid CaseBulkEditData updatedCaseBulkEditData,
+		boolean diseaseChange,
+		boolean classificationChange,
+		boolean investigationStatusChange,
+		boolean outcomeChange,
+		boolean surveillanceOfficerChange) {
+
+		saveBulkCase(
+			selection,
+			updatedCaseBulkEditData,
+			diseaseChange,
+			classificationChange,
+			investigationStatusChange,
+			outcomeChange,
+			surveillanceOfficerChange,
+			BULK_SELECTION_BATCH_SIZE);
+	}
+
+	void saveBulkCase(
+		BulkSelection<CaseCriteria> selection,
+		CaseBulkEditData updatedCaseBulkEditData,
+		boolean diseaseChange,
+		boolean classificationChange,
+		boolean investigationStatusChange,
+		boolean outcomeChange,
+		boolean surveillanceOfficerChange,
+		int batchSize) {
+
+		forEachSelectedBatchInNewTransaction(
+			selection,
+			false,
+			batchSize,
+			batch -> saveBulkCase(
+				batch,
+				updatedCaseBulkEditData,
+				diseaseChange,
+				classificationChange,
+				investigationStatusChange,
+				outcomeChange,
+				surveillanceOfficerChange));
+	}
+
 	public void saveBulkEditWithFacilities(
 		List<String> caseUuidList,
 		@Valid CaseBulkEditData updatedCaseBulkEditData,
@@ -1583,6 +1693,32 @@ public class CaseFacadeEjb implements CaseFacade {
 		}
 	}
 
+	@Override
+	public void saveBulkEditWithFacilities(
+		BulkSelection<CaseCriteria> selection,
+		@Valid CaseBulkEditData updatedCaseBulkEditData,
+		boolean diseaseChange,
+		boolean classificationChange,
+		boolean investigationStatusChange,
+		boolean outcomeChange,
+		boolean surveillanceOfficerChange,
+		Boolean doTransfer) {
+
+		forEachSelectedBatchInNewTransaction(
+			selection,
+			false,
+			BULK_SELECTION_BATCH_SIZE,
+			batch -> saveBulkEditWithFacilities(
+				batch,
+				updatedCaseBulkEditData,
+				diseaseChange,
+				classificationChange,
+				investigationStatusChange,
+				outcomeChange,
+				surveillanceOfficerChange,
+				doTransfer));
+	}
+
 	private void updateCaseWithBulkData(
 		CaseBulkEditData updatedCaseBulkEditData,
 		Case existingCase,
@@ -1893,18 +2029,7 @@ public class CaseFacadeEjb implements CaseFacade {
 				CaseDataDto newCaseDto = toDto(associatedCase);
 
 				CaseClassification classification = caseClassificationFacade.getClassification(newCaseDto);
-
-				// only update when classification by system changes - user may overwrite this
-				if (classification != associatedCase.getSystemCaseClassification()) {
-					associatedCase.setSystemCaseClassification(classification);
-
-					// really a change? (user may have already set it)
-					if (classification != associatedCase.getCaseClassification()) {
-						associatedCase.setCaseClassification(classification);
-						associatedCase.setClassificationUser(null);
-						associatedCase.setClassificationDate(new Date());
-					}
-				}
+				updateCaseClassification(associatedCase, classification);
 			}
 		}
 	}
@@ -2015,26 +2140,9 @@ public class CaseFacadeEjb implements CaseFacade {
 				CaseDataDto newCaseDto = toDto(newCase);
 
 				classification = caseClassificationFacade.getClassification(newCaseDto);
-
-				// only update when classification by system changes - user may overwrite this
-				if (classification != newCase.getSystemCaseClassification()) {
-					newCase.setSystemCaseClassification(classification);
-
-					// really a change? (user may have already set it)
-					if (classification != newCase.getCaseClassification()) {
-						newCase.setCaseClassification(classification);
-						newCase.setClassificationUser(null);
-						newCase.setClassificationDate(new Date());
-					}
-				}
 			}
 		}
-
-		// calculate reference definition for cases
-		if (configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY)) {
-			boolean fulfilled = evaluateFulfilledCondition(toDto(newCase), classification);
-			newCase.setCaseReferenceDefinition(fulfilled ? CaseReferenceDefinition.FULFILLED : CaseReferenceDefinition.NOT_FULFILLED);
-		}
+		updateCaseClassification(newCase, classification);
 
 		// Set Yes/No/Unknown fields associated with embedded lists to Yes if the lists
 		// are not empty
@@ -2053,58 +2161,47 @@ public class CaseFacadeEjb implements CaseFacade {
 		// changed
 		if (existingCase != null && existingCase.getCaseClassification() != newCase.getCaseClassification()) {
 
-			try {
-				messagingService.sendMessages(() -> {
-					List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
-						JurisdictionHelper.getCaseRegions(newCase),
-						UserRole.SURVEILLANCE_SUPERVISOR,
-						UserRole.ADMIN_SUPERVISOR,
-						UserRole.CASE_SUPERVISOR,
-						UserRole.CONTACT_SUPERVISOR);
-					final Map<User, String> mapToReturn = new HashMap<>();
-					messageRecipients.forEach(
-						user -> mapToReturn.put(
-							user,
-							String.format(
-								I18nProperties.getString(MessageContents.CONTENT_CASE_CLASSIFICATION_CHANGED),
-								DataHelper.getShortUuid(newCase.getUuid()),
-								newCase.getCaseClassification().toString())));
-					return mapToReturn;
-				}, MessageSubject.CASE_CLASSIFICATION_CHANGED, MessageType.EMAIL, MessageType.SMS);
-			} catch (NotificationDeliveryFailedException e) {
-				logger.error(
-					String
-						.format("NotificationDeliveryFailedException when trying to notify supervisors about the change of a case classification. "));
-			}
+			messagingService.sendMessages(() -> {
+				List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
+					JurisdictionHelper.getCaseRegions(newCase),
+					UserRole.SURVEILLANCE_SUPERVISOR,
+					UserRole.ADMIN_SUPERVISOR,
+					UserRole.CASE_SUPERVISOR,
+					UserRole.CONTACT_SUPERVISOR);
+				final Map<User, String> mapToReturn = new HashMap<>();
+				messageRecipients.forEach(
+					user -> mapToReturn.put(
+						user,
+						String.format(
+							I18nProperties.getString(MessageContents.CONTENT_CASE_CLASSIFICATION_CHANGED),
+							DataHelper.getShortUuid(newCase.getUuid()),
+							newCase.getCaseClassification().toString())));
+				return mapToReturn;
+			}, MessageSubject.CASE_CLASSIFICATION_CHANGED, MessageType.EMAIL, MessageType.SMS);
 		}
 
 		// Send an email to all responsible supervisors when the disease of an
 		// Unspecified VHF case has changed
 		if (existingCase != null && existingCase.getDisease() == Disease.UNSPECIFIED_VHF && existingCase.getDisease() != newCase.getDisease()) {
 
-			try {
-				messagingService.sendMessages(() -> {
-					List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
-						JurisdictionHelper.getCaseRegions(newCase),
-						UserRole.SURVEILLANCE_SUPERVISOR,
-						UserRole.ADMIN_SUPERVISOR,
-						UserRole.CASE_SUPERVISOR,
-						UserRole.CONTACT_SUPERVISOR);
-					final Map<User, String> mapToReturn = new HashMap<>();
-					messageRecipients.forEach(
-						user -> mapToReturn.put(
-							user,
-							String.format(
-								I18nProperties.getString(MessageContents.CONTENT_DISEASE_CHANGED),
-								DataHelper.getShortUuid(newCase.getUuid()),
-								existingCase.getDisease().toString(),
-								newCase.getDisease().toString())));
-					return mapToReturn;
-				}, MessageSubject.DISEASE_CHANGED, MessageType.EMAIL, MessageType.SMS);
-			} catch (NotificationDeliveryFailedException e) {
-				logger.error(
-					String.format("NotificationDeliveryFailedException when trying to notify supervisors about the change of a case disease."));
-			}
+			messagingService.sendMessages(() -> {
+				List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
+					JurisdictionHelper.getCaseRegions(newCase),
+					UserRole.SURVEILLANCE_SUPERVISOR,
+					UserRole.ADMIN_SUPERVISOR,
+					UserRole.CASE_SUPERVISOR,
+					UserRole.CONTACT_SUPERVISOR);
+				final Map<User, String> mapToReturn = new HashMap<>();
+				messageRecipients.forEach(
+					user -> mapToReturn.put(
+						user,
+						String.format(
+							I18nProperties.getString(MessageContents.CONTENT_DISEASE_CHANGED),
+							DataHelper.getShortUuid(newCase.getUuid()),
+							existingCase.getDisease().toString(),
+							newCase.getDisease().toString())));
+				return mapToReturn;
+			}, MessageSubject.DISEASE_CHANGED, MessageType.EMAIL, MessageType.SMS);
 		}
 
 		// If the case is a newly created case or if it was not in a CONFIRMED status
@@ -2148,31 +2245,26 @@ public class CaseFacadeEjb implements CaseFacade {
 
 	private void sendConfirmedCaseNotificationsForEvents(Case caze) {
 
-		try {
-			messagingService.sendMessages(() -> {
-				final Date fromDate = Date.from(Instant.now().minus(Duration.ofDays(30)));
-				final Map<String, User> responsibleUserByEventByEventUuid =
-					eventService.getAllEventUuidWithResponsibleUserByCaseAfterDateForNotification(caze, fromDate);
-				final Map<User, String> mapToReturn = new HashMap<>();
-				responsibleUserByEventByEventUuid.forEach(
-					(s, user) -> mapToReturn.put(
-						user,
-						String.format(
-							I18nProperties.getString(MessageContents.CONTENT_EVENT_PARTICIPANT_CASE_CLASSIFICATION_CONFIRMED),
-							DataHelper.getShortUuid(s),
-							caze.getDisease().getName(),
-							DataHelper.getShortUuid(caze.getUuid()))));
-				return mapToReturn;
-			},
-				MessageSubject.EVENT_PARTICIPANT_CASE_CLASSIFICATION_CONFIRMED,
-				new Object[] {
-					caze.getDisease().getName() },
-				MessageType.EMAIL,
-				MessageType.SMS);
-		} catch (NotificationDeliveryFailedException e) {
-			logger.error(
-				String.format("NotificationDeliveryFailedException when trying to notify event responsible user about a newly confirmed case."));
-		}
+		messagingService.sendMessages(() -> {
+			final Date fromDate = Date.from(Instant.now().minus(Duration.ofDays(30)));
+			final Map<String, User> responsibleUserByEventByEventUuid =
+				eventService.getAllEventUuidWithResponsibleUserByCaseAfterDateForNotification(caze, fromDate);
+			final Map<User, String> mapToReturn = new HashMap<>();
+			responsibleUserByEventByEventUuid.forEach(
+				(s, user) -> mapToReturn.put(
+					user,
+					String.format(
+						I18nProperties.getString(MessageContents.CONTENT_EVENT_PARTICIPANT_CASE_CLASSIFICATION_CONFIRMED),
+						DataHelper.getShortUuid(s),
+						caze.getDisease().getName(),
+						DataHelper.getShortUuid(caze.getUuid()))));
+			return mapToReturn;
+		},
+			MessageSubject.EVENT_PARTICIPANT_CASE_CLASSIFICATION_CONFIRMED,
+			new Object[] {
+				caze.getDisease().getName() },
+			MessageType.EMAIL,
+			MessageType.SMS);
 	}
 
 	public void setResponsibleSurveillanceOfficer(Case caze) {
@@ -2242,6 +2334,64 @@ public class CaseFacadeEjb implements CaseFacade {
 		return getCompletenessCheckCaseList.size();
 	}
 
+	@Override
+	public int updateCaseClassifications(List<String> caseUuids) {
+
+		if (!configFacade.isFeatureAutomaticCaseClassification()) {
+			return 0;
+		}
+
+		int[] changedCount = new int[1];
+		IterableHelper.executeBatched(caseUuids, ModelConstants.PARAMETER_LIMIT, batch -> {
+			List<Case> cases = caseService.getEditAllowedByUuids(batch)
+				.stream()
+				.filter(c -> c.getCaseClassification() != CaseClassification.NO_CASE)
+				.collect(Collectors.toList());
+			Map<String, CaseClassification> classifications =
+				caseClassificationFacade.getClassifications(cases.stream().map(CaseFacadeEjb::toDto).collect(Collectors.toList()));
+
+			for (Case caze : cases) {
+				if (updateCaseClassification(caze, classifications.get(caze.getUuid()))) {
+					changedCount[0]++;
+				}
+			}
+		});
+
+		return changedCount[0];
+	}
+
+	/**
+	 * Applies the classification calculated by the system to the case and recalculates its reference definition.
+	 *
+	 * @param classification
+	 *            The calculated classification, or {@code null} when the case has not been classified automatically
+	 * @return Whether the case classification has been changed
+	 */
+	private boolean updateCaseClassification(Case caze, CaseClassification classification) {
+
+		boolean changed = false;
+		// only update when classification by system changes - user may overwrite this
+		if (classification != null && classification != caze.getSystemCaseClassification()) {
+			caze.setSystemCaseClassification(classification);
+
+			// really a change? (user may have already set it)
+			if (classification != caze.getCaseClassification()) {
+				caze.setCaseClassification(classification);
+				caze.setClassificationUser(null);
+				caze.setClassificationDate(new Date());
+				changed = true;
+			}
+		}
+
+		// calculate reference definition for cases
+		if (configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY)) {
+			boolean fulfilled = evaluateFulfilledCondition(toDto(caze), classification);
+			caze.setCaseReferenceDefinition(fulfilled ? CaseReferenceDefinition.FULFILLED : CaseReferenceDefinition.NOT_FULFILLED);
+		}
+
+		return changed;
+	}
+
 	private List<String> getCompletenessCheckNeededCaseList() {
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<String> cq = cb.createQuery(String.class);
@@ -2438,6 +2588,42 @@ public class CaseFacadeEjb implements CaseFacade {
 		return deletedCasesUuids;
 	}
 
+	@Override
+	public List<String> deleteCases(BulkSelection<CaseCriteria> selection) {
+		return deleteCases(selection, BULK_SELECTION_BATCH_SIZE);
+	}
+
+	List<String> deleteCases(BulkSelection<CaseCriteria> selection, int batchSize) {
+
+		List<String> deletedCasesUuids = new ArrayList<>();
+		forEachSelectedBatchInNewTransaction(selection, true, batchSize, batch -> deletedCasesUuids.addAll(deleteCases(batch)));
+		return deletedCasesUuids;
+	}
+
+	@Override
+	public long countSelectedCases(BulkSelection<CaseCriteria> selection, boolean bulkEdit) {
+		return caseService.countSelected(selection, !bulkEdit);
+	}
+
+	/**
+	 * Runs {@code batchFunction} for each batch of the selected cases in a transaction of its own. The persistence context is
+	 * cleared after each batch, so a selection of all cases doesn't keep every processed case in memory.
+	 *
+	 * @see CaseService#forEachSelectedBatch(BulkSelection, boolean, int, Consumer)
+	 */
+	private void forEachSelectedBatchInNewTransaction(
+		BulkSelection<CaseCriteria> selection,
+		boolean allowAdminOverride,
+		int batchSize,
+		Consumer<List<String>> batchFunction) {
+
+		caseService.forEachSelectedBatch(selection, allowAdminOverride, batchSize, batch -> {
+			transactionalBatchExecutor.executeInNewTransaction(batch, batchFunction);
+			em.flush();
+			em.clear();
+		});
+	}
+
 	@Override
 	public void deleteCaseAsDuplicate(String caseUuid, String duplicateOfCaseUuid) throws ExternalSurveillanceToolException {
 
@@ -3213,27 +3399,22 @@ public class CaseFacadeEjb implements CaseFacade {
 
 	private void sendInvestigationDoneNotifications(Case caze) {
 
-		try {
-			messagingService.sendMessages(() -> {
-				final List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
-					JurisdictionHelper.getCaseRegions(caze),
-					UserRole.SURVEILLANCE_SUPERVISOR,
-					UserRole.ADMIN_SUPERVISOR,
-					UserRole.CASE_SUPERVISOR,
-					UserRole.CONTACT_SUPERVISOR);
-				final Map<User, String> mapToReturn = new HashMap<>();
-				messageRecipients.forEach(
-					user -> mapToReturn.put(
-						user,
-						String.format(
-							I18nProperties.getString(MessageContents.CONTENT_CASE_INVESTIGATION_DONE),
-							DataHelper.getShortUuid(caze.getUuid()))));
-				return mapToReturn;
-			}, MessageSubject.CASE_INVESTIGATION_DONE, MessageType.EMAIL, MessageType.SMS);
-		} catch (NotificationDeliveryFailedException e) {
-			logger.error(
-				String.format("NotificationDeliveryFailedException when trying to notify supervisors about the completion of a case investigation."));
-		}
+		messagingService.sendMessages(() -> {
+			final List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
+				JurisdictionHelper.getCaseRegions(caze),
+				UserRole.SURVEILLANCE_SUPERVISOR,
+				UserRole.ADMIN_SUPERVISOR,
+				UserRole.CASE_SUPERVISOR,
+				UserRole.CONTACT_SUPERVISOR);
+			final Map<User, String> mapToReturn = new HashMap<>();
+			messageRecipients.forEach(
+				user -> mapToReturn.put(
+					user,
+					String.format(
+						I18nProperties.getString(MessageContents.CONTENT_CASE_INVESTIGATION_DONE),
+						DataHelper.getShortUuid(caze.getUuid()))));
+			return mapToReturn;
+		}, MessageSubject.CASE_INVESTIGATION_DONE, MessageType.EMAIL, MessageType.SMS);
 	}
 
 	@Override
@@ -3558,6 +3739,28 @@ public class CaseFacadeEjb implements CaseFacade {
 			DateHelper.durationMillies(startTime));
 	}
 
+	@Override
+	public void updateArchived(BulkSelection<CaseCriteria> selection, boolean archived) {
+		updateArchived(selection, archived, ARCHIVE_BATCH_SIZE);
+	}
+
+	void updateArchived(BulkSelection<CaseCriteria> selection, boolean archived, int batchSize) {
+
+		long startTime = DateHelper.startTime();
+
+		// CaseService.updateArchived runs each batch in a new transaction
+		int[] caseCount = new int[1];
+		caseService.forEachSelectedBatch(selection, true, batchSize, batchedCaseUuids -> {
+			caseService.updateArchived(batchedCaseUuids, archived);
+			caseCount[0] += batchedCaseUuids.size();
+		});
+		logger.debug(
+			"updateArchived() finished. caseCount = {}, archived = {}, {}ms",
+			caseCount[0],
+			archived,
+			DateHelper.durationMillies(startTime));
+	}
+
 	@Override
 	public boolean exists(String uuid) {
 		return caseService.exists(uuid);
@@ -3714,16 +3917,7 @@ public class CaseFacadeEjb implements CaseFacade {
 			final Case aCase = caseService.getByUuid(uuid);
 			final Person person = aCase.getPerson();
 
-			try {
-				messagingService.sendMessage(person, subject, messageContent, messageTypes);
-			} catch (NotificationDeliveryFailedException e) {
-				logger.error(
-					String.format(
-						"NotificationDeliveryFailedException when trying to notify person about: %s" + "Failed to send " + e.getMessageType()
-							+ " to person with UUID %s.",
-						subject,
-						person.getUuid()));
-			}
+			messagingService.sendMessage(person, subject, messageContent, messageTypes);
 		});
 	}
 
@@ -19,12 +19,15 @@ package de.symeda.sormas.backend.caze;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -84,6 +87,7 @@ import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.YesNoUnknown;
+import de.symeda.sormas.api.utils.criteria.BulkSelection;
 import de.symeda.sormas.api.utils.criteria.CriteriaDateType;
 import de.symeda.sormas.api.utils.criteria.ExternalShareDateType;
 import de.symeda.sormas.backend.caze.transformers.CaseListEntryDtoResultTransformer;
@@ -117,6 +121,7 @@ import de.symeda.sormas.backend.sample.SampleJoins;
 import de.symeda.sormas.backend.sample.SampleService;
 import de.symeda.sormas.backend.share.ExternalShareInfo;
 import de.symeda.sormas.backend.share.ExternalShareInfoService;
+import de.symeda.sormas.backend.sormastosormas.origin.SormasToSormasOriginInfo;
 import de.symeda.sormas.backend.sormastosormas.share.shareinfo.ShareInfoCase;
 import de.symeda.sormas.backend.sormastosormas.share.shareinfo.SormasToSormasShareInfoService;
 import de.symeda.sormas.backend.symptoms.Symptoms;
@@ -207,6 +212,15 @@ public class CaseService extends AbstractCoreAdoService<Case> {
 	}
 
 	public List<Case> getAllActiveCasesAfter(Date date, boolean includeExtendedChangeDateFilters) {
+		return getAllActiveCasesAfter(date, includeExtendedChangeDateFilters, null, null, null);
+	}
+
+	public List<Case> getAllActiveCasesAfter(
+		Date date,
+		boolean includeExtendedChangeDateFilters,
+		Integer batchSize,
+		Date lastChangeDate,
+		String lastSynchronizedUuid) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Case> cq = cb.createQuery(getElementClass());
@@ -240,7 +254,7 @@ public class CaseService extends AbstractCoreAdoService<Case> {
 		cq.orderBy(cb.desc(from.get(Case.CHANGE_DATE)));
 		cq.distinct(true);
 
-		return em.createQuery(cq).getResultList();
+		return getSyncBatch(cq, from, batchSize, lastChangeDate, lastSynchronizedUuid);
 	}
 
 	public List<String> getAllActiveUuids() {
@@ -1270,6 +1284,121 @@ public class CaseService extends AbstractCoreAdoService<Case> {
 		em.createQuery(cu).executeUpdate();
 	}
 
+	/**
+	 * @return The cases with the given uuids that are visible to the current user and that the user is allowed to edit (see
+	 *         {@link #isCaseEditAllowed(Case)}).
+	 */
+	public List<Case> getEditAllowedByUuids(List<String> caseUuids) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Case> cq = cb.createQuery(Case.class);
+		Root<Case> root = cq.from(Case.class);
+		CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, root);
+
+		Predicate filter = CriteriaBuilderHelper.and(
+			cb,
+			createUserFilter(cb, cq, root),
+			createEditAllowedFilter(caseQueryContext),
+			root.get(Case.UUID).in(caseUuids));
+		cq.where(filter);
+		cq.distinct(true);
+
+		return em.createQuery(cq).getResultList();
+	}
+
+	/**
+	 * Passes the uuids of the selected cases to {@code batchFunction}, at most {@code batchSize} at a time.
+	 * <p>
+	 * For a selection of all cases matching criteria, only cases visible to the current user are selected. Like the grid does for
+	 * explicitly selected cases, cases the user is not allowed to edit (see {@link #isCaseEditAllowed(Case)}) are left out unless
+	 * {@code allowAdminOverride} is set and the user is an admin. The cases are fetched batch by batch ordered by id, so cases that no
+	 * longer match once a batch has been processed (e.g. because they have been archived) don't shift the following batches.
+	 */
+	public void forEachSelectedBatch(
+		BulkSelection<CaseCriteria> selection,
+		boolean allowAdminOverride,
+		int batchSize,
+		Consumer<List<String>> batchFunction) {
+
+		if (!selection.isAllMatching()) {
+			IterableHelper.executeBatched(new ArrayList<>(selection.getIncludedUuids()), batchSize, batchFunction);
+			return;
+		}
+
+		Set<String> excludedUuids = selection.getExcludedUuids();
+		Long lastId = null;
+		List<Object[]> batch;
+		do {
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+			Root<Case> root = cq.from(Case.class);
+
+			Predicate filter = createAllMatchingSelectionFilter(selection.getCriteria(), allowAdminOverride, new CaseQueryContext(cb, cq, root));
+			if (lastId != null) {
+				filter = CriteriaBuilderHelper.and(cb, filter, cb.greaterThan(root.get(Case.ID), lastId));
+			}
+
+			cq.multiselect(root.get(Case.ID), root.get(Case.UUID));
+			if (filter != null) {
+				cq.where(filter);
+			}
+			cq.orderBy(cb.asc(root.get(Case.ID)));
+			cq.distinct(true);
+
+			batch = em.createQuery(cq).setMaxResults(batchSize).getResultList();
+			if (!batch.isEmpty()) {
+				lastId = (Long) batch.get(batch.size() - 1)[0];
+				List<String> uuids =
+					batch.stream().map(row -> (String) row[1]).filter(uuid -> !excludedUuids.contains(uuid)).collect(Collectors.toList());
+				if (!uuids.isEmpty()) {
+					batchFunction.accept(uuids);
+				}
+			}
+		} while (batch.size() == batchSize);
+	}
+
+	/**
+	 * @return The number of cases {@link #forEachSelectedBatch(BulkSelection, boolean, int, Consumer)} passes on for the selection
+	 */
+	public long countSelected(BulkSelection<CaseCriteria> selection, boolean allowAdminOverride) {
+
+		if (!selection.isAllMatching()) {
+			return selection.getIncludedUuids().size();
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+		Root<Case> root = cq.from(Case.class);
+
+		Predicate filter = createAllMatchingSelectionFilter(selection.getCriteria(), allowAdminOverride, new CaseQueryContext(cb, cq, root));
+		if (!selection.getExcludedUuids().isEmpty()) {
+			filter = CriteriaBuilderHelper.and(cb, filter, cb.not(root.get(Case.UUID).in(selection.getExcludedUuids())));
+		}
+
+		cq.select(cb.countDistinct(root.get(Case.ID)));
+		if (filter != null) {
+			cq.where(filter);
+		}
+
+		return em.createQuery(cq).getSingleResult();
+	}
+
+	private Predicate createAllMatchingSelectionFilter(CaseCriteria caseCriteria, boolean allowAdminOverride, CaseQueryContext caseQueryContext) {
+
+		CriteriaBuilder cb = caseQueryContext.getCriteriaBuilder();
+		CaseUserFilterCriteria caseUserFilterCriteria = new CaseUserFilterCriteria();
+		caseUserFilterCriteria.setIncludeCasesFromOtherJurisdictions(caseCriteria.getIncludeCasesFromOtherJurisdictions());
+		Predicate filter = CriteriaBuilderHelper.and(
+			cb,
+			createUserFilter(cb, caseQueryContext.getQuery(), caseQueryContext.getRoot(), caseUserFilterCriteria),
+			createCriteriaFilter(caseCriteria, caseQueryContext));
+		if (!allowAdminOverride || !userService.hasRole(UserRole.ADMIN)) {
+			filter = CriteriaBuilderHelper.and(cb, filter, createEditAllowedFilter(caseQueryContext));
+		}
+
+		return filter;
+	}
+
 	public boolean isCaseEditAllowed(Case caze) {
 
 		if (caze.getSormasToSormasOriginInfo() != null && !caze.getSormasToSormasOriginInfo().isOwnershipHandedOver()) {
@@ -1279,6 +1408,21 @@ public class CaseService extends AbstractCoreAdoService<Case> {
 		return inJurisdictionOrOwned(caze) && !sormasToSormasShareInfoService.isCaseOwnershipHandedOver(caze);
 	}
 
+	/**
+	 * Query equivalent of {@link #isCaseEditAllowed(Case)}.
+	 */
+	public Predicate createEditAllowedFilter(CaseQueryContext qc) {
+
+		CriteriaBuilder cb = qc.getCriteriaBuilder();
+		From<?, Case> root = qc.getRoot();
+		Join<Case, SormasToSormasOriginInfo> originInfo = root.join(Case.SORMAS_TO_SORMAS_ORIGIN_INFO, JoinType.LEFT);
+
+		return cb.and(
+			cb.or(cb.isNull(originInfo.get(SormasToSormasOriginInfo.ID)), cb.isTrue(originInfo.get(SormasToSormasOriginInfo.OWNERSHIP_HANDED_OVER))),
+			inJurisdictionOrOwned(qc),
+			cb.not(sormasToSormasShareInfoService.createCaseOwnershipHandedOverFilter(qc.getQuery(), cb, root)));
+	}
+
 	public boolean inJurisdiction(Case caze, User user) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -20,10 +20,14 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
@@ -62,6 +66,7 @@ import de.symeda.sormas.api.infrastructure.facility.FacilityReferenceDto;
 import de.symeda.sormas.api.infrastructure.facility.FacilityType;
 import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryDto;
 import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryReferenceDto;
+import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
 import de.symeda.sormas.api.person.PersonDto;
 import de.symeda.sormas.api.person.PersonHelper;
 import de.symeda.sormas.api.person.PersonReferenceDto;
@@ -128,6 +133,38 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 		boolean ignoreEmptyEntries)
 		throws InvalidColumnException {
 
+		return importCaseData(values, entityClasses, entityProperties, entityPropertyPaths, ignoreEmptyEntries, new InfrastructureLookups());
+	}
+
+	@Override
+	public List<ImportLineResultDto<CaseImportEntities>> importCaseData(
+		List<String[]> valuesList,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean ignoreEmptyEntries)
+		throws InvalidColumnException {
+
+		// Lines imported together usually refer to the same infrastructure, so each name is only looked up once
+		InfrastructureLookups infrastructureLookups = new InfrastructureLookups();
+
+		List<ImportLineResultDto<CaseImportEntities>> results = new ArrayList<>(valuesList.size());
+		for (String[] values : valuesList) {
+			results.add(importCaseData(values, entityClasses, entityProperties, entityPropertyPaths, ignoreEmptyEntries, infrastructureLookups));
+		}
+
+		return results;
+	}
+
+	private ImportLineResultDto<CaseImportEntities> importCaseData(
+		String[] values,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean ignoreEmptyEntries,
+		InfrastructureLookups infrastructureLookups)
+		throws InvalidColumnException {
+
 		// Check whether the new line has the same length as the header line
 		if (values.length > entityProperties.length) {
 			return ImportLineResultDto.errorResult(I18nProperties.getValidationError(Validations.importLineTooLong));
@@ -135,7 +172,7 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 
 		final CaseImportEntities entities = new CaseImportEntities(userService.getCurrentUser().toReference());
 		ImportLineResultDto<CaseImportEntities> importResult =
-			buildEntities(values, entityClasses, entityPropertyPaths, ignoreEmptyEntries, entities);
+			buildEntities(values, entityClasses, entityPropertyPaths, ignoreEmptyEntries, entities, infrastructureLookups);
 		if (importResult.isError()) {
 			return importResult;
 		}
@@ -180,7 +217,7 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 		}
 
 		CaseImportEntities entities = new CaseImportEntities(person, caze);
-		ImportLineResultDto<CaseImportEntities> importResult = buildEntities(values, entityClasses, entityPropertyPaths, true, entities);
+		ImportLineResultDto<CaseImportEntities> importResult = buildEntities(values, entityClasses, entityPropertyPaths, true, entities, new InfrastructureLookups());
 
 		if (importResult.isError()) {
 			return importResult;
@@ -254,7 +291,8 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 		String[] entityClasses,
 		String[][] entityPropertyPaths,
 		boolean ignoreEmptyEntries,
-		CaseImportEntities entities) {
+		CaseImportEntities entities,
+		InfrastructureLookups infrastructureLookups) {
 
 		final UserReferenceDto currentUserRef = userService.getCurrentUser().toReference();
 
@@ -301,7 +339,8 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 								samples.get(samples.size() - 1),
 								null,
 								cellData.getValue(),
-								cellData.getEntityPropertyPath());
+								cellData.getEntityPropertyPath(),
+								infrastructureLookups);
 						}
 
 					} else if (DataHelper.equal(cellData.getEntityClass(), DataHelper.getHumanClassName(PathogenTestDto.class))) {
@@ -322,12 +361,18 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 									null,
 									pathogenTests.get(pathogenTests.size() - 1),
 									cellData.getValue(),
-									cellData.getEntityPropertyPath());
+									cellData.getEntityPropertyPath(),
+									infrastructureLookups);
 							}
 						}
 					} else if (StringUtils.isNotEmpty(cellData.getValue())) {
 						// If the cell entry is not empty, try to insert it into the current case or its person
-						insertColumnEntryIntoData(caze, entities.getPerson(), cellData.getValue(), cellData.getEntityPropertyPath());
+						insertColumnEntryIntoData(
+							caze,
+							entities.getPerson(),
+							cellData.getValue(),
+							cellData.getEntityPropertyPath(),
+							infrastructureLookups);
 					}
 				} catch (ImportErrorException | InvalidColumnException e) {
 					return e;
@@ -399,7 +444,12 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 	/**
 	 * Inserts the entry of a single cell into the case or its person.
 	 */
-	private void insertColumnEntryIntoData(CaseDataDto caze, PersonDto person, String entry, String[] entryHeaderPath)
+	private void insertColumnEntryIntoData(
+		CaseDataDto caze,
+		PersonDto person,
+		String entry,
+		String[] entryHeaderPath,
+		InfrastructureLookups infrastructureLookups)
 		throws InvalidColumnException, ImportErrorException {
 
 		Object currentElement = caze;
@@ -430,8 +480,10 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 					if (importFacade.executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath, false)) {
 						continue;
 					} else if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-						List<DistrictReferenceDto> district = districtFacade
-							.getByName(entry, ImportHelper.getRegionBasedOnDistrict(pd.getName(), caze, null, null, person, currentElement), false);
+						String districtName = entry;
+						RegionReferenceDto region = ImportHelper.getRegionBasedOnDistrict(pd.getName(), caze, null, null, person, currentElement);
+						List<DistrictReferenceDto> district = infrastructureLookups
+							.get(() -> districtFacade.getByName(districtName, region, false), DistrictReferenceDto.class, districtName, region);
 						if (district.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties
@@ -443,8 +495,10 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 							pd.getWriteMethod().invoke(currentElement, district.get(0));
 						}
 					} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
-						List<CommunityReferenceDto> community = communityFacade
-							.getByName(entry, ImportHelper.getDistrictBasedOnCommunity(pd.getName(), caze, person, currentElement), false);
+						String communityName = entry;
+						DistrictReferenceDto district = ImportHelper.getDistrictBasedOnCommunity(pd.getName(), caze, person, currentElement);
+						List<CommunityReferenceDto> community = infrastructureLookups
+							.get(() -> communityFacade.getByName(communityName, district, false), CommunityReferenceDto.class, communityName, district);
 						if (community.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties.getValidationError(
@@ -469,12 +523,16 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 							entry = FacilityDto.NO_FACILITY;
 						}
 
-						List<FacilityReferenceDto> facilities = facilityFacade.getByNameAndType(
-							entry,
+						String facilityName = entry;
+						FacilityType facilityType = getTypeOfFacility(pd.getName(), currentElement);
+						List<FacilityReferenceDto> facilities = infrastructureLookups.get(
+							() -> facilityFacade
+								.getByNameAndType(facilityName, infrastructureData.getElement0(), infrastructureData.getElement1(), facilityType, false),
+							FacilityReferenceDto.class,
+							facilityName,
 							infrastructureData.getElement0(),
 							infrastructureData.getElement1(),
-							getTypeOfFacility(pd.getName(), currentElement),
-							false);
+							facilityType);
 
 						if (facilities.isEmpty()) {
 							if (infrastructureData.getElement1() != null) {
@@ -504,7 +562,12 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 					} else if (propertyType.isAssignableFrom(PointOfEntryReferenceDto.class)) {
 						PointOfEntryReferenceDto pointOfEntryReference;
 						DistrictReferenceDto pointOfEntryDistrict = CaseLogic.getDistrictWithFallback(caze);
-						List<PointOfEntryReferenceDto> customPointsOfEntry = pointOfEntryFacade.getByName(entry, pointOfEntryDistrict, false);
+						String pointOfEntryName = entry;
+						List<PointOfEntryReferenceDto> customPointsOfEntry = infrastructureLookups.get(
+							() -> pointOfEntryFacade.getByName(pointOfEntryName, pointOfEntryDistrict, false),
+							PointOfEntryReferenceDto.class,
+							pointOfEntryName,
+							pointOfEntryDistrict);
 						if (customPointsOfEntry.isEmpty()) {
 							final String poeName = entry;
 							List<PointOfEntryDto> defaultPointOfEntries = pointOfEntryFacade.getByUuids(PointOfEntryDto.CONSTANT_POE_UUIDS);
@@ -563,7 +626,12 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 	/**
 	 * Inserts the entry of a single cell into the sample or pathogen test.
 	 */
-	private void insertColumnEntryIntoSampleData(SampleDto sample, PathogenTestDto test, String entry, String[] entryHeaderPath)
+	private void insertColumnEntryIntoSampleData(
+		SampleDto sample,
+		PathogenTestDto test,
+		String entry,
+		String[] entryHeaderPath,
+		InfrastructureLookups infrastructureLookups)
 		throws InvalidColumnException, ImportErrorException {
 		Object currentElement = sample != null ? sample : test;
 		for (int i = 0; i < entryHeaderPath.length; i++) {
@@ -581,7 +649,8 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 					if (importFacade.executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath, false)) {
 						continue;
 					} else if (propertyType.isAssignableFrom(FacilityReferenceDto.class)) {
-						List<FacilityReferenceDto> lab = facilityFacade.getLaboratoriesByName(entry, false);
+						List<FacilityReferenceDto> lab =
+							infrastructureLookups.get(() -> facilityFacade.getLaboratoriesByName(entry, false), SampleDto.LAB, entry);
 						if (lab.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -634,6 +703,19 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 		return String.join(".", entityPropertyPath);
 	}
 
+	/**
+	 * Remembers the infrastructure found for an entry of the import file, so it is only looked up once per transaction.
+	 */
+	private static final class InfrastructureLookups {
+
+		private final Map<List<Object>, List<?>> lookups = new HashMap<>();
+
+		@SuppressWarnings("unchecked")
+		<T> List<T> get(Supplier<List<T>> lookup, Object... key) {
+			return (List<T>) lookups.computeIfAbsent(Arrays.asList(key), k -> lookup.get());
+		}
+	}
+
 	@LocalBean
 	@Stateless
 	public static class CaseImportFacadeEjbLocal extends CaseImportFacadeEjb {
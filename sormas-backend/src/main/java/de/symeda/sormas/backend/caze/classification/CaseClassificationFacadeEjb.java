@@ -19,6 +19,7 @@ package de.symeda.sormas.backend.caze.classification;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -72,12 +73,19 @@ import de.symeda.sormas.api.symptoms.SymptomsDto;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.YesNoUnknown;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.event.Event;
 import de.symeda.sormas.backend.event.EventFacadeEjb;
 import de.symeda.sormas.backend.event.EventService;
 import de.symeda.sormas.backend.immunization.ImmunizationService;
+import de.symeda.sormas.backend.person.Person;
+import de.symeda.sormas.backend.person.PersonFacadeEjb;
 import de.symeda.sormas.backend.person.PersonFacadeEjb.PersonFacadeEjbLocal;
+import de.symeda.sormas.backend.person.PersonService;
+import de.symeda.sormas.backend.sample.PathogenTest;
 import de.symeda.sormas.backend.sample.PathogenTestFacadeEjb;
 import de.symeda.sormas.backend.sample.PathogenTestService;
+import de.symeda.sormas.backend.util.IterableHelper;
+import de.symeda.sormas.backend.util.ModelConstants;
 
 /**
  * Stateless instead of Singleton. It's ok to have multiple instances with an
@@ -91,6 +99,8 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 	@EJB
 	private PersonFacadeEjbLocal personFacade;
 	@EJB
+	private PersonService personService;
+	@EJB
 	private PathogenTestService pathogenTestService;
 	@EJB
 	private ConfigFacadeEjbLocal configFacade;
@@ -120,6 +130,73 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			lastVaccinationDate = immunizationService.getLastVaccinationDateBefore(person.getUuid(), caze.getDisease(), CaseLogic.getStartDate(caze));
 		}
 
+		return getClassification(
+			caze,
+			person,
+			pathogenTests,
+			caseEvents,
+			lastVaccinationDate,
+			configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY));
+	}
+
+	/**
+	 * Classifies many cases at once. The persons, pathogen tests and events of the cases are loaded with one query each per batch
+	 * before the cases are classified.
+	 *
+	 * @return The classification of each case by case uuid
+	 */
+	public Map<String, CaseClassification> getClassifications(List<CaseDataDto> cases) {
+
+		if (criteriaMap.isEmpty()) {
+			buildCriteria();
+		}
+
+		boolean germany = configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY);
+		Map<String, CaseClassification> classifications = new HashMap<>();
+		IterableHelper.executeBatched(cases, ModelConstants.PARAMETER_LIMIT, batch -> {
+			List<String> caseUuids = batch.stream().map(CaseDataDto::getUuid).collect(Collectors.toList());
+			Map<String, PersonDto> persons =
+				personService.getByUuids(batch.stream().map(c -> c.getPerson().getUuid()).distinct().collect(Collectors.toList()))
+					.stream()
+					.collect(Collectors.toMap(Person::getUuid, PersonFacadeEjb::toDto));
+			Map<String, List<PathogenTest>> pathogenTests = pathogenTestService.getAllByCases(caseUuids);
+			Map<String, List<Event>> caseEvents = eventService.getAllByCases(caseUuids);
+
+			for (CaseDataDto caze : batch) {
+				PersonDto person = persons.get(caze.getPerson().getUuid());
+				Date lastVaccinationDate = null;
+				if (caze.getDisease() == Disease.YELLOW_FEVER && caze.getVaccinationStatus() == VaccinationStatus.VACCINATED) {
+					lastVaccinationDate =
+						immunizationService.getLastVaccinationDateBefore(person.getUuid(), caze.getDisease(), CaseLogic.getStartDate(caze));
+				}
+				CaseClassification classification = getClassification(
+					caze,
+					person,
+					pathogenTests.getOrDefault(caze.getUuid(), Collections.emptyList())
+						.stream()
+						.map(PathogenTestFacadeEjb.PathogenTestFacadeEjbLocal::toDto)
+						.collect(Collectors.toList()),
+					caseEvents.getOrDefault(caze.getUuid(), Collections.emptyList())
+						.stream()
+						.map(EventFacadeEjb::toDto)
+						.collect(Collectors.toList()),
+					lastVaccinationDate,
+					germany);
+				classifications.put(caze.getUuid(), classification);
+			}
+		});
+
+		return classifications;
+	}
+
+	private CaseClassification getClassification(
+		CaseDataDto caze,
+		PersonDto person,
+		List<PathogenTestDto> pathogenTests,
+		List<EventDto> caseEvents,
+		Date lastVaccinationDate,
+		boolean germany) {
+
 		DiseaseClassificationCriteriaDto criteria = criteriaMap.get(caze.getDisease());
 
 		if (criteria != null) {
@@ -135,7 +212,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			} else if (criteria.getSuspectCriteria() != null
 				&& criteria.getSuspectCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
 				return CaseClassification.SUSPECT;
-			} else if (configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY)) {
+			} else if (germany) {
 				if (criteria.getConfirmedNoSymptomsCriteria() != null
 					&& criteria.getConfirmedNoSymptomsCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
 					return CaseClassification.CONFIRMED_NO_SYMPTOMS;
@@ -54,6 +54,11 @@ import de.symeda.sormas.backend.util.QueryHelper;
 
 public class BaseAdoService<ADO extends AbstractDomainObject> implements AdoService<ADO> {
 
+	/**
+	 * Upper limit for the batch size of the paged mobile synchronization.
+	 */
+	public static final int MAX_SYNC_BATCH_SIZE = 1000;
+
 	// protected to be used by implementations
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -200,6 +205,66 @@ public class BaseAdoService<ADO extends AbstractDomainObject> implements AdoServ
 		return createChangeDateFilter(cb, from, DateHelper.toTimestampUpper(date));
 	}
 
+	/**
+	 * Executes a query of the mobile synchronization. Without {@code batchSize}, all results are returned in the order of the query.
+	 * Otherwise the results are ordered by change date and uuid of {@code syncedFrom} and at most {@code batchSize} results after
+	 * the last synchronized entity are returned.
+	 * <p>
+	 * Change dates are stored with microseconds, but only transferred with millisecond precision. The cursor therefore uses the
+	 * stored change date of the last synchronized entity, so it matches the order of the batches exactly.
+	 *
+	 * @param syncedFrom
+	 *            The entities that are synchronized, the cursor of the batches is built from their change date and uuid.
+	 * @param lastChangeDate
+	 *            Change date of the last entity of the previous batch, {@code null} for the first batch.
+	 * @param lastUuid
+	 *            Uuid of the last entity of the previous batch, {@code null} for the first batch.
+	 */
+	protected <T> List<T> getSyncBatch(
+		CriteriaQuery<T> cq,
+		From<?, ? extends AbstractDomainObject> syncedFrom,
+		Integer batchSize,
+		Date lastChangeDate,
+		String lastUuid) {
+
+		if (batchSize == null) {
+			return em.createQuery(cq).getResultList();
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		Path<Timestamp> changeDate = syncedFrom.get(AbstractDomainObject.CHANGE_DATE);
+		Path<String> uuid = syncedFrom.get(AbstractDomainObject.UUID);
+
+		if (lastChangeDate != null && lastUuid != null) {
+			Timestamp lastStoredChangeDate = getStoredChangeDate(syncedFrom.getJavaType(), lastUuid);
+			Predicate cursorFilter;
+			if (lastStoredChangeDate != null && lastStoredChangeDate.getTime() == lastChangeDate.getTime()) {
+				cursorFilter = cb.or(
+					cb.greaterThan(changeDate, lastStoredChangeDate),
+					cb.and(cb.equal(changeDate, lastStoredChangeDate), cb.greaterThan(uuid, lastUuid)));
+			} else {
+				// the last entity has been changed or deleted since, so its millisecond is synchronized again
+				cursorFilter = cb.greaterThanOrEqualTo(changeDate, new Timestamp(lastChangeDate.getTime()));
+			}
+			cq.where(CriteriaBuilderHelper.and(cb, cq.getRestriction(), cursorFilter));
+		}
+
+		cq.orderBy(cb.asc(changeDate), cb.asc(uuid));
+
+		return em.createQuery(cq).setMaxResults(Math.min(batchSize, MAX_SYNC_BATCH_SIZE)).getResultList();
+	}
+
+	private Timestamp getStoredChangeDate(Class<? extends AbstractDomainObject> entityClass, String uuid) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Timestamp> cq = cb.createQuery(Timestamp.class);
+		Root<? extends AbstractDomainObject> root = cq.from(entityClass);
+		cq.select(root.<Timestamp> get(AbstractDomainObject.CHANGE_DATE));
+		cq.where(cb.equal(root.get(AbstractDomainObject.UUID), uuid));
+
+		return em.createQuery(cq).getResultList().stream().findFirst().orElse(null);
+	}
+
 	public Predicate recentDateFilter(CriteriaBuilder cb, Date date, Path<Date> datePath, int amountOfDays) {
 		return date != null ? cb.between(datePath, DateHelper.subtractDays(date, amountOfDays), DateHelper.addDays(date, amountOfDays)) : null;
 	}
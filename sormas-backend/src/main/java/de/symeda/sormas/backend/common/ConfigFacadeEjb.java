@@ -82,13 +82,14 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	public static final String GENERATED_FILES_PATH = "generated.path";
 	public static final String CUSTOM_FILES_PATH = "custom.path";
 	public static final String CSV_SEPARATOR = "csv.separator";
-	public static final String RSCRIPT_EXECUTABLE = "rscript.executable";
 
 	public static final String EMAIL_SENDER_ADDRESS = "email.sender.address";
 	public static final String EMAIL_SENDER_NAME = "email.sender.name";
 	public static final String SMS_SENDER_NAME = "sms.sender.name";
 	public static final String SMS_AUTH_KEY = "sms.auth.key";
 	public static final String SMS_AUTH_SECRET = "sms.auth.secret";
+	public static final String NOTIFICATION_DUPLICATE_INTERVAL = "notification.duplicateInterval";
+	public static final String NOTIFICATION_MAX_DELIVERY_ATTEMPTS = "notification.maxDeliveryAttempts";
 
 	public static final String DUPLICATE_CHECKS_EXCLUDE_PERSONS_OF_ACHIVED_ENTRIES = "duplicatechecks.excludepersonsonlylinkedtoarchivedentries";
 	public static final String NAME_SIMILARITY_THRESHOLD = "namesimilaritythreshold";
@@ -111,6 +112,7 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	public static final String INTERFACE_PATIENT_DIARY_DEFAULT_USER_PASSWORD = "interface.patientdiary.defaultuser.password";
 
 	public static final String DOCGENERATION_NULL_REPLACEMENT = "docgeneration.nullReplacement";
+	public static final String DOCGENERATION_WORKERS = "docgeneration.workers";
 	public static final String INTERFACE_DEMIS_JNDINAME = "interface.demis.jndiName";
 
 	public static final String DAYS_AFTER_CASE_GETS_ARCHIVED = "daysAfterCaseGetsArchived";
@@ -150,11 +152,15 @@ public class ConfigFacadeEjb implements ConfigFacade {
 
 	private static final String DASHBOARD_MAP_MARKER_LIMIT = "dashboardMapMarkerLimit";
 	private static final String AUDITOR_ATTRIBUTE_LOGGING = "auditor.attribute.logging";
+	private static final String AUDITOR_RETENTION_DAYS = "auditor.retentionDays";
 
 	private static final String CREATE_DEFAULT_ENTITIES = "createDefaultEntities";
 	private static final String SKIP_DEFAULT_PASSWORD_CHECK = "skipDefaultPasswordCheck";
 
 	private static final String STEP_SIZE_FOR_CSV_EXPORT = "stepSizeForCsvExport";
+	private static final String DATABASE_EXPORT_WORKERS = "databaseExportWorkers";
+	private static final String IMPORT_WORKERS = "importWorkers";
+	private static final String IMPORT_CHUNK_SIZE = "importChunkSize";
 
 	private static final String UI_URL = "ui.url";
 
@@ -366,11 +372,6 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(CUSTOM_FILES_PATH, "/opt/sormas/custom/");
 	}
 
-	@Override
-	public String getRScriptExecutable() {
-		return getProperty(RSCRIPT_EXECUTABLE, null);
-	}
-
 	@Override
 	public boolean isFeatureAutomaticCaseClassification() {
 		return getBoolean(FEATURE_AUTOMATIC_CASE_CLASSIFICATION, true);
@@ -401,6 +402,18 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(SMS_AUTH_SECRET, "");
 	}
 
+	/**
+	 * @return Minutes within which the same notification is only sent once to a recipient; 0 if notifications are never
+	 *         de-duplicated.
+	 */
+	public int getNotificationDuplicateInterval() {
+		return getInt(NOTIFICATION_DUPLICATE_INTERVAL, 60);
+	}
+
+	public int getNotificationMaxDeliveryAttempts() {
+		return getInt(NOTIFICATION_MAX_DELIVERY_ATTEMPTS, 5);
+	}
+
 	@Override
 	public boolean isDuplicateChecksExcludePersonsOfArchivedEntries() {
 		return getBoolean(DUPLICATE_CHECKS_EXCLUDE_PERSONS_OF_ACHIVED_ENTRIES, false);
@@ -639,6 +652,10 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(DOCGENERATION_NULL_REPLACEMENT, "./.");
 	}
 
+	public int getDocgenerationWorkers() {
+		return getInt(DOCGENERATION_WORKERS, 1);
+	}
+
 	public String getCentralEtcdHost() {
 		return getProperty(CENTRAL_ETCD_HOST, null);
 	}
@@ -660,11 +677,33 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getBoolean(AUDITOR_ATTRIBUTE_LOGGING, true);
 	}
 
+	/**
+	 * @return Days after which audit log entries are deleted; 0 if they are kept forever.
+	 */
+	public int getAuditorRetentionDays() {
+		return getInt(AUDITOR_RETENTION_DAYS, 0);
+	}
+
 	@Override
 	public int getStepSizeForCsvExport() {
 		return getInt(STEP_SIZE_FOR_CSV_EXPORT, 5000);
 	}
 
+	@Override
+	public int getDatabaseExportWorkers() {
+		return getInt(DATABASE_EXPORT_WORKERS, 1);
+	}
+
+	@Override
+	public int getImportWorkers() {
+		return getInt(IMPORT_WORKERS, 1);
+	}
+
+	@Override
+	public int getImportChunkSize() {
+		return getInt(IMPORT_CHUNK_SIZE, 1);
+	}
+
 	@Override
 	public boolean isSmsServiceSetUp() {
 		return !StringUtils.isAnyBlank(getProperty(SMS_AUTH_KEY, null), getProperty(SMS_AUTH_SECRET, null));
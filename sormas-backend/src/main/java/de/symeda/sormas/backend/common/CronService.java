@@ -33,8 +33,10 @@ import de.symeda.sormas.api.importexport.ImportExportUtils;
 import de.symeda.sormas.api.task.TaskType;
 import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.auditlog.AuditLogServiceBean;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.common.messaging.OutgoingMessageService;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
 import de.symeda.sormas.backend.document.DocumentFacadeEjb.DocumentFacadeEjbLocal;
 import de.symeda.sormas.backend.event.EventFacadeEjb.EventFacadeEjbLocal;
@@ -50,6 +52,8 @@ import de.symeda.sormas.backend.task.TaskFacadeEjb.TaskFacadeEjbLocal;
 public class CronService {
 
 	public static final int TASK_UPDATE_INTERVAL = 10;
+	public static final int OUTGOING_MESSAGE_RETENTION_DAYS = 30;
+	public static final int AUDIT_LOG_DELETE_BATCH_SIZE = 10000;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -75,6 +79,10 @@ public class CronService {
 	private LabMessageFacadeEjbLocal labMessageFacade;
 	@EJB
 	private ImmunizationFacadeEjb.ImmunizationFacadeEjbLocal immunizationFacade;
+	@EJB
+	private OutgoingMessageService outgoingMessageService;
+	@EJB
+	private AuditLogServiceBean auditLogService;
 
 	@Schedule(hour = "*", minute = "*/" + TASK_UPDATE_INTERVAL, second = "0", persistent = false)
 	public void sendNewAndDueTaskMessages() {
@@ -177,4 +185,26 @@ public class CronService {
 			immunizationFacade.updateImmunizationStatuses();
 		}
 	}
+
+	@Schedule(hour = "1", minute = "45", second = "0", persistent = false)
+	public void deleteCompletedOutgoingMessages() {
+		int deletedCount = outgoingMessageService.deleteCompletedBefore(DateHelper.subtractDays(new Date(), OUTGOING_MESSAGE_RETENTION_DAYS));
+		logger.info("Deleted {} sent or failed outgoing messages", deletedCount);
+	}
+
+	@Schedule(hour = "1", minute = "50", second = "0", persistent = false)
+	public void deleteExpiredAuditLogEntries() {
+
+		int retentionDays = configFacade.getAuditorRetentionDays();
+		if (retentionDays > 0) {
+			Date date = DateHelper.subtractDays(new Date(), retentionDays);
+			int deletedCount = 0;
+			int batchCount;
+			do {
+				batchCount = auditLogService.deleteEntriesBefore(date, AUDIT_LOG_DELETE_BATCH_SIZE);
+				deletedCount += batchCount;
+			} while (batchCount == AUDIT_LOG_DELETE_BATCH_SIZE);
+			logger.info("Deleted {} audit log entries older than {} days", deletedCount, retentionDays);
+		}
+	}
 }
@@ -0,0 +1,258 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import javax.ejb.EJB;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Singleton;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import de.symeda.sormas.api.ReferenceDto;
+import de.symeda.sormas.api.utils.criteria.BaseCriteria;
+import de.symeda.sormas.backend.user.User;
+import de.symeda.sormas.backend.user.UserService;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+/**
+ * Keeps the counts of index lists (e.g. the case directory) so that paging and scrolling through a list doesn't count all its
+ * entries again and again.
+ * <p>
+ * Counts are kept per entity type, criteria and user, because the user filter depends on the jurisdiction of the user. A count
+ * is used as long as no entity of its type has been created or changed since (detected by the latest id and change date of the
+ * entity table) and for at most {@link #COUNT_TTL_MILLIS}, which limits how long changes to joined entities (e.g. the person of a
+ * case) go unnoticed. Entities that are removed from the database instead of being marked as deleted have to be reported by
+ * {@link #invalidate(Class)}.
+ * <p>
+ * Counts that are outdated are kept until the cache is full, so {@link #getEstimatedCount} can hand them out as an estimate.
+ */
+@Singleton(name = "IndexCountCache")
+public class IndexCountCache {
+
+	static final long COUNT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+	static final int MAX_COUNTS = 10_000;
+
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
+	@EJB
+	private UserService userService;
+
+	private final Map<List<Object>, CachedCount> counts = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Long> invalidations = new ConcurrentHashMap<>();
+
+	/**
+	 * @param entityClass
+	 *            The entity type that is counted; changes to it invalidate the count
+	 * @param criteria
+	 *            The criteria the count is computed for; may be {@code null}
+	 * @param ignoreUserFilter
+	 *            Whether the count is the same for all users
+	 * @param countFunction
+	 *            Counts the entities
+	 */
+	@Lock(LockType.READ)
+	public long count(Class<? extends AbstractDomainObject> entityClass, BaseCriteria criteria, boolean ignoreUserFilter, LongSupplier countFunction) {
+
+		long now = System.currentTimeMillis();
+		List<Object> key = countKey(entityClass, criteria, ignoreUserFilter);
+		Version version = loadVersion(entityClass);
+
+		CachedCount cached = counts.get(key);
+		if (cached != null && cached.version.equals(version) && cached.expiry > now) {
+			return cached.count;
+		}
+
+		long count = countFunction.getAsLong();
+
+		if (counts.size() >= MAX_COUNTS) {
+			counts.values().removeIf(c -> c.expiry <= now);
+			if (counts.size() >= MAX_COUNTS) {
+				counts.clear();
+			}
+		}
+		counts.put(key, new CachedCount(count, version, now + COUNT_TTL_MILLIS));
+
+		return count;
+	}
+
+	/**
+	 * Returns right away without querying the entities, so index lists can be rendered while the exact count is determined by
+	 * {@link #count(Class, BaseCriteria, boolean, LongSupplier)}.
+	 *
+	 * @return The last count determined for the criteria, even if entities have been changed since or it has expired, or
+	 *         {@code null} if there is none
+	 */
+	@Lock(LockType.READ)
+	public Long getEstimatedCount(Class<? extends AbstractDomainObject> entityClass, BaseCriteria criteria, boolean ignoreUserFilter) {
+
+		CachedCount cached = counts.get(countKey(entityClass, criteria, ignoreUserFilter));
+		return cached != null ? cached.count : null;
+	}
+
+	/**
+	 * Forces all counts of the entity type to be determined again. Has to be called whenever entities of the type are removed
+	 * from the database, once the transaction removing them has been committed (see {@link EntityRemovalEvent}).
+	 */
+	@Lock(LockType.READ)
+	public void invalidate(Class<? extends AbstractDomainObject> entityClass) {
+		invalidations.merge(entityClass, 1L, Long::sum);
+	}
+
+	@Lock(LockType.READ)
+	public void onEntityRemoval(@Observes(during = TransactionPhase.AFTER_SUCCESS) EntityRemovalEvent event) {
+		invalidate(event.getEntityClass());
+	}
+
+	private Version loadVersion(Class<? extends AbstractDomainObject> entityClass) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<? extends AbstractDomainObject> root = cq.from(entityClass);
+		cq.multiselect(cb.max(root.<Long> get(AbstractDomainObject.ID)), cb.greatest(root.<Date> get(AbstractDomainObject.CHANGE_DATE)));
+
+		Object[] result = em.createQuery(cq).getSingleResult();
+		return new Version((Long) result[0], (Date) result[1], invalidations.getOrDefault(entityClass, 0L));
+	}
+
+	private List<Object> countKey(Class<? extends AbstractDomainObject> entityClass, BaseCriteria criteria, boolean ignoreUserFilter) {
+		return Arrays.asList(entityClass, ignoreUserFilter ? null : getUserKey(), criteriaKey(criteria));
+	}
+
+	private String getUserKey() {
+
+		User user = userService.getCurrentUser();
+		if (user == null) {
+			return "";
+		}
+
+		// jurisdiction and roles of the user are part of the user entity, so a changed user has a new key
+		return user.getUuid() + "@" + (user.getChangeDate() != null ? user.getChangeDate().getTime() : "");
+	}
+
+	/**
+	 * @return A key that is equal for criteria with equal property values.
+	 */
+	static String criteriaKey(Object criteria) {
+
+		if (criteria == null) {
+			return "";
+		}
+
+		return Arrays.stream(criteria.getClass().getMethods())
+			.filter(
+				m -> !Modifier.isStatic(m.getModifiers())
+					&& m.getParameterCount() == 0
+					&& m.getDeclaringClass() != Object.class
+					&& (m.getName().startsWith("get") || m.getName().startsWith("is")))
+			.sorted(Comparator.comparing(Method::getName))
+			.map(m -> m.getName() + "=" + valueKey(invokeGetter(criteria, m)))
+			.collect(Collectors.joining("&", criteria.getClass().getName() + "?", ""));
+	}
+
+	private static Object invokeGetter(Object criteria, Method getter) {
+
+		try {
+			return getter.invoke(criteria);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static String valueKey(Object value) {
+
+		if (value == null) {
+			return "";
+		} else if (value instanceof ReferenceDto) {
+			return ((ReferenceDto) value).getUuid();
+		} else if (value instanceof Date) {
+			return String.valueOf(((Date) value).getTime());
+		} else if (value instanceof Collection) {
+			return ((Collection<?>) value).stream().map(IndexCountCache::valueKey).collect(Collectors.joining(",", "[", "]"));
+		} else if (value instanceof BaseCriteria) {
+			return "(" + criteriaKey(value) + ")";
+		} else {
+			// values without a meaningful toString only lead to cache misses
+			return value.toString();
+		}
+	}
+
+	private static final class Version {
+
+		private final Long latestId;
+		private final Date latestChangeDate;
+		private final long invalidations;
+
+		private Version(Long latestId, Date latestChangeDate, long invalidations) {
+			this.latestId = latestId;
+			this.latestChangeDate = latestChangeDate;
+			this.invalidations = invalidations;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Version version = (Version) o;
+			return invalidations == version.invalidations
+				&& Objects.equals(latestId, version.latestId)
+				&& Objects.equals(latestChangeDate, version.latestChangeDate);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(latestId, latestChangeDate, invalidations);
+		}
+	}
+
+	private static final class CachedCount {
+
+		private final long count;
+		private final Version version;
+		private final long expiry;
+
+		private CachedCount(long count, Version version, long expiry) {
+			this.count = count;
+			this.version = version;
+			this.expiry = expiry;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
+
+/**
+ * Runs the batches of bulk operations in transactions of their own, so that the entities loaded for a batch don't pile up in the
+ * persistence context and a failing batch doesn't roll back the batches processed before.
+ */
+@Stateless
+@LocalBean
+public class TransactionalBatchExecutor {
+
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public <E> void executeInNewTransaction(List<E> batch, Consumer<List<E>> batchFunction) {
+		batchFunction.accept(batch);
+	}
+}
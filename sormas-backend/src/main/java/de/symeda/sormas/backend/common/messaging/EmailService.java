@@ -18,17 +18,18 @@
 package de.symeda.sormas.backend.common.messaging;
 
 import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Resource;
-import javax.ejb.Asynchronous;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
 import javax.mail.Message;
 import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
 import javax.mail.Session;
 import javax.mail.Transport;
-import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 
@@ -49,11 +50,57 @@ public class EmailService {
 	@EJB
 	private ConfigFacadeEjbLocal configFacade;
 
-	@Asynchronous
-	public void sendEmail(String recipient, String subject, String content) throws AddressException, MessagingException {
+	/**
+	 * Sends the emails over one connection to the mail server and passes each email to the {@code resultHandler} along with the
+	 * exception that prevented its delivery, or null if it has been sent.
+	 *
+	 * @throws MessagingException
+	 *             If the connection to the mail server failed. Emails that have not been passed to the {@code resultHandler} yet
+	 *             have not been sent.
+	 */
+	public void sendEmails(List<OutgoingMessage> emails, BiConsumer<OutgoingMessage, MessagingException> resultHandler)
+		throws MessagingException {
 
 		Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
 
+		Transport transport = null;
+		try {
+			for (OutgoingMessage email : emails) {
+				MimeMessage message;
+				try {
+					message = createMessage(email.getRecipientAddress(), email.getSubject(), email.getContent());
+				} catch (MessagingException e) {
+					resultHandler.accept(email, e);
+					continue;
+				}
+
+				if (transport == null) {
+					transport = mailSession.getTransport(message.getAllRecipients()[0]);
+					transport.connect();
+				}
+
+				try {
+					transport.sendMessage(message, message.getAllRecipients());
+				} catch (SendFailedException e) {
+					resultHandler.accept(email, e);
+					continue;
+				}
+				logger.info("Mail sent to {}.", email.getRecipientAddress());
+				resultHandler.accept(email, null);
+			}
+		} finally {
+			if (transport != null) {
+				try {
+					transport.close();
+				} catch (MessagingException e) {
+					logger.warn("Could not close the connection to the mail server: {}", e.getMessage());
+				}
+			}
+		}
+	}
+
+	private MimeMessage createMessage(String recipient, String subject, String content) throws MessagingException {
+
 		MimeMessage message = new MimeMessage(mailSession);
 
 		String senderAddress = configFacade.getEmailSenderAddress();
@@ -70,8 +117,8 @@ public class EmailService {
 
 		message.setSubject(subject, "UTF-8");
 		message.setContent(content, "text/plain; charset=utf-8");
+		message.saveChanges();
 
-		Transport.send(message);
-		logger.info("Mail sent to {}.", recipient);
+		return message;
 	}
 }
@@ -17,7 +17,6 @@
  *******************************************************************************/
 package de.symeda.sormas.backend.common.messaging;
 
-import java.io.IOException;
 import java.util.Date;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -25,13 +24,10 @@ import java.util.function.Supplier;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
-import javax.mail.MessagingException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.nexmo.client.NexmoClientException;
-
 import de.symeda.sormas.api.feature.FeatureType;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.messaging.MessageType;
@@ -44,6 +40,10 @@ import de.symeda.sormas.backend.user.UserService;
 
 /**
  * Service used to send email and SMS messages to SORMAS users & persons.
+ * <p>
+ * The messages are stored in the outbox as part of the current transaction and delivered asynchronously by the
+ * {@link OutgoingMessageDispatcher}, so they are only sent if the transaction is committed. Delivery failures are logged and
+ * retried by the dispatcher instead of being thrown as {@link NotificationDeliveryFailedException}.
  * 
  * @author Maté Strysewske
  */
@@ -56,9 +56,7 @@ public class MessagingService {
 	@EJB
 	private UserService userService;
 	@EJB
-	private EmailService emailService;
-	@EJB
-	private SmsService smsService;
+	private OutgoingMessageService outgoingMessageService;
 	@EJB
 	private ManualMessageLogService manualMessageLogService;
 	@EJB
@@ -66,8 +64,7 @@ public class MessagingService {
 	@EJB
 	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacade;
 
-	public void sendMessages(Supplier<Map<User, String>> userMessagesSupplier, MessageSubject subject, MessageType... messageTypes)
-		throws NotificationDeliveryFailedException {
+	public void sendMessages(Supplier<Map<User, String>> userMessagesSupplier, MessageSubject subject, MessageType... messageTypes) {
 
 		if (relatedFeatureEnabled(subject.getRelatedFeatureType())) {
 			for (Map.Entry<User, String> entry : userMessagesSupplier.get().entrySet()) {
@@ -82,8 +79,7 @@ public class MessagingService {
 		Supplier<Map<User, String>> userMessagesSupplier,
 		MessageSubject subject,
 		Object[] subjectParameters,
-		MessageType... messageTypes)
-		throws NotificationDeliveryFailedException {
+		MessageType... messageTypes) {
 
 		if (relatedFeatureEnabled(subject.getRelatedFeatureType())) {
 			for (Map.Entry<User, String> entry : userMessagesSupplier.get().entrySet()) {
@@ -98,8 +94,7 @@ public class MessagingService {
 		return featureConfigurationFacade.isFeatureEnabled(relatedFeatureType);
 	}
 
-	private void sendMessage(User recipient, String subject, String messageContent, MessageType... messageTypes)
-		throws NotificationDeliveryFailedException {
+	private void sendMessage(User recipient, String subject, String messageContent, MessageType... messageTypes) {
 		// Don't send notifications to users that initiated an action
 		if (recipient.equals(userService.getCurrentUser()) || !recipient.isActive()) {
 			return;
@@ -108,16 +103,15 @@ public class MessagingService {
 		final String emailAddress = recipient.getUserEmail();
 		final String phoneNumber = recipient.getPhone();
 		final String recipientUuid = recipient.getUuid();
-		sendMessage(subject, messageContent, emailAddress, phoneNumber, recipientUuid, "user", messageTypes);
+		enqueueMessage(subject, messageContent, emailAddress, phoneNumber, recipientUuid, "user", true, messageTypes);
 	}
 
-	public void sendMessage(Person recipient, String subject, String messageContent, MessageType... messageTypes)
-		throws NotificationDeliveryFailedException {
+	public void sendMessage(Person recipient, String subject, String messageContent, MessageType... messageTypes) {
 		final String emailAddress = recipient.getEmailAddress();
 		final String phoneNumber = recipient.getPhone();
 		final String recipientUuid = recipient.getUuid();
 		for (MessageType messageType : messageTypes) {
-			sendMessage(subject, messageContent, emailAddress, phoneNumber, recipientUuid, "person", messageType);
+			enqueueMessage(subject, messageContent, emailAddress, phoneNumber, recipientUuid, "person", false, messageType);
 			final ManualMessageLog manualMessageLog = new ManualMessageLog();
 			manualMessageLog.setMessageType(messageType);
 			manualMessageLog.setRecipientPerson(recipient);
@@ -127,15 +121,18 @@ public class MessagingService {
 		}
 	}
 
-	private void sendMessage(
+	/**
+	 * Adds the messages to the outbox in the current transaction; they are delivered by the {@link OutgoingMessageDispatcher}.
+	 */
+	private void enqueueMessage(
 		String subject,
 		String messageContent,
 		String emailAddress,
 		String phoneNumber,
 		String recipientUuid,
 		final String recipientType,
-		MessageType... messageTypes)
-		throws NotificationDeliveryFailedException {
+		boolean deduplicate,
+		MessageType... messageTypes) {
 
 		boolean isSmsServiceSetUp = configFacade.isSmsServiceSetUp();
 		for (MessageType messageType : messageTypes) {
@@ -143,28 +140,11 @@ public class MessagingService {
 				logger.info(String.format("Tried to send an email to a %s without an email address (UUID: %s).", recipientType, recipientUuid));
 			} else if (isSmsServiceSetUp && messageType == MessageType.SMS && DataHelper.isNullOrEmpty(phoneNumber)) {
 				logger.info(String.format("Tried to send an SMS to a %s without a phone number (UUID: %s).", recipientType, recipientUuid));
-			} else {
-				try {
-					if (messageType == MessageType.EMAIL) {
-						emailService.sendEmail(emailAddress, subject, messageContent);
-					} else if (isSmsServiceSetUp && messageType == MessageType.SMS) {
-						smsService.sendSms(phoneNumber, messageContent);
-					}
-				} catch (MessagingException e) {
-					logError(recipientUuid, recipientType, messageType);
-					throw new NotificationDeliveryFailedException("Email could not be sent due to an unexpected error.", MessageType.EMAIL, e);
-				} catch (IOException | NexmoClientException e) {
-					logError(recipientUuid, recipientType, messageType);
-					throw new NotificationDeliveryFailedException("SMS could not be sent due to an unexpected error.", MessageType.SMS, e);
-				} catch (InvalidPhoneNumberException e) {
-					logError(recipientUuid, recipientType, messageType);
-					throw new NotificationDeliveryFailedException("SMS could not be sent because of an invalid phone number.", MessageType.SMS, e);
-				}
+			} else if (messageType == MessageType.EMAIL) {
+				outgoingMessageService.enqueue(messageType, emailAddress, recipientUuid, subject, messageContent, deduplicate);
+			} else if (isSmsServiceSetUp && messageType == MessageType.SMS) {
+				outgoingMessageService.enqueue(messageType, phoneNumber, recipientUuid, subject, messageContent, deduplicate);
 			}
 		}
 	}
-
-	private void logError(String recipientUuid, String recipientType, MessageType messageType) {
-		logger.error(String.format("Failed to send %s to %s with UUID %s.", messageType, recipientType, recipientUuid));
-	}
 }
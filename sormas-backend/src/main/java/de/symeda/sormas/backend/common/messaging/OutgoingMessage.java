@@ -0,0 +1,158 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common.messaging;
+
+import static de.symeda.sormas.api.utils.FieldConstraints.CHARACTER_LIMIT_DEFAULT;
+
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import de.symeda.sormas.api.messaging.MessageType;
+import de.symeda.sormas.backend.common.AbstractDomainObject;
+
+/**
+ * An email or SMS that is written in the transaction of the change it notifies about and delivered later by the
+ * {@link OutgoingMessageDispatcher}.
+ */
+@Entity
+public class OutgoingMessage extends AbstractDomainObject {
+
+	public static final String TABLE_NAME = "outgoingmessage";
+
+	public static final String MESSAGE_TYPE = "messageType";
+	public static final String RECIPIENT_ADDRESS = "recipientAddress";
+	public static final String RECIPIENT_UUID = "recipientUuid";
+	public static final String SUBJECT = "subject";
+	public static final String CONTENT = "content";
+	public static final String STATUS = "status";
+	public static final String ATTEMPTS = "attempts";
+	public static final String NEXT_ATTEMPT_DATE = "nextAttemptDate";
+	public static final String SENT_DATE = "sentDate";
+	public static final String LAST_ERROR = "lastError";
+
+	private MessageType messageType;
+	private String recipientAddress;
+	private String recipientUuid;
+	private String subject;
+	private String content;
+	private OutgoingMessageStatus status;
+	private int attempts;
+	private Date nextAttemptDate;
+	private Date sentDate;
+	private String lastError;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	public MessageType getMessageType() {
+		return messageType;
+	}
+
+	public void setMessageType(MessageType messageType) {
+		this.messageType = messageType;
+	}
+
+	/**
+	 * The email address or phone number the message is sent to.
+	 */
+	@Column(nullable = false, length = CHARACTER_LIMIT_DEFAULT)
+	public String getRecipientAddress() {
+		return recipientAddress;
+	}
+
+	public void setRecipientAddress(String recipientAddress) {
+		this.recipientAddress = recipientAddress;
+	}
+
+	@Column(length = 36)
+	public String getRecipientUuid() {
+		return recipientUuid;
+	}
+
+	public void setRecipientUuid(String recipientUuid) {
+		this.recipientUuid = recipientUuid;
+	}
+
+	@Column(length = CHARACTER_LIMIT_DEFAULT)
+	public String getSubject() {
+		return subject;
+	}
+
+	public void setSubject(String subject) {
+		this.subject = subject;
+	}
+
+	@Column(nullable = false, columnDefinition = "text")
+	public String getContent() {
+		return content;
+	}
+
+	public void setContent(String content) {
+		this.content = content;
+	}
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	public OutgoingMessageStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(OutgoingMessageStatus status) {
+		this.status = status;
+	}
+
+	@Column(nullable = false)
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(int attempts) {
+		this.attempts = attempts;
+	}
+
+	@Temporal(TemporalType.TIMESTAMP)
+	@Column(nullable = false)
+	public Date getNextAttemptDate() {
+		return nextAttemptDate;
+	}
+
+	public void setNextAttemptDate(Date nextAttemptDate) {
+		this.nextAttemptDate = nextAttemptDate;
+	}
+
+	@Temporal(TemporalType.TIMESTAMP)
+	public Date getSentDate() {
+		return sentDate;
+	}
+
+	public void setSentDate(Date sentDate) {
+		this.sentDate = sentDate;
+	}
+
+	@Column(columnDefinition = "text")
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(String lastError) {
+		this.lastError = lastError;
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common.messaging;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.security.RunAs;
+import javax.ejb.EJB;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
+import javax.mail.MessagingException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nexmo.client.NexmoClientException;
+
+import de.symeda.sormas.api.messaging.MessageType;
+import de.symeda.sormas.api.user.UserRole;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.common.CronService;
+
+/**
+ * Delivers the messages queued by the {@link MessagingService} outside of the transactions that created them, so that a slow
+ * mail server or SMS gateway delays neither user requests nor the {@link CronService}.
+ * <p>
+ * The due messages are grouped by channel and recipient. All emails of a run are sent over one connection to the mail server.
+ * When an SMS can't be delivered because of its recipient, the other SMS to that recipient are not attempted in the same run.
+ * Failed messages are retried with exponential backoff until the configured maximum number of attempts has been reached.
+ */
+@Singleton
+@RunAs(UserRole._SYSTEM)
+public class OutgoingMessageDispatcher {
+
+	public static final int BATCH_SIZE = 500;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@EJB
+	private OutgoingMessageService outgoingMessageService;
+	@EJB
+	private EmailService emailService;
+	@EJB
+	private SmsService smsService;
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	/**
+	 * Runs without a transaction so that each status update is committed right after the delivery attempt it records.
+	 */
+	@Schedule(hour = "*", minute = "*", second = "30", persistent = false)
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+	public void dispatchMessages() {
+
+		long start = System.currentTimeMillis();
+		DispatchStatistics statistics = new DispatchStatistics();
+
+		List<OutgoingMessage> messages;
+		do {
+			// failed messages are rescheduled into the future, so every message is fetched at most once per run
+			messages = outgoingMessageService.getDueMessages(new Date(start), BATCH_SIZE);
+			dispatch(messages, statistics);
+		} while (messages.size() == BATCH_SIZE);
+
+		if (statistics.getProcessedCount() > 0) {
+			long duration = Math.max(System.currentTimeMillis() - start, 1);
+			logger.info(
+				"Dispatched {} messages in {} ms ({} per second): {} sent with a mean latency of {} ms, {} to be retried, {} failed, {} pending",
+				statistics.getProcessedCount(),
+				duration,
+				statistics.getProcessedCount() * 1000 / duration,
+				statistics.sentCount,
+				statistics.sentCount > 0 ? statistics.totalLatencyMillis / statistics.sentCount : 0,
+				statistics.retryCount,
+				statistics.failedCount,
+				outgoingMessageService.countPending());
+		}
+	}
+
+	private void dispatch(List<OutgoingMessage> messages, DispatchStatistics statistics) {
+
+		Map<List<Object>, List<OutgoingMessage>> messagesByRecipient = messages.stream()
+			.collect(
+				Collectors.groupingBy(
+					m -> Arrays.asList(m.getMessageType(), m.getRecipientAddress()),
+					LinkedHashMap::new,
+					Collectors.toList()));
+
+		List<OutgoingMessage> sentMessages = new ArrayList<>();
+		Map<OutgoingMessage, String> failedMessages = new LinkedHashMap<>();
+
+		List<OutgoingMessage> emails = new ArrayList<>();
+		for (List<OutgoingMessage> recipientMessages : messagesByRecipient.values()) {
+			if (recipientMessages.get(0).getMessageType() == MessageType.EMAIL) {
+				emails.addAll(recipientMessages);
+			} else {
+				sendSms(recipientMessages, sentMessages, failedMessages);
+			}
+		}
+		sendEmails(emails, sentMessages, failedMessages);
+
+		Date now = new Date();
+		if (!sentMessages.isEmpty()) {
+			outgoingMessageService.markSent(sentMessages.stream().map(OutgoingMessage::getId).collect(Collectors.toList()), now);
+			statistics.sentCount += sentMessages.size();
+			sentMessages.forEach(m -> statistics.totalLatencyMillis += now.getTime() - m.getCreationDate().getTime());
+		}
+		for (Map.Entry<OutgoingMessage, String> failedMessage : failedMessages.entrySet()) {
+			OutgoingMessageStatus status = outgoingMessageService.markAttemptFailed(failedMessage.getKey(), failedMessage.getValue(), now);
+			if (status == OutgoingMessageStatus.FAILED) {
+				logger.error(
+					"Giving up on {} to {} (UUID: {}): {}",
+					failedMessage.getKey().getMessageType(),
+					failedMessage.getKey().getRecipientAddress(),
+					failedMessage.getKey().getRecipientUuid(),
+					failedMessage.getValue());
+				statistics.failedCount++;
+			} else {
+				statistics.retryCount++;
+			}
+		}
+	}
+
+	private void sendEmails(List<OutgoingMessage> emails, List<OutgoingMessage> sentMessages, Map<OutgoingMessage, String> failedMessages) {
+
+		if (emails.isEmpty()) {
+			return;
+		}
+
+		Set<OutgoingMessage> handledEmails = new HashSet<>();
+		try {
+			emailService.sendEmails(emails, (email, e) -> {
+				handledEmails.add(email);
+				if (e == null) {
+					sentMessages.add(email);
+				} else {
+					failedMessages.put(email, "Email could not be sent: " + e.getMessage());
+				}
+			});
+		} catch (MessagingException | RuntimeException e) {
+			logger.error("Failed to send emails: {}", e.getMessage());
+			emails.stream()
+				.filter(email -> !handledEmails.contains(email))
+				.forEach(email -> failedMessages.put(email, "Email could not be sent due to an unexpected error: " + e.getMessage()));
+		}
+	}
+
+	private void sendSms(List<OutgoingMessage> recipientMessages, List<OutgoingMessage> sentMessages, Map<OutgoingMessage, String> failedMessages) {
+
+		boolean isSmsServiceSetUp = configFacade.isSmsServiceSetUp();
+		String recipientError = null;
+		for (OutgoingMessage sms : recipientMessages) {
+			if (!isSmsServiceSetUp) {
+				failedMessages.put(sms, "SMS could not be sent because the SMS service is not set up.");
+			} else if (recipientError != null) {
+				failedMessages.put(sms, recipientError);
+			} else {
+				try {
+					deliverSms(sms);
+					sentMessages.add(sms);
+				} catch (NotificationDeliveryFailedException e) {
+					String error = e.getMessage() + " " + e.getCause();
+					failedMessages.put(sms, error);
+					if (e.getCause() instanceof InvalidPhoneNumberException) {
+						recipientError = error;
+					}
+				}
+			}
+		}
+	}
+
+	private void deliverSms(OutgoingMessage sms) throws NotificationDeliveryFailedException {
+
+		try {
+			smsService.sendSms(sms.getRecipientAddress(), sms.getContent());
+		} catch (IOException | NexmoClientException | RuntimeException e) {
+			throw new NotificationDeliveryFailedException("SMS could not be sent due to an unexpected error.", MessageType.SMS, e);
+		} catch (InvalidPhoneNumberException e) {
+			throw new NotificationDeliveryFailedException("SMS could not be sent because of an invalid phone number.", MessageType.SMS, e);
+		}
+	}
+
+	private static final class DispatchStatistics {
+
+		private long sentCount;
+		private long retryCount;
+		private long failedCount;
+		private long totalLatencyMillis;
+
+		private long getProcessedCount() {
+			return sentCount + retryCount + failedCount;
+		}
+	}
+}
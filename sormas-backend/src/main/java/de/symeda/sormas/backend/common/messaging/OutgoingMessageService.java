@@ -0,0 +1,183 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common.messaging;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Root;
+
+import org.apache.commons.lang3.StringUtils;
+
+import de.symeda.sormas.api.messaging.MessageType;
+import de.symeda.sormas.backend.common.BaseAdoService;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+
+@Stateless
+@LocalBean
+public class OutgoingMessageService extends BaseAdoService<OutgoingMessage> {
+
+	/**
+	 * Delay before the second delivery attempt; doubled for every further attempt.
+	 */
+	public static final long RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	public OutgoingMessageService() {
+		super(OutgoingMessage.class);
+	}
+
+	/**
+	 * Stores the message to be delivered by the {@link OutgoingMessageDispatcher} once the current transaction has been committed.
+	 *
+	 * @param deduplicate
+	 *            If true, the message is dropped if the same message has already been queued for the recipient within the
+	 *            configured notification duplicate interval.
+	 * @return false if the message has been dropped as a duplicate.
+	 */
+	public boolean enqueue(
+		MessageType messageType,
+		String recipientAddress,
+		String recipientUuid,
+		String subject,
+		String content,
+		boolean deduplicate) {
+
+		Date now = new Date();
+		int duplicateInterval = configFacade.getNotificationDuplicateInterval();
+		if (deduplicate && duplicateInterval > 0) {
+			Date intervalStart = new Date(now.getTime() - TimeUnit.MINUTES.toMillis(duplicateInterval));
+			boolean duplicate = exists(
+				(cb, root) -> cb.and(
+					cb.equal(root.get(OutgoingMessage.MESSAGE_TYPE), messageType),
+					cb.equal(root.get(OutgoingMessage.RECIPIENT_ADDRESS), recipientAddress),
+					subject != null ? cb.equal(root.get(OutgoingMessage.SUBJECT), subject) : cb.isNull(root.get(OutgoingMessage.SUBJECT)),
+					cb.equal(root.get(OutgoingMessage.CONTENT), content),
+					root.get(OutgoingMessage.STATUS).in(OutgoingMessageStatus.PENDING, OutgoingMessageStatus.SENT),
+					cb.greaterThanOrEqualTo(root.get(OutgoingMessage.CREATION_DATE), intervalStart)));
+			if (duplicate) {
+				return false;
+			}
+		}
+
+		OutgoingMessage message = new OutgoingMessage();
+		message.setMessageType(messageType);
+		message.setRecipientAddress(recipientAddress);
+		message.setRecipientUuid(recipientUuid);
+		message.setSubject(subject);
+		message.setContent(content);
+		message.setStatus(OutgoingMessageStatus.PENDING);
+		message.setNextAttemptDate(now);
+		ensurePersisted(message);
+
+		return true;
+	}
+
+	/**
+	 * @return The pending messages whose next delivery attempt is due, oldest first.
+	 */
+	public List<OutgoingMessage> getDueMessages(Date now, int maxResults) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<OutgoingMessage> cq = cb.createQuery(OutgoingMessage.class);
+		Root<OutgoingMessage> root = cq.from(OutgoingMessage.class);
+
+		cq.where(
+			cb.equal(root.get(OutgoingMessage.STATUS), OutgoingMessageStatus.PENDING),
+			cb.lessThanOrEqualTo(root.get(OutgoingMessage.NEXT_ATTEMPT_DATE), now));
+		cq.orderBy(cb.asc(root.get(OutgoingMessage.ID)));
+
+		return em.createQuery(cq).setMaxResults(maxResults).getResultList();
+	}
+
+	public long countPending() {
+		return count((cb, root) -> cb.equal(root.get(OutgoingMessage.STATUS), OutgoingMessageStatus.PENDING));
+	}
+
+	public void markSent(List<Long> messageIds, Date sentDate) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaUpdate<OutgoingMessage> cu = cb.createCriteriaUpdate(OutgoingMessage.class);
+		Root<OutgoingMessage> root = cu.from(OutgoingMessage.class);
+
+		cu.set(OutgoingMessage.CHANGE_DATE, Timestamp.from(Instant.now()));
+		cu.set(root.get(OutgoingMessage.STATUS), OutgoingMessageStatus.SENT);
+		cu.set(root.get(OutgoingMessage.SENT_DATE), sentDate);
+		cu.set(root.<Integer> get(OutgoingMessage.ATTEMPTS), cb.sum(root.get(OutgoingMessage.ATTEMPTS), 1));
+
+		cu.where(root.get(OutgoingMessage.ID).in(messageIds));
+
+		em.createQuery(cu).executeUpdate();
+	}
+
+	/**
+	 * Schedules the next delivery attempt of the message with exponential backoff, or marks it as failed when the configured
+	 * maximum number of attempts has been reached.
+	 *
+	 * @return The new status of the message.
+	 */
+	public OutgoingMessageStatus markAttemptFailed(OutgoingMessage message, String error, Date now) {
+
+		int attempts = message.getAttempts() + 1;
+		OutgoingMessageStatus status =
+			attempts >= configFacade.getNotificationMaxDeliveryAttempts() ? OutgoingMessageStatus.FAILED : OutgoingMessageStatus.PENDING;
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaUpdate<OutgoingMessage> cu = cb.createCriteriaUpdate(OutgoingMessage.class);
+		Root<OutgoingMessage> root = cu.from(OutgoingMessage.class);
+
+		cu.set(OutgoingMessage.CHANGE_DATE, Timestamp.from(Instant.now()));
+		cu.set(root.get(OutgoingMessage.STATUS), status);
+		cu.set(root.get(OutgoingMessage.ATTEMPTS), attempts);
+		cu.set(root.get(OutgoingMessage.NEXT_ATTEMPT_DATE), new Date(now.getTime() + (RETRY_DELAY_MILLIS << Math.min(attempts - 1, 16))));
+		cu.set(root.get(OutgoingMessage.LAST_ERROR), StringUtils.abbreviate(error, 4000));
+
+		cu.where(cb.equal(root.get(OutgoingMessage.ID), message.getId()));
+
+		em.createQuery(cu).executeUpdate();
+
+		return status;
+	}
+
+	/**
+	 * Deletes sent and failed messages that haven't been changed since the given date.
+	 */
+	public int deleteCompletedBefore(Date date) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaDelete<OutgoingMessage> cd = cb.createCriteriaDelete(OutgoingMessage.class);
+		Root<OutgoingMessage> root = cd.from(OutgoingMessage.class);
+
+		cd.where(
+			root.get(OutgoingMessage.STATUS).in(Arrays.asList(OutgoingMessageStatus.SENT, OutgoingMessageStatus.FAILED)),
+			cb.lessThan(root.get(OutgoingMessage.CHANGE_DATE), date));
+
+		return em.createQuery(cd).executeUpdate();
+	}
+}
@@ -19,7 +19,6 @@ package de.symeda.sormas.backend.common.messaging;
 
 import java.io.IOException;
 
-import javax.ejb.Asynchronous;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
@@ -49,7 +48,6 @@ public class SmsService {
 	@EJB
 	private ConfigFacadeEjbLocal configFacade;
 
-	@Asynchronous
 	public void sendSms(String phoneNumber, String content) throws IOException, NexmoClientException, InvalidPhoneNumberException {
 
 		if (!configFacade.isSmsServiceSetUp()) {
@@ -140,6 +140,7 @@ import de.symeda.sormas.backend.clinicalcourse.ClinicalCourseFacadeEjb;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+import de.symeda.sormas.backend.common.IndexCountCache;
 import de.symeda.sormas.backend.common.TaskCreationException;
 import de.symeda.sormas.backend.disease.DiseaseConfigurationFacadeEjb.DiseaseConfigurationFacadeEjbLocal;
 import de.symeda.sormas.backend.document.Document;
@@ -183,6 +184,7 @@ import de.symeda.sormas.backend.task.Task;
 import de.symeda.sormas.backend.task.TaskService;
 import de.symeda.sormas.backend.user.User;
 import de.symeda.sormas.backend.user.UserFacadeEjb;
+import de.symeda.sormas.backend.user.UserJurisdiction;
 import de.symeda.sormas.backend.user.UserReference;
 import de.symeda.sormas.backend.user.UserService;
 import de.symeda.sormas.backend.util.DateHelper8;
@@ -213,6 +215,8 @@ public class ContactFacadeEjb implements ContactFacade {
 	@EJB
 	private ContactService contactService;
 	@EJB
+	private IndexCountCache indexCountCache;
+	@EJB
 	private ContactListCriteriaBuilder listCriteriaBuilder;
 	@EJB
 	private CaseService caseService;
@@ -277,6 +281,11 @@ public class ContactFacadeEjb implements ContactFacade {
 
 	@Override
 	public List<ContactDto> getAllActiveContactsAfter(Date date) {
+		return getAllActiveContactsAfter(date, null, null, null);
+	}
+
+	@Override
+	public List<ContactDto> getAllActiveContactsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 
 		User user = userService.getCurrentUser();
 
@@ -285,7 +294,10 @@ public class ContactFacadeEjb implements ContactFacade {
 		}
 
 		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight);
-		return contactService.getAllActiveContactsAfter(date).stream().map(c -> convertToDto(c, pseudonymizer)).collect(Collectors.toList());
+		return contactService.getAllActiveContactsAfter(date, batchSize, lastChangeDate, lastSynchronizedUuid)
+			.stream()
+			.map(c -> convertToDto(c, pseudonymizer))
+			.collect(Collectors.toList());
 	}
 
 	@Override
@@ -967,6 +979,15 @@ public class ContactFacadeEjb implements ContactFacade {
 
 	@Override
 	public long count(ContactCriteria contactCriteria) {
+		return indexCountCache.count(Contact.class, contactCriteria, false, () -> doCount(contactCriteria));
+	}
+
+	@Override
+	public Long getEstimatedCount(ContactCriteria contactCriteria) {
+		return indexCountCache.getEstimatedCount(Contact.class, contactCriteria, false);
+	}
+
+	private long doCount(ContactCriteria contactCriteria) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
@@ -1181,10 +1202,12 @@ public class ContactFacadeEjb implements ContactFacade {
 			});
 		}
 
+		Map<String, UserJurisdiction> reportingUsers = userService.getUserJurisdictions(dtos, ContactIndexDetailedDto::getReportingUser);
+
 		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight, I18nProperties.getCaption(Captions.inaccessibleValue));
 		User currentUser = userService.getCurrentUser();
 		pseudonymizer.pseudonymizeDtoCollection(ContactIndexDetailedDto.class, dtos, c -> c.getInJurisdiction(), (c, isInJurisdiction) -> {
-			pseudonymizer.pseudonymizeUser(userService.getByUuid(c.getReportingUser().getUuid()), currentUser, c::setReportingUser);
+			pseudonymizer.pseudonymizeUser(reportingUsers.get(c.getReportingUser().getUuid()), currentUser, c::setReportingUser);
 			if (c.getCaze() != null) {
 				pseudonymizer.pseudonymizeDto(CaseReferenceDto.class, c.getCaze(), c.getCaseInJurisdiction(), null);
 			}
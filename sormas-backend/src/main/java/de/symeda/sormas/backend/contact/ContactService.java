@@ -168,6 +168,10 @@ public class ContactService extends AbstractCoreAdoService<Contact> {
 	}
 
 	public List<Contact> getAllActiveContactsAfter(Date date) {
+		return getAllActiveContactsAfter(date, null, null, null);
+	}
+
+	public List<Contact> getAllActiveContactsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Contact> cq = cb.createQuery(getElementClass());
@@ -189,7 +193,7 @@ public class ContactService extends AbstractCoreAdoService<Contact> {
 		cq.orderBy(cb.desc(from.get(Contact.CHANGE_DATE)));
 		cq.distinct(true);
 
-		return em.createQuery(cq).getResultList();
+		return getSyncBatch(cq, from, batchSize, lastChangeDate, lastSynchronizedUuid);
 	}
 
 	@Override
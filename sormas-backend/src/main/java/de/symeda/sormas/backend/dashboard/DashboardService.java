@@ -3,6 +3,7 @@ package de.symeda.sormas.backend.dashboard;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,30 +21,36 @@ import javax.persistence.criteria.From;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 
 import org.apache.commons.lang3.StringUtils;
 
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.caze.CaseReferenceDefinition;
 import de.symeda.sormas.api.dashboard.DashboardCaseDto;
+import de.symeda.sormas.api.dashboard.DashboardCaseStatisticsDto;
 import de.symeda.sormas.api.dashboard.DashboardCriteria;
 import de.symeda.sormas.api.dashboard.DashboardEventDto;
 import de.symeda.sormas.api.event.EventStatus;
 import de.symeda.sormas.api.person.PresentCondition;
+import de.symeda.sormas.api.sample.PathogenTestResultType;
+import de.symeda.sormas.api.sample.SpecimenCondition;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.caze.CaseQueryContext;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.caze.CaseUserFilterCriteria;
-import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.event.Event;
 import de.symeda.sormas.backend.event.EventQueryContext;
 import de.symeda.sormas.backend.event.EventService;
 import de.symeda.sormas.backend.location.Location;
 import de.symeda.sormas.backend.person.Person;
+import de.symeda.sormas.backend.sample.Sample;
 import de.symeda.sormas.backend.infrastructure.community.Community;
 import de.symeda.sormas.backend.infrastructure.district.District;
 import de.symeda.sormas.backend.infrastructure.region.Region;
@@ -132,6 +139,170 @@ public class DashboardService {
 		return result;
 	}
 
+	public DashboardCaseStatisticsDto getCaseStatistics(DashboardCriteria dashboardCriteria) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Case> caze = cq.from(Case.class);
+
+		final CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, caze);
+		final CaseJoins<Case> joins = (CaseJoins<Case>) caseQueryContext.getJoins();
+		Join<Case, Person> person = joins.getPerson();
+
+		DashboardCaseStatisticsDto statistics = new DashboardCaseStatisticsDto();
+
+		// "not a case" cases are always selected because they are needed for the classification counts
+		Predicate filter = caseService.createUserFilter(cb, cq, caze, new CaseUserFilterCriteria().excludeCasesFromContacts(true));
+		filter = CriteriaBuilderHelper.and(cb, filter, createCaseCriteriaFilter(dashboardCriteria, caseQueryContext, true));
+		if (filter == null) {
+			return statistics;
+		}
+
+		Expression<Integer> inQuarantine = countIf(cb, createInQuarantineFilter(cb, caze, dashboardCriteria));
+		Expression<Integer> placedInQuarantine = countIf(cb, createPlacedInQuarantineFilter(cb, caze, dashboardCriteria));
+
+		cq.multiselect(
+			caze.get(Case.CASE_CLASSIFICATION),
+			caze.get(Case.DISEASE),
+			person.get(Person.PRESENT_CONDITION),
+			person.get(Person.CAUSE_OF_DEATH_DISEASE),
+			caze.get(Case.CASE_REFERENCE_DEFINITION),
+			cb.count(caze),
+			cb.sum(inQuarantine),
+			cb.sum(placedInQuarantine));
+		cq.where(filter);
+		cq.groupBy(
+			caze.get(Case.CASE_CLASSIFICATION),
+			caze.get(Case.DISEASE),
+			person.get(Person.PRESENT_CONDITION),
+			person.get(Person.CAUSE_OF_DEATH_DISEASE),
+			caze.get(Case.CASE_REFERENCE_DEFINITION));
+
+		for (Object[] row : em.createQuery(cq).getResultList()) {
+			CaseClassification caseClassification = (CaseClassification) row[0];
+			Disease disease = (Disease) row[1];
+			PresentCondition presentCondition = (PresentCondition) row[2];
+			Disease causeOfDeathDisease = (Disease) row[3];
+			long count = ((Number) row[5]).longValue();
+
+			statistics.getCaseCountByClassification().merge(caseClassification, (int) count, Integer::sum);
+			if (caseClassification == CaseClassification.NO_CASE && !dashboardCriteria.shouldIncludeNotACaseClassification()) {
+				continue;
+			}
+
+			statistics.setCaseCount(statistics.getCaseCount() + count);
+			statistics.getCaseCountByDisease().merge(disease, count, Long::sum);
+			statistics.getCaseCountByPresentCondition()
+				.merge(presentCondition != null ? presentCondition : PresentCondition.UNKNOWN, (int) count, Integer::sum);
+			if (presentCondition != null && presentCondition != PresentCondition.ALIVE && causeOfDeathDisease == disease) {
+				statistics.setFatalCaseCount(statistics.getFatalCaseCount() + count);
+			}
+			if (row[4] == CaseReferenceDefinition.FULFILLED) {
+				statistics.setReferenceDefinitionFulfilledCount(statistics.getReferenceDefinitionFulfilledCount() + count);
+			}
+			statistics.setInQuarantineCount(statistics.getInQuarantineCount() + ((Number) row[6]).longValue());
+			statistics.setPlacedInQuarantineCount(statistics.getPlacedInQuarantineCount() + ((Number) row[7]).longValue());
+		}
+
+		statistics.setTestResultCountByResultType(getTestResultCountByResultType(dashboardCriteria));
+
+		return statistics;
+	}
+
+	/**
+	 * Counts the results of the latest adequate sample of each case matching {@code dashboardCriteria}.
+	 */
+	public Map<PathogenTestResultType, Long> getTestResultCountByResultType(DashboardCriteria dashboardCriteria) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Sample> sample = cq.from(Sample.class);
+		Join<Sample, Case> caze = sample.join(Sample.ASSOCIATED_CASE);
+
+		final CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, caze);
+
+		Predicate filter = caseService.createUserFilter(cb, cq, caze, new CaseUserFilterCriteria().excludeCasesFromContacts(true));
+		filter = CriteriaBuilderHelper.and(cb, filter, createCaseCriteriaFilter(dashboardCriteria, caseQueryContext));
+		filter = CriteriaBuilderHelper.and(cb, filter, createAdequateSampleFilter(cb, sample));
+
+		// no later adequate sample of the same case, ties are decided by the id
+		Subquery<Long> laterSampleSubquery = cq.subquery(Long.class);
+		Root<Sample> laterSample = laterSampleSubquery.from(Sample.class);
+		laterSampleSubquery.select(laterSample.get(Sample.ID));
+		laterSampleSubquery.where(
+			cb.equal(laterSample.get(Sample.ASSOCIATED_CASE), caze),
+			createAdequateSampleFilter(cb, laterSample),
+			cb.or(
+				cb.greaterThan(laterSample.get(Sample.SAMPLE_DATE_TIME), sample.get(Sample.SAMPLE_DATE_TIME)),
+				cb.and(
+					cb.equal(laterSample.get(Sample.SAMPLE_DATE_TIME), sample.get(Sample.SAMPLE_DATE_TIME)),
+					cb.greaterThan(laterSample.get(Sample.ID), sample.get(Sample.ID)))));
+		filter = cb.and(filter, cb.not(cb.exists(laterSampleSubquery)), cb.isNotNull(sample.get(Sample.PATHOGEN_TEST_RESULT)));
+
+		cq.multiselect(sample.get(Sample.PATHOGEN_TEST_RESULT), cb.count(sample));
+		cq.where(filter);
+		cq.groupBy(sample.get(Sample.PATHOGEN_TEST_RESULT));
+
+		Map<PathogenTestResultType, Long> result = new EnumMap<>(PathogenTestResultType.class);
+		for (Object[] row : em.createQuery(cq).getResultList()) {
+			result.put((PathogenTestResultType) row[0], ((Number) row[1]).longValue());
+		}
+		return result;
+	}
+
+	private Predicate createAdequateSampleFilter(CriteriaBuilder cb, From<?, Sample> sample) {
+		return cb.and(
+			cb.or(cb.isNull(sample.get(Sample.SPECIMEN_CONDITION)), cb.equal(sample.get(Sample.SPECIMEN_CONDITION), SpecimenCondition.ADEQUATE)),
+			cb.isFalse(sample.get(Sample.DELETED)));
+	}
+
+	private static Expression<Integer> countIf(CriteriaBuilder cb, Predicate predicate) {
+		return cb.<Integer> selectCase().when(predicate, 1).otherwise(0);
+	}
+
+	/**
+	 * Quarantine overlapping with the dashboard period. Only the given quarantine dates are considered, a missing end is not
+	 * treated as open-ended.
+	 */
+	private Predicate createInQuarantineFilter(CriteriaBuilder cb, From<?, Case> caze, DashboardCriteria dashboardCriteria) {
+
+		Date fromDate = dashboardCriteria.getDateFrom();
+		Date toDate = dashboardCriteria.getDateTo();
+		Path<Date> quarantineFrom = caze.get(Case.QUARANTINE_FROM);
+		Path<Date> quarantineTo = caze.get(Case.QUARANTINE_TO);
+
+		if (fromDate != null && toDate != null) {
+			return cb.or(
+				cb.and(cb.isNotNull(quarantineTo), cb.greaterThan(quarantineTo, fromDate), cb.lessThan(quarantineFrom, toDate)),
+				cb.and(cb.isNull(quarantineTo), cb.greaterThan(quarantineFrom, fromDate), cb.lessThan(quarantineFrom, toDate)),
+				cb.and(cb.isNull(quarantineFrom), cb.greaterThan(quarantineTo, fromDate), cb.lessThan(quarantineTo, toDate)));
+		} else if (fromDate != null) {
+			return cb.or(
+				cb.greaterThan(quarantineFrom, fromDate),
+				cb.and(cb.isNull(quarantineFrom), cb.greaterThan(quarantineTo, fromDate)));
+		} else if (toDate != null) {
+			return cb.or(cb.lessThan(quarantineFrom, toDate), cb.and(cb.isNull(quarantineFrom), cb.lessThan(quarantineTo, toDate)));
+		} else {
+			return cb.disjunction();
+		}
+	}
+
+	/**
+	 * Quarantine overlapping with the dashboard period that started on or after the first day of the period.
+	 */
+	private Predicate createPlacedInQuarantineFilter(CriteriaBuilder cb, From<?, Case> caze, DashboardCriteria dashboardCriteria) {
+
+		if (dashboardCriteria.getDateFrom() == null || dashboardCriteria.getDateTo() == null) {
+			return cb.disjunction();
+		}
+
+		Path<Date> quarantineFrom = caze.get(Case.QUARANTINE_FROM);
+		return cb.and(
+			createInQuarantineFilter(cb, caze, dashboardCriteria),
+			cb.greaterThan(quarantineFrom, DateHelper.subtractDays(dashboardCriteria.getDateFrom(), 1)),
+			cb.lessThan(quarantineFrom, dashboardCriteria.getDateTo()));
+	}
+
 	public Map<Disease, Long> getCaseCountByDisease(DashboardCriteria dashboardCriteria) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -366,9 +537,14 @@ public class DashboardService {
 		return results.stream().collect(Collectors.toMap(e -> (EventStatus) e[0], e -> (Long) e[1]));
 	}
 
-	private <T extends AbstractDomainObject> Predicate createCaseCriteriaFilter(
+	private Predicate createCaseCriteriaFilter(DashboardCriteria dashboardCriteria, CaseQueryContext caseQueryContext) {
+		return createCaseCriteriaFilter(dashboardCriteria, caseQueryContext, dashboardCriteria.shouldIncludeNotACaseClassification());
+	}
+
+	private Predicate createCaseCriteriaFilter(
 		DashboardCriteria dashboardCriteria,
-		CaseQueryContext caseQueryContext) {
+		CaseQueryContext caseQueryContext,
+		boolean includeNotACaseClassification) {
 
 		final From<?, Case> from = caseQueryContext.getRoot();
 		final CriteriaBuilder cb = caseQueryContext.getCriteriaBuilder();
@@ -401,7 +577,7 @@ public class DashboardService {
 					DateHelper.getEndOfDay(dashboardCriteria.getDateTo()),
 					dashboardCriteria.getNewCaseDateType()));
 		}
-		if (!dashboardCriteria.shouldIncludeNotACaseClassification()) {
+		if (!includeNotACaseClassification) {
 			filter = CriteriaBuilderHelper
 				.and(cb, filter, cb.notEqual(caseQueryContext.getRoot().get(Case.CASE_CLASSIFICATION), CaseClassification.NO_CASE));
 		}
@@ -16,9 +16,11 @@
 package de.symeda.sormas.backend.docgeneration;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -134,6 +136,22 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		DocumentTemplateEntities entities,
 		Properties extraProperties)
 		throws DocumentTemplateException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		generateDocumentDocxFromEntities(documentWorkflow, templateName, entities, extraProperties, outputStream);
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Writes the document to {@code outputStream}. The stream is closed once the document has been written (the .docx archive is
+	 * finished by closing it), so callers that keep writing to it have to pass a close shield.
+	 */
+	public void generateDocumentDocxFromEntities(
+		DocumentWorkflow documentWorkflow,
+		String templateName,
+		DocumentTemplateEntities entities,
+		Properties extraProperties,
+		OutputStream outputStream)
+		throws DocumentTemplateException {
 		if (!documentWorkflow.isDocx()) {
 			throw new DocumentTemplateException(
 				String.format(I18nProperties.getString(Strings.messageWrongTemplateFileType), documentWorkflow, documentWorkflow.getFileExtension()));
@@ -149,7 +167,7 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		Properties properties = prepareProperties(documentWorkflow, entities, extraProperties, documentVariables);
 
 		// 4. generate document
-		return generateDocumentDocx(templateFile, properties);
+		templateEngine.generateDocumentDocx(properties, templateFile, outputStream);
 	}
 
 	@Override
@@ -257,10 +275,6 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		return properties;
 	}
 
-	private byte[] generateDocumentDocx(File templateFile, Properties properties) throws DocumentTemplateException {
-		return templateEngine.generateDocumentDocx(properties, templateFile);
-	}
-
 	private String generateDocumentTxt(File templateFile, Properties properties) {
 		return templateEngine.generateDocumentTxt(properties, templateFile);
 	}
@@ -322,11 +336,13 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		} catch (IOException e) {
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorCreatingTemplateDirectory));
 		}
-		try (FileOutputStream fileOutputStream =
-			new FileOutputStream(new File(workflowTemplateDirPath.resolve(FilenameUtils.getName(templateName)).toUri()))) {
+		File templateFile = new File(workflowTemplateDirPath.resolve(FilenameUtils.getName(templateName)).toUri());
+		try (FileOutputStream fileOutputStream = new FileOutputStream(templateFile)) {
 			fileOutputStream.write(document);
 		} catch (IOException e) {
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorWritingTemplate));
+		} finally {
+			templateEngine.evictCompiledTemplate(templateFile);
 		}
 	}
 
@@ -334,6 +350,7 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 	public boolean deleteDocumentTemplate(DocumentWorkflow documentWorkflow, String fileName) throws DocumentTemplateException {
 		File templateFile = new File(getWorkflowTemplateDirPath(documentWorkflow).resolve(fileName).toUri());
 		if (templateFile.exists() && templateFile.isFile()) {
+			templateEngine.evictCompiledTemplate(templateFile);
 			return templateFile.delete();
 		} else {
 			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorFileNotFound), fileName));
@@ -0,0 +1,79 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.docgeneration;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ejb.Asynchronous;
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+
+import de.symeda.sormas.api.ReferenceDto;
+import de.symeda.sormas.api.docgeneneration.DocumentTemplateEntities;
+import de.symeda.sormas.api.docgeneneration.DocumentTemplateException;
+import de.symeda.sormas.api.docgeneneration.DocumentWorkflow;
+import de.symeda.sormas.backend.docgeneration.DocumentTemplateFacadeEjb.DocumentTemplateFacadeEjbLocal;
+
+/**
+ * Generates a share of the documents of {@link QuarantineOrderFacadeEjb#getGeneratedDocumentsArchive} on its own thread.
+ */
+@Stateless
+@LocalBean
+public class QuarantineOrderDocumentWorker {
+
+	@EJB
+	private DocumentTemplateFacadeEjbLocal documentTemplateFacade;
+
+	/**
+	 * Writes each document to a file in {@code directory} and completes its future in {@code documentFiles} with the file. If the
+	 * generation fails, the futures of all documents not generated yet are completed exceptionally.
+	 */
+	@Asynchronous
+	public void generateDocuments(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> rootEntityReferences,
+		Map<ReferenceDto, DocumentTemplateEntities> entities,
+		Properties extraProperties,
+		Map<ReferenceDto, CompletableFuture<Path>> documentFiles,
+		Path directory) {
+
+		int generatedCount = 0;
+		try {
+			for (ReferenceDto rootEntityReference : rootEntityReferences) {
+				Path documentFile = directory.resolve(rootEntityReference.getUuid() + "." + workflow.getFileExtension());
+				try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(documentFile))) {
+					documentTemplateFacade
+						.generateDocumentDocxFromEntities(workflow, templateName, entities.get(rootEntityReference), extraProperties, out);
+				}
+				documentFiles.get(rootEntityReference).complete(documentFile);
+				generatedCount++;
+			}
+		} catch (DocumentTemplateException | IOException | RuntimeException e) {
+			rootEntityReferences.subList(generatedCount, rootEntityReferences.size())
+				.forEach(r -> documentFiles.get(r).completeExceptionally(e));
+		}
+	}
+}
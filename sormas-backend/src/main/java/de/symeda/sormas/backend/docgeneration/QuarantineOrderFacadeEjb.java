@@ -15,23 +15,46 @@
 
 package de.symeda.sormas.backend.docgeneration;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import javax.ejb.EJB;
 import javax.ejb.Stateless;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import de.symeda.sormas.api.ReferenceDto;
 import de.symeda.sormas.api.docgeneneration.DocumentTemplateEntities;
 import de.symeda.sormas.api.docgeneneration.DocumentTemplateException;
 import de.symeda.sormas.api.docgeneneration.DocumentVariables;
 import de.symeda.sormas.api.docgeneneration.DocumentWorkflow;
 import de.symeda.sormas.api.docgeneneration.QuarantineOrderFacade;
+import de.symeda.sormas.api.i18n.I18nProperties;
+import de.symeda.sormas.api.i18n.Strings;
+import de.symeda.sormas.api.importexport.ImportExportUtils;
 import de.symeda.sormas.api.sample.PathogenTestReferenceDto;
 import de.symeda.sormas.api.sample.SampleReferenceDto;
+import de.symeda.sormas.api.utils.DataHelper;
+import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
 import de.symeda.sormas.backend.docgeneration.DocumentTemplateFacadeEjb.DocumentTemplateFacadeEjbLocal;
 import de.symeda.sormas.backend.event.EventParticipantFacadeEjb.EventParticipantFacadeEjbLocal;
@@ -41,6 +64,8 @@ import de.symeda.sormas.backend.sample.SampleFacadeEjb.SampleFacadeEjbLocal;
 @Stateless(name = "QuarantineOrderFacade")
 public class QuarantineOrderFacadeEjb implements QuarantineOrderFacade {
 
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
 	@EJB
 	private CaseFacadeEjbLocal caseFacade;
 
@@ -62,6 +87,12 @@ public class QuarantineOrderFacadeEjb implements QuarantineOrderFacade {
 	@EJB
 	private DocumentTemplateEntitiesBuilder entitiesBuilder;
 
+	@EJB
+	private QuarantineOrderDocumentWorker documentWorker;
+
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
 	@Override
 	public byte[] getGeneratedDocument(
 		String templateName,
@@ -100,6 +131,141 @@ public class QuarantineOrderFacadeEjb implements QuarantineOrderFacade {
 		return documents;
 	}
 
+	@Override
+	public String getGeneratedDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> rootEntityReferences,
+		Properties extraProperties)
+		throws DocumentTemplateException {
+
+		Map<ReferenceDto, DocumentTemplateEntities> quarantineOrderEntities =
+			entitiesBuilder.getQuarantineOrderEntities(workflow, rootEntityReferences);
+		List<ReferenceDto> references = new ArrayList<>(quarantineOrderEntities.keySet());
+
+		Path archivePath = Paths.get(configFacade.getTempFilesPath())
+			.resolve(
+				ImportExportUtils.TEMP_FILE_PREFIX + "_documents_" + DateHelper.formatDateForExport(new Date()) + "_"
+					+ new Random().nextInt(Integer.MAX_VALUE) + ".zip");
+		try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archivePath)))) {
+			int workerCount = Math.min(configFacade.getDocgenerationWorkers(), references.size());
+			if (workerCount > 1) {
+				generateDocumentsInParallel(zos, templateName, workflow, references, quarantineOrderEntities, extraProperties, workerCount);
+			} else {
+				for (ReferenceDto reference : references) {
+					zos.putNextEntry(new ZipEntry(getDocumentFileName(reference, templateName)));
+					// the template engine closes the stream it writes to, but the archive gets further entries
+					documentTemplateFacade.generateDocumentDocxFromEntities(
+						workflow,
+						templateName,
+						quarantineOrderEntities.get(reference),
+						extraProperties,
+						new CloseShieldOutputStream(zos));
+					zos.closeEntry();
+				}
+			}
+		} catch (IOException e) {
+			deleteArchive(archivePath);
+			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorDocumentGeneration), templateName));
+		} catch (DocumentTemplateException | RuntimeException e) {
+			deleteArchive(archivePath);
+			throw e;
+		}
+
+		return archivePath.toString();
+	}
+
+	/**
+	 * Generates the documents with {@code workerCount} {@link QuarantineOrderDocumentWorker}s. The workers write each document to a
+	 * temporary file, which is added to the archive in the order of {@code references} as soon as it is complete.
+	 */
+	private void generateDocumentsInParallel(
+		ZipOutputStream zos,
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> references,
+		Map<ReferenceDto, DocumentTemplateEntities> entities,
+		Properties extraProperties,
+		int workerCount)
+		throws IOException, DocumentTemplateException {
+
+		Path directory = Files.createTempDirectory(Paths.get(configFacade.getTempFilesPath()), ImportExportUtils.TEMP_FILE_PREFIX + "_documents_");
+
+		Map<ReferenceDto, CompletableFuture<Path>> documentFiles = new HashMap<>(references.size());
+		List<List<ReferenceDto>> workerReferences = new ArrayList<>();
+		for (int i = 0; i < workerCount; i++) {
+			workerReferences.add(new ArrayList<>());
+		}
+		for (int i = 0; i < references.size(); i++) {
+			documentFiles.put(references.get(i), new CompletableFuture<>());
+			workerReferences.get(i % workerCount).add(references.get(i));
+		}
+
+		try {
+			for (List<ReferenceDto> workerShare : workerReferences) {
+				try {
+					documentWorker.generateDocuments(templateName, workflow, workerShare, entities, extraProperties, documentFiles, directory);
+				} catch (RuntimeException e) {
+					workerShare.forEach(r -> documentFiles.get(r).completeExceptionally(e));
+				}
+			}
+
+			for (ReferenceDto reference : references) {
+				Path documentFile = awaitDocumentFile(documentFiles.get(reference), templateName);
+				zos.putNextEntry(new ZipEntry(getDocumentFileName(reference, templateName)));
+				Files.copy(documentFile, zos);
+				zos.closeEntry();
+				Files.delete(documentFile);
+			}
+		} finally {
+			// the files must not be deleted until all workers are done
+			documentFiles.values().forEach(f -> f.handle((path, e) -> path).join());
+			deleteDirectory(directory);
+		}
+	}
+
+	private Path awaitDocumentFile(CompletableFuture<Path> documentFile, String templateName) throws IOException, DocumentTemplateException {
+
+		try {
+			return documentFile.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorDocumentGeneration), templateName));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DocumentTemplateException) {
+				throw (DocumentTemplateException) e.getCause();
+			} else if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private String getDocumentFileName(ReferenceDto reference, String templateName) {
+		return DataHelper.getShortUuid(reference) + '-' + templateName;
+	}
+
+	private void deleteArchive(Path archivePath) {
+
+		try {
+			Files.deleteIfExists(archivePath);
+		} catch (IOException e) {
+			logger.warn("Could not delete incomplete document archive {}: {}", archivePath, e.getMessage());
+		}
+	}
+
+	private void deleteDirectory(Path directory) {
+
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.deleteIfExists(file);
+			}
+			Files.deleteIfExists(directory);
+		} catch (IOException e) {
+			logger.warn("Could not delete temporary document directory {}: {}", directory, e.getMessage());
+		}
+	}
+
 	@Override
 	public List<String> getAvailableTemplates(DocumentWorkflow workflow) {
 		return documentTemplateFacade.getAvailableTemplates(workflow);
@@ -23,12 +23,15 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -72,6 +75,11 @@ public class TemplateEngine {
 		HtmlHelper.EVENTACTION_WHITELIST.addAttributes("div", "class").addAttributes("span", "class").addAttributes("table", "class");
 	private static final Logger logger = LoggerFactory.getLogger(TemplateEngine.class);
 
+	/**
+	 * Compiled .docx templates by the absolute path of their file
+	 */
+	private static final Map<String, CompiledTemplate> COMPILED_DOCX_TEMPLATES = new ConcurrentHashMap<>();
+
 	private final Properties xdocVelocityProperties;
 
 	public TemplateEngine() {
@@ -89,17 +97,9 @@ public class TemplateEngine {
 	}
 
 	public DocumentVariables extractTemplateVariablesDocx(File templateFile) throws DocumentTemplateException {
-		try {
-			FileInputStream templateInputStream = new FileInputStream(templateFile);
-			IXDocReport report = readXDocReport(templateInputStream);
-
-			FieldsExtractor<FieldExtractor> extractor = FieldsExtractor.create();
-			report.extractFields(extractor);
-
-			return filterExtractedVariables(extractor);
-		} catch (XDocReportException | IOException e) {
-			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorReadingTemplate), templateFile.getName()));
-		}
+		// callers may add to the variables, so the cached ones are copied
+		DocumentVariables variables = getCompiledTemplateDocx(templateFile).variables;
+		return new DocumentVariables(new HashSet<>(variables.getVariables()), new HashSet<>(variables.getNullableVariables()));
 	}
 
 	public DocumentVariables extractTemplateVariablesTxt(File templateFile) throws DocumentTemplateException {
@@ -116,9 +116,18 @@ public class TemplateEngine {
 	}
 
 	public byte[] generateDocumentDocx(Properties properties, File templateFile) throws DocumentTemplateException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		generateDocumentDocx(properties, templateFile, outputStream);
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Writes the document to {@code outputStream}. The stream is closed once the document has been written (the .docx archive is
+	 * finished by closing it), so callers that keep writing to it have to pass a close shield.
+	 */
+	public void generateDocumentDocx(Properties properties, File templateFile, OutputStream outputStream) throws DocumentTemplateException {
 		try {
-			FileInputStream templateInputStream = new FileInputStream(templateFile);
-			IXDocReport report = readXDocReport(templateInputStream);
+			IXDocReport report = getCompiledTemplateDocx(templateFile).report;
 			IContext context = report.createContext();
 
 			for (Object key : properties.keySet()) {
@@ -138,14 +147,55 @@ public class TemplateEngine {
 				}
 			}
 
-			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 			report.process(context, outputStream);
-			return outputStream.toByteArray();
 		} catch (IOException | XDocReportException | VelocityException e) {
 			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorDocumentGeneration), templateFile.getName()));
 		}
 	}
 
+	/**
+	 * Makes sure a changed template file is compiled again, even if its modification time and size did not change.
+	 */
+	public void evictCompiledTemplate(File templateFile) {
+		CompiledTemplate compiled = COMPILED_DOCX_TEMPLATES.remove(templateFile.getAbsolutePath());
+		if (compiled != null) {
+			XDocReportRegistry.getRegistry().unregisterReport(compiled.report);
+		}
+	}
+
+	/**
+	 * Reading a .docx template means sanitizing and parsing the whole file, so the result is kept until the file changes. A
+	 * compiled report is used by concurrent document generations, which xdocreport supports once the report has been
+	 * preprocessed when extracting its variables.
+	 */
+	private CompiledTemplate getCompiledTemplateDocx(File templateFile) throws DocumentTemplateException {
+
+		String key = templateFile.getAbsolutePath();
+		long lastModified = templateFile.lastModified();
+		long length = templateFile.length();
+
+		CompiledTemplate compiled = COMPILED_DOCX_TEMPLATES.get(key);
+		if (compiled != null && compiled.lastModified == lastModified && compiled.length == length) {
+			return compiled;
+		}
+
+		try (InputStream templateInputStream = new FileInputStream(templateFile)) {
+			IXDocReport report = readXDocReport(templateInputStream);
+
+			FieldsExtractor<FieldExtractor> extractor = FieldsExtractor.create();
+			report.extractFields(extractor);
+
+			CompiledTemplate newCompiled = new CompiledTemplate(lastModified, length, report, filterExtractedVariables(extractor));
+			CompiledTemplate replaced = COMPILED_DOCX_TEMPLATES.put(key, newCompiled);
+			if (replaced != null) {
+				XDocReportRegistry.getRegistry().unregisterReport(replaced.report);
+			}
+			return newCompiled;
+		} catch (XDocReportException | IOException e) {
+			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorReadingTemplate), templateFile.getName()));
+		}
+	}
+
 	private String returnSanitizedString(String value) {
 		return value.replaceAll("&", "&amp;").replaceAll("\"", "&quot;").replaceAll("<", "&lt;").replaceAll(">", "&gt;").replaceAll("'", "&apos;");
 	}
@@ -252,4 +302,19 @@ public class TemplateEngine {
 		}
 		return new DocumentVariables(variables, nullableVariables);
 	}
+
+	private static final class CompiledTemplate {
+
+		private final long lastModified;
+		private final long length;
+		private final IXDocReport report;
+		private final DocumentVariables variables;
+
+		private CompiledTemplate(long lastModified, long length, IXDocReport report, DocumentVariables variables) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.report = report;
+			this.variables = variables;
+		}
+	}
 }
@@ -93,6 +93,7 @@ import de.symeda.sormas.api.utils.ValidationRuntimeException;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+import de.symeda.sormas.backend.common.IndexCountCache;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.externalsurveillancetool.ExternalSurveillanceToolGatewayFacadeEjb.ExternalSurveillanceToolGatewayFacadeEjbLocal;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb.FeatureConfigurationFacadeEjbLocal;
@@ -137,6 +138,8 @@ public class EventFacadeEjb implements EventFacade {
 	@EJB
 	private EventService eventService;
 	@EJB
+	private IndexCountCache indexCountCache;
+	@EJB
 	private EventGroupService eventGroupService;
 	@EJB
 	private LocationFacadeEjbLocal locationFacade;
@@ -308,6 +311,15 @@ public class EventFacadeEjb implements EventFacade {
 
 	@Override
 	public long count(EventCriteria eventCriteria) {
+		return indexCountCache.count(Event.class, eventCriteria, false, () -> doCount(eventCriteria));
+	}
+
+	@Override
+	public Long getEstimatedCount(EventCriteria eventCriteria) {
+		return indexCountCache.getEstimatedCount(Event.class, eventCriteria, false);
+	}
+
+	private long doCount(EventCriteria eventCriteria) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
@@ -44,8 +44,6 @@ import javax.validation.constraints.NotNull;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -69,7 +67,6 @@ import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.messaging.MessageContents;
 import de.symeda.sormas.backend.common.messaging.MessageSubject;
 import de.symeda.sormas.backend.common.messaging.MessagingService;
-import de.symeda.sormas.backend.common.messaging.NotificationDeliveryFailedException;
 import de.symeda.sormas.backend.infrastructure.region.Region;
 import de.symeda.sormas.backend.location.Location;
 import de.symeda.sormas.backend.user.User;
@@ -82,8 +79,6 @@ import de.symeda.sormas.backend.util.QueryHelper;
 @Stateless(name = "EventGroupFacade")
 public class EventGroupFacadeEjb implements EventGroupFacade {
 
-	private final Logger logger = LoggerFactory.getLogger(getClass());
-
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
 	private EntityManager em;
 	@EJB
@@ -468,52 +463,46 @@ public class EventGroupFacadeEjb implements EventGroupFacade {
 
 		User currentUser = userService.getCurrentUser();
 
-		try {
-			messagingService.sendMessages(() -> {
+		messagingService.sendMessages(() -> {
+
+			final Set<String> allRemainingEventUuids = getEventReferencesByEventGroupUuid(eventGroupReference.getUuid()).stream()
+				.map(EventReferenceDto::getUuid)
+				.collect(Collectors.toSet());
+			final Set<String> impactedEventUuids = impactedEventReferences.stream().map(EventReferenceDto::getUuid).collect(Collectors.toSet());
+			final Map<String, User> responsibleUserByEventUuid =
+				userService.getResponsibleUsersByEventUuids(new ArrayList<>(Sets.union(allRemainingEventUuids, impactedEventUuids)));
+
+			final Map<String, User> responsibleUserByRemainingEventUuid =
+				Maps.filterKeys(responsibleUserByEventUuid, allRemainingEventUuids::contains);
+			final Map<String, User> responsibleUserByImpactedEventUuid =
+				Maps.filterKeys(responsibleUserByEventUuid, impactedEventUuids::contains);
+			final String message;
+			if (impactedEventReferences.isEmpty()) {
+				message = String.format(
+					I18nProperties.getString(contentTemplate),
+					eventGroup.getName(),
+					DataHelper.getShortUuid(eventGroup.getUuid()),
+					buildCaptionForUserInNotification(currentUser),
+					buildEventGroupSummaryForNotification(responsibleUserByRemainingEventUuid));
+			} else {
+				message = String.format(
+					I18nProperties.getString(contentTemplate),
+					stringifyEventsWithResponsibleUser(responsibleUserByImpactedEventUuid, ", ", ""),
+					eventGroup.getName(),
+					DataHelper.getShortUuid(eventGroup.getUuid()),
+					buildCaptionForUserInNotification(currentUser),
+					buildEventGroupSummaryForNotification(responsibleUserByRemainingEventUuid));
+			}
 
-				final Set<String> allRemainingEventUuids = getEventReferencesByEventGroupUuid(eventGroupReference.getUuid()).stream()
-					.map(EventReferenceDto::getUuid)
-					.collect(Collectors.toSet());
-				final Set<String> impactedEventUuids = impactedEventReferences.stream().map(EventReferenceDto::getUuid).collect(Collectors.toSet());
-				final Map<String, User> responsibleUserByEventUuid =
-					userService.getResponsibleUsersByEventUuids(new ArrayList<>(Sets.union(allRemainingEventUuids, impactedEventUuids)));
-
-				final Map<String, User> responsibleUserByRemainingEventUuid =
-					Maps.filterKeys(responsibleUserByEventUuid, allRemainingEventUuids::contains);
-				final Map<String, User> responsibleUserByImpactedEventUuid =
-					Maps.filterKeys(responsibleUserByEventUuid, impactedEventUuids::contains);
-				final String message;
-				if (impactedEventReferences.isEmpty()) {
-					message = String.format(
-						I18nProperties.getString(contentTemplate),
-						eventGroup.getName(),
-						DataHelper.getShortUuid(eventGroup.getUuid()),
-						buildCaptionForUserInNotification(currentUser),
-						buildEventGroupSummaryForNotification(responsibleUserByRemainingEventUuid));
-				} else {
-					message = String.format(
-						I18nProperties.getString(contentTemplate),
-						stringifyEventsWithResponsibleUser(responsibleUserByImpactedEventUuid, ", ", ""),
-						eventGroup.getName(),
-						DataHelper.getShortUuid(eventGroup.getUuid()),
-						buildCaptionForUserInNotification(currentUser),
-						buildEventGroupSummaryForNotification(responsibleUserByRemainingEventUuid));
+			final Map<User, String> mapToReturn = new HashMap<>();
+			responsibleUserByEventUuid.values().forEach(user -> {
+				if (!(user == null || user.equals(currentUser))) {
+					mapToReturn.put(user, message);
 				}
+			});
+			return mapToReturn;
 
-				final Map<User, String> mapToReturn = new HashMap<>();
-				responsibleUserByEventUuid.values().forEach(user -> {
-					if (!(user == null || user.equals(currentUser))) {
-						mapToReturn.put(user, message);
-					}
-				});
-				return mapToReturn;
-
-			}, subject, MessageType.EMAIL, MessageType.SMS);
-		} catch (NotificationDeliveryFailedException e) {
-			logger.error(
-				String.format(
-					"NotificationDeliveryFailedException when trying to notify event responsible user about a modification on an EventGroup."));
-		}
+		}, subject, MessageType.EMAIL, MessageType.SMS);
 	}
 
 	private List<EventReferenceDto> getEventReferencesByEventGroupUuid(String uuid) {
@@ -19,10 +19,14 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -831,6 +835,19 @@ public class EventService extends AbstractCoreAdoService<Event> {
 		return em.createQuery(eventsCq).getResultList();
 	}
 
+	/**
+	 * @return The latest event (by end, start or report date) of each of the given cases that has one
+	 */
+	public Map<Long, EventSummaryDetails> getLatestEventSummaryDetailsByCases(List<Long> caseIds) {
+
+		return getEventSummaryDetailsByCases(caseIds).stream()
+			.collect(
+				Collectors.toMap(
+					EventSummaryDetails::getCaseId,
+					Function.identity(),
+					BinaryOperator.maxBy(Comparator.comparing(EventSummaryDetails::getEventDate))));
+	}
+
 	public List<ContactEventSummaryDetails> getEventSummaryDetailsByContacts(List<String> contactUuids) {
 		if (contactUuids.isEmpty()) {
 			return Collections.emptyList();
@@ -931,4 +948,37 @@ public class EventService extends AbstractCoreAdoService<Event> {
 
 		return em.createQuery(cq).getResultList();
 	}
+
+	/**
+	 * @return The events of the given cases visible to the current user, by case uuid
+	 */
+	public Map<String, List<Event>> getAllByCases(List<String> caseUuids) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Event> from = cq.from(getElementClass());
+		from.fetch(Event.EVENT_LOCATION);
+		Join<EventParticipant, Case> caseJoin = from.join(Event.EVENT_PERSONS).join(EventParticipant.RESULTING_CASE);
+
+		Predicate filter = createActiveEventsFilter(cb, from);
+
+		User user = getCurrentUser();
+		if (user != null) {
+			Predicate userFilter = createUserFilter(cb, cq, from);
+			filter = CriteriaBuilderHelper.and(cb, filter, userFilter);
+		}
+
+		filter = CriteriaBuilderHelper.and(cb, filter, caseJoin.get(Case.UUID).in(caseUuids));
+
+		cq.multiselect(caseJoin.get(Case.UUID), from);
+		cq.where(filter);
+		cq.distinct(true);
+
+		Map<String, List<Event>> events = new HashMap<>();
+		for (Object[] result : em.createQuery(cq).getResultList()) {
+			events.computeIfAbsent((String) result[0], k -> new ArrayList<>()).add((Event) result[1]);
+		}
+
+		return events;
+	}
 }
@@ -0,0 +1,155 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.feature;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Singleton;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import de.symeda.sormas.api.feature.FeatureType;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+/**
+ * Keeps an immutable snapshot of the feature configuration states so that feature checks don't need a query each.
+ * <p>
+ * The snapshot is replaced as a whole when it is invalidated by a change made on this server. Changes made by other servers
+ * using the same database are detected by comparing a version stamp (number of configurations and their latest change date)
+ * at most every {@link #VERSION_CHECK_INTERVAL_MILLIS}.
+ */
+@Singleton(name = "FeatureConfigurationCache")
+public class FeatureConfigurationCache {
+
+	static final long VERSION_CHECK_INTERVAL_MILLIS = 10_000;
+
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
+	private volatile Snapshot snapshot;
+	private volatile long lastVersionCheck;
+
+	@Lock(LockType.READ)
+	public boolean isFeatureDisabled(FeatureType featureType) {
+		return getSnapshot().disabledFeatures.contains(featureType);
+	}
+
+	/**
+	 * Forces the snapshot to be reloaded on the next lookup. Only called after the transaction changing a feature configuration has
+	 * been committed, otherwise a lookup in between could load the old configuration again and keep it.
+	 */
+	@Lock(LockType.READ)
+	public void invalidate() {
+		snapshot = null;
+	}
+
+	@Lock(LockType.READ)
+	public void onFeatureConfigurationChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) FeatureConfigurationChangeEvent event) {
+		invalidate();
+	}
+
+	private Snapshot getSnapshot() {
+
+		Snapshot current = snapshot;
+		long now = System.currentTimeMillis();
+		if (current != null && now - lastVersionCheck < VERSION_CHECK_INTERVAL_MILLIS) {
+			return current;
+		}
+
+		Version version = loadVersion();
+		lastVersionCheck = now;
+		if (current == null || !current.version.equals(version)) {
+			current = new Snapshot(version, loadDisabledFeatures());
+			snapshot = current;
+		}
+
+		return current;
+	}
+
+	private Version loadVersion() {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
+		cq.multiselect(cb.count(root), cb.greatest(root.<Date> get(FeatureConfiguration.CHANGE_DATE)));
+
+		Object[] result = em.createQuery(cq).getSingleResult();
+		return new Version((Long) result[0], (Date) result[1]);
+	}
+
+	private Set<FeatureType> loadDisabledFeatures() {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<FeatureType> cq = cb.createQuery(FeatureType.class);
+		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
+		cq.select(root.get(FeatureConfiguration.FEATURE_TYPE)).distinct(true);
+		cq.where(cb.isFalse(root.get(FeatureConfiguration.ENABLED)));
+
+		Set<FeatureType> disabledFeatures = EnumSet.noneOf(FeatureType.class);
+		disabledFeatures.addAll(em.createQuery(cq).getResultList());
+		return Collections.unmodifiableSet(disabledFeatures);
+	}
+
+	private static final class Version {
+
+		private final long count;
+		private final Date latestChangeDate;
+
+		private Version(long count, Date latestChangeDate) {
+			this.count = count;
+			this.latestChangeDate = latestChangeDate;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Version version = (Version) o;
+			return count == version.count && Objects.equals(latestChangeDate, version.latestChangeDate);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(count, latestChangeDate);
+		}
+	}
+
+	private static final class Snapshot {
+
+		private final Version version;
+		private final Set<FeatureType> disabledFeatures;
+
+		private Snapshot(Version version, Set<FeatureType> disabledFeatures) {
+			this.version = version;
+			this.disabledFeatures = disabledFeatures;
+		}
+	}
+}
@@ -26,6 +26,8 @@ import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -68,6 +70,10 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 	@EJB
 	private FeatureConfigurationService service;
 	@EJB
+	private FeatureConfigurationCache featureConfigurationCache;
+	@Inject
+	private Event<FeatureConfigurationChangeEvent> featureConfigurationChangeEvent;
+	@EJB
 	private RegionService regionService;
 	@EJB
 	private DistrictService districtService;
@@ -184,6 +190,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 			FeatureConfiguration existingConfiguration = service.getByUuid(configuration.getUuid());
 			if (existingConfiguration != null) {
 				service.delete(existingConfiguration);
+				featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
 			}
 
 			return;
@@ -206,6 +213,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 
 		FeatureConfiguration entity = fromDto(configurationDto, true);
 		service.ensurePersisted(entity);
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
 	}
 
 	@Override
@@ -226,6 +234,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 
 		List<FeatureConfiguration> resultList = em.createQuery(cq).getResultList();
 		resultList.forEach(result -> service.delete(result));
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
 	}
 
 	@Override
@@ -239,19 +248,12 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 		cq.where(cb.lessThan(root.get(FeatureConfiguration.END_DATE), date));
 		List<FeatureConfiguration> resultList = em.createQuery(cq).getResultList();
 		resultList.forEach(result -> service.delete(result));
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
 	}
 
 	@Override
 	public boolean isFeatureDisabled(FeatureType featureType) {
-
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		cq.where(cb.and(cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType), cb.isFalse(root.get(FeatureConfiguration.ENABLED))));
-		cq.select(cb.count(root));
-
-		return em.createQuery(cq).getSingleResult() > 0;
+		return featureConfigurationCache.isFeatureDisabled(featureType);
 	}
 
 	@Override
@@ -6,8 +6,11 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
 import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -30,6 +33,9 @@ import de.symeda.sormas.backend.user.User;
 @LocalBean
 public class FeatureConfigurationService extends AdoServiceWithUserFilter<FeatureConfiguration> {
 
+	@Inject
+	private Event<FeatureConfigurationChangeEvent> featureConfigurationChangeEvent;
+
 	public FeatureConfigurationService() {
 		super(FeatureConfiguration.class);
 	}
@@ -132,6 +138,7 @@ public class FeatureConfigurationService extends AdoServiceWithUserFilter<Featur
 				ensurePersisted(configuration);
 			}
 		});
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
 	}
 
 	public void updateFeatureConfigurations() {
@@ -147,6 +154,7 @@ public class FeatureConfigurationService extends AdoServiceWithUserFilter<Featur
 				}
 			}
 		});
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
 	}
 
 	private Map<FeatureType, FeatureConfiguration> getServerFeatureConfigurations() {
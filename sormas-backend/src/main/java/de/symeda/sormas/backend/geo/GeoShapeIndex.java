@@ -0,0 +1,76 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.geo;
+
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import de.symeda.sormas.api.geo.GeoLatLon;
+
+/**
+ * Finds the shape containing a coordinate. Candidates are looked up by their envelope in an STR-tree and only those are tested
+ * with a prepared geometry.
+ *
+ * @param <T>
+ *            Either RegionReferenceDto or DistrictReferenceDto.
+ */
+final class GeoShapeIndex<T> {
+
+	private final STRtree tree = new STRtree();
+
+	GeoShapeIndex(Map<T, MultiPolygon> multiPolygons) {
+
+		for (Map.Entry<T, MultiPolygon> multiPolygon : multiPolygons.entrySet()) {
+			tree.insert(multiPolygon.getValue().getEnvelopeInternal(), new Entry<>(multiPolygon.getKey(), multiPolygon.getValue()));
+		}
+		// building up front makes the tree read-only and therefore safe for concurrent queries
+		tree.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	T find(GeoLatLon latLon) {
+
+		Coordinate coordinate = new Coordinate(latLon.getLon(), latLon.getLat());
+		List<Entry<T>> candidates = tree.query(new Envelope(coordinate));
+		for (Entry<T> candidate : candidates) {
+			Point point = candidate.geometry.getGeometry().getFactory().createPoint(coordinate);
+			if (candidate.geometry.contains(point)) {
+				return candidate.key;
+			}
+		}
+
+		return null;
+	}
+
+	private static final class Entry<T> {
+
+		private final T key;
+		private final PreparedGeometry geometry;
+
+		private Entry(T key, MultiPolygon multiPolygon) {
+			this.key = key;
+			this.geometry = PreparedGeometryFactory.prepare(multiPolygon);
+		}
+	}
+}
@@ -24,8 +24,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.ejb.EJB;
@@ -68,11 +68,13 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 
 	private final Map<RegionReferenceDto, MultiPolygon> regionMultiPolygons = new HashMap<>();
 	private final Map<RegionReferenceDto, GeoLatLon[][]> regionShapes = new HashMap<>();
+	private GeoShapeIndex<RegionReferenceDto> regionIndex = new GeoShapeIndex<>(Collections.emptyMap());
 
 	private GeoLatLon regionsCenter;
 
 	private final Map<DistrictReferenceDto, MultiPolygon> districtMultiPolygons = new HashMap<>();
 	private final Map<DistrictReferenceDto, GeoLatLon[][]> districtShapes = new HashMap<>();
+	private GeoShapeIndex<DistrictReferenceDto> districtIndex = new GeoShapeIndex<>(Collections.emptyMap());
 
 	private GeoLatLon[][] countryShape;
 
@@ -88,15 +90,7 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 
 	@Override
 	public RegionReferenceDto getRegionByCoord(GeoLatLon latLon) {
-
-		for (Entry<RegionReferenceDto, MultiPolygon> regionMultiPolygon : regionMultiPolygons.entrySet()) {
-			if (regionMultiPolygon.getValue()
-				.contains(
-					GeometryFactory.createPointFromInternalCoord(new Coordinate(latLon.getLon(), latLon.getLat()), regionMultiPolygon.getValue()))) {
-				return regionMultiPolygon.getKey();
-			}
-		}
-		return null;
+		return regionIndex.find(latLon);
 	}
 
 	@Override
@@ -144,16 +138,12 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 
 	@Override
 	public DistrictReferenceDto getDistrictByCoord(GeoLatLon latLon) {
+		return districtIndex.find(latLon);
+	}
 
-		for (Entry<DistrictReferenceDto, MultiPolygon> districtMultiPolygon : districtMultiPolygons.entrySet()) {
-			if (districtMultiPolygon.getValue()
-				.contains(
-					GeometryFactory
-						.createPointFromInternalCoord(new Coordinate(latLon.getLon(), latLon.getLat()), districtMultiPolygon.getValue()))) {
-				return districtMultiPolygon.getKey();
-			}
-		}
-		return null;
+	@Override
+	public List<DistrictReferenceDto> getDistrictsByCoords(List<GeoLatLon> latLons) {
+		return latLons.stream().map(districtIndex::find).collect(Collectors.toList());
 	}
 
 	@Override
@@ -234,6 +224,7 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 			throw new RuntimeException(e);
 		}
 
+		regionIndex = new GeoShapeIndex<>(regionMultiPolygons);
 		updateCenterOfAllRegions();
 	}
 
@@ -323,6 +314,8 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
+
+		districtIndex = new GeoShapeIndex<>(districtMultiPolygons);
 	}
 
 	private void buildCountryShape() {
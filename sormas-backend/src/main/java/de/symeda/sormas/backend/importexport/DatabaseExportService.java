@@ -21,10 +21,19 @@ import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -42,6 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.symeda.sormas.api.importexport.DatabaseTable;
+import de.symeda.sormas.api.importexport.ImportExportUtils;
 import de.symeda.sormas.backend.action.Action;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.clinicalcourse.ClinicalCourse;
@@ -139,23 +149,141 @@ public class DatabaseExportService {
 
 	@EJB
 	private ConfigFacadeEjbLocal configFacade;
+	@EJB
+	private DatabaseExportWorker databaseExportWorker;
 
 	public void exportAsCsvFiles(ZipOutputStream zos, List<DatabaseTable> databaseTables) throws IOException {
 
+		int workerCount = Math.min(configFacade.getDatabaseExportWorkers(), databaseTables.size());
+		if (workerCount > 1) {
+			exportInParallel(zos, databaseTables, workerCount);
+			return;
+		}
+
 		//Writer must not be closed so it does not close the zip too early
 		Writer writer = new OutputStreamWriter(zos, StandardCharsets.UTF_8);
 
 		// Export all selected tables to .csv files
 		for (DatabaseTable databaseTable : databaseTables) {
 			zos.putNextEntry(new ZipEntry(databaseTable.getFileName() + ".csv"));
-			DatabaseExportConfiguration exportConfig = getConfig(databaseTable);
-			addEntityNamesRow(exportConfig, writer);
-			addDataRows(databaseTable, exportConfig, writer);
-			writer.flush();
+			exportTable(databaseTable, writer);
 			zos.closeEntry();
 		}
 	}
 
+	/**
+	 * Exports the tables with {@code workerCount} {@link DatabaseExportWorker}s, each on its own connection. All workers read the
+	 * snapshot of the current transaction, so the exported tables are consistent with each other. The workers write each table
+	 * to a temporary file, which is added to the archive in the order of {@code databaseTables} as soon as it is complete.
+	 */
+	private void exportInParallel(ZipOutputStream zos, List<DatabaseTable> databaseTables, int workerCount) throws IOException {
+
+		String snapshotId = exportSnapshot();
+		Map<DatabaseTable, CompletableFuture<Path>> tableFiles = new EnumMap<>(DatabaseTable.class);
+		List<List<DatabaseTable>> workerTables = new ArrayList<>();
+		for (int i = 0; i < workerCount; i++) {
+			workerTables.add(new ArrayList<>());
+		}
+		for (int i = 0; i < databaseTables.size(); i++) {
+			tableFiles.put(databaseTables.get(i), new CompletableFuture<>());
+			workerTables.get(i % workerCount).add(databaseTables.get(i));
+		}
+
+		Path directory = null;
+		try {
+			directory =
+				Files.createTempDirectory(Paths.get(configFacade.getTempFilesPath()), ImportExportUtils.TEMP_FILE_PREFIX + "_database_export_");
+
+			for (List<DatabaseTable> tables : workerTables) {
+				try {
+					databaseExportWorker.exportTables(snapshotId, tables, tableFiles, directory);
+				} catch (RuntimeException e) {
+					tables.forEach(t -> tableFiles.get(t).completeExceptionally(e));
+				}
+			}
+
+			int exportedCount = 0;
+			for (DatabaseTable databaseTable : databaseTables) {
+				Path tableFile = awaitTableFile(databaseTable, tableFiles.get(databaseTable));
+				zos.putNextEntry(new ZipEntry(databaseTable.getFileName() + ".csv"));
+				Files.copy(tableFile, zos);
+				zos.closeEntry();
+				Files.delete(tableFile);
+
+				logger.debug("exportAsCsvFiles(): Added '{}' to the archive ({}/{})", databaseTable.getFileName(), ++exportedCount, databaseTables.size());
+			}
+		} finally {
+			if (directory != null) {
+				// the snapshot has to stay valid and the files must not be deleted until all workers are done
+				tableFiles.values().forEach(f -> f.handle((path, e) -> path).join());
+				deleteDirectory(directory);
+			}
+		}
+	}
+
+	private Path awaitTableFile(DatabaseTable databaseTable, CompletableFuture<Path> tableFile) throws IOException {
+
+		try {
+			return tableFile.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(String.format("Interrupted while exporting '%s'", databaseTable.getFileName()), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new RuntimeException(String.format("Failed to export '%s'", databaseTable.getFileName()), e.getCause());
+		}
+	}
+
+	private void deleteDirectory(Path directory) {
+
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.deleteIfExists(file);
+			}
+			Files.deleteIfExists(directory);
+		} catch (IOException e) {
+			logger.warn("Could not delete temporary database export directory {}: {}", directory, e.getMessage());
+		}
+	}
+
+	/**
+	 * Writes the entity names row and the data rows of one table.
+	 */
+	public void exportTable(DatabaseTable databaseTable, Writer writer) throws IOException {
+
+		DatabaseExportConfiguration exportConfig = getConfig(databaseTable);
+		addEntityNamesRow(exportConfig, writer);
+		addDataRows(databaseTable, exportConfig, writer);
+		writer.flush();
+	}
+
+	/**
+	 * Makes the snapshot of the current transaction available to other transactions as long as this transaction is open.
+	 *
+	 * @return The id to be passed to {@link #importSnapshot(String)}.
+	 */
+	public String exportSnapshot() {
+		return (String) em.createNativeQuery("SELECT pg_export_snapshot()").getSingleResult();
+	}
+
+	/**
+	 * Lets the current transaction read the snapshot exported by another transaction. Has to be called before anything else is
+	 * executed in the current transaction.
+	 */
+	public void importSnapshot(String snapshotId) {
+
+		Session session = em.unwrap(Session.class);
+		session.doWork(conn -> {
+			try (Statement statement = conn.createStatement()) {
+				statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+				// the id is generated by PostgreSQL and SET does not accept parameters
+				statement.execute(String.format("SET TRANSACTION SNAPSHOT '%s'", snapshotId.replace("'", "''")));
+			}
+		});
+	}
+
 	private void addEntityNamesRow(DatabaseExportConfiguration config, Writer writer) throws IOException {
 		final int mainTableColumnCount = getColumnCount(config.getTableName());
 		char csvSeparator = configFacade.getCsvSeparator();
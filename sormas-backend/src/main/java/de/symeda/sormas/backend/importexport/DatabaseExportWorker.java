@@ -0,0 +1,78 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.importexport;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ejb.Asynchronous;
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.importexport.DatabaseTable;
+
+/**
+ * Exports database tables in its own transaction, reading the snapshot exported by the transaction of
+ * {@link DatabaseExportService#exportAsCsvFiles}.
+ */
+@Stateless
+@LocalBean
+public class DatabaseExportWorker {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@EJB
+	private DatabaseExportService databaseExportService;
+
+	/**
+	 * Writes each table to a .csv file in {@code directory} and completes its future in {@code tableFiles} with the file. If the
+	 * export fails, the futures of all tables not exported yet are completed exceptionally.
+	 */
+	@Asynchronous
+	public void exportTables(
+		String snapshotId,
+		List<DatabaseTable> databaseTables,
+		Map<DatabaseTable, CompletableFuture<Path>> tableFiles,
+		Path directory) {
+
+		try {
+			databaseExportService.importSnapshot(snapshotId);
+
+			for (DatabaseTable databaseTable : databaseTables) {
+				long startTime = System.currentTimeMillis();
+				Path tableFile = directory.resolve(databaseTable.getFileName() + ".csv");
+				try (Writer writer = Files.newBufferedWriter(tableFile, StandardCharsets.UTF_8)) {
+					databaseExportService.exportTable(databaseTable, writer);
+				}
+				tableFiles.get(databaseTable).complete(tableFile);
+
+				logger.debug("exportTables(): Exported '{}' in {} ms", databaseTable.getFileName(), System.currentTimeMillis() - startTime);
+			}
+		} catch (IOException | RuntimeException e) {
+			databaseTables.forEach(t -> tableFiles.get(t).completeExceptionally(e));
+		}
+	}
+}
@@ -71,7 +71,6 @@ import javax.inject.Provider;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.text.WordUtils;
@@ -153,6 +152,9 @@ public class ImportFacadeEjb implements ImportFacade {
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
+	// building a validator factory is expensive, but the validator is thread-safe and can be shared by all imported lines
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
 	private static final String PERSON_PREFIX = "person.";
 
 	private static final List<String> PERSON_COLUMNS_TO_REMOVE = Arrays.asList(
@@ -892,10 +894,7 @@ public class ImportFacadeEjb implements ImportFacade {
 	}
 
 	public <T> ImportLineResultDto<T> validateConstraints(T entities) {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		Validator validator = factory.getValidator();
-
-		Set<ConstraintViolation<T>> constraintViolations = validator.validate(entities);
+		Set<ConstraintViolation<T>> constraintViolations = VALIDATOR.validate(entities);
 		if (constraintViolations.size() > 0) {
 			return ImportLineResultDto.errorResult(
 				ConstrainValidationHelper.getPropertyErrors(constraintViolations)
@@ -256,11 +256,16 @@ public class PersonFacadeEjb implements PersonFacade {
 
 	@Override
 	public List<PersonDto> getPersonsAfter(Date date) {
+		return getPersonsAfter(date, null, null, null);
+	}
+
+	@Override
+	public List<PersonDto> getPersonsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 		final User user = userService.getCurrentUser();
 		if (user == null) {
 			return Collections.emptyList();
 		}
-		return toPseudonymizedDtos(personService.getAllAfter(date, user));
+		return toPseudonymizedDtos(personService.getAllAfter(date, user, batchSize, lastChangeDate, lastSynchronizedUuid));
 	}
 
 	@Override
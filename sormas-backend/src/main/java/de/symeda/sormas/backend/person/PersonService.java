@@ -23,13 +23,14 @@ import static de.symeda.sormas.backend.common.CriteriaBuilderHelper.andEquals;
 import static de.symeda.sormas.backend.common.CriteriaBuilderHelper.andEqualsReferenceDto;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,6 +52,7 @@ import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import javax.transaction.Transactional;
 import javax.validation.constraints.NotNull;
 
@@ -322,136 +324,159 @@ public class PersonService extends AdoServiceWithUserFilter<Person> {
 	@Override
 	// todo refactor this to use the create user filter form persons
 	public List<Person> getAllAfter(Date date, User user) {
+		return getAllAfter(date, user, null, null, null);
+	}
+
+	/**
+	 * Persons that have to be synchronized to the mobile app of {@code user}: persons living in the district of the user and
+	 * persons of cases, contacts, event participants, immunizations and travel entries visible to the current user.
+	 * <p>
+	 * The visible person ids are resolved with one query that combines all sources with {@code EXISTS} subqueries, so every person
+	 * is only read once. The persons are then loaded in batches of ids.
+	 *
+	 * @param batchSize
+	 *            When set, only this many persons are returned, ordered by change date and uuid, starting after {@code lastChangeDate}
+	 *            and {@code lastSynchronizedUuid}. See {@link #getSyncBatch}.
+	 */
+	public List<Person> getAllAfter(Date date, User user, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
+
+		long startTime = System.currentTimeMillis();
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+		Root<Person> person = cq.from(Person.class);
+		cq.select(person.get(Person.ID));
+
+		Timestamp since = date != null ? DateHelper.toTimestampUpper(date) : null;
+		Predicate personDateFilter = since != null ? createChangeDateFilter(cb, person, since) : null;
 
 		// persons by LGA
-		CriteriaQuery<Person> personsQuery = cb.createQuery(Person.class);
-		Root<Person> personsRoot = personsQuery.from(Person.class);
-		Join<Person, Location> address = personsRoot.join(Person.ADDRESS);
-		Predicate lgaFilter = cb.equal(address.get(Location.DISTRICT), user.getDistrict());
-		// date range
-		if (date != null) {
-			Predicate dateFilter = createChangeDateFilter(cb, personsRoot, DateHelper.toTimestampUpper(date));
-			lgaFilter = cb.and(lgaFilter, dateFilter);
+		Predicate filter = null;
+		if (user.getDistrict() != null) {
+			Join<Person, Location> address = person.join(Person.ADDRESS, JoinType.LEFT);
+			filter = and(cb, cb.equal(address.get(Location.DISTRICT), user.getDistrict()), personDateFilter);
 		}
-		personsQuery.where(lgaFilter);
-		List<Person> lgaResultList = em.createQuery(personsQuery).getResultList();
 
 		// persons by case
-		CriteriaQuery<Person> casePersonsQuery = cb.createQuery(Person.class);
-		Root<Case> casePersonsRoot = casePersonsQuery.from(Case.class);
-		Join<Person, Person> casePersonsSelect = casePersonsRoot.join(Case.PERSON);
-		casePersonsSelect.fetch(Person.ADDRESS);
-		casePersonsQuery.select(casePersonsSelect);
-		Predicate casePersonsFilter = caseService.createUserFilter(cb, casePersonsQuery, casePersonsRoot);
-		// date range
-		if (date != null) {
-			Predicate dateFilter = createChangeDateFilter(cb, casePersonsSelect, DateHelper.toTimestampUpper(date));
-			// include case change dates: When a case is relocated it may become available to another user and this will have to include the person as-well
-			Predicate caseDateFilter = caseService.createChangeDateFilter(cb, casePersonsRoot, DateHelper.toTimestampUpper(date));
-			if (casePersonsFilter != null) {
-				casePersonsFilter = cb.and(casePersonsFilter, cb.or(dateFilter, caseDateFilter));
-			} else {
-				casePersonsFilter = cb.or(dateFilter, caseDateFilter);
-			}
-		}
-		if (casePersonsFilter != null) {
-			casePersonsQuery.where(casePersonsFilter);
-		}
-		casePersonsQuery.distinct(true);
-		List<Person> casePersonsResultList = em.createQuery(casePersonsQuery).getResultList();
+		// include case change dates: When a case is relocated it may become available to another user and this will have to include the person as-well
+		filter = CriteriaBuilderHelper.or(
+			cb,
+			filter,
+			existsSyncedPersonSource(
+				cb,
+				cq,
+				person,
+				Case.class,
+				Case.PERSON,
+				personDateFilter,
+				c -> caseService.createUserFilter(cb, cq, c),
+				c -> caseService.createChangeDateFilter(cb, c, since)));
 
 		// persons by contact
-		CriteriaQuery<Person> contactPersonsQuery = cb.createQuery(Person.class);
-		Root<Contact> contactPersonsRoot = contactPersonsQuery.from(Contact.class);
-		Join<Person, Person> contactPersonsSelect = contactPersonsRoot.join(Contact.PERSON);
-		contactPersonsSelect.fetch(Person.ADDRESS);
-		contactPersonsQuery.select(contactPersonsSelect);
-		Predicate contactPersonsFilter = contactService.createUserFilter(cb, contactPersonsQuery, contactPersonsRoot);
-		// date range
-		if (date != null) {
-			Predicate dateFilter = createChangeDateFilter(cb, contactPersonsSelect, DateHelper.toTimestampUpper(date));
-			Predicate contactDateFilter = contactService.createChangeDateFilter(cb, contactPersonsRoot, date);
-			contactPersonsFilter = and(cb, contactPersonsFilter, cb.or(dateFilter, contactDateFilter));
-		}
-		if (contactPersonsFilter != null) {
-			contactPersonsQuery.where(contactPersonsFilter);
-		}
-		contactPersonsQuery.distinct(true);
-		List<Person> contactPersonsResultList = em.createQuery(contactPersonsQuery).getResultList();
+		filter = CriteriaBuilderHelper.or(
+			cb,
+			filter,
+			existsSyncedPersonSource(
+				cb,
+				cq,
+				person,
+				Contact.class,
+				Contact.PERSON,
+				personDateFilter,
+				c -> contactService.createUserFilter(cb, cq, c),
+				c -> contactService.createChangeDateFilter(cb, c, date)));
 
 		// persons by event participant
-		CriteriaQuery<Person> eventPersonsQuery = cb.createQuery(Person.class);
-		Root<EventParticipant> eventPersonsRoot = eventPersonsQuery.from(EventParticipant.class);
-		Join<Person, Person> eventPersonsSelect = eventPersonsRoot.join(EventParticipant.PERSON);
-		eventPersonsSelect.fetch(Person.ADDRESS);
-		eventPersonsQuery.select(eventPersonsSelect);
-		Predicate eventPersonsFilter = eventParticipantService.createUserFilter(cb, eventPersonsQuery, eventPersonsRoot);
-		// date range
-		if (date != null) {
-			Predicate dateFilter = createChangeDateFilter(cb, eventPersonsSelect, DateHelper.toTimestampUpper(date));
-			Predicate eventParticipantDateFilter =
-				eventParticipantService.createChangeDateFilter(cb, eventPersonsRoot, DateHelper.toTimestampUpper(date));
-			eventPersonsFilter = and(cb, eventPersonsFilter, cb.or(dateFilter, eventParticipantDateFilter));
-		}
-		if (eventPersonsFilter != null) {
-			eventPersonsQuery.where(eventPersonsFilter);
-		}
-		eventPersonsQuery.distinct(true);
-		List<Person> eventPersonsResultList = em.createQuery(eventPersonsQuery).getResultList();
+		filter = CriteriaBuilderHelper.or(
+			cb,
+			filter,
+			existsSyncedPersonSource(
+				cb,
+				cq,
+				person,
+				EventParticipant.class,
+				EventParticipant.PERSON,
+				personDateFilter,
+				ep -> eventParticipantService.createUserFilter(cb, cq, ep),
+				ep -> eventParticipantService.createChangeDateFilter(cb, ep, since)));
 
 		// persons by immunization
-		CriteriaQuery<Person> immunizationPersonsQuery = cb.createQuery(Person.class);
-		Root<Immunization> immunizationPersonsRoot = immunizationPersonsQuery.from(Immunization.class);
-		Join<Immunization, Person> immunizationPersonsSelect = immunizationPersonsRoot.join(Immunization.PERSON);
-		immunizationPersonsSelect.fetch(Person.ADDRESS);
-		immunizationPersonsQuery.select(immunizationPersonsSelect);
-		Predicate immunizationPersonsFilter = immunizationService.createUserFilter(cb, immunizationPersonsQuery, immunizationPersonsRoot);
-		// date range
-		if (date != null) {
-			Predicate dateFilter = createChangeDateFilter(cb, immunizationPersonsSelect, DateHelper.toTimestampUpper(date));
-			Predicate immunizationDateFilter =
-				immunizationService.createChangeDateFilter(cb, immunizationPersonsRoot, DateHelper.toTimestampUpper(date));
-			immunizationPersonsFilter = and(cb, immunizationPersonsFilter, cb.or(dateFilter, immunizationDateFilter));
-		}
-		if (immunizationPersonsFilter != null) {
-			immunizationPersonsQuery.where(immunizationPersonsFilter);
-		}
-		immunizationPersonsQuery.distinct(true);
-		List<Person> immunizationPersonsResultList = em.createQuery(immunizationPersonsQuery).getResultList();
+		filter = CriteriaBuilderHelper.or(
+			cb,
+			filter,
+			existsSyncedPersonSource(
+				cb,
+				cq,
+				person,
+				Immunization.class,
+				Immunization.PERSON,
+				personDateFilter,
+				i -> immunizationService.createUserFilter(cb, cq, i),
+				i -> immunizationService.createChangeDateFilter(cb, i, since)));
 
 		// persons by travel entries
-		CriteriaQuery<Person> tepQuery = cb.createQuery(Person.class);
-		Root<TravelEntry> tepRoot = tepQuery.from(TravelEntry.class);
-		Join<TravelEntry, Person> tepSelect = tepRoot.join(TravelEntry.PERSON);
-		tepSelect.fetch(Person.ADDRESS);
-		tepQuery.select(tepSelect);
-		Predicate tepFilter = travelEntryService.createUserFilter(cb, tepQuery, tepRoot);
-		// date range
-		if (date != null) {
-			Predicate dateFilter = createChangeDateFilter(cb, tepSelect, DateHelper.toTimestampUpper(date));
-			Predicate travelEntryDateFilter = travelEntryService.createChangeDateFilter(cb, tepRoot, DateHelper.toTimestampUpper(date));
-			tepFilter = and(cb, tepFilter, cb.or(dateFilter, travelEntryDateFilter));
-		}
-		if (tepFilter != null) {
-			tepQuery.where(tepFilter);
-		}
-		tepQuery.distinct(true);
-		List<Person> travelEntryPersonsResultList = em.createQuery(tepQuery).getResultList();
+		filter = CriteriaBuilderHelper.or(
+			cb,
+			filter,
+			existsSyncedPersonSource(
+				cb,
+				cq,
+				person,
+				TravelEntry.class,
+				TravelEntry.PERSON,
+				personDateFilter,
+				te -> travelEntryService.createUserFilter(cb, cq, te),
+				te -> travelEntryService.createChangeDateFilter(cb, te, since)));
+
+		cq.where(filter);
+		List<Long> personIds = getSyncBatch(cq, person, batchSize, lastChangeDate, lastSynchronizedUuid);
+		long idQueryTime = System.currentTimeMillis() - startTime;
+
+		// the ids are already ordered when synchronizing in batches, so the persons of consecutive id batches keep that order
+		List<Person> persons = new ArrayList<>(personIds.size());
+		IterableHelper.executeBatched(personIds, MAX_SYNC_BATCH_SIZE, batchedPersonIds -> {
+			CriteriaQuery<Person> personsQuery = cb.createQuery(Person.class);
+			Root<Person> personsRoot = personsQuery.from(Person.class);
+			personsRoot.fetch(Person.ADDRESS, JoinType.LEFT);
+			personsQuery.where(personsRoot.get(Person.ID).in(batchedPersonIds));
+			personsQuery.orderBy(cb.asc(personsRoot.get(Person.CHANGE_DATE)), cb.asc(personsRoot.get(Person.UUID)));
+			persons.addAll(em.createQuery(personsQuery).getResultList());
+		});
+
+		logger.debug(
+			"getAllAfter(): Resolved {} person ids in {} ms, loaded persons in {} ms",
+			personIds.size(),
+			idQueryTime,
+			System.currentTimeMillis() - startTime - idQueryTime);
+
+		return persons;
+	}
 
-		return Stream
-			.of(
-				lgaResultList,
-				casePersonsResultList,
-				contactPersonsResultList,
-				eventPersonsResultList,
-				immunizationPersonsResultList,
-				travelEntryPersonsResultList)
-			.flatMap(List<Person>::stream)
-			.distinct()
-			.sorted(Comparator.comparing(Person::getChangeDate))
-			.collect(Collectors.toList());
+	/**
+	 * @return {@code EXISTS} subquery for entities of {@code sourceClass} that reference {@code person}, are visible to the current
+	 *         user and were changed (or their person was changed) after the synchronization date.
+	 */
+	private <S> Predicate existsSyncedPersonSource(
+		CriteriaBuilder cb,
+		CriteriaQuery<?> cq,
+		Root<Person> person,
+		Class<S> sourceClass,
+		String personAttribute,
+		Predicate personDateFilter,
+		Function<From<?, S>, Predicate> userFilterBuilder,
+		Function<From<?, S>, Predicate> changeDateFilterBuilder) {
+
+		Subquery<Long> subquery = cq.subquery(Long.class);
+		Root<S> source = subquery.from(sourceClass);
+		subquery.select(source.get(AbstractDomainObject.ID));
+
+		Predicate filter = and(cb, cb.equal(source.get(personAttribute), person), userFilterBuilder.apply(source));
+		if (personDateFilter != null) {
+			filter = cb.and(filter, cb.or(personDateFilter, changeDateFilterBuilder.apply(source)));
+		}
+		subquery.where(filter);
+
+		return cb.exists(subquery);
 	}
 
 	public List<Long> getInJurisdictionIDs(final List<Person> selectedEntities) {
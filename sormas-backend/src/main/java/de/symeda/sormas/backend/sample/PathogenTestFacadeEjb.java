@@ -38,9 +38,6 @@ import javax.persistence.criteria.Root;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.common.Page;
 import de.symeda.sormas.api.i18n.I18nProperties;
@@ -61,7 +58,6 @@ import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
 import de.symeda.sormas.backend.common.messaging.MessageContents;
 import de.symeda.sormas.backend.common.messaging.MessageSubject;
 import de.symeda.sormas.backend.common.messaging.MessagingService;
-import de.symeda.sormas.backend.common.messaging.NotificationDeliveryFailedException;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
 import de.symeda.sormas.backend.event.EventFacadeEjb.EventFacadeEjbLocal;
@@ -83,8 +79,6 @@ import de.symeda.sormas.backend.util.QueryHelper;
 @Stateless(name = "PathogenTestFacade")
 public class PathogenTestFacadeEjb implements PathogenTestFacade {
 
-	private final Logger logger = LoggerFactory.getLogger(getClass());
-
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
 	private EntityManager em;
 
@@ -534,46 +528,37 @@ public class PathogenTestFacadeEjb implements PathogenTestFacade {
 		String contentLabResultSpecified,
 		String shortUuid) {
 		if (existingPathogenTest == null && newPathogenTest.getTestResult() != PathogenTestResultType.PENDING) {
-			try {
-				messagingService.sendMessages(() -> {
-					final Map<User, String> mapToReturn = new HashMap<>();
-					messageRecipients.forEach(
-						user -> mapToReturn.put(
-							user,
-							String.format(
-								I18nProperties.getString(contentLabResultArrived),
-								newPathogenTest.getTestResult().toString(),
-								disease,
-								shortUuid,
-								newPathogenTest.getTestType(),
-								newPathogenTest.getTestedDisease())));
-					return mapToReturn;
-				}, MessageSubject.LAB_RESULT_ARRIVED, MessageType.EMAIL, MessageType.SMS);
-			} catch (NotificationDeliveryFailedException e) {
-				logger.error(String.format("EmailDeliveryFailedException when trying to notify supervisors " + "about the arrival of a lab result."));
-			}
+			messagingService.sendMessages(() -> {
+				final Map<User, String> mapToReturn = new HashMap<>();
+				messageRecipients.forEach(
+					user -> mapToReturn.put(
+						user,
+						String.format(
+							I18nProperties.getString(contentLabResultArrived),
+							newPathogenTest.getTestResult().toString(),
+							disease,
+							shortUuid,
+							newPathogenTest.getTestType(),
+							newPathogenTest.getTestedDisease())));
+				return mapToReturn;
+			}, MessageSubject.LAB_RESULT_ARRIVED, MessageType.EMAIL, MessageType.SMS);
 		} else if (existingPathogenTest != null
 			&& existingPathogenTest.getTestResult() == PathogenTestResultType.PENDING
 			&& newPathogenTest.getTestResult() != PathogenTestResultType.PENDING) {
-			try {
-				messagingService.sendMessages(() -> {
-					final Map<User, String> mapToReturn = new HashMap<>();
-					messageRecipients.forEach(
-						user -> mapToReturn.put(
-							user,
-							String.format(
-								I18nProperties.getString(contentLabResultSpecified),
-								disease,
-								shortUuid,
-								newPathogenTest.getTestResult().toString(),
-								newPathogenTest.getTestType(),
-								newPathogenTest.getTestedDisease())));
-					return mapToReturn;
-				}, MessageSubject.LAB_RESULT_SPECIFIED, MessageType.EMAIL, MessageType.SMS);
-			} catch (NotificationDeliveryFailedException e) {
-				logger.error(
-					String.format("EmailDeliveryFailedException when trying to notify supervisors " + "about the specification of a lab result"));
-			}
+			messagingService.sendMessages(() -> {
+				final Map<User, String> mapToReturn = new HashMap<>();
+				messageRecipients.forEach(
+					user -> mapToReturn.put(
+						user,
+						String.format(
+							I18nProperties.getString(contentLabResultSpecified),
+							disease,
+							shortUuid,
+							newPathogenTest.getTestResult().toString(),
+							newPathogenTest.getTestType(),
+							newPathogenTest.getTestedDisease())));
+				return mapToReturn;
+			}, MessageSubject.LAB_RESULT_SPECIFIED, MessageType.EMAIL, MessageType.SMS);
 		}
 	}
 
@@ -22,7 +22,9 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
@@ -191,6 +193,28 @@ public class PathogenTestService extends AbstractCoreAdoService<PathogenTest> {
 		return em.createQuery(cq).getResultList();
 	}
 
+	/**
+	 * @return The pathogen tests of the given cases, by case uuid and ordered like {@link #getAllByCase(String)}
+	 */
+	public Map<String, List<PathogenTest>> getAllByCases(List<String> caseUuids) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<PathogenTest> from = cq.from(getElementClass());
+		Join<Case, Case> caseJoin = from.join(PathogenTest.SAMPLE).join(Sample.ASSOCIATED_CASE);
+
+		cq.multiselect(caseJoin.get(Case.UUID), from);
+		cq.where(createDefaultFilter(cb, from), caseJoin.get(Case.UUID).in(caseUuids));
+		cq.orderBy(cb.desc(from.get(PathogenTest.TEST_DATE_TIME)));
+
+		Map<String, List<PathogenTest>> pathogenTests = new HashMap<>();
+		for (Object[] result : em.createQuery(cq).getResultList()) {
+			pathogenTests.computeIfAbsent((String) result[0], k -> new ArrayList<>()).add((PathogenTest) result[1]);
+		}
+
+		return pathogenTests;
+	}
+
 	public Long countByCase(Case caze) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
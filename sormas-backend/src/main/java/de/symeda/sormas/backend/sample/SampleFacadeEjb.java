@@ -92,10 +92,10 @@ import de.symeda.sormas.backend.caze.CaseQueryContext;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+import de.symeda.sormas.backend.common.IndexCountCache;
 import de.symeda.sormas.backend.common.messaging.MessageContents;
 import de.symeda.sormas.backend.common.messaging.MessageSubject;
 import de.symeda.sormas.backend.common.messaging.MessagingService;
-import de.symeda.sormas.backend.common.messaging.NotificationDeliveryFailedException;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
@@ -151,6 +151,8 @@ public class SampleFacadeEjb implements SampleFacade {
 	@EJB
 	private SampleService sampleService;
 	@EJB
+	private IndexCountCache indexCountCache;
+	@EJB
 	private AdditionalTestService additionalTestService;
 	@EJB
 	private AdditionalTestFacadeEjbLocal additionalTestFacade;
@@ -192,6 +194,11 @@ public class SampleFacadeEjb implements SampleFacade {
 
 	@Override
 	public List<SampleDto> getAllActiveSamplesAfter(Date date) {
+		return getAllActiveSamplesAfter(date, null, null, null);
+	}
+
+	@Override
+	public List<SampleDto> getAllActiveSamplesAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 
 		User user = userService.getCurrentUser();
 		if (user == null) {
@@ -199,7 +206,10 @@ public class SampleFacadeEjb implements SampleFacade {
 		}
 
 		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight);
-		return sampleService.getAllActiveSamplesAfter(date, user).stream().map(e -> convertToDto(e, pseudonymizer)).collect(Collectors.toList());
+		return sampleService.getAllActiveSamplesAfter(date, user, batchSize, lastChangeDate, lastSynchronizedUuid)
+			.stream()
+			.map(e -> convertToDto(e, pseudonymizer))
+			.collect(Collectors.toList());
 	}
 
 	@Override
@@ -867,6 +877,15 @@ public class SampleFacadeEjb implements SampleFacade {
 
 	@Override
 	public long count(SampleCriteria sampleCriteria) {
+		return indexCountCache.count(Sample.class, sampleCriteria, false, () -> doCount(sampleCriteria));
+	}
+
+	@Override
+	public Long getEstimatedCount(SampleCriteria sampleCriteria) {
+		return indexCountCache.getEstimatedCount(Sample.class, sampleCriteria, false);
+	}
+
+	private long doCount(SampleCriteria sampleCriteria) {
 
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
 		final CriteriaQuery<Long> cq = cb.createQuery(Long.class);
@@ -1145,34 +1164,28 @@ public class SampleFacadeEjb implements SampleFacade {
 		if (newSample.isShipped()
 			&& (existingSample == null || !existingSample.isShipped())
 			&& !StringUtils.equals(newSample.getLab().getUuid(), FacilityDto.OTHER_FACILITY_UUID)) {
-			try {
-
-				messagingService.sendMessages(() -> {
-					final String messageContent;
-					if (newSample.getAssociatedCase() != null) {
-						messageContent = String.format(
-							I18nProperties.getString(MessageContents.CONTENT_LAB_SAMPLE_SHIPPED_SHORT),
-							DataHelper.getShortUuid(newSample.getAssociatedCase().getUuid()));
-					} else if (newSample.getAssociatedContact() != null) {
-						messageContent = String.format(
-							I18nProperties.getString(MessageContents.CONTENT_LAB_SAMPLE_SHIPPED_SHORT_FOR_CONTACT),
-							DataHelper.getShortUuid(newSample.getAssociatedContact().getUuid()));
-					} else if (newSample.getAssociatedEventParticipant() != null) {
-						messageContent = String.format(
-							I18nProperties.getString(MessageContents.CONTENT_LAB_SAMPLE_SHIPPED_SHORT_FOR_EVENT_PARTICIPANT),
-							DataHelper.getShortUuid(newSample.getAssociatedEventParticipant().getUuid()));
-					} else {
-						messageContent = null;
-					}
-					final Map<User, String> mapToReturn = new HashMap<>();
-					userService.getLabUsersOfLab(newSample.getLab()).forEach(user -> mapToReturn.put(user, messageContent));
-					return mapToReturn;
-				}, MessageSubject.LAB_SAMPLE_SHIPPED, MessageType.EMAIL, MessageType.SMS);
-
-			} catch (NotificationDeliveryFailedException e) {
-				logger
-					.error(String.format("EmailDeliveryFailedException when trying to notify supervisors about " + "the shipment of a lab sample."));
-			}
+
+			messagingService.sendMessages(() -> {
+				final String messageContent;
+				if (newSample.getAssociatedCase() != null) {
+					messageContent = String.format(
+						I18nProperties.getString(MessageContents.CONTENT_LAB_SAMPLE_SHIPPED_SHORT),
+						DataHelper.getShortUuid(newSample.getAssociatedCase().getUuid()));
+				} else if (newSample.getAssociatedContact() != null) {
+					messageContent = String.format(
+						I18nProperties.getString(MessageContents.CONTENT_LAB_SAMPLE_SHIPPED_SHORT_FOR_CONTACT),
+						DataHelper.getShortUuid(newSample.getAssociatedContact().getUuid()));
+				} else if (newSample.getAssociatedEventParticipant() != null) {
+					messageContent = String.format(
+						I18nProperties.getString(MessageContents.CONTENT_LAB_SAMPLE_SHIPPED_SHORT_FOR_EVENT_PARTICIPANT),
+						DataHelper.getShortUuid(newSample.getAssociatedEventParticipant().getUuid()));
+				} else {
+					messageContent = null;
+				}
+				final Map<User, String> mapToReturn = new HashMap<>();
+				userService.getLabUsersOfLab(newSample.getLab()).forEach(user -> mapToReturn.put(user, messageContent));
+				return mapToReturn;
+			}, MessageSubject.LAB_SAMPLE_SHIPPED, MessageType.EMAIL, MessageType.SMS);
 		}
 	}
 
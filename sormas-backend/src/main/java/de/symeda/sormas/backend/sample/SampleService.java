@@ -140,6 +140,10 @@ public class SampleService extends AbstractCoreAdoService<Sample> {
 	}
 
 	public List<Sample> getAllActiveSamplesAfter(Date date, User user) {
+		return getAllActiveSamplesAfter(date, user, null, null, null);
+	}
+
+	public List<Sample> getAllActiveSamplesAfter(Date date, User user, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Sample> cq = cb.createQuery(getElementClass());
@@ -161,7 +165,7 @@ public class SampleService extends AbstractCoreAdoService<Sample> {
 		cq.orderBy(cb.desc(from.get(Sample.CHANGE_DATE)));
 		cq.distinct(true);
 
-		return em.createQuery(cq).getResultList();
+		return getSyncBatch(cq, from, batchSize, lastChangeDate, lastSynchronizedUuid);
 	}
 
 	public List<String> getAllActiveUuids(User user) {
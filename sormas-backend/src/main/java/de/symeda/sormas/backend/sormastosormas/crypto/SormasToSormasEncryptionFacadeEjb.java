@@ -14,11 +14,9 @@
  */
 package de.symeda.sormas.backend.sormastosormas.crypto;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.InvalidKeyException;
@@ -67,6 +65,9 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 	@EJB
 	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacadeEjb;
 
+	@EJB
+	private SormasToSormasKeyMaterialCache keyMaterialCache;
+
 	@Inject
 	SormasToSormasRestClient restClient;
 
@@ -88,13 +89,11 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 	}
 
 	private KeyStore loadStore(String name, String password) throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
-		String filePath = configFacadeEjb.getS2SConfig().getPath();
-		Path storePath = Paths.get(filePath, name);
-		KeyStore store = KeyStore.getInstance("pkcs12");
-		try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(storePath))) {
-			store.load(in, password.toCharArray());
-		}
-		return store;
+		return keyMaterialCache.getStore(getStorePath(name), password);
+	}
+
+	private Path getStorePath(String name) {
+		return Paths.get(configFacadeEjb.getS2SConfig().getPath(), name);
 	}
 
 	@Override
@@ -113,20 +112,34 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 
 	private PrivateKey loadOwnPrivateKey()
 		throws CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException, UnrecoverableKeyException {
-		KeyStore keystore = getKeystore();
 		SormasToSormasConfig sormasToSormasConfig = configFacadeEjb.getS2SConfig();
-		PrivateKey privKey = (PrivateKey) keystore.getKey(sormasToSormasConfig.getId(), sormasToSormasConfig.getKeystorePass().toCharArray());
+		PrivateKey privKey = keyMaterialCache.getPrivateKey(
+			getStorePath(sormasToSormasConfig.getKeystoreName()),
+			sormasToSormasConfig.getKeystorePass(),
+			sormasToSormasConfig.getId());
 		if (privKey == null) {
 			LOGGER.error("Could not load private key.");
 			throw new KeyStoreException("Unable to load private key.");
 		}
-		LOGGER.info("Successfully loaded private key.");
 		return privKey;
 	}
 
 	private X509Certificate loadOtherCertificate(String otherId)
 		throws CertificateException, SormasToSormasException, KeyStoreException, IOException, NoSuchAlgorithmException {
 
+		final String rootCaAlias = configFacadeEjb.getS2SConfig().getRootCaAlias();
+		X509Certificate rootCA = (X509Certificate) getTruststore().getCertificate(rootCaAlias);
+
+		if (rootCA == null) {
+			LOGGER.error("Unable to load CA root certificate for alias {}", rootCaAlias);
+			throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasCertNotGenerated);
+		}
+
+		return keyMaterialCache.getOtherCertificate(otherId, rootCA, () -> fetchOtherCertificate(otherId, rootCA));
+	}
+
+	private X509Certificate fetchOtherCertificate(String otherId, X509Certificate rootCA) throws CertificateException, SormasToSormasException {
+
 		byte[] certBytes = restClient.get(otherId, SormasToSormasApiConstants.RESOURCE_PATH + SormasToSormasApiConstants.CERT_ENDPOINT, byte[].class);
 
 		InputStream certStream = new ByteArrayInputStream(certBytes);
@@ -138,14 +151,6 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 			throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasCertNotGenerated);
 		}
 
-		final String rootCaAlias = configFacadeEjb.getS2SConfig().getRootCaAlias();
-		X509Certificate rootCA = (X509Certificate) getTruststore().getCertificate(rootCaAlias);
-
-		if (rootCA == null) {
-			LOGGER.error("Unable to load CA root certificate for alias {}", rootCaAlias);
-			throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasCertNotGenerated);
-		}
-
 		try {
 			receivedCert.verify(rootCA.getPublicKey());
 		} catch (CertificateException | NoSuchAlgorithmException | InvalidKeyException | NoSuchProviderException | SignatureException e) {
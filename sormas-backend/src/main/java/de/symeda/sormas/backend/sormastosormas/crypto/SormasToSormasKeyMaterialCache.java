@@ -0,0 +1,155 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.sormastosormas.crypto;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Singleton;
+
+import de.symeda.sormas.api.sormastosormas.SormasToSormasException;
+
+/**
+ * Keeps the key material needed to sign, encrypt, decrypt and verify sormas-to-sormas data so that it isn't loaded for every
+ * request.
+ * <p>
+ * Key stores are reloaded when their file has changed. The private keys are kept with the key store they have been read from.
+ * Certificates of other servers are kept for at most {@link #CERTIFICATE_TTL_MILLIS} and never beyond their own expiry, and only
+ * as long as they have been verified with the current root certificate.
+ */
+@Singleton(name = "SormasToSormasKeyMaterialCache")
+public class SormasToSormasKeyMaterialCache {
+
+	static final long CERTIFICATE_TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+	private final Map<List<String>, CachedStore> stores = new ConcurrentHashMap<>();
+	private final Map<String, CachedCertificate> otherCertificates = new ConcurrentHashMap<>();
+
+	@Lock(LockType.READ)
+	public KeyStore getStore(Path storePath, String password)
+		throws IOException, KeyStoreException, NoSuchAlgorithmException, CertificateException {
+		return getCachedStore(storePath, password).store;
+	}
+
+	@Lock(LockType.READ)
+	public PrivateKey getPrivateKey(Path keystorePath, String password, String alias)
+		throws IOException, KeyStoreException, NoSuchAlgorithmException, CertificateException, UnrecoverableKeyException {
+
+		CachedStore cachedStore = getCachedStore(keystorePath, password);
+		PrivateKey privateKey = cachedStore.privateKeys.get(alias);
+		if (privateKey == null) {
+			privateKey = (PrivateKey) cachedStore.store.getKey(alias, password.toCharArray());
+			if (privateKey != null) {
+				cachedStore.privateKeys.put(alias, privateKey);
+			}
+		}
+
+		return privateKey;
+	}
+
+	/**
+	 * @param rootCa
+	 *            The root certificate the certificate has to be verified with
+	 * @param loader
+	 *            Fetches and verifies the certificate if it isn't cached (anymore)
+	 */
+	@Lock(LockType.READ)
+	public X509Certificate getOtherCertificate(String otherId, X509Certificate rootCa, CertificateLoader loader)
+		throws SormasToSormasException, CertificateException {
+
+		long now = System.currentTimeMillis();
+		CachedCertificate cached = otherCertificates.get(otherId);
+		if (cached != null && cached.expiry > now && cached.rootCa.equals(rootCa)) {
+			return cached.certificate;
+		}
+
+		otherCertificates.values().removeIf(c -> c.expiry <= now);
+
+		X509Certificate certificate = loader.load();
+		long expiry = Math.min(now + CERTIFICATE_TTL_MILLIS, certificate.getNotAfter().getTime());
+		otherCertificates.put(otherId, new CachedCertificate(certificate, rootCa, expiry));
+
+		return certificate;
+	}
+
+	private CachedStore getCachedStore(Path storePath, String password)
+		throws IOException, KeyStoreException, NoSuchAlgorithmException, CertificateException {
+
+		List<String> key = Arrays.asList(storePath.toAbsolutePath().toString(), password);
+		BasicFileAttributes attributes = Files.readAttributes(storePath, BasicFileAttributes.class);
+		List<Object> version = Arrays.asList(attributes.lastModifiedTime(), attributes.size());
+
+		CachedStore cached = stores.get(key);
+		if (cached == null || !cached.version.equals(version)) {
+			KeyStore store = KeyStore.getInstance("pkcs12");
+			try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(storePath))) {
+				store.load(in, password.toCharArray());
+			}
+			cached = new CachedStore(store, version);
+			stores.put(key, cached);
+		}
+
+		return cached;
+	}
+
+	@FunctionalInterface
+	public interface CertificateLoader {
+
+		X509Certificate load() throws SormasToSormasException, CertificateException;
+	}
+
+	private static final class CachedStore {
+
+		private final KeyStore store;
+		private final List<Object> version;
+		private final Map<String, PrivateKey> privateKeys = new ConcurrentHashMap<>();
+
+		private CachedStore(KeyStore store, List<Object> version) {
+			this.store = store;
+			this.version = version;
+		}
+	}
+
+	private static final class CachedCertificate {
+
+		private final X509Certificate certificate;
+		private final X509Certificate rootCa;
+		private final long expiry;
+
+		private CachedCertificate(X509Certificate certificate, X509Certificate rootCa, long expiry) {
+			this.certificate = certificate;
+			this.rootCa = rootCa;
+			this.expiry = expiry;
+		}
+	}
+}
@@ -29,6 +29,7 @@ import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 
 import de.symeda.sormas.api.externalsurveillancetool.ExternalSurveillanceToolException;
 import de.symeda.sormas.api.sormastosormas.shareinfo.SormasToSormasShareInfoCriteria;
@@ -124,6 +125,21 @@ public class SormasToSormasShareInfoService extends AdoServiceWithUserFilter<Sor
 		return isOwnerShipHandedOver(SormasToSormasShareInfo.CASES, ShareInfoCase.CAZE, caze);
 	}
 
+	/**
+	 * Query equivalent of {@link #isCaseOwnershipHandedOver(Case)}.
+	 */
+	public Predicate createCaseOwnershipHandedOverFilter(CriteriaQuery<?> cq, CriteriaBuilder cb, From<?, Case> caseRoot) {
+
+		Subquery<Long> subquery = cq.subquery(Long.class);
+		Root<SormasToSormasShareInfo> shareInfoRoot = subquery.from(SormasToSormasShareInfo.class);
+		subquery.select(shareInfoRoot.get(SormasToSormasShareInfo.ID));
+		subquery.where(
+			cb.equal(shareInfoRoot.join(SormasToSormasShareInfo.CASES).get(ShareInfoCase.CAZE), caseRoot),
+			getOwnershipHandedOverFilter(cb, shareInfoRoot, ShareRequestStatus.ACCEPTED));
+
+		return cb.exists(subquery);
+	}
+
 	public boolean isEventOwnershipHandedOver(Event event) {
 		return isOwnerShipHandedOver(SormasToSormasShareInfo.EVENTS, ShareInfoEvent.EVENT, event);
 	}
@@ -48,9 +48,6 @@ import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Selection;
 import javax.validation.Valid;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import de.symeda.sormas.api.caze.BirthDateDto;
 import de.symeda.sormas.api.caze.CaseReferenceDto;
 import de.symeda.sormas.api.common.Page;
@@ -86,10 +83,10 @@ import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.CronService;
+import de.symeda.sormas.backend.common.IndexCountCache;
 import de.symeda.sormas.backend.common.messaging.MessageContents;
 import de.symeda.sormas.backend.common.messaging.MessageSubject;
 import de.symeda.sormas.backend.common.messaging.MessagingService;
-import de.symeda.sormas.backend.common.messaging.NotificationDeliveryFailedException;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb;
 import de.symeda.sormas.backend.contact.ContactQueryContext;
@@ -121,7 +118,6 @@ import de.symeda.sormas.backend.util.QueryHelper;
 public class TaskFacadeEjb implements TaskFacade {
 
 	private static final int ARCHIVE_BATCH_SIZE = 1000;
-	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
 	private EntityManager em;
@@ -129,6 +125,8 @@ public class TaskFacadeEjb implements TaskFacade {
 	@EJB
 	private TaskService taskService;
 	@EJB
+	private IndexCountCache indexCountCache;
+	@EJB
 	private UserService userService;
 	@EJB
 	private CaseService caseService;
@@ -295,28 +293,22 @@ public class TaskFacadeEjb implements TaskFacade {
 		}
 
 		if (ado.getTaskType() == TaskType.CONTACT_FOLLOW_UP && ado.getTaskStatus() == TaskStatus.DONE && ado.getContact() != null) {
-			try {
-				messagingService.sendMessages(() -> {
-					final List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
-						JurisdictionHelper.getContactRegions(ado.getContact()),
-						UserRole.SURVEILLANCE_SUPERVISOR,
-						UserRole.CASE_SUPERVISOR,
-						UserRole.CONTACT_SUPERVISOR);
-					final Map<User, String> mapToReturn = new HashMap<>();
-					messageRecipients.forEach(
-						user -> mapToReturn.put(
-							user,
-							String.format(
-								I18nProperties.getString(MessageContents.CONTENT_VISIT_COMPLETED),
-								DataHelper.getShortUuid(ado.getContact().getUuid()),
-								DataHelper.getShortUuid(ado.getAssigneeUser().getUuid()))));
-					return mapToReturn;
-				}, MessageSubject.VISIT_COMPLETED, MessageType.EMAIL, MessageType.SMS);
-			} catch (NotificationDeliveryFailedException e) {
-				logger.error(
-					String
-						.format("NotificationDeliveryFailedException when trying to notify supervisors about the completion of a follow-up visit."));
-			}
+			messagingService.sendMessages(() -> {
+				final List<User> messageRecipients = userService.getAllByRegionsAndUserRoles(
+					JurisdictionHelper.getContactRegions(ado.getContact()),
+					UserRole.SURVEILLANCE_SUPERVISOR,
+					UserRole.CASE_SUPERVISOR,
+					UserRole.CONTACT_SUPERVISOR);
+				final Map<User, String> mapToReturn = new HashMap<>();
+				messageRecipients.forEach(
+					user -> mapToReturn.put(
+						user,
+						String.format(
+							I18nProperties.getString(MessageContents.CONTENT_VISIT_COMPLETED),
+							DataHelper.getShortUuid(ado.getContact().getUuid()),
+							DataHelper.getShortUuid(ado.getAssigneeUser().getUuid()))));
+				return mapToReturn;
+			}, MessageSubject.VISIT_COMPLETED, MessageType.EMAIL, MessageType.SMS);
 		}
 
 		return toDto(ado, Pseudonymizer.getDefault(userService::hasRight));
@@ -335,6 +327,11 @@ public class TaskFacadeEjb implements TaskFacade {
 
 	@Override
 	public List<TaskDto> getAllActiveTasksAfter(Date date) {
+		return getAllActiveTasksAfter(date, null, null, null);
+	}
+
+	@Override
+	public List<TaskDto> getAllActiveTasksAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 
 		User user = userService.getCurrentUser();
 		if (user == null) {
@@ -342,7 +339,10 @@ public class TaskFacadeEjb implements TaskFacade {
 		}
 
 		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight);
-		return taskService.getAllActiveTasksAfter(date, user).stream().map(c -> toDto(c, pseudonymizer)).collect(Collectors.toList());
+		return taskService.getAllActiveTasksAfter(date, user, batchSize, lastChangeDate, lastSynchronizedUuid)
+			.stream()
+			.map(c -> toDto(c, pseudonymizer))
+			.collect(Collectors.toList());
 	}
 
 	@Override
@@ -354,6 +354,15 @@ public class TaskFacadeEjb implements TaskFacade {
 
 	@Override
 	public long count(TaskCriteria taskCriteria) {
+		return indexCountCache.count(Task.class, taskCriteria, false, () -> doCount(taskCriteria));
+	}
+
+	@Override
+	public Long getEstimatedCount(TaskCriteria taskCriteria) {
+		return indexCountCache.getEstimatedCount(Task.class, taskCriteria, false);
+	}
+
+	private long doCount(TaskCriteria taskCriteria) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
@@ -820,58 +829,50 @@ public class TaskFacadeEjb implements TaskFacade {
 		calendar.add(Calendar.MINUTE, CronService.TASK_UPDATE_INTERVAL * -1);
 		final Date before = calendar.getTime();
 
-		try {
-			messagingService.sendMessages(() -> {
-				final Map<User, String> mapToReturn = new HashMap<>();
-				final List<Task> startingTasks =
-					taskService.findBy(new TaskCriteria().taskStatus(TaskStatus.PENDING).startDateBetween(before, now), true);
-				for (Task task : startingTasks) {
-					final TaskContext context = task.getTaskContext();
-					final AbstractDomainObject associatedEntity = context == TaskContext.CASE
-						? task.getCaze()
-						: context == TaskContext.CONTACT ? task.getContact() : context == TaskContext.EVENT ? task.getEvent() : null;
-					if (task.getAssigneeUser() != null) {
-						mapToReturn.put(
-							task.getAssigneeUser(),
-							context == TaskContext.GENERAL
-								? String.format(I18nProperties.getString(MessageContents.CONTENT_TASK_START_GENERAL), task.getTaskType().toString())
-								: String.format(
-									I18nProperties.getString(MessageContents.CONTENT_TASK_START_SPECIFIC),
-									task.getTaskType().toString(),
-									buildAssociatedEntityLinkContent(context, associatedEntity)));
-					}
+		messagingService.sendMessages(() -> {
+			final Map<User, String> mapToReturn = new HashMap<>();
+			final List<Task> startingTasks =
+				taskService.findBy(new TaskCriteria().taskStatus(TaskStatus.PENDING).startDateBetween(before, now), true);
+			for (Task task : startingTasks) {
+				final TaskContext context = task.getTaskContext();
+				final AbstractDomainObject associatedEntity = context == TaskContext.CASE
+					? task.getCaze()
+					: context == TaskContext.CONTACT ? task.getContact() : context == TaskContext.EVENT ? task.getEvent() : null;
+				if (task.getAssigneeUser() != null) {
+					mapToReturn.put(
+						task.getAssigneeUser(),
+						context == TaskContext.GENERAL
+							? String.format(I18nProperties.getString(MessageContents.CONTENT_TASK_START_GENERAL), task.getTaskType().toString())
+							: String.format(
+								I18nProperties.getString(MessageContents.CONTENT_TASK_START_SPECIFIC),
+								task.getTaskType().toString(),
+								buildAssociatedEntityLinkContent(context, associatedEntity)));
 				}
-				return mapToReturn;
-			}, MessageSubject.TASK_START, MessageType.EMAIL, MessageType.SMS);
-		} catch (NotificationDeliveryFailedException e) {
-			logger.error(String.format("EmailDeliveryFailedException when trying to notify a user about a starting task."));
-		}
-
-		try {
-			messagingService.sendMessages(() -> {
-				final Map<User, String> mapToReturn = new HashMap<>();
-				final List<Task> dueTasks = taskService.findBy(new TaskCriteria().taskStatus(TaskStatus.PENDING).dueDateBetween(before, now), true);
-				for (Task task : dueTasks) {
-					final TaskContext context = task.getTaskContext();
-					final AbstractDomainObject associatedEntity = context == TaskContext.CASE
-						? task.getCaze()
-						: context == TaskContext.CONTACT ? task.getContact() : context == TaskContext.EVENT ? task.getEvent() : null;
-					if (task.getAssigneeUser() != null) {
-						mapToReturn.put(
-							task.getAssigneeUser(),
-							context == TaskContext.GENERAL
-								? String.format(I18nProperties.getString(MessageContents.CONTENT_TASK_DUE_GENERAL), task.getTaskType().toString())
-								: String.format(
-									I18nProperties.getString(MessageContents.CONTENT_TASK_DUE_SPECIFIC),
-									task.getTaskType().toString(),
-									buildAssociatedEntityLinkContent(context, associatedEntity)));
-					}
+			}
+			return mapToReturn;
+		}, MessageSubject.TASK_START, MessageType.EMAIL, MessageType.SMS);
+
+		messagingService.sendMessages(() -> {
+			final Map<User, String> mapToReturn = new HashMap<>();
+			final List<Task> dueTasks = taskService.findBy(new TaskCriteria().taskStatus(TaskStatus.PENDING).dueDateBetween(before, now), true);
+			for (Task task : dueTasks) {
+				final TaskContext context = task.getTaskContext();
+				final AbstractDomainObject associatedEntity = context == TaskContext.CASE
+					? task.getCaze()
+					: context == TaskContext.CONTACT ? task.getContact() : context == TaskContext.EVENT ? task.getEvent() : null;
+				if (task.getAssigneeUser() != null) {
+					mapToReturn.put(
+						task.getAssigneeUser(),
+						context == TaskContext.GENERAL
+							? String.format(I18nProperties.getString(MessageContents.CONTENT_TASK_DUE_GENERAL), task.getTaskType().toString())
+							: String.format(
+								I18nProperties.getString(MessageContents.CONTENT_TASK_DUE_SPECIFIC),
+								task.getTaskType().toString(),
+								buildAssociatedEntityLinkContent(context, associatedEntity)));
 				}
-				return mapToReturn;
-			}, MessageSubject.TASK_START, MessageType.EMAIL, MessageType.SMS);
-		} catch (NotificationDeliveryFailedException e) {
-			logger.error(String.format("EmailDeliveryFailedException when trying to notify a user about a due task."));
-		}
+			}
+			return mapToReturn;
+		}, MessageSubject.TASK_START, MessageType.EMAIL, MessageType.SMS);
 	}
 
 	private void validate(TaskDto task) throws ValidationRuntimeException {
@@ -29,6 +29,7 @@ import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
+import javax.inject.Inject;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
@@ -54,6 +55,7 @@ import de.symeda.sormas.backend.caze.CaseQueryContext;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.AdoServiceWithUserFilter;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+import de.symeda.sormas.backend.common.EntityRemovalEvent;
 import de.symeda.sormas.backend.common.TaskCreationException;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactJoins;
@@ -86,12 +88,26 @@ public class TaskService extends AdoServiceWithUserFilter<Task> {
 	private UserService userService;
 	@EJB
 	private TravelEntryService travelEntryService;
+	@Inject
+	private javax.enterprise.event.Event<EntityRemovalEvent> entityRemovalEvent;
 
 	public TaskService() {
 		super(Task.class);
 	}
 
+	@Override
+	public void delete(Task task) {
+
+		super.delete(task);
+		// tasks are removed, so the latest change date of the remaining tasks doesn't reveal the deletion
+		entityRemovalEvent.fire(new EntityRemovalEvent(Task.class));
+	}
+
 	public List<Task> getAllActiveTasksAfter(Date date, User user) {
+		return getAllActiveTasksAfter(date, user, null, null, null);
+	}
+
+	public List<Task> getAllActiveTasksAfter(Date date, User user, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Task> cq = cb.createQuery(getElementClass());
@@ -113,7 +129,7 @@ public class TaskService extends AdoServiceWithUserFilter<Task> {
 		cq.orderBy(cb.desc(from.get(Task.CHANGE_DATE)));
 		cq.distinct(true);
 
-		return em.createQuery(cq).getResultList();
+		return getSyncBatch(cq, from, batchSize, lastChangeDate, lastSynchronizedUuid);
 	}
 
 	public List<String> getAllActiveUuids(User user) {
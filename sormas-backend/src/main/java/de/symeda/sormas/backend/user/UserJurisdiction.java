@@ -0,0 +1,103 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.user;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import de.symeda.sormas.api.HasUuid;
+import de.symeda.sormas.api.user.JurisdictionLevel;
+import de.symeda.sormas.api.user.UserRole;
+
+/**
+ * The parts of a {@link User} that determine whether the user is within the jurisdiction of another user, without having to load
+ * the user entity and its associations.
+ */
+public class UserJurisdiction {
+
+	private final String uuid;
+	private final Set<UserRole> userRoles = EnumSet.noneOf(UserRole.class);
+	private final String pointOfEntryUuid;
+	private final String healthFacilityUuid;
+	private final String communityUuid;
+	private final String districtUuid;
+	private final String laboratoryUuid;
+
+	public UserJurisdiction(
+		String uuid,
+		String pointOfEntryUuid,
+		String healthFacilityUuid,
+		String communityUuid,
+		String districtUuid,
+		String laboratoryUuid) {
+
+		this.uuid = uuid;
+		this.pointOfEntryUuid = pointOfEntryUuid;
+		this.healthFacilityUuid = healthFacilityUuid;
+		this.communityUuid = communityUuid;
+		this.districtUuid = districtUuid;
+		this.laboratoryUuid = laboratoryUuid;
+	}
+
+	public static UserJurisdiction of(User user) {
+
+		UserJurisdiction jurisdiction = new UserJurisdiction(
+			user.getUuid(),
+			uuidOf(user.getPointOfEntry()),
+			uuidOf(user.getHealthFacility()),
+			uuidOf(user.getCommunity()),
+			uuidOf(user.getDistrict()),
+			uuidOf(user.getLaboratory()));
+		jurisdiction.userRoles.addAll(user.getUserRoles());
+		return jurisdiction;
+	}
+
+	private static String uuidOf(HasUuid entity) {
+		return entity != null ? entity.getUuid() : null;
+	}
+
+	void addUserRole(UserRole userRole) {
+		userRoles.add(userRole);
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public JurisdictionLevel getJurisdictionLevel() {
+		return UserRole.getJurisdictionLevel(userRoles);
+	}
+
+	public String getPointOfEntryUuid() {
+		return pointOfEntryUuid;
+	}
+
+	public String getHealthFacilityUuid() {
+		return healthFacilityUuid;
+	}
+
+	public String getCommunityUuid() {
+		return communityUuid;
+	}
+
+	public String getDistrictUuid() {
+		return districtUuid;
+	}
+
+	public String getLaboratoryUuid() {
+		return laboratoryUuid;
+	}
+}
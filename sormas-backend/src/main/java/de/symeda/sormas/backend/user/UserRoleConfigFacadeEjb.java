@@ -21,7 +21,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.EnumMap;
-import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,12 +30,15 @@ import java.util.stream.Collectors;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
 import javax.validation.Valid;
 
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.api.user.UserRoleConfigDto;
 import de.symeda.sormas.api.user.UserRoleConfigFacade;
+import de.symeda.sormas.backend.user.event.UserRoleConfigChangeEvent;
 import de.symeda.sormas.backend.util.DtoHelper;
 
 @Stateless(name = "UserRoleConfigFacade")
@@ -46,9 +48,10 @@ public class UserRoleConfigFacadeEjb implements UserRoleConfigFacade {
 	private UserRoleConfigService userRoleConfigService;
 	@EJB
 	private UserService userService;
-
-	//Assumption: UserRoleConfigs are not changed during runtime 
-	private Map<UserRole, Set<UserRight>> userRoleRightsCache;
+	@EJB
+	private UserRoleRightsCache userRoleRightsCache;
+	@Inject
+	private Event<UserRoleConfigChangeEvent> userRoleConfigChangeEvent;
 
 	@Override
 	public List<UserRoleConfigDto> getAllAfter(Date since) {
@@ -85,7 +88,7 @@ public class UserRoleConfigFacadeEjb implements UserRoleConfigFacade {
 
 		UserRoleConfig entity = fromDto(dto, true);
 		userRoleConfigService.ensurePersisted(entity);
-		resetUserRoleRightsCache();
+		userRoleConfigChangeEvent.fire(new UserRoleConfigChangeEvent(entity.getUserRole()));
 		return toDto(entity);
 	}
 
@@ -94,33 +97,16 @@ public class UserRoleConfigFacadeEjb implements UserRoleConfigFacade {
 
 		UserRoleConfig entity = userRoleConfigService.getByUuid(dto.getUuid());
 		userRoleConfigService.delete(entity);
-		resetUserRoleRightsCache();
+		userRoleConfigChangeEvent.fire(new UserRoleConfigChangeEvent(entity.getUserRole()));
 	}
 
 	@Override
 	public Set<UserRight> getEffectiveUserRights(UserRole... userRoles) {
-
-		Map<UserRole, Set<UserRight>> userRoleRights = getUserRoleRightsCached();
-
-		Set<UserRight> userRights = EnumSet.noneOf(UserRight.class);
-		for (UserRole userRole : userRoles) {
-			userRights.addAll(userRoleRights.get(userRole));
-		}
-
-		return userRights;
+		return userRoleRightsCache.getEffectiveUserRights(Arrays.asList(userRoles));
 	}
 
 	public void resetUserRoleRightsCache() {
-		userRoleRightsCache = null;
-	}
-
-	private Map<UserRole, Set<UserRight>> getUserRoleRightsCached() {
-
-		if (userRoleRightsCache == null) {
-			userRoleRightsCache = getAllAsMap();
-		}
-
-		return userRoleRightsCache;
+		userRoleRightsCache.invalidate();
 	}
 
 	public UserRoleConfig fromDto(UserRoleConfigDto source, boolean checkChangeDate) {
@@ -175,22 +161,6 @@ public class UserRoleConfigFacadeEjb implements UserRoleConfigFacade {
 	}
 
 	public Map<UserRole, Set<UserRight>> getAllAsMap() {
-		Map<UserRole, Set<UserRight>> map = new EnumMap<>(UserRole.class);
-
-		userRoleConfigService.getAll().forEach(c -> map.put(c.getUserRole(), c.getUserRights()));
-
-		//default values
-		Arrays.stream(UserRole.values()).forEach(r -> map.computeIfAbsent(r, UserRole::getDefaultUserRights));
-
-		//enum sets
-		map.replaceAll((k, v) -> {
-			if (v.isEmpty()) {
-				return EnumSet.noneOf(UserRight.class);
-			} else {
-				return EnumSet.copyOf(v);
-			}
-		});
-
-		return map;
+		return new EnumMap<>(userRoleRightsCache.getUserRoleRights());
 	}
 }
@@ -0,0 +1,152 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.user;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ejb.EJB;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Singleton;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+
+import de.symeda.sormas.api.user.UserRight;
+import de.symeda.sormas.api.user.UserRole;
+import de.symeda.sormas.backend.user.event.UserRoleConfigChangeEvent;
+
+/**
+ * Holds the rights of each user role and the effective rights of each role combination that has been asked for.
+ * <p>
+ * All sets handed out are immutable. A change of the user role configuration publishes a completely new snapshot, so lookups
+ * never need a lock. The snapshot is only dropped after the transaction changing a user role configuration has been committed,
+ * otherwise a lookup in between could load the old configuration again and keep it. A lookup that is still loading the
+ * configuration when it is dropped doesn't publish its snapshot, because the generation it has been loaded for is outdated.
+ * Assumption: UserRoleConfigs are only changed
+ * through this server during runtime.
+ */
+@Singleton(name = "UserRoleRightsCache")
+public class UserRoleRightsCache {
+
+	@EJB
+	private UserRoleConfigService userRoleConfigService;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	@Lock(LockType.READ)
+	public Set<UserRight> getEffectiveUserRights(Collection<UserRole> userRoles) {
+
+		long roleCombination = 0;
+		for (UserRole userRole : userRoles) {
+			roleCombination |= 1L << userRole.ordinal();
+		}
+
+		Snapshot current = getSnapshot();
+		return current.rightsByRoleCombination.computeIfAbsent(roleCombination, c -> current.combineRights(userRoles));
+	}
+
+	@Lock(LockType.READ)
+	public Map<UserRole, Set<UserRight>> getUserRoleRights() {
+		return getSnapshot().rightsByRole;
+	}
+
+	@Lock(LockType.READ)
+	public void invalidate() {
+		generation.incrementAndGet();
+		snapshot.set(null);
+	}
+
+	@Lock(LockType.READ)
+	public void onUserRoleConfigChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserRoleConfigChangeEvent event) {
+		invalidate();
+	}
+
+	private Snapshot getSnapshot() {
+
+		Snapshot current = snapshot.get();
+		long currentGeneration = generation.get();
+		if (current != null && current.generation == currentGeneration) {
+			return current;
+		}
+
+		Snapshot loaded = new Snapshot(currentGeneration, loadUserRoleRights());
+		if (generation.get() == currentGeneration) {
+			snapshot.compareAndSet(current, loaded);
+		}
+
+		return loaded;
+	}
+
+	private Map<UserRole, Set<UserRight>> loadUserRoleRights() {
+
+		Map<UserRole, Set<UserRight>> map = new EnumMap<>(UserRole.class);
+
+		userRoleConfigService.getAll().forEach(c -> map.put(c.getUserRole(), c.getUserRights()));
+
+		//default values
+		Arrays.stream(UserRole.values()).forEach(r -> map.computeIfAbsent(r, UserRole::getDefaultUserRights));
+
+		//immutable enum sets
+		map.replaceAll((k, v) -> {
+			if (v.isEmpty()) {
+				return Collections.unmodifiableSet(EnumSet.noneOf(UserRight.class));
+			} else {
+				return Collections.unmodifiableSet(EnumSet.copyOf(v));
+			}
+		});
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	private static final class Snapshot {
+
+		static {
+			// role combinations are keyed by a bitset of the role ordinals
+			if (UserRole.values().length > Long.SIZE) {
+				throw new IllegalStateException("Too many user roles for a long bitset: " + UserRole.values().length);
+			}
+		}
+
+		private final long generation;
+		private final Map<UserRole, Set<UserRight>> rightsByRole;
+		private final Map<Long, Set<UserRight>> rightsByRoleCombination = new ConcurrentHashMap<>();
+
+		private Snapshot(long generation, Map<UserRole, Set<UserRight>> rightsByRole) {
+			this.generation = generation;
+			this.rightsByRole = rightsByRole;
+		}
+
+		private Set<UserRight> combineRights(Collection<UserRole> userRoles) {
+
+			Set<UserRight> userRights = EnumSet.noneOf(UserRight.class);
+			for (UserRole userRole : userRoles) {
+				userRights.addAll(rightsByRole.get(userRole));
+			}
+
+			return Collections.unmodifiableSet(userRights);
+		}
+	}
+}
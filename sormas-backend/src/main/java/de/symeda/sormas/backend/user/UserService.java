@@ -17,15 +17,18 @@
  *******************************************************************************/
 package de.symeda.sormas.backend.user;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -49,6 +52,7 @@ import de.symeda.sormas.api.infrastructure.facility.FacilityType;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
 import de.symeda.sormas.api.user.JurisdictionLevel;
 import de.symeda.sormas.api.user.UserCriteria;
+import de.symeda.sormas.api.user.UserReferenceDto;
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.api.utils.DataHelper;
@@ -63,6 +67,7 @@ import de.symeda.sormas.backend.event.Event;
 import de.symeda.sormas.backend.infrastructure.facility.Facility;
 import de.symeda.sormas.backend.infrastructure.community.Community;
 import de.symeda.sormas.backend.infrastructure.district.District;
+import de.symeda.sormas.backend.infrastructure.pointofentry.PointOfEntry;
 import de.symeda.sormas.backend.infrastructure.region.Region;
 import de.symeda.sormas.backend.util.IterableHelper;
 import de.symeda.sormas.backend.util.ModelConstants;
@@ -72,7 +77,7 @@ import de.symeda.sormas.backend.util.ModelConstants;
 public class UserService extends AdoServiceWithUserFilter<User> {
 
 	@EJB
-	private UserRoleConfigFacadeEjb.UserRoleConfigFacadeEjbLocal userRoleConfigFacade;
+	private UserRoleRightsCache userRoleRightsCache;
 	@EJB
 	private ConfigFacadeEjbLocal configFacade;
 
@@ -386,6 +391,56 @@ public class UserService extends AdoServiceWithUserFilter<User> {
 		return responsibleUserByEventUuid;
 	}
 
+	/**
+	 * Loads the jurisdictions of the users referenced by the given entries of an index list, see
+	 * {@link #getUserJurisdictions(Collection)}.
+	 *
+	 * @param userGetter
+	 *            Returns the referenced user of an entry, may return {@code null}
+	 * @return The jurisdictions by user uuid
+	 */
+	public <T> Map<String, UserJurisdiction> getUserJurisdictions(Collection<T> entries, Function<T, UserReferenceDto> userGetter) {
+		return getUserJurisdictions(
+			entries.stream().map(userGetter).filter(Objects::nonNull).map(UserReferenceDto::getUuid).collect(Collectors.toSet()));
+	}
+
+	/**
+	 * Loads the jurisdictions of all given users with a single query per {@link ModelConstants#PARAMETER_LIMIT} users, so that
+	 * index lists don't need to load the user of each entry.
+	 *
+	 * @return The jurisdictions by user uuid
+	 */
+	public Map<String, UserJurisdiction> getUserJurisdictions(Collection<String> userUuids) {
+
+		Map<String, UserJurisdiction> jurisdictions = new HashMap<>();
+		IterableHelper.executeBatched(new ArrayList<>(userUuids), ModelConstants.PARAMETER_LIMIT, batchedUserUuids -> {
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+			Root<User> root = cq.from(User.class);
+
+			cq.multiselect(
+				root.get(User.UUID),
+				root.join(User.USER_ROLES, JoinType.LEFT),
+				root.join(User.POINT_OF_ENTRY, JoinType.LEFT).get(PointOfEntry.UUID),
+				root.join(User.HEALTH_FACILITY, JoinType.LEFT).get(Facility.UUID),
+				root.join(User.COMMUNITY, JoinType.LEFT).get(Community.UUID),
+				root.join(User.DISTRICT, JoinType.LEFT).get(District.UUID),
+				root.join(User.LABORATORY, JoinType.LEFT).get(Facility.UUID));
+			cq.where(root.get(User.UUID).in(batchedUserUuids));
+
+			// one row per user role
+			for (Object[] row : em.createQuery(cq).getResultList()) {
+				UserJurisdiction jurisdiction = jurisdictions.computeIfAbsent(
+					(String) row[0],
+					uuid -> new UserJurisdiction(uuid, (String) row[2], (String) row[3], (String) row[4], (String) row[5], (String) row[6]));
+				if (row[1] != null) {
+					jurisdiction.addUserRole((UserRole) row[1]);
+				}
+			}
+		});
+		return jurisdictions;
+	}
+
 	public boolean isLoginUnique(String uuid, String userName) {
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		ParameterExpression<String> userNameParam = cb.parameter(String.class, User.USER_NAME);
@@ -548,7 +603,7 @@ public class UserService extends AdoServiceWithUserFilter<User> {
 
 	public boolean hasRight(UserRight right) {
 		User currentUser = getCurrentUser();
-		return userRoleConfigFacade.getEffectiveUserRights(currentUser.getUserRoles().toArray(new UserRole[0])).contains(right);
+		return userRoleRightsCache.getEffectiveUserRights(currentUser.getUserRoles()).contains(right);
 	}
 
 	public boolean hasRegion(RegionReferenceDto regionReference) {
@@ -22,6 +22,7 @@ public interface ModelConstants {
 	String PERSISTENCE_UNIT_NAME = "SormasPU";
 	String PERSISTENCE_UNIT_NAME_AUDITLOG = "auditlogPU";
 	String HINT_HIBERNATE_READ_ONLY = "org.hibernate.readOnly";
+	String HINT_HIBERNATE_FETCH_SIZE = "org.hibernate.fetchSize";
 
 	/**
 	 * Hard limit how much parameter can be allowed in a query.<br />
@@ -28,6 +28,7 @@ import de.symeda.sormas.api.utils.fieldaccess.checkers.SensitiveDataFieldAccessC
 import de.symeda.sormas.api.utils.pseudonymization.DtoPseudonymizer;
 import de.symeda.sormas.api.utils.pseudonymization.PseudonymizableDto;
 import de.symeda.sormas.backend.user.User;
+import de.symeda.sormas.backend.user.UserJurisdiction;
 
 public class Pseudonymizer extends DtoPseudonymizer {
 
@@ -64,6 +65,14 @@ public class Pseudonymizer extends DtoPseudonymizer {
 	}
 
 	public boolean pseudonymizeUser(User dtoUser, User currentUser, Consumer<UserReferenceDto> setPseudonymizedValue) {
+		return pseudonymizeUser(dtoUser != null ? UserJurisdiction.of(dtoUser) : null, currentUser, setPseudonymizedValue);
+	}
+
+	/**
+	 * Same as {@link #pseudonymizeUser(User, User, Consumer)}, for users whose jurisdiction has been loaded for a whole list by
+	 * {@link de.symeda.sormas.backend.user.UserService#getUserJurisdictions}.
+	 */
+	public boolean pseudonymizeUser(UserJurisdiction dtoUser, User currentUser, Consumer<UserReferenceDto> setPseudonymizedValue) {
 		boolean isInJurisdiction = dtoUser == null || isUserInJurisdiction(dtoUser, currentUser);
 
 		SensitiveDataFieldAccessChecker sensitiveDataFieldAccessChecker = getSensitiveDataFieldAccessChecker(isInJurisdiction);
@@ -82,7 +91,7 @@ public class Pseudonymizer extends DtoPseudonymizer {
 		DTO dto,
 		Consumer<UserReferenceDto> setPseudonymizedValue) {
 
-		boolean isInJurisdiction = originalDtoUser == null || isUserInJurisdiction(originalDtoUser, currentUser);
+		boolean isInJurisdiction = originalDtoUser == null || isUserInJurisdiction(UserJurisdiction.of(originalDtoUser), currentUser);
 
 		SensitiveDataFieldAccessChecker sensitiveDataFieldAccessChecker = getSensitiveDataFieldAccessChecker(isInJurisdiction);
 		if (sensitiveDataFieldAccessChecker != null && !sensitiveDataFieldAccessChecker.hasRight() || dto.isPseudonymized()) {
@@ -90,30 +99,30 @@ public class Pseudonymizer extends DtoPseudonymizer {
 		}
 	}
 
-	private boolean isUserInJurisdiction(User user, User currentUser) {
+	private boolean isUserInJurisdiction(UserJurisdiction user, User currentUser) {
 
 		if (user.getJurisdictionLevel() == JurisdictionLevel.NATION || user.getJurisdictionLevel() == JurisdictionLevel.REGION) {
 			return true;
 		}
 
 		if (currentUser.getPointOfEntry() != null) {
-			return DataHelper.isSame(currentUser.getPointOfEntry(), user.getPointOfEntry());
+			return DataHelper.equal(currentUser.getPointOfEntry().getUuid(), user.getPointOfEntryUuid());
 		}
 
 		if (currentUser.getHealthFacility() != null) {
-			return DataHelper.isSame(currentUser.getHealthFacility(), user.getHealthFacility());
+			return DataHelper.equal(currentUser.getHealthFacility().getUuid(), user.getHealthFacilityUuid());
 		}
 
 		if (currentUser.getCommunity() != null) {
-			return DataHelper.isSame(currentUser.getCommunity(), user.getCommunity());
+			return DataHelper.equal(currentUser.getCommunity().getUuid(), user.getCommunityUuid());
 		}
 
 		if (currentUser.getDistrict() != null) {
-			return DataHelper.isSame(currentUser.getDistrict(), user.getDistrict());
+			return DataHelper.equal(currentUser.getDistrict().getUuid(), user.getDistrictUuid());
 		}
 
 		if (currentUser.getLaboratory() != null) {
-			return DataHelper.isSame(currentUser.getLaboratory(), user.getLaboratory());
+			return DataHelper.equal(currentUser.getLaboratory().getUuid(), user.getLaboratoryUuid());
 		}
 
 		return true;
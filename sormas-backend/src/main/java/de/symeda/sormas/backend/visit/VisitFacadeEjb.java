@@ -23,6 +23,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -49,9 +51,6 @@ import javax.persistence.criteria.Root;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import de.symeda.sormas.api.VisitOrigin;
 import de.symeda.sormas.api.caze.CaseDataDto;
 import de.symeda.sormas.api.caze.CaseReferenceDto;
@@ -89,7 +88,6 @@ import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.messaging.MessageContents;
 import de.symeda.sormas.backend.common.messaging.MessageSubject;
 import de.symeda.sormas.backend.common.messaging.MessagingService;
-import de.symeda.sormas.backend.common.messaging.NotificationDeliveryFailedException;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactQueryContext;
 import de.symeda.sormas.backend.contact.ContactService;
@@ -111,8 +109,6 @@ import de.symeda.sormas.backend.util.QueryHelper;
 @Stateless(name = "VisitFacade")
 public class VisitFacadeEjb implements VisitFacade {
 
-	private final Logger logger = LoggerFactory.getLogger(getClass());
-
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
 	private EntityManager em;
 
@@ -149,8 +145,16 @@ public class VisitFacadeEjb implements VisitFacade {
 	 */
 	@Override
 	public List<VisitDto> getAllActiveVisitsAfter(Date date) {
+		return getAllActiveVisitsAfter(date, null, null, null);
+	}
+
+	@Override
+	public List<VisitDto> getAllActiveVisitsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight);
-		return visitService.getAllActiveVisitsAfter(date).stream().map(c -> convertToDto(c, pseudonymizer)).collect(Collectors.toList());
+		return visitService.getAllActiveVisitsAfter(date, batchSize, lastChangeDate, lastSynchronizedUuid)
+			.stream()
+			.map(c -> convertToDto(c, pseudonymizer))
+			.collect(Collectors.toList());
 	}
 
 	@Override
@@ -204,6 +208,35 @@ public class VisitFacadeEjb implements VisitFacade {
 
 	@Override
 	public VisitDto saveVisit(@Valid VisitDto dto) {
+		return saveVisit(dto, null);
+	}
+
+	@Override
+	public List<VisitDto> saveVisits(@Valid List<VisitDto> dtos) {
+
+		DeferredVisitChanges deferredChanges = new DeferredVisitChanges();
+		List<VisitDto> savedVisits = new ArrayList<>(dtos.size());
+		for (VisitDto dto : dtos) {
+			savedVisits.add(saveVisit(dto, deferredChanges));
+		}
+
+		for (Contact contact : deferredChanges.followUpContacts) {
+			contactService.updateFollowUpDetails(contact, false);
+		}
+		deferredChanges.caseSymptoms.forEach((caze, visitSymptoms) -> {
+			CaseDataDto caseDto = CaseFacadeEjb.toDto(caze);
+			visitSymptoms.forEach(symptoms -> SymptomsHelper.updateSymptoms(symptoms, caseDto.getSymptoms()));
+			caseFacade.saveCase(caseDto);
+		});
+
+		return savedVisits;
+	}
+
+	/**
+	 * @param deferredChanges
+	 *            Collects the follow-up and case updates instead of executing them directly, {@code null} to update directly.
+	 */
+	private VisitDto saveVisit(VisitDto dto, DeferredVisitChanges deferredChanges) {
 		final String visitUuid = dto.getUuid();
 		final Visit existingVisit = visitUuid != null ? visitService.getByUuid(visitUuid) : null;
 		final VisitDto existingDto = toDto(existingVisit);
@@ -221,7 +254,7 @@ public class VisitFacadeEjb implements VisitFacade {
 
 		visitService.ensurePersisted(entity);
 
-		onVisitChanged(existingDto, entity);
+		onVisitChanged(existingDto, entity, deferredChanges);
 
 		return convertToDto(entity, Pseudonymizer.getDefault(userService::hasRight));
 	}
@@ -561,7 +594,7 @@ public class VisitFacadeEjb implements VisitFacade {
 		return target;
 	}
 
-	private void onVisitChanged(VisitDto existingVisit, Visit newVisit) {
+	private void onVisitChanged(VisitDto existingVisit, Visit newVisit, DeferredVisitChanges deferredChanges) {
 		updateContactVisitAssociations(existingVisit, newVisit);
 		updateCaseVisitAssociations(existingVisit, newVisit);
 
@@ -581,48 +614,51 @@ public class VisitFacadeEjb implements VisitFacade {
 				}
 
 				Case contactCase = contact.getCaze();
-				try {
-					String messageContent;
-					if (contactCase != null) {
-						messageContent = String.format(
-							I18nProperties.getString(MessageContents.CONTENT_CONTACT_SYMPTOMATIC),
-							DataHelper.getShortUuid(contact.getUuid()),
-							DataHelper.getShortUuid(contactCase.getUuid()));
-					} else {
-						messageContent = String.format(
-							I18nProperties.getString(MessageContents.CONTENT_CONTACT_WITHOUT_CASE_SYMPTOMATIC),
-							DataHelper.getShortUuid(contact.getUuid()));
-					}
-
-					messagingService.sendMessages(() -> {
-						final Map<User, String> mapToReturn = new HashMap<>();
-						userService
-							.getAllByRegionsAndUserRoles(
-								JurisdictionHelper.getContactRegions(contact),
-								UserRole.SURVEILLANCE_SUPERVISOR,
-								UserRole.CONTACT_SUPERVISOR)
-							.forEach(user -> mapToReturn.put(user, messageContent));
-						return mapToReturn;
-					}, MessageSubject.CONTACT_SYMPTOMATIC, MessageType.EMAIL, MessageType.SMS);
-				} catch (NotificationDeliveryFailedException e) {
-					logger.error(
-						String.format("EmailDeliveryFailedException when trying to notify supervisors about a contact that has become symptomatic."));
+				String messageContent;
+				if (contactCase != null) {
+					messageContent = String.format(
+						I18nProperties.getString(MessageContents.CONTENT_CONTACT_SYMPTOMATIC),
+						DataHelper.getShortUuid(contact.getUuid()),
+						DataHelper.getShortUuid(contactCase.getUuid()));
+				} else {
+					messageContent = String.format(
+						I18nProperties.getString(MessageContents.CONTENT_CONTACT_WITHOUT_CASE_SYMPTOMATIC),
+						DataHelper.getShortUuid(contact.getUuid()));
 				}
+
+				messagingService.sendMessages(() -> {
+					final Map<User, String> mapToReturn = new HashMap<>();
+					userService
+						.getAllByRegionsAndUserRoles(
+							JurisdictionHelper.getContactRegions(contact),
+							UserRole.SURVEILLANCE_SUPERVISOR,
+							UserRole.CONTACT_SUPERVISOR)
+						.forEach(user -> mapToReturn.put(user, messageContent));
+					return mapToReturn;
+				}, MessageSubject.CONTACT_SYMPTOMATIC, MessageType.EMAIL, MessageType.SMS);
 			}
 		}
 
 		if (newVisit.getContacts() != null) {
-			for (Contact contact : newVisit.getContacts()) {
-				contactService.updateFollowUpDetails(contact, false);
+			if (deferredChanges != null) {
+				deferredChanges.followUpContacts.addAll(newVisit.getContacts());
+			} else {
+				for (Contact contact : newVisit.getContacts()) {
+					contactService.updateFollowUpDetails(contact, false);
+				}
 			}
 		}
 
 		if (newVisit.getCaze() != null) {
-			// Update case symptoms
-			CaseDataDto caze = CaseFacadeEjb.toDto(newVisit.getCaze());
-			SymptomsDto caseSymptoms = caze.getSymptoms();
-			SymptomsHelper.updateSymptoms(toDto(newVisit).getSymptoms(), caseSymptoms);
-			caseFacade.saveCase(caze);
+			if (deferredChanges != null) {
+				deferredChanges.caseSymptoms.computeIfAbsent(newVisit.getCaze(), c -> new ArrayList<>()).add(toDto(newVisit).getSymptoms());
+			} else {
+				// Update case symptoms
+				CaseDataDto caze = CaseFacadeEjb.toDto(newVisit.getCaze());
+				SymptomsDto caseSymptoms = caze.getSymptoms();
+				SymptomsHelper.updateSymptoms(toDto(newVisit).getSymptoms(), caseSymptoms);
+				caseFacade.saveCase(caze);
+			}
 		}
 	}
 
@@ -661,4 +697,13 @@ public class VisitFacadeEjb implements VisitFacade {
 	public static class VisitFacadeEjbLocal extends VisitFacadeEjb {
 
 	}
+
+	/**
+	 * Updates of a bulk save that only have to be done once per contact or case.
+	 */
+	private static class DeferredVisitChanges {
+
+		private final Set<Contact> followUpContacts = new LinkedHashSet<>();
+		private final Map<Case, List<SymptomsDto>> caseSymptoms = new LinkedHashMap<>();
+	}
 }
@@ -146,15 +146,25 @@ public class VisitService extends BaseAdoService<Visit> {
 	 * Attention: For now this only returns the visits of contacts, since case visits are not yet implemented in the mobile app
 	 */
 	public List<Visit> getAllActiveVisitsAfter(Date date) {
+		return getAllActiveVisitsAfter(date, null, null, null);
+	}
+
+	public List<Visit> getAllActiveVisitsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
+
+		if (batchSize != null) {
+			// as long as case visits are not synchronized, the batches can be taken directly from the contact visits
+			return getAllActiveVisitsInContactsAfter(date, batchSize, lastChangeDate, lastSynchronizedUuid);
+		}
+
 		List<Visit> result = new ArrayList<>();
-		result.addAll(getAllActiveVisitsInContactsAfter(date));
+		result.addAll(getAllActiveVisitsInContactsAfter(date, null, null, null));
 		// include when case visits are implemented for the mobile app
 //		result.addAll(getAllActiveVisitsInCasesAfter(date));
 
 		return result.stream().distinct().sorted(Comparator.comparing(AbstractDomainObject::getId)).collect(Collectors.toList());
 	}
 
-	private List<Visit> getAllActiveVisitsInContactsAfter(Date date) {
+	private List<Visit> getAllActiveVisitsInContactsAfter(Date date, Integer batchSize, Date lastChangeDate, String lastSynchronizedUuid) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Visit> visitsQuery = cb.createQuery(Visit.class);
@@ -176,7 +186,7 @@ public class VisitService extends BaseAdoService<Visit> {
 		visitsQuery.distinct(true);
 		visitsQuery.orderBy(cb.asc(visitJoin.get(AbstractDomainObject.ID)));
 
-		return em.createQuery(visitsQuery).getResultList();
+		return getSyncBatch(visitsQuery, visitJoin, batchSize, lastChangeDate, lastSynchronizedUuid);
 	}
 
 	private List<Visit> getAllActiveVisitsInCasesAfter(Date date) {
@@ -0,0 +1,249 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.visualization;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.contact.ContactProximity;
+
+/**
+ * Builds the disease network diagram of persons (nodes) and their contacts (edges) as the JSON data of a visNetwork htmlwidget.
+ * <p>
+ * Each person is shown with the classification of their earliest case. Multiple contacts between the same two persons are shown
+ * as one edge, which is a high risk contact if any of them is. Texts in curly brackets are internationalization keys.
+ */
+final class TransmissionChainGraph {
+
+	private static final String HEALTHY = "HEALTHY";
+
+	/**
+	 * Classifications shown in the diagram and their colors, see CountElementStyle and the count-element styles.
+	 */
+	private static final Map<String, String> CLASSIFICATION_COLORS;
+	static {
+		Map<String, String> map = new LinkedHashMap<>();
+		map.put(HEALTHY, "#32CD32");
+		map.put(CaseClassification.NOT_CLASSIFIED.name(), "#808080");
+		map.put(CaseClassification.SUSPECT.name(), "#c8aa00");
+		map.put(CaseClassification.PROBABLE.name(), "#be6900");
+		map.put(CaseClassification.CONFIRMED.name(), "#c80000");
+		map.put(CaseClassification.CONFIRMED_NO_SYMPTOMS.name(), "#C80000B2");
+		map.put(CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS.name(), "#C800007F");
+		CLASSIFICATION_COLORS = Collections.unmodifiableMap(map);
+	}
+
+	private static final Set<ContactProximity> HIGH_RISK_PROXIMITIES = Collections.unmodifiableSet(
+		EnumSet.of(
+			ContactProximity.FACE_TO_FACE_LONG,
+			ContactProximity.TOUCHED_FLUID,
+			ContactProximity.MEDICAL_UNSAFE,
+			ContactProximity.CLOTHES_OR_OTHER,
+			ContactProximity.PHYSICAL_CONTACT));
+
+	// Persons without a case come last, otherwise the earliest case wins
+	private static final Comparator<Node> NODE_PRIORITY = Comparator.comparing((Node n) -> n.caseUuid == null)
+		.thenComparing(n -> n.reportDate, Comparator.nullsLast(Comparator.naturalOrder()))
+		.thenComparing(n -> n.caseUuid, Comparator.nullsLast(Comparator.naturalOrder()));
+
+	private static final String DEFAULT_FONT = "font-family:'Open Sans', sans-serif, 'Source Sans Pro'";
+	private static final String ICON_CODE_PERSON = "f007";
+	private static final String ICON_CODE_ARROW = "f178";
+	private static final String HIDE_COLOR = "rgba(200,200,200,0.5)";
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final Map<Long, Node> nodes = new TreeMap<>();
+	private final Map<List<Long>, Boolean> edges = new LinkedHashMap<>();
+
+	/**
+	 * Adds a person to the diagram.
+	 *
+	 * @param caseUuid
+	 *            A case of the person, or null if the person is only known as a contact
+	 */
+	void addPerson(long personId, String caseUuid, Date reportDate, CaseClassification caseClassification) {
+
+		Node node = new Node(personId, caseUuid, reportDate, caseClassification);
+		nodes.merge(personId, node, (n1, n2) -> NODE_PRIORITY.compare(n1, n2) <= 0 ? n1 : n2);
+	}
+
+	/**
+	 * Adds the transmission from a case person to a contact person. Both persons have to be added separately.
+	 */
+	void addContact(long casePersonId, long contactPersonId, ContactProximity contactProximity) {
+
+		if (casePersonId == contactPersonId) {
+			return;
+		}
+
+		boolean highRisk = contactProximity != null && HIGH_RISK_PROXIMITIES.contains(contactProximity);
+		edges.merge(Arrays.asList(casePersonId, contactPersonId), highRisk, Boolean::logicalOr);
+	}
+
+	String toJson() {
+
+		ObjectNode x = OBJECT_MAPPER.createObjectNode();
+
+		ArrayNode nodesJson = x.putArray("nodes");
+		Set<String> groups = new LinkedHashSet<>();
+		for (Node node : nodes.values()) {
+			String classification = node.getClassificationKey();
+			groups.add(classification);
+			ObjectNode nodeJson = nodesJson.addObject().put("id", node.personId).put("uuid", node.caseUuid);
+			nodeJson.put("label", node.caseUuid != null ? node.caseUuid.substring(0, Math.min(6, node.caseUuid.length())).toUpperCase() : null);
+			nodeJson.put("Classification", classification).put("group", classification);
+		}
+
+		// high risk contacts first
+		List<Map.Entry<List<Long>, Boolean>> sortedEdges = new ArrayList<>(edges.entrySet());
+		sortedEdges.sort(Comparator.comparing(e -> !e.getValue()));
+		ArrayNode edgesJson = x.putArray("edges");
+		for (Map.Entry<List<Long>, Boolean> edge : sortedEdges) {
+			boolean highRisk = edge.getValue();
+			edgesJson.addObject()
+				.put("from", edge.getKey().get(0))
+				.put("to", edge.getKey().get(1))
+				.put("label", highRisk ? "1" : "2")
+				.put("dashes", !highRisk);
+		}
+		x.put("nodesToDataframe", false);
+		x.put("edgesToDataframe", false);
+
+		ObjectNode options = x.putObject("options");
+		options.put("width", "100%").put("height", "100%");
+		options.putObject("nodes").put("shape", "dot");
+		options.putObject("manipulation").put("enabled", false);
+		ObjectNode edgeOptions = options.putObject("edges").put("arrows", "to").put("color", "black");
+		edgeOptions.putObject("smooth").put("type", "continuous");
+		ObjectNode groupOptions = options.putObject("groups");
+		for (Map.Entry<String, String> classificationColor : CLASSIFICATION_COLORS.entrySet()) {
+			ObjectNode group = groupOptions.putObject(toClassificationKey(classificationColor.getKey())).put("size", 10).put("shape", "icon");
+			group.putObject("icon").put("face", "FontAwesome").put("code", ICON_CODE_PERSON).put("color", classificationColor.getValue());
+		}
+		ObjectNode physics = options.putObject("physics").put("solver", "barnesHut");
+		physics.putObject("barnesHut").put("damping", 0.26).put("avoidOverlap", 0.2);
+		options.putObject("interaction").put("dragNodes", true).put("dragView", true).put("zoomView", true);
+
+		ArrayNode groupsJson = x.putArray("groups");
+		groups.forEach(groupsJson::add);
+		x.put("width", "100%");
+		x.putNull("height");
+		x.putObject("idselection").put("enabled", false);
+		ObjectNode byselection = x.putObject("byselection")
+			.put("enabled", true)
+			.put("style", "width: 150px; height: 26px")
+			.put("multiple", false)
+			.put("hideColor", HIDE_COLOR)
+			.put("highlight", false)
+			.put("variable", "Classification")
+			.put("main", "{selectByClassification}");
+		ArrayNode byselectionValues = byselection.putArray("values");
+		CLASSIFICATION_COLORS.keySet().forEach(c -> byselectionValues.add(toClassificationKey(c)));
+		x.putObject("highlight")
+			.put("enabled", true)
+			.put("hoverNearest", false)
+			.put("degree", 1)
+			.put("algorithm", "all")
+			.put("hideColor", HIDE_COLOR)
+			.put("labelOnly", true);
+
+		x.putObject("main")
+			.put("text", "{heading}")
+			.put("style", String.join("; ", DEFAULT_FONT, "color: #6591C4", ";font-weight: 600", "font-size: 1.6em", "text-align:center;"));
+		x.putObject("submain").put("text", "{subheading}").put("style", String.join("; ", DEFAULT_FONT, "text-align:center;"));
+		x.putNull("footer");
+		x.put("background", "white");
+
+		ObjectNode legend = x.putObject("legend")
+			.put("width", 0.2)
+			.put("useGroups", false)
+			.put("position", "left")
+			.put("ncol", 1)
+			.put("stepX", 100)
+			.put("stepY", 100)
+			.put("zoom", true)
+			.put("nodesToDataframe", false);
+		ArrayNode legendNodes = legend.putArray("nodes");
+		for (Map.Entry<String, String> classificationColor : CLASSIFICATION_COLORS.entrySet()) {
+			addLegendNode(legendNodes, toClassificationKey(classificationColor.getKey()), ICON_CODE_PERSON, classificationColor.getValue());
+		}
+		addLegendNode(legendNodes, "1 = {highRisk}", ICON_CODE_ARROW, "#0d0c0c");
+		addLegendNode(legendNodes, "2 = {lowRisk}", ICON_CODE_ARROW, "#0d0c0c");
+		legend.putObject("main")
+			.put("text", "{legend}")
+			.put("style", "font-family:Georgia, Times New Roman, Times, serif;font-weight:bold;font-size:14px;text-align:center;");
+
+		ObjectNode widget = OBJECT_MAPPER.createObjectNode();
+		widget.set("x", x);
+		widget.putArray("evals");
+		widget.putArray("jsHooks");
+
+		try {
+			return OBJECT_MAPPER.writeValueAsString(widget);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void addLegendNode(ArrayNode legendNodes, String label, String iconCode, String color) {
+		ObjectNode legendNode = legendNodes.addObject().put("label", label).put("shape", "icon");
+		legendNode.putObject("icon").put("code", iconCode).put("size", 25).put("color", color);
+	}
+
+	private static String toClassificationKey(String classification) {
+		return "{Classification." + classification + "}";
+	}
+
+	private static final class Node {
+
+		private final long personId;
+		private final String caseUuid;
+		private final Date reportDate;
+		private final CaseClassification caseClassification;
+
+		private Node(long personId, String caseUuid, Date reportDate, CaseClassification caseClassification) {
+			this.personId = personId;
+			this.caseUuid = caseUuid;
+			this.reportDate = reportDate;
+			this.caseClassification = caseClassification;
+		}
+
+		private String getClassificationKey() {
+			if (caseClassification == null || !CLASSIFICATION_COLORS.containsKey(caseClassification.name())) {
+				return toClassificationKey(HEALTHY);
+			}
+			return toClassificationKey(caseClassification.name());
+		}
+	}
+}
@@ -17,26 +17,16 @@
  *******************************************************************************/
 package de.symeda.sormas.backend.visualization;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.Reader;
-import java.io.UncheckedIOException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
@@ -50,18 +40,11 @@ import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.parser.Parser;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.Language;
 import de.symeda.sormas.api.caze.CaseClassification;
 import de.symeda.sormas.api.contact.ContactClassification;
+import de.symeda.sormas.api.contact.ContactProximity;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
@@ -69,25 +52,18 @@ import de.symeda.sormas.api.visualization.VisualizationFacade;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
-import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactService;
 import de.symeda.sormas.backend.infrastructure.district.District;
 import de.symeda.sormas.backend.infrastructure.region.Region;
+import de.symeda.sormas.backend.person.Person;
+import de.symeda.sormas.backend.util.IterableHelper;
 import de.symeda.sormas.backend.util.ModelConstants;
 
 @Stateless(name = "VisualizationFacade")
 public class VisualizationFacadeEjb implements VisualizationFacade {
 
-	static final String SORMAS_DATA_POOL_JNDI = "jdbc/sormasDataPool";
-
-	//	private static final String TRANSMISSION_CHAIN_SCRIPT = "transmission_chain.r";
-	private static final String TRANSMISSION_CHAIN_SCRIPT = "transform_contact.R";
-	private static final String[] REQUIRED_SCRIPTS = {
-		"encodeGraphic.R",
-		"networkFunction.R" };
-
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
 	private EntityManager em;
 
@@ -95,8 +71,6 @@ public class VisualizationFacadeEjb implements VisualizationFacade {
 	private CaseService caseService;
 	@EJB
 	private ContactService contactService;
-	@EJB
-	private ConfigFacadeEjbLocal configFacade;
 
 	@Override
 	public String buildTransmissionChainJson(
@@ -107,22 +81,16 @@ public class VisualizationFacadeEjb implements VisualizationFacade {
 		Collection<Disease> diseases,
 		Language language) {
 
-		String rExecutable = configFacade.getRScriptExecutable();
-		if (StringUtils.isBlank(rExecutable)) {
-			return null;
-		}
-		Path tempBasePath = new File(configFacade.getTempFilesPath()).toPath();
-
-		Collection<Long> contactIds = getContactIds(fromDate, toDate, region, district, diseases);
+		List<Long> contactIds = getContactIds(fromDate, toDate, region, district, diseases);
 
 		if (contactIds.isEmpty()) {
 			return null;
 		}
 
-		//working dir is the config directory of the domain
-		Path domainXmlPath = Paths.get("domain.xml");
+		TransmissionChainGraph graph = new TransmissionChainGraph();
+		IterableHelper.executeBatched(contactIds, ModelConstants.PARAMETER_LIMIT, batchedContactIds -> addContacts(graph, batchedContactIds));
 
-		return buildTransmissionChainJson(rExecutable, tempBasePath, domainXmlPath, contactIds, language);
+		return doI18n(graph.toJson(), language);
 	}
 
 	@Override
@@ -139,7 +107,7 @@ public class VisualizationFacadeEjb implements VisualizationFacade {
 		return em.createQuery(cq).getSingleResult();
 	}
 
-	private Collection<Long> getContactIds(
+	private List<Long> getContactIds(
 		Date fromDate,
 		Date toDate,
 		RegionReferenceDto region,
@@ -184,172 +152,46 @@ public class VisualizationFacadeEjb implements VisualizationFacade {
 			district == null ? null : cb.equal(root.join(Contact.DISTRICT).get(District.UUID), district.getUuid()));
 	}
 
-	enum EnvParam {
-
-		DB_USER("user"),
-		DB_PASS("password"),
-		DB_NAME("databaseName"),
-		DB_HOST("serverName"),
-		DB_PORT("portNumber"),
-		CONTACT_IDS,
-		HIERARCHICAL,
-		OUTFILE;
-
-		private final String propertyName;
-
-		EnvParam() {
-			this(null);
-		}
-
-		EnvParam(String propertyName) {
-			this.propertyName = propertyName;
-
-		}
-
-		String toEnv(String value) {
-			return value == null ? null : (this.name() + '=' + value);
-		}
-
-		void put(Map<String, String> env, String value) {
-			if (value == null) {
-				env.remove(this.name());
-			} else {
-				env.put(this.name(), value);
-			}
-		}
-
-		void putFrom(Map<String, String> env, Map<String, String> properties) {
-			env.put(this.name(), properties.get(propertyName));
-		}
-	}
-
-	static String buildTransmissionChainJson(
-		String rScriptExecutable,
-		Path tempBasePath,
-		Path domainXmlPath,
-		Collection<Long> contactIds,
-		Language language) {
-
-		Path tempDir;
-		try {
-			tempDir = Files.createTempDirectory(tempBasePath, "vis_");
-		} catch (IOException e) {
-			throw new UncheckedIOException(e);
-		}
-
-		try {
-			copyVisualisationResourceFile(tempDir, TRANSMISSION_CHAIN_SCRIPT);
-
-			Arrays.stream(REQUIRED_SCRIPTS).forEach(s -> copyVisualisationResourceFile(tempDir, s));
-
-			Path scriptFile = tempDir.resolve(TRANSMISSION_CHAIN_SCRIPT);
-
-			Path outputFile = tempDir.resolve("result.html");
-
-			try {
-				ProcessBuilder pb;
-				if (rScriptExecutable.toUpperCase().contains("RSCRIPT")) {
-					pb = new ProcessBuilder(
-						new String[] {
-							rScriptExecutable,
-							scriptFile.toString() });
-				} else {
-					pb = new ProcessBuilder(
-						new String[] {
-							rScriptExecutable,
-							"-f",
-							scriptFile.toString() });
-				}
-				pb.directory(tempDir.toFile());
-
-				Map<String, String> poolProperties = getConnectionPoolProperties(domainXmlPath, SORMAS_DATA_POOL_JNDI);
-				Map<String, String> env = pb.environment();
-
-				EnvParam.DB_USER.putFrom(env, poolProperties);
-				EnvParam.DB_PASS.putFrom(env, poolProperties);
-				EnvParam.DB_NAME.putFrom(env, poolProperties);
-				EnvParam.DB_HOST.putFrom(env, poolProperties);
-				EnvParam.DB_PORT.putFrom(env, poolProperties);
-
-				String contactIdStr;
-				if (contactIds.isEmpty()) {
-					contactIdStr = "NULL";
-				} else {
-					StringBuilder sb = new StringBuilder(contactIds.size() * 6);
-					contactIds.forEach(l -> {
-						sb.append(l);
-						sb.append(',');
-					});
-					contactIdStr = sb.substring(0, sb.length() - 1);
-				}
-
-				EnvParam.CONTACT_IDS.put(env, contactIdStr);
-				EnvParam.OUTFILE.put(env, outputFile.toString());
-
-				File outFile = tempDir.resolve("console.log").toFile();
-				pb.redirectErrorStream(true);
-				pb.redirectOutput(outFile);
-
-				Process pr = pb.start();
-				int exitCode = pr.waitFor();
-
-				if (exitCode == 0) {
-					String html = new String(Files.readAllBytes(outputFile));
-					return extractJson(html, language);
-				} else {
-					Logger logger = LoggerFactory.getLogger(VisualizationFacadeEjb.class);
-					logger.warn("R failed with code {} : {}", exitCode, pb.command().stream().collect(Collectors.joining(" ")));
-					if (logger.isDebugEnabled() && outFile.length() > 0) {
-						try (Stream<String> lines = Files.lines(outFile.toPath(), Charset.defaultCharset())) {
-							logger.debug(lines.collect(Collectors.joining("\n  ", "Console output of R script:\n  ", "")));
-						}
-					}
-					return null;
-				}
-
-			} catch (IOException e) {
-				throw new UncheckedIOException(e);
-
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				throw new RuntimeException(e);
-			}
-
-		} finally {
-			try {
-				FileUtils.deleteDirectory(tempDir.toFile());
-			} catch (IOException e) {
-				Logger logger = LoggerFactory.getLogger(VisualizationFacadeEjb.class);
-				logger.warn(e.getMessage(), e);
-			}
-		}
-	}
+	/**
+	 * Adds the persons of the contacts and of their source cases to the graph, each with their earliest relevant case.
+	 */
+	private void addContacts(TransmissionChainGraph graph, List<Long> contactIds) {
 
-	private static void copyVisualisationResourceFile(Path dir, String resourceName) {
-
-		Path outFile = dir.resolve(resourceName);
-		try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream("visualisation/" + resourceName)) {
-			if (in == null) {
-				throw new IllegalArgumentException("Could not find " + resourceName);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Contact> root = cq.from(Contact.class);
+		Join<Contact, Person> contactPerson = root.join(Contact.PERSON);
+		Join<Contact, Case> caze = root.join(Contact.CAZE, JoinType.LEFT);
+		Join<Case, Person> casePerson = caze.join(Case.PERSON, JoinType.LEFT);
+		Join<Contact, Case> resultingCase = root.join(Contact.RESULTING_CASE, JoinType.LEFT);
+		resultingCase.on(
+			cb.isFalse(resultingCase.get(Case.DELETED)),
+			cb.notEqual(resultingCase.get(Case.CASE_CLASSIFICATION), CaseClassification.NO_CASE));
+
+		cq.multiselect(
+			contactPerson.get(Person.ID),
+			root.get(Contact.CONTACT_PROXIMITY),
+			resultingCase.get(Case.UUID),
+			resultingCase.get(Case.REPORT_DATE),
+			resultingCase.get(Case.CASE_CLASSIFICATION),
+			casePerson.get(Person.ID),
+			caze.get(Case.UUID),
+			caze.get(Case.REPORT_DATE),
+			caze.get(Case.CASE_CLASSIFICATION));
+		cq.where(root.get(Contact.ID).in(contactIds));
+
+		for (Object[] row : em.createQuery(cq).getResultList()) {
+			long contactPersonId = (Long) row[0];
+			graph.addPerson(contactPersonId, (String) row[2], (Date) row[3], (CaseClassification) row[4]);
+
+			Long casePersonId = (Long) row[5];
+			if (casePersonId != null) {
+				graph.addPerson(casePersonId, (String) row[6], (Date) row[7], (CaseClassification) row[8]);
+				graph.addContact(casePersonId, contactPersonId, (ContactProximity) row[1]);
 			}
-			Files.copy(in, outFile);
-		} catch (IOException e) {
-			throw new UncheckedIOException(e);
 		}
 	}
 
-	static String extractJson(String html, Language language) {
-
-		final Parser parser = Parser.htmlParser();
-		final Document doc = parser.parseInput(html, "");
-
-		Element jsonScripElement = doc.select("script[type='application/json']").first();
-
-		String json = jsonScripElement.html();
-		json = doI18n(json, language);
-		return json;
-	}
-
 	private static final Map<String, Enum<?>> supportedEnums;
 	static {
 		Map<String, Enum<?>> map = new HashMap<>();
@@ -393,20 +235,6 @@ public class VisualizationFacadeEjb implements VisualizationFacade {
 		return string.replace("\"", "\\\"");
 	}
 
-	static Map<String, String> getConnectionPoolProperties(Path domPath, String jndiName) throws IOException {
-		final Parser parser = Parser.xmlParser();
-		final org.jsoup.nodes.Document doc;
-		try (Reader rd = Files.newBufferedReader(domPath)) {
-			doc = parser.parseInput(rd, "");
-		}
-
-		String poolName = doc.selectFirst("jdbc-resource[jndi-name=\"" + jndiName + "\"]").attr("pool-name");
-
-		return doc.select("jdbc-connection-pool[name=\"" + poolName + "\"] > property")
-			.stream()
-			.collect(Collectors.toMap(e -> e.attr("name"), e -> e.attr("value")));
-	}
-
 	@LocalBean
 	@Stateless
 	public static class VisualizationFacadeEjbLocal extends VisualizationFacadeEjb {
@@ -51,4 +51,13 @@ CREATE TABLE auditlogentry_attributes (
 );
 ALTER TABLE auditlogentry_attributes OWNER TO sormas_user;
 
-INSERT INTO schema_version (version_number, comment) VALUES (2, 'Initial entity model');
\ No newline at end of file
+INSERT INTO schema_version (version_number, comment) VALUES (2, 'Initial entity model');
+
+-- 2021-10-01 Store the attributes with the audit log entry and allocate ids in blocks
+ALTER SEQUENCE auditlog_seq INCREMENT BY 50;
+ALTER TABLE auditlogentry ADD COLUMN attributes jsonb;
+CREATE INDEX idx_auditlogentry_detection_ts ON auditlogentry USING brin (detection_ts);
+CREATE INDEX idx_auditlogentry_uuid ON auditlogentry (uuid);
+CREATE INDEX idx_auditlogentry_attributes_auditlogentry_id ON auditlogentry_attributes (auditlogentry_id);
+
+INSERT INTO schema_version (version_number, comment) VALUES (3, 'Store the attributes with the audit log entry and allocate ids in blocks');
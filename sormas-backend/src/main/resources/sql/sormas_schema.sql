@@ -8293,4 +8293,38 @@ ALTER TABLE travelentry_history ADD COLUMN diseasevariantdetails text;
 
 INSERT INTO schema_version (version_number, comment) VALUES (408, 'Add disease variant details #5935');
 
+-- 2021-09-30 Transactional outbox for email and SMS notifications
+CREATE TABLE outgoingmessage (
+    id bigint not null,
+    uuid varchar(36) not null unique,
+    changedate timestamp not null,
+    creationdate timestamp not null,
+    messagetype varchar(255) not null,
+    recipientaddress varchar(512) not null,
+    recipientuuid varchar(36),
+    subject varchar(512),
+    content text not null,
+    status varchar(255) not null,
+    attempts integer not null default 0,
+    nextattemptdate timestamp not null,
+    sentdate timestamp,
+    lasterror text,
+    primary key(id)
+);
+
+ALTER TABLE outgoingmessage OWNER TO sormas_user;
+CREATE INDEX idx_outgoingmessage_status_nextattemptdate ON outgoingmessage (status, nextattemptdate);
+CREATE INDEX idx_outgoingmessage_recipientaddress ON outgoingmessage (recipientaddress);
+
+INSERT INTO schema_version (version_number, comment) VALUES (409, 'Transactional outbox for email and SMS notifications');
+
+-- 2021-10-01 Cached index list counts
+CREATE INDEX IF NOT EXISTS idx_cases_changedate ON cases (changedate);
+CREATE INDEX IF NOT EXISTS idx_contact_changedate ON contact (changedate);
+CREATE INDEX IF NOT EXISTS idx_events_changedate ON events (changedate);
+CREATE INDEX IF NOT EXISTS idx_samples_changedate ON samples (changedate);
+CREATE INDEX IF NOT EXISTS idx_task_changedate ON task (changedate);
+
+INSERT INTO schema_version (version_number, comment) VALUES (410, 'Indexes on change dates for cached index list counts');
+
 -- *** Insert new sql commands BEFORE this line. Remember to always consider _history tables. ***
@@ -28,6 +28,7 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 
@@ -70,35 +71,13 @@ public class AuditorTest {
 		assertThat(changes.get(Entity.INTEGER), is("2"));
 	}
 
-	@Test
-	public void shouldDetectChangedEntity() {
-
-		Entity simpleEntity = new Entity("uuid-1", false, "someValue", 2);
-
-		Auditor auditor = new Auditor();
-		auditor.register(simpleEntity);
-
-		simpleEntity.setString("otherValue");
-		simpleEntity.setInteger(3);
-
-		ChangeEvent changeEvent = auditor.detectChanges(simpleEntity);
-		Map<String, String> changes = changeEvent.getNewValues();
-
-		assertThat(changeEvent.getChangeType(), is(ChangeType.UPDATE));
-		assertThat(changes.size(), is(2));
-		assertThat(changes.get(Entity.STRING), is("otherValue"));
-		assertThat(changes.get(Entity.INTEGER), is("3"));
-	}
-
 	@Test
 	public void shouldBehaveNeutralWithNull() {
 
 		final Auditor auditor = new Auditor();
-		auditor.register(null);
 
-		Map<String, String> changes = auditor.detectChanges(null).getNewValues();
-
-		assertThat(changes.size(), is(0));
+		assertThat(auditor.detectChanges(null).getNewValues().size(), is(0));
+		assertThat(auditor.detectChanges(null, null).getNewValues().size(), is(0));
 	}
 
 	@Test
@@ -265,6 +244,49 @@ public class AuditorTest {
 		assertThat(changes.get("someAttribute"), is("someValue"));
 	}
 
+	@Test
+	public void shouldDetectChangesAgainstOriginalState() {
+
+		Entity entity = new Entity("uuid-1", false, "otherValue", 3);
+
+		Map<String, Object> originalState = new HashMap<>();
+		originalState.put(Entity.STRING, "someValue");
+		originalState.put(Entity.INTEGER, 2);
+		originalState.put(Entity.FLAG, false);
+
+		ChangeEvent changeEvent = new Auditor().detectChanges(entity, originalState::get);
+		Map<String, String> changes = changeEvent.getNewValues();
+
+		assertThat(changeEvent.getChangeType(), is(ChangeType.UPDATE));
+		assertThat(changes.size(), is(2));
+		assertThat(changes.get(Entity.STRING), is("otherValue"));
+		assertThat(changes.get(Entity.INTEGER), is("3"));
+	}
+
+	@Test
+	public void shouldSkipUnchangedAndLogUnknownOriginalState() {
+
+		Entity entity = new Entity("uuid-1", true, "otherValue", 3);
+
+		Map<String, Object> originalState = new HashMap<>();
+		originalState.put(Entity.STRING, Auditor.UNCHANGED);
+		originalState.put(Entity.INTEGER, Auditor.UNKNOWN);
+		originalState.put(Entity.FLAG, true);
+
+		Auditor auditor = new Auditor();
+		Map<String, String> changes = auditor.detectChanges(entity, originalState::get).getNewValues();
+
+		assertThat(changes.size(), is(1));
+		assertThat(changes.get(Entity.INTEGER), is("3"));
+
+		// without original state, all attributes are logged
+		ChangeEvent changeEvent = auditor.detectChanges(entity, null);
+		assertThat(changeEvent.getChangeType(), is(ChangeType.UPDATE));
+		assertThat(changeEvent.getNewValues().size(), is(3));
+		assertThat(changeEvent.getNewValues().get(Entity.STRING), is("otherValue"));
+		assertThat(new Auditor(false).detectChanges(entity, originalState::get).getNewValues().size(), is(0));
+	}
+
 	@Ignore("Deactivated due to instability on github actions. See #3805")
 	@Test
 	public void testDetectAnnotationChangesFast() {
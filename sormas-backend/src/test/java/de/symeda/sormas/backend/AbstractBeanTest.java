@@ -99,6 +99,7 @@ import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.api.user.UserRoleConfigFacade;
 import de.symeda.sormas.api.vaccination.VaccinationFacade;
 import de.symeda.sormas.api.visit.VisitFacade;
+import de.symeda.sormas.api.visualization.VisualizationFacade;
 import de.symeda.sormas.backend.action.ActionFacadeEjb;
 import de.symeda.sormas.backend.bagexport.BAGExportFacadeEjb;
 import de.symeda.sormas.backend.campaign.CampaignFacadeEjb.CampaignFacadeEjbLocal;
@@ -203,6 +204,7 @@ import de.symeda.sormas.backend.vaccination.VaccinationFacadeEjb;
 import de.symeda.sormas.backend.vaccination.VaccinationService;
 import de.symeda.sormas.backend.visit.VisitFacadeEjb.VisitFacadeEjbLocal;
 import de.symeda.sormas.backend.visit.VisitService;
+import de.symeda.sormas.backend.visualization.VisualizationFacadeEjb.VisualizationFacadeEjbLocal;
 import info.novatec.beantest.api.BaseBeanTest;
 
 public abstract class AbstractBeanTest extends BaseBeanTest {
@@ -342,6 +344,10 @@ public abstract class AbstractBeanTest extends BaseBeanTest {
 		return getBean(VisitFacadeEjbLocal.class);
 	}
 
+	public VisualizationFacade getVisualizationFacade() {
+		return getBean(VisualizationFacadeEjbLocal.class);
+	}
+
 	public VisitService getVisitService() {
 		return getBean(VisitService.class);
 	}
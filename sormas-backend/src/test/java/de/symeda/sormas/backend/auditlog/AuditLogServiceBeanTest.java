@@ -0,0 +1,172 @@
+package de.symeda.sormas.backend.auditlog;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Column;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import javax.persistence.TemporalType;
+import javax.persistence.TypedQuery;
+
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import de.symeda.auditlog.api.ChangeEvent;
+import de.symeda.auditlog.api.ChangeType;
+import de.symeda.auditlog.api.EntityId;
+import de.symeda.auditlog.api.TransactionId;
+import de.symeda.auditlog.api.UserId;
+import de.symeda.sormas.backend.caze.Case;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+/**
+ * The bean tests have no audit log persistence unit (and H2 has no jsonb), so the database access is mocked here.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditLogServiceBeanTest {
+
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private TypedQuery<AuditLogEntry> entriesTypedQuery;
+	@Mock
+	private Query idsQuery;
+	@Mock
+	private Query attributesQuery;
+	@Mock
+	private Query entriesQuery;
+	@InjectMocks
+	private AuditLogServiceBean auditLogService;
+
+	@Test
+	public void testReceiveChangesStoresAttributesWithEntry() {
+
+		Map<String, String> newValues = Collections.singletonMap("caseClassification", "CONFIRMED");
+		ChangeEvent event = new ChangeEvent(
+			new EntityId(Case.class, "ABCDEF-GHIJKL-MNOPQR-STUVWXYZ"),
+			newValues,
+			ChangeType.UPDATE,
+			LocalDateTime.now(),
+			new UserId("admin"),
+			new TransactionId());
+
+		auditLogService.receiveChanges(event);
+
+		ArgumentCaptor<AuditLogEntry> entry = ArgumentCaptor.forClass(AuditLogEntry.class);
+		verify(entityManager).persist(entry.capture());
+		assertEquals(newValues, entry.getValue().getAttributes());
+		assertEquals("ABCDEF-GHIJKL-MNOPQR-STUVWXYZ", entry.getValue().getUuid());
+		assertEquals(Case.class.getName(), entry.getValue().getClazz());
+	}
+
+	@Test
+	public void testAttributesMappedAsJsonb() throws NoSuchFieldException {
+
+		Field attributes = AuditLogEntry.class.getDeclaredField("attributes");
+		assertEquals("jsonb", attributes.getAnnotation(Column.class).columnDefinition());
+		assertEquals(ModelConstants.HIBERNATE_TYPE_JSON, attributes.getAnnotation(Type.class).type());
+	}
+
+	@Test
+	public void testAttributesFallBackToLegacyAttributes() {
+
+		AuditLogEntry entry = new AuditLogEntry();
+		assertNull(entry.getAttributes());
+
+		Map<String, String> legacyAttributes = Collections.singletonMap("caseClassification", "SUSPECT");
+		entry.setLegacyAttributes(legacyAttributes);
+		assertEquals(legacyAttributes, entry.getAttributes());
+
+		Map<String, String> attributes = Collections.singletonMap("caseClassification", "CONFIRMED");
+		entry.setAttributes(attributes);
+		assertEquals(attributes, entry.getAttributes());
+	}
+
+	@Test
+	public void testGetEntriesReturnsAttributesOfBothStorages() {
+
+		AuditLogEntry legacyEntry = new AuditLogEntry();
+		legacyEntry.setLegacyAttributes(Collections.singletonMap("caseClassification", "SUSPECT"));
+		AuditLogEntry entry = new AuditLogEntry();
+		entry.setAttributes(Collections.singletonMap("caseClassification", "CONFIRMED"));
+
+		when(entityManager.createQuery(anyString(), eq(AuditLogEntry.class))).thenReturn(entriesTypedQuery);
+		when(entriesTypedQuery.setParameter(anyString(), any())).thenReturn(entriesTypedQuery);
+		when(entriesTypedQuery.getResultList()).thenReturn(Arrays.asList(legacyEntry, entry));
+
+		List<AuditLogEntry> entries = auditLogService.getEntries("ABCDEF-GHIJKL-MNOPQR-STUVWXYZ");
+
+		assertEquals("SUSPECT", entries.get(0).getAttributes().get("caseClassification"));
+		assertEquals("CONFIRMED", entries.get(1).getAttributes().get("caseClassification"));
+		verify(entriesTypedQuery).setParameter("uuid", "ABCDEF-GHIJKL-MNOPQR-STUVWXYZ");
+
+		// the legacy attribute rows are loaded with the entries instead of one query per entry
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+		verify(entityManager).createQuery(query.capture(), eq(AuditLogEntry.class));
+		assertThat(query.getValue(), containsString("LEFT JOIN FETCH e." + AuditLogEntry.LEGACY_ATTRIBUTES));
+	}
+
+	@Test
+	public void testDeleteEntriesBeforeDeletesOneBatchWithLegacyAttributesFirst() {
+
+		when(entityManager.createNativeQuery(anyString())).thenAnswer(invocation -> {
+			String sql = invocation.getArgument(0);
+			return sql.startsWith("SELECT") ? idsQuery : sql.startsWith("DELETE FROM auditlogentry_attributes") ? attributesQuery : entriesQuery;
+		});
+		when(idsQuery.setParameter(anyString(), any(Date.class), any(TemporalType.class))).thenReturn(idsQuery);
+		when(idsQuery.setParameter(anyString(), any())).thenReturn(idsQuery);
+		when(idsQuery.getResultList()).thenReturn(Arrays.asList(BigInteger.valueOf(1), BigInteger.valueOf(2)));
+		when(attributesQuery.setParameter(anyString(), any())).thenReturn(attributesQuery);
+		when(entriesQuery.setParameter(anyString(), any())).thenReturn(entriesQuery);
+		when(entriesQuery.executeUpdate()).thenReturn(2);
+
+		Date date = new Date();
+		assertEquals(2, auditLogService.deleteEntriesBefore(date, 2));
+
+		verify(idsQuery).setParameter(eq("date"), eq(date), eq(TemporalType.TIMESTAMP));
+		verify(idsQuery).setParameter("batchSize", 2);
+		// the attribute rows reference the entries, so they have to go first
+		InOrder inOrder = inOrder(attributesQuery, entriesQuery);
+		inOrder.verify(attributesQuery).executeUpdate();
+		inOrder.verify(entriesQuery).executeUpdate();
+		verify(attributesQuery).setParameter("ids", Arrays.asList(1L, 2L));
+		verify(entriesQuery).setParameter("ids", Arrays.asList(1L, 2L));
+	}
+
+	@Test
+	public void testDeleteEntriesBeforeWithoutExpiredEntries() {
+
+		when(entityManager.createNativeQuery(anyString())).thenReturn(idsQuery);
+		when(idsQuery.setParameter(anyString(), any(Date.class), any(TemporalType.class))).thenReturn(idsQuery);
+		when(idsQuery.setParameter(anyString(), any())).thenReturn(idsQuery);
+		when(idsQuery.getResultList()).thenReturn(Collections.emptyList());
+
+		assertEquals(0, auditLogService.deleteEntriesBefore(new Date(), 2));
+		verify(entityManager, times(1)).createNativeQuery(anyString());
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.campaign.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.symeda.sormas.api.campaign.diagram.CampaignDiagramDataDto;
+import de.symeda.sormas.api.campaign.diagram.CampaignDiagramSeries;
+
+public class CampaignDiagramDataAggregatorTest {
+
+	@Test
+	public void testGetDiagramData() {
+
+		CampaignDiagramDataAggregator aggregator = new CampaignDiagramDataAggregator();
+		aggregator.addFieldValueRows(
+			Arrays.asList(
+				fieldValueRow("vaccinated", "Vaccinated", "number", null, 12, "R1"),
+				fieldValueRow("vaccinated", "Vaccinated", "number", null, 3, "R2"),
+				fieldValueRow("visited", "Visited", "yes-no", "yes", 5, "R1"),
+				fieldValueRow("visited", "Visited", "yes-no", "no", 2, "R1"),
+				fieldValueRow("visited", "Visited", "yes-no", "no", 4, "R2")));
+		aggregator.addFormCountRows(Arrays.asList(formCountRow(7, "R1"), formCountRow(1, "R2")));
+
+		List<CampaignDiagramDataDto> diagramData = aggregator.getDiagramData(
+			Arrays.asList(
+				new CampaignDiagramSeries("vaccinated", "form", null, "stack1"),
+				new CampaignDiagramSeries("visited", "form", "yes", "stack2"),
+				new CampaignDiagramSeries("visited", "form", "no", "stack3"),
+				new CampaignDiagramSeries(null, "form", null, "stack4"),
+				new CampaignDiagramSeries("missing", "form", null, "stack5")));
+
+		assertEquals(8, diagramData.size());
+		assertDiagramData(diagramData.get(0), "vaccinated", 12, "R1", "stack1");
+		assertDiagramData(diagramData.get(1), "vaccinated", 3, "R2", "stack1");
+		// jurisdictions without the reference value still get a value
+		assertDiagramData(diagramData.get(2), "visited", 5, "R1", "stack2");
+		assertDiagramData(diagramData.get(3), "visited", 0, "R2", "stack2");
+		assertDiagramData(diagramData.get(4), "visited", 2, "R1", "stack3");
+		assertDiagramData(diagramData.get(5), "visited", 4, "R2", "stack3");
+		assertDiagramData(diagramData.get(6), null, 7, "R1", "stack4");
+		assertDiagramData(diagramData.get(7), null, 1, "R2", "stack4");
+		assertNull(diagramData.get(6).getFieldCaption());
+	}
+
+	private static void assertDiagramData(CampaignDiagramDataDto diagramData, String fieldId, long valueSum, String groupingKey, String stack) {
+		assertEquals(fieldId, diagramData.getFieldId());
+		assertEquals(valueSum, diagramData.getValueSum().longValue());
+		assertEquals(groupingKey, diagramData.getGroupingKey());
+		assertEquals(stack, diagramData.getStack());
+	}
+
+	private static Object[] fieldValueRow(String fieldId, String fieldCaption, String fieldType, String fieldValue, long sum, String region) {
+		return new Object[] {
+			"form-uuid",
+			"form",
+			fieldId,
+			fieldCaption,
+			fieldType,
+			fieldValue,
+			BigInteger.valueOf(sum),
+			region,
+			region + " name" };
+	}
+
+	private static Object[] formCountRow(long count, String region) {
+		return new Object[] {
+			"form-uuid",
+			"form",
+			null,
+			null,
+			null,
+			null,
+			BigInteger.valueOf(count),
+			region,
+			region + " name" };
+	}
+}
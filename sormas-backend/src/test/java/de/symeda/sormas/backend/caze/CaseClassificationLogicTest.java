@@ -1095,6 +1095,32 @@ public class CaseClassificationLogicTest extends AbstractBeanTest {
 		assertEquals(null, caze.getCaseReferenceDefinition());
 	}
 
+	@Test
+	public void testUpdateCaseClassifications() {
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "false");
+
+		CaseDataDto suspectCase = getCaseFacade().saveCase(buildSuspectCase(Disease.EVD));
+		CaseDataDto confirmedCase = getCaseFacade().saveCase(buildSuspectCase(Disease.EVD));
+		creator.createPathogenTest(confirmedCase, Disease.EVD, PathogenTestType.PCR_RT_PCR, PathogenTestResultType.POSITIVE);
+		CaseDataDto unclassifiedCase = getCaseFacade().saveCase(creator.createUnclassifiedCase(Disease.EVD));
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseFacade().getCaseDataByUuid(suspectCase.getUuid()).getCaseClassification());
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseFacade().getCaseDataByUuid(confirmedCase.getUuid()).getCaseClassification());
+
+		// nothing to do without automatic classification
+		List<String> caseUuids = Arrays.asList(suspectCase.getUuid(), confirmedCase.getUuid(), unclassifiedCase.getUuid());
+		assertEquals(0, getCaseFacade().updateCaseClassifications(caseUuids));
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "true");
+		assertEquals(2, getCaseFacade().updateCaseClassifications(caseUuids));
+		assertEquals(CaseClassification.SUSPECT, getCaseFacade().getCaseDataByUuid(suspectCase.getUuid()).getCaseClassification());
+		assertEquals(CaseClassification.CONFIRMED, getCaseFacade().getCaseDataByUuid(confirmedCase.getUuid()).getCaseClassification());
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseFacade().getCaseDataByUuid(unclassifiedCase.getUuid()).getCaseClassification());
+
+		// classifications that are already up to date are not changed again
+		assertEquals(0, getCaseFacade().updateCaseClassifications(caseUuids));
+	}
+
 	/**
 	 * Sets all symptoms with the SymptomState type to YES.
 	 */
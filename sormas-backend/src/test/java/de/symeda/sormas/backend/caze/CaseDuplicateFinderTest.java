@@ -0,0 +1,143 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.caze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.person.Sex;
+
+public class CaseDuplicateFinderTest {
+
+	private static final String[] FIRST_NAMES = {
+		"Anna",
+		"Anne",
+		"Hans",
+		"Hannes",
+		"Maria",
+		"Marie",
+		"Peter",
+		"Petra" };
+	private static final String[] LAST_NAMES = {
+		"Meier",
+		"Meyer",
+		"Maier",
+		"Schmidt",
+		"Schmitt",
+		"Schulz",
+		"Schulze" };
+
+	@Test
+	public void testSimilarityLikePgTrgm() {
+
+		// examples from the pg_trgm documentation
+		assertEquals(0.363636, CaseDuplicateFinder.getSimilarity("word", "two words"), 0.000001);
+		assertEquals(1, CaseDuplicateFinder.getSimilarity("Word", "word!"), 0);
+		assertEquals(0, CaseDuplicateFinder.getSimilarity("word", ""), 0);
+		assertEquals(
+			Arrays.asList("  c", "  p", " ca", " pe", "ase", "cas", "er ", "erd", "per", "rd ", "se "),
+			CaseDuplicateFinder.getTrigrams("Case Perd").stream().sorted().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testFindDuplicatesInNeighbouringPeriods() {
+
+		Date reportDate = new Date();
+		Date creationDate = new Date();
+		CaseDuplicateFinder.Candidate caze = createCandidate(1, Disease.EVD, "Case", "Person", reportDate, creationDate);
+		CaseDuplicateFinder.Candidate nearDuplicate =
+			createCandidate(2, Disease.EVD, "Case", "Persson", new Date(reportDate.getTime() + TimeUnit.DAYS.toMillis(29)), creationDate);
+		CaseDuplicateFinder.Candidate otherDisease = createCandidate(3, Disease.CHOLERA, "Case", "Person", reportDate, creationDate);
+		CaseDuplicateFinder.Candidate reportedLater =
+			createCandidate(4, Disease.EVD, "Case", "Person", new Date(reportDate.getTime() + TimeUnit.DAYS.toMillis(31)), creationDate);
+		CaseDuplicateFinder.Candidate otherName = createCandidate(5, Disease.EVD, "Other", "Name", reportDate, creationDate);
+
+		List<long[]> duplicates = new CaseDuplicateFinder(0.65, true, null, creationDate).findDuplicates(
+			Arrays.asList(caze),
+			Arrays.asList(caze, nearDuplicate, otherDisease, reportedLater, otherName));
+
+		assertEquals(1, duplicates.size());
+		assertEquals(1, duplicates.get(0)[0]);
+		assertEquals(2, duplicates.get(0)[1]);
+	}
+
+	@Test
+	public void testFindDuplicatesLikeComparingAllPairs() {
+
+		Random random = new Random(42);
+		long now = System.currentTimeMillis();
+		List<CaseDuplicateFinder.Candidate> cases = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+			String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+			names.add(firstName + " " + lastName);
+			cases.add(
+				new CaseDuplicateFinder.Candidate(
+					i,
+					random.nextBoolean() ? Disease.EVD : Disease.CHOLERA,
+					firstName,
+					lastName,
+					Sex.values()[random.nextInt(Sex.values().length)],
+					random.nextBoolean() ? 1 + random.nextInt(2) : null,
+					1,
+					1980,
+					new Date(now - TimeUnit.DAYS.toMillis(random.nextInt(365))),
+					random.nextBoolean() ? new Date(now - TimeUnit.DAYS.toMillis(random.nextInt(365))) : null,
+					(long) random.nextInt(2),
+					random.nextBoolean() ? (long) random.nextInt(2) : null,
+					new Date(now - random.nextInt(1000000))));
+		}
+
+		CaseDuplicateFinder finder = new CaseDuplicateFinder(0.65, false, null, null);
+		Set<String> found = finder.findDuplicates(cases, cases).stream().map(Arrays::toString).collect(Collectors.toSet());
+
+		// compare every case with every other case without blocks and trigram index
+		Set<String> expected = new HashSet<>();
+		for (int i = 0; i < cases.size(); i++) {
+			for (int j = 0; j < cases.size(); j++) {
+				CaseDuplicateFinder.Candidate caze = cases.get(i);
+				CaseDuplicateFinder.Candidate other = cases.get(j);
+				if (caze.getDisease() == other.getDisease()
+					&& CaseDuplicateFinder.getSimilarity(names.get(i), names.get(j)) > 0.65
+					&& finder.isDuplicate(caze, other)) {
+					expected.add(Arrays.toString(new long[] {
+						i,
+						j }));
+				}
+			}
+		}
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, found);
+	}
+
+	private CaseDuplicateFinder.Candidate createCandidate(long id, Disease disease, String firstName, String lastName, Date reportDate, Date creationDate) {
+		return new CaseDuplicateFinder.Candidate(id, disease, firstName, lastName, Sex.MALE, 1, 1, 1980, reportDate, null, 1L, 1L, creationDate);
+	}
+}
@@ -44,8 +44,11 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.Validation;
 import javax.validation.Validator;
@@ -57,6 +60,7 @@ import org.apache.commons.lang3.time.DateUtils;
 import org.hamcrest.MatcherAssert;
 import org.hibernate.internal.SessionImpl;
 import org.hibernate.query.spi.QueryImplementor;
+import org.hibernate.stat.Statistics;
 import org.joda.time.DateTime;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -66,6 +70,7 @@ import org.junit.rules.ExpectedException;
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.Language;
 import de.symeda.sormas.api.VisitOrigin;
+import de.symeda.sormas.api.caze.CaseBulkEditData;
 import de.symeda.sormas.api.caze.CaseClassification;
 import de.symeda.sormas.api.caze.CaseCriteria;
 import de.symeda.sormas.api.caze.CaseDataDto;
@@ -142,6 +147,7 @@ import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.OutdatedEntityException;
 import de.symeda.sormas.api.utils.SortProperty;
 import de.symeda.sormas.api.utils.YesNoUnknown;
+import de.symeda.sormas.api.utils.criteria.BulkSelection;
 import de.symeda.sormas.api.utils.criteria.ExternalShareDateType;
 import de.symeda.sormas.api.vaccination.VaccinationDto;
 import de.symeda.sormas.api.visit.VisitCriteria;
@@ -536,6 +542,40 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertEquals("Facility", results.get(2).getHealthFacilityName());
 	}
 
+	@Test
+	public void testGetIndexDetailedListQueryCountIndependentOfResultSize() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		PersonReferenceDto person = creator.createPerson("Case", "Person").toReference();
+		for (int i = 0; i < 2; i++) {
+			UserReferenceDto user = creator.createUser(rdcf, "Surv" + i, "Sup", UserRole.SURVEILLANCE_SUPERVISOR).toReference();
+			creator.createCase(user, person, rdcf);
+		}
+
+		// load the configuration and feature snapshots
+		getCaseFacade().getIndexDetailedList(new CaseCriteria(), 0, 100, null);
+
+		Statistics statistics = ((SessionImpl) getEntityManager()).getSessionFactory().getStatistics();
+		statistics.setStatisticsEnabled(true);
+		try {
+			statistics.clear();
+			assertEquals(2, getCaseFacade().getIndexDetailedList(new CaseCriteria(), 0, 100, null).size());
+			long statementCount = statistics.getPrepareStatementCount();
+
+			// every case is reported by another user
+			for (int i = 2; i < 6; i++) {
+				UserReferenceDto user = creator.createUser(rdcf, "Surv" + i, "Sup", UserRole.SURVEILLANCE_SUPERVISOR).toReference();
+				creator.createCase(user, person, rdcf);
+			}
+
+			statistics.clear();
+			assertEquals(6, getCaseFacade().getIndexDetailedList(new CaseCriteria(), 0, 100, null).size());
+			assertEquals(Arrays.toString(statistics.getQueries()), statementCount, statistics.getPrepareStatementCount());
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
 	@Test
 	public void testGetIndexListByFreeText() {
 
@@ -1101,6 +1141,122 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(0, getCaseFacade().getArchivedUuidsSince(testStartDate).size());
 	}
 
+	@Test
+	public void testGetAllActiveCasesInBatches() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities("Region", "District", "Community", "Facility");
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+		Set<String> caseUuids = new HashSet<>();
+		for (int i = 0; i < 5; i++) {
+			PersonDto cazePerson = creator.createPerson("Case", "Person" + i);
+			caseUuids.add(
+				creator
+					.createCase(
+						user.toReference(),
+						cazePerson.toReference(),
+						Disease.EVD,
+						CaseClassification.PROBABLE,
+						InvestigationStatus.PENDING,
+						new Date(),
+						rdcf)
+					.getUuid());
+		}
+
+		List<CaseDataDto> firstBatch = getCaseFacade().getAllActiveCasesAfter(null, 2, null, null);
+		assertEquals(2, firstBatch.size());
+		CaseDataDto lastCase = firstBatch.get(1);
+		List<CaseDataDto> secondBatch = getCaseFacade().getAllActiveCasesAfter(null, 2, lastCase.getChangeDate(), lastCase.getUuid());
+		assertEquals(2, secondBatch.size());
+		lastCase = secondBatch.get(1);
+		List<CaseDataDto> thirdBatch = getCaseFacade().getAllActiveCasesAfter(null, 2, lastCase.getChangeDate(), lastCase.getUuid());
+		assertEquals(1, thirdBatch.size());
+
+		Set<String> pulledUuids = Stream.of(firstBatch, secondBatch, thirdBatch)
+			.flatMap(List::stream)
+			.map(CaseDataDto::getUuid)
+			.collect(Collectors.toSet());
+		assertEquals(caseUuids, pulledUuids);
+	}
+
+	@Test
+	public void testGetAllActiveCasesInBatchesWithinOneMillisecond() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities("Region", "District", "Community", "Facility");
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+		Set<String> caseUuids = new HashSet<>();
+		for (int i = 0; i < 3; i++) {
+			PersonDto cazePerson = creator.createPerson("Case", "Person" + i);
+			caseUuids.add(creator.createCase(user.toReference(), cazePerson.toReference(), rdcf).getUuid());
+		}
+
+		// all cases changed in the same millisecond
+		Timestamp changeDate = new Timestamp(DateHelper.subtractDays(new Date(), 1).getTime());
+		getEntityManager().createQuery("UPDATE cases SET changeDate = :changeDate").setParameter("changeDate", changeDate).executeUpdate();
+		getEntityManager().clear();
+
+		List<CaseDataDto> firstBatch = getCaseFacade().getAllActiveCasesAfter(null, 2, null, null);
+		assertEquals(2, firstBatch.size());
+		CaseDataDto lastCase = firstBatch.get(1);
+		assertEquals(changeDate.getTime(), lastCase.getChangeDate().getTime());
+		List<CaseDataDto> secondBatch = getCaseFacade().getAllActiveCasesAfter(null, 2, lastCase.getChangeDate(), lastCase.getUuid());
+		assertEquals(1, secondBatch.size());
+
+		Set<String> pulledUuids =
+			Stream.of(firstBatch, secondBatch).flatMap(List::stream).map(CaseDataDto::getUuid).collect(Collectors.toSet());
+		assertEquals(caseUuids, pulledUuids);
+
+		// the app resumes an interrupted synchronization with the millisecond before its latest change date,
+		// because the change date of the last saved case alone would leave out the cases not saved yet
+		assertEquals(0, getCaseFacade().getAllActiveCasesAfter(changeDate, 2, null, null).size());
+		Date resumeSince = new Date(changeDate.getTime() - 1);
+		assertEquals(
+			firstBatch.stream().map(CaseDataDto::getUuid).collect(Collectors.toList()),
+			getCaseFacade().getAllActiveCasesAfter(resumeSince, 2, null, null).stream().map(CaseDataDto::getUuid).collect(Collectors.toList()));
+		assertEquals(
+			secondBatch.get(0).getUuid(),
+			getCaseFacade().getAllActiveCasesAfter(resumeSince, 2, lastCase.getChangeDate(), lastCase.getUuid()).get(0).getUuid());
+	}
+
+	@Test
+	public void testGetAllActiveCasesInBatchesWithMicrosecondsWithinOneMillisecond() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities("Region", "District", "Community", "Facility");
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+		List<String> caseUuids = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			PersonDto cazePerson = creator.createPerson("Case", "Person" + i);
+			caseUuids.add(creator.createCase(user.toReference(), cazePerson.toReference(), rdcf).getUuid());
+		}
+		Collections.sort(caseUuids);
+
+		// all cases changed in the same millisecond, the later a case has been changed, the smaller its uuid
+		Timestamp millisecond = new Timestamp(DateHelper.subtractDays(new Date(), 1).getTime());
+		for (int i = 0; i < caseUuids.size(); i++) {
+			Timestamp changeDate = new Timestamp(millisecond.getTime());
+			changeDate.setNanos(millisecond.getNanos() + (caseUuids.size() - i) * 1000);
+			getEntityManager().createQuery("UPDATE cases SET changeDate = :changeDate WHERE uuid = :uuid")
+				.setParameter("changeDate", changeDate)
+				.setParameter("uuid", caseUuids.get(i))
+				.executeUpdate();
+		}
+		getEntityManager().clear();
+
+		List<CaseDataDto> firstBatch = getCaseFacade().getAllActiveCasesAfter(null, 2, null, null);
+		assertEquals(
+			Arrays.asList(caseUuids.get(2), caseUuids.get(1)),
+			firstBatch.stream().map(CaseDataDto::getUuid).collect(Collectors.toList()));
+		CaseDataDto lastCase = firstBatch.get(1);
+		assertEquals(millisecond.getTime(), lastCase.getChangeDate().getTime());
+
+		List<CaseDataDto> secondBatch = getCaseFacade().getAllActiveCasesAfter(null, 2, lastCase.getChangeDate(), lastCase.getUuid());
+		assertEquals(
+			Collections.singletonList(caseUuids.get(0)),
+			secondBatch.stream().map(CaseDataDto::getUuid).collect(Collectors.toList()));
+	}
+
 	@Test
 	public void testGetAllActiveCasesIncludeExtendedChangeDateFiltersSample() throws InterruptedException {
 
@@ -1629,6 +1785,113 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertTrue(cut.isArchived(case2.getUuid()));
 	}
 
+	@Test
+	public void testArchiveAllMatchingCases() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto user = creator.createUser(rdcf).toReference();
+		PersonReferenceDto person = creator.createPerson("Walter", "Schuster").toReference();
+
+		CaseDataDto case1 = creator.createCase(user, person, Disease.EVD, CaseClassification.PROBABLE, InvestigationStatus.PENDING, new Date(), rdcf);
+		CaseDataDto case2 = creator.createCase(user, person, Disease.EVD, CaseClassification.PROBABLE, InvestigationStatus.PENDING, new Date(), rdcf);
+		CaseDataDto case3 = creator.createCase(user, person, Disease.EVD, CaseClassification.PROBABLE, InvestigationStatus.PENDING, new Date(), rdcf);
+		CaseDataDto otherDiseaseCase =
+			creator.createCase(user, person, Disease.CHOLERA, CaseClassification.PROBABLE, InvestigationStatus.PENDING, new Date(), rdcf);
+
+		BulkSelection<CaseCriteria> selection = BulkSelection.allMatching(new CaseCriteria().disease(Disease.EVD));
+		selection.exclude(case2.getUuid());
+		getCaseFacade().updateArchived(selection, true);
+
+		assertTrue(getCaseFacade().isArchived(case1.getUuid()));
+		assertFalse(getCaseFacade().isArchived(case2.getUuid()));
+		assertTrue(getCaseFacade().isArchived(case3.getUuid()));
+		assertFalse(getCaseFacade().isArchived(otherDiseaseCase.getUuid()));
+
+		getCaseFacade().updateArchived(BulkSelection.ofUuids(Collections.singletonList(case1.getUuid())), false);
+
+		assertFalse(getCaseFacade().isArchived(case1.getUuid()));
+		assertTrue(getCaseFacade().isArchived(case3.getUuid()));
+	}
+
+	@Test
+	public void testBulkOperationsOnAllMatchingCasesInSeveralBatches() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto user = creator.createUser(rdcf).toReference();
+		PersonReferenceDto person = creator.createPerson("Walter", "Schuster").toReference();
+
+		List<String> caseUuids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			caseUuids.add(
+				creator.createCase(user, person, Disease.EVD, CaseClassification.PROBABLE, InvestigationStatus.PENDING, new Date(), rdcf).getUuid());
+		}
+		CaseDataDto otherDiseaseCase =
+			creator.createCase(user, person, Disease.CHOLERA, CaseClassification.PROBABLE, InvestigationStatus.PENDING, new Date(), rdcf);
+
+		CaseFacadeEjbLocal cut = getBean(CaseFacadeEjbLocal.class);
+
+		CaseBulkEditData bulkEditData = new CaseBulkEditData();
+		bulkEditData.setInvestigationStatus(InvestigationStatus.DONE);
+		cut.saveBulkCase(BulkSelection.allMatching(new CaseCriteria().disease(Disease.EVD)), bulkEditData, false, false, true, false, false, 2);
+
+		for (String caseUuid : caseUuids) {
+			assertEquals(InvestigationStatus.DONE, cut.getCaseDataByUuid(caseUuid).getInvestigationStatus());
+		}
+		assertEquals(InvestigationStatus.PENDING, cut.getCaseDataByUuid(otherDiseaseCase.getUuid()).getInvestigationStatus());
+
+		BulkSelection<CaseCriteria> deleteSelection = BulkSelection.allMatching(new CaseCriteria().disease(Disease.EVD));
+		deleteSelection.exclude(caseUuids.get(2));
+		assertEquals(4, cut.countSelectedCases(deleteSelection, false));
+		List<String> deletedCaseUuids = cut.deleteCases(deleteSelection, 2);
+
+		assertThat(deletedCaseUuids, hasSize(4));
+		assertFalse(deletedCaseUuids.contains(caseUuids.get(2)));
+		assertEquals(1, cut.count(new CaseCriteria().disease(Disease.EVD)));
+		assertEquals(1, cut.count(new CaseCriteria().disease(Disease.CHOLERA)));
+
+		cut.updateArchived(BulkSelection.allMatching(new CaseCriteria()), true, 1);
+
+		assertTrue(cut.isArchived(caseUuids.get(2)));
+		assertTrue(cut.isArchived(otherDiseaseCase.getUuid()));
+	}
+
+	@Test
+	public void testAllMatchingSelectionLeavesOutCasesNotEditable() {
+
+		RDCF rdcf = creator.createRDCF();
+		RDCF otherRdcf = creator.createRDCF("Other region", "Other district", "Other community", "Other facility");
+		UserDto supervisor = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+		UserDto otherSupervisor = creator.createUser(
+			otherRdcf.region.getUuid(),
+			otherRdcf.district.getUuid(),
+			otherRdcf.facility.getUuid(),
+			"Other",
+			"Sup",
+			UserRole.SURVEILLANCE_SUPERVISOR);
+
+		CaseDataDto ownCase = creator.createCase(supervisor.toReference(), creator.createPerson().toReference(), rdcf);
+		// visible to the supervisor, but only pseudonymized
+		CaseDataDto sharedCase =
+			creator.createCase(otherSupervisor.toReference(), creator.createPerson().toReference(), otherRdcf, c -> c.setSharedToCountry(true));
+
+		loginWith(supervisor);
+		CaseCriteria criteria = new CaseCriteria();
+		criteria.setIncludeCasesFromOtherJurisdictions(true);
+		assertEquals(2, getCaseFacade().count(criteria));
+		assertEquals(1, getCaseFacade().countSelectedCases(BulkSelection.allMatching(criteria), false));
+		assertEquals(1, getCaseFacade().countSelectedCases(BulkSelection.allMatching(criteria), true));
+
+		BulkSelection<CaseCriteria> selection = BulkSelection.allMatching(criteria);
+		selection.exclude(ownCase.getUuid());
+		assertEquals(0, getCaseFacade().countSelectedCases(selection, false));
+
+		getCaseFacade().updateArchived(BulkSelection.allMatching(criteria), true);
+
+		assertTrue(getCaseFacade().isArchived(ownCase.getUuid()));
+		assertFalse(getCaseFacade().isArchived(sharedCase.getUuid()));
+	}
+
 	@Test
 	public void testCreateInvestigationTask() {
 
@@ -0,0 +1,128 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.caze.CaseCriteria;
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.person.PersonReferenceDto;
+import de.symeda.sormas.api.task.TaskCriteria;
+import de.symeda.sormas.api.task.TaskDto;
+import de.symeda.sormas.api.user.UserReferenceDto;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCFEntities;
+import de.symeda.sormas.backend.caze.Case;
+
+public class IndexCountCacheTest extends AbstractBeanTest {
+
+	@Test
+	public void testCountUpdatedOnChanges() throws Exception {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto user = creator.createUser(rdcf).toReference();
+		PersonReferenceDto person = creator.createPerson("Walter", "Schuster").toReference();
+
+		CaseDataDto case1 = creator.createCase(user, person, rdcf);
+		assertEquals(1, getCaseFacade().count(new CaseCriteria()));
+		assertEquals(1, getCaseFacade().count(new CaseCriteria()));
+
+		creator.createCase(user, person, rdcf);
+		assertEquals(2, getCaseFacade().count(new CaseCriteria()));
+
+		getCaseFacade().deleteCase(case1.getUuid());
+		assertEquals(1, getCaseFacade().count(new CaseCriteria()));
+	}
+
+	@Test
+	public void testCountOnlyDeterminedAgainAfterChanges() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto user = creator.createUser(rdcf).toReference();
+		PersonReferenceDto person = creator.createPerson("Walter", "Schuster").toReference();
+		creator.createCase(user, person, rdcf);
+
+		IndexCountCache cache = getBean(IndexCountCache.class);
+		CaseCriteria criteria = new CaseCriteria();
+		AtomicInteger countCalls = new AtomicInteger();
+		LongSupplier countFunction = countCalls::incrementAndGet;
+
+		assertEquals(1, cache.count(Case.class, criteria, false, countFunction));
+		assertEquals(1, cache.count(Case.class, criteria, false, countFunction));
+
+		creator.createCase(user, person, rdcf);
+		assertEquals(2, cache.count(Case.class, criteria, false, countFunction));
+
+		cache.invalidate(Case.class);
+		assertEquals(3, cache.count(Case.class, criteria, false, countFunction));
+	}
+
+	@Test
+	public void testEstimatedCountIsLastCount() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto user = creator.createUser(rdcf).toReference();
+		PersonReferenceDto person = creator.createPerson("Walter", "Schuster").toReference();
+		creator.createCase(user, person, rdcf);
+
+		CaseCriteria criteria = new CaseCriteria();
+		assertNull(getCaseFacade().getEstimatedCount(criteria));
+
+		assertEquals(1, getCaseFacade().count(criteria));
+		assertEquals(Long.valueOf(1), getCaseFacade().getEstimatedCount(criteria));
+		assertNull(getCaseFacade().getEstimatedCount(new CaseCriteria().disease(Disease.EVD)));
+
+		// the estimate is outdated until the entries are counted again
+		creator.createCase(user, person, rdcf);
+		assertEquals(Long.valueOf(1), getCaseFacade().getEstimatedCount(criteria));
+		assertEquals(2, getCaseFacade().count(criteria));
+		assertEquals(Long.valueOf(2), getCaseFacade().getEstimatedCount(criteria));
+	}
+
+	@Test
+	public void testTaskCountUpdatedOnRemoval() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto user = creator.createUser(rdcf).toReference();
+
+		TaskDto task = creator.createTask(user);
+		creator.createTask(user);
+		assertEquals(2, getTaskFacade().count(new TaskCriteria()));
+
+		getTaskFacade().deleteTask(task);
+		assertEquals(1, getTaskFacade().count(new TaskCriteria()));
+	}
+
+	@Test
+	public void testCriteriaKey() {
+
+		assertEquals(
+			IndexCountCache.criteriaKey(new CaseCriteria().disease(Disease.EVD)),
+			IndexCountCache.criteriaKey(new CaseCriteria().disease(Disease.EVD)));
+		assertNotEquals(
+			IndexCountCache.criteriaKey(new CaseCriteria().disease(Disease.EVD)),
+			IndexCountCache.criteriaKey(new CaseCriteria().disease(Disease.CHOLERA)));
+		assertNotEquals(IndexCountCache.criteriaKey(new CaseCriteria()), IndexCountCache.criteriaKey(new TaskCriteria()));
+	}
+}
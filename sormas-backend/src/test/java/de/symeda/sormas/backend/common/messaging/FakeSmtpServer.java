@@ -0,0 +1,153 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common.messaging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Minimal SMTP server on a local port that accepts all mails except those to {@link #rejectRecipient rejected recipients}.
+ */
+public class FakeSmtpServer implements AutoCloseable {
+
+	private final ServerSocket serverSocket;
+	private final Thread thread;
+	private final List<ReceivedMail> receivedMails = Collections.synchronizedList(new ArrayList<>());
+	private final Set<String> rejectedRecipients = Collections.synchronizedSet(new HashSet<>());
+	private volatile int connectionCount;
+
+	public FakeSmtpServer() throws IOException {
+
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		thread = new Thread(this::acceptConnections, "fake-smtp-server");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public void rejectRecipient(String address) {
+		rejectedRecipients.add(address);
+	}
+
+	public List<ReceivedMail> getReceivedMails() {
+		synchronized (receivedMails) {
+			return new ArrayList<>(receivedMails);
+		}
+	}
+
+	public int getConnectionCount() {
+		return connectionCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void acceptConnections() {
+
+		while (!serverSocket.isClosed()) {
+			try (Socket socket = serverSocket.accept()) {
+				connectionCount++;
+				handleConnection(socket);
+			} catch (SocketException e) {
+				// server socket has been closed
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	private void handleConnection(Socket socket) throws IOException {
+
+		BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+		PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+		reply(out, "220 localhost fake SMTP");
+
+		List<String> recipients = new ArrayList<>();
+		String line;
+		while ((line = in.readLine()) != null) {
+			String command = line.toUpperCase(Locale.ROOT);
+			if (command.startsWith("RCPT TO:")) {
+				String recipient = line.substring("RCPT TO:".length()).trim().replaceAll("[<>]", "");
+				if (rejectedRecipients.contains(recipient)) {
+					reply(out, "550 No such user");
+				} else {
+					recipients.add(recipient);
+					reply(out, "250 OK");
+				}
+			} else if (command.equals("DATA")) {
+				reply(out, "354 End data with <CR><LF>.<CR><LF>");
+				StringBuilder data = new StringBuilder();
+				while ((line = in.readLine()) != null && !line.equals(".")) {
+					data.append(line.startsWith(".") ? line.substring(1) : line).append('\n');
+				}
+				receivedMails.add(new ReceivedMail(new ArrayList<>(recipients), data.toString()));
+				recipients.clear();
+				reply(out, "250 OK");
+			} else if (command.startsWith("RSET") || command.startsWith("MAIL FROM:")) {
+				recipients.clear();
+				reply(out, "250 OK");
+			} else if (command.startsWith("QUIT")) {
+				reply(out, "221 Bye");
+				return;
+			} else {
+				// EHLO, HELO, NOOP
+				reply(out, "250 localhost");
+			}
+		}
+	}
+
+	private static void reply(PrintWriter out, String reply) {
+		out.print(reply + "\r\n");
+		out.flush();
+	}
+
+	public static final class ReceivedMail {
+
+		private final List<String> recipients;
+		private final String data;
+
+		private ReceivedMail(List<String> recipients, String data) {
+			this.recipients = recipients;
+			this.data = data;
+		}
+
+		public List<String> getRecipients() {
+			return recipients;
+		}
+
+		public String getData() {
+			return data;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common.messaging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.symeda.sormas.api.messaging.MessageType;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.user.UserRole;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
+import de.symeda.sormas.backend.TestDataCreator;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
+import de.symeda.sormas.backend.user.User;
+
+public class OutgoingMessageDispatcherTest extends AbstractBeanTest {
+
+	private FakeSmtpServer smtpServer;
+	private Properties mailProperties;
+	private TestDataCreator.RDCF rdcf;
+
+	@Before
+	public void startSmtpServer() throws IOException {
+
+		smtpServer = new FakeSmtpServer();
+		mailProperties = MockProducer.getMailSession().getProperties();
+		mailProperties.setProperty("mail.smtp.host", InetAddress.getLoopbackAddress().getHostAddress());
+		mailProperties.setProperty("mail.smtp.port", String.valueOf(smtpServer.getPort()));
+
+		rdcf = creator.createRDCF();
+	}
+
+	@After
+	public void stopSmtpServer() throws IOException {
+
+		mailProperties.remove("mail.smtp.host");
+		mailProperties.remove("mail.smtp.port");
+		smtpServer.close();
+	}
+
+	@Test
+	public void testNotificationsDeliveredByDispatcher() {
+
+		User recipient = createRecipient("notified@sormas.org");
+		getBean(MessagingService.class).sendMessages(
+			() -> Collections.singletonMap(recipient, "The classification has changed"),
+			MessageSubject.CASE_CLASSIFICATION_CHANGED,
+			MessageType.EMAIL);
+
+		// only queued in the transaction of the change
+		OutgoingMessageService outgoingMessageService = getBean(OutgoingMessageService.class);
+		assertEquals(1, outgoingMessageService.countPending());
+		assertEquals(0, smtpServer.getReceivedMails().size());
+
+		getBean(OutgoingMessageDispatcher.class).dispatchMessages();
+
+		assertEquals(0, outgoingMessageService.countPending());
+		assertEquals(1, countWithStatus(OutgoingMessageStatus.SENT));
+		List<FakeSmtpServer.ReceivedMail> receivedMails = smtpServer.getReceivedMails();
+		assertEquals(1, receivedMails.size());
+		assertEquals(Collections.singletonList("notified@sormas.org"), receivedMails.get(0).getRecipients());
+		assertTrue(receivedMails.get(0).getData().contains("The classification has changed"));
+	}
+
+	@Test
+	public void testDuplicateNotificationsQueuedOnce() {
+
+		User recipient = createRecipient("notified@sormas.org");
+		MessagingService messagingService = getBean(MessagingService.class);
+		for (int i = 0; i < 3; i++) {
+			messagingService.sendMessages(
+				() -> Collections.singletonMap(recipient, "The classification has changed"),
+				MessageSubject.CASE_CLASSIFICATION_CHANGED,
+				MessageType.EMAIL);
+		}
+		messagingService
+			.sendMessages(() -> Collections.singletonMap(recipient, "The disease has changed"), MessageSubject.DISEASE_CHANGED, MessageType.EMAIL);
+
+		OutgoingMessageService outgoingMessageService = getBean(OutgoingMessageService.class);
+		assertEquals(2, outgoingMessageService.count());
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.NOTIFICATION_DUPLICATE_INTERVAL, "0");
+		messagingService.sendMessages(
+			() -> Collections.singletonMap(recipient, "The classification has changed"),
+			MessageSubject.CASE_CLASSIFICATION_CHANGED,
+			MessageType.EMAIL);
+		assertEquals(3, outgoingMessageService.count());
+	}
+
+	@Test
+	public void testRejectedRecipientRetriedLater() {
+
+		User recipient = createRecipient("notified@sormas.org");
+		User rejectedRecipient = createRecipient("unknown@sormas.org");
+		smtpServer.rejectRecipient("unknown@sormas.org");
+
+		Map<User, String> messages = new HashMap<>();
+		messages.put(recipient, "The classification has changed");
+		messages.put(rejectedRecipient, "The classification has changed");
+		getBean(MessagingService.class).sendMessages(() -> messages, MessageSubject.CASE_CLASSIFICATION_CHANGED, MessageType.EMAIL);
+
+		OutgoingMessageDispatcher dispatcher = getBean(OutgoingMessageDispatcher.class);
+		dispatcher.dispatchMessages();
+
+		assertEquals(1, smtpServer.getConnectionCount());
+		assertEquals(1, smtpServer.getReceivedMails().size());
+		assertEquals(1, countWithStatus(OutgoingMessageStatus.SENT));
+
+		OutgoingMessageService outgoingMessageService = getBean(OutgoingMessageService.class);
+		Date now = new Date();
+		assertEquals(
+			1,
+			outgoingMessageService.count(
+				(cb, root) -> cb.and(
+					cb.equal(root.get(OutgoingMessage.STATUS), OutgoingMessageStatus.PENDING),
+					cb.equal(root.get(OutgoingMessage.RECIPIENT_ADDRESS), "unknown@sormas.org"),
+					cb.equal(root.get(OutgoingMessage.ATTEMPTS), 1),
+					cb.greaterThan(root.get(OutgoingMessage.NEXT_ATTEMPT_DATE), now))));
+
+		// the retry is not due yet
+		dispatcher.dispatchMessages();
+		assertEquals(1, smtpServer.getConnectionCount());
+		assertEquals(1, outgoingMessageService.countPending());
+	}
+
+	private User createRecipient(String email) {
+
+		UserDto user = creator.createUser(
+			rdcf.region.getUuid(),
+			rdcf.district.getUuid(),
+			rdcf.facility.getUuid(),
+			email.substring(0, email.indexOf('@')),
+			"Recipient",
+			UserRole.SURVEILLANCE_SUPERVISOR);
+		user.setUserEmail(email);
+		getUserFacade().saveUser(user);
+
+		return getUserService().getByUuid(user.getUuid());
+	}
+
+	private long countWithStatus(OutgoingMessageStatus status) {
+		return getBean(OutgoingMessageService.class).count((cb, root) -> cb.equal(root.get(OutgoingMessage.STATUS), status));
+	}
+}
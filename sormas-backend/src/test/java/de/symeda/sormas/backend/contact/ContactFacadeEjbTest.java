@@ -44,6 +44,8 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateUtils;
+import org.hibernate.internal.SessionImpl;
+import org.hibernate.stat.Statistics;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -825,6 +827,42 @@ public class ContactFacadeEjbTest extends AbstractBeanTest {
 		}
 	}
 
+	@Test
+	public void testGetIndexDetailedListQueryCountIndependentOfResultSize() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto caseUser = creator.createUser(rdcf, "Case", "Sup", UserRole.SURVEILLANCE_SUPERVISOR).toReference();
+		CaseDataDto caze = creator.createCase(caseUser, creator.createPerson("Case", "Person").toReference(), rdcf);
+		PersonReferenceDto person = creator.createPerson("Contact", "Person").toReference();
+		for (int i = 0; i < 2; i++) {
+			UserReferenceDto user = creator.createUser(rdcf, "Surv" + i, "Sup", UserRole.SURVEILLANCE_SUPERVISOR).toReference();
+			creator.createContact(user, person, caze);
+		}
+
+		// load the configuration and feature snapshots
+		getContactFacade().getIndexDetailedList(new ContactCriteria(), 0, 100, null);
+
+		Statistics statistics = ((SessionImpl) getEntityManager()).getSessionFactory().getStatistics();
+		statistics.setStatisticsEnabled(true);
+		try {
+			statistics.clear();
+			assertEquals(2, getContactFacade().getIndexDetailedList(new ContactCriteria(), 0, 100, null).size());
+			long statementCount = statistics.getPrepareStatementCount();
+
+			// every contact is reported by another user
+			for (int i = 2; i < 6; i++) {
+				UserReferenceDto user = creator.createUser(rdcf, "Surv" + i, "Sup", UserRole.SURVEILLANCE_SUPERVISOR).toReference();
+				creator.createContact(user, person, caze);
+			}
+
+			statistics.clear();
+			assertEquals(6, getContactFacade().getIndexDetailedList(new ContactCriteria(), 0, 100, null).size());
+			assertEquals(Arrays.toString(statistics.getQueries()), statementCount, statistics.getPrepareStatementCount());
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
 	@Test
 	public void testGetContactCountsByCasesForDashboard() {
 
@@ -13,6 +13,7 @@ import de.symeda.sormas.api.caze.CaseDataDto;
 import de.symeda.sormas.api.caze.InvestigationStatus;
 import de.symeda.sormas.api.caze.NewCaseDateType;
 import de.symeda.sormas.api.dashboard.DashboardCaseDto;
+import de.symeda.sormas.api.dashboard.DashboardCaseStatisticsDto;
 import de.symeda.sormas.api.dashboard.DashboardCriteria;
 import de.symeda.sormas.api.dashboard.DashboardEventDto;
 import de.symeda.sormas.api.disease.DiseaseBurdenDto;
@@ -21,6 +22,7 @@ import de.symeda.sormas.api.event.EventInvestigationStatus;
 import de.symeda.sormas.api.event.EventStatus;
 import de.symeda.sormas.api.event.TypeOfPlace;
 import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.sample.PathogenTestResultType;
 import de.symeda.sormas.api.infrastructure.community.CommunityDto;
 import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.user.UserRole;
@@ -69,6 +71,53 @@ public class DashboardFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(1, dashboardCaseDtos.size());
 	}
 
+	@Test
+	public void testGetCaseStatistics() {
+
+		TestDataCreator.RDCFEntities rdcf = creator.createRDCFEntities("Region", "District", "Community", "Facility");
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+		CaseDataDto caze = creator.createCase(
+			user.toReference(),
+			creator.createPerson("Case", "Person").toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		caze.setQuarantineFrom(new Date());
+		caze.setQuarantineTo(DateHelper.addDays(new Date(), 14));
+		caze = getCaseFacade().saveCase(caze);
+		creator.createCase(
+			user.toReference(),
+			creator.createPerson("Case", "Person2").toReference(),
+			Disease.EVD,
+			CaseClassification.NO_CASE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+
+		creator.createSample(caze.toReference(), user.toReference(), rdcf.facility, s -> s.setPathogenTestResult(PathogenTestResultType.POSITIVE));
+
+		DashboardCriteria dashboardCriteria = new DashboardCriteria().region(caze.getResponsibleRegion())
+			.district(caze.getDistrict())
+			.disease(caze.getDisease())
+			.newCaseDateType(NewCaseDateType.MOST_RELEVANT)
+			.dateBetween(DateHelper.subtractDays(new Date(), 1), DateHelper.addDays(new Date(), 1));
+
+		DashboardCaseStatisticsDto statistics = getDashboardFacade().getCaseStatistics(dashboardCriteria);
+
+		// "not a case" cases are only part of the classification counts
+		assertEquals(1, statistics.getCaseCount());
+		assertEquals(Integer.valueOf(1), statistics.getCaseCountByClassification().get(CaseClassification.PROBABLE));
+		assertEquals(Integer.valueOf(1), statistics.getCaseCountByClassification().get(CaseClassification.NO_CASE));
+		assertEquals(Long.valueOf(1), statistics.getCaseCountByDisease().get(Disease.EVD));
+		assertEquals(0, statistics.getFatalCaseCount());
+		assertEquals(1, statistics.getInQuarantineCount());
+		assertEquals(1, statistics.getPlacedInQuarantineCount());
+		assertEquals(Long.valueOf(1), statistics.getTestResultCountByResultType().get(PathogenTestResultType.POSITIVE));
+	}
+
 	@Test
 	public void testDashboardEventListCreation() {
 
@@ -23,14 +23,20 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
@@ -68,6 +74,7 @@ import de.symeda.sormas.api.travelentry.TravelEntryDto;
 import de.symeda.sormas.api.travelentry.TravelEntryReferenceDto;
 import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.user.UserRole;
+import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.backend.MockProducer;
 import de.symeda.sormas.backend.TestDataCreator;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
@@ -83,9 +90,11 @@ public class QuarantineOrderFacadeEjbTest extends AbstractDocGenerationTest {
 	private SampleDto sampleDto;
 	private PathogenTestDto pathogenTestDto;
 
+	private TestDataCreator.RDCF rdcf;
+
 	@Before
 	public void setup() throws URISyntaxException {
-		TestDataCreator.RDCF rdcf = creator.createRDCF("Region", "District", "Community", "Facility", "PointOfEntry");
+		rdcf = creator.createRDCF("Region", "District", "Community", "Facility", "PointOfEntry");
 
 		UserDto userDto = creator
 			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
@@ -269,6 +278,41 @@ public class QuarantineOrderFacadeEjbTest extends AbstractDocGenerationTest {
 		verifyGeneratedDocument(rootEntityReference, workflow, "QuarantineEvent.cmp", documentContents.get(rootEntityReference));
 	}
 
+	@Test
+	public void testBulkDocumentArchiveCreation() throws DocumentTemplateException, IOException {
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.DOCGENERATION_WORKERS, "2");
+		Files.createDirectories(Paths.get(getConfigFacade().getTempFilesPath()));
+
+		CaseDataDto secondCase = creator.createCase(caseDataDto.getReportingUser(), caseDataDto.getPerson(), rdcf);
+		List<ReferenceDto> rootEntityReferences = Arrays.asList(caseDataDto.toReference(), secondCase.toReference());
+
+		Properties properties = new Properties();
+		properties.setProperty("extraremark1", "the first remark");
+		properties.setProperty("extra.remark.no3", "the third remark");
+
+		DocumentWorkflow workflow = DocumentWorkflow.QUARANTINE_ORDER_CASE;
+		Path archivePath =
+			Paths.get(quarantineOrderFacadeEjb.getGeneratedDocumentsArchive("Quarantine.docx", workflow, rootEntityReferences, properties));
+
+		Map<String, byte[]> documentContents = new HashMap<>();
+		try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(archivePath))) {
+			ZipEntry entry;
+			while ((entry = zis.getNextEntry()) != null) {
+				documentContents.put(entry.getName(), IOUtils.toByteArray(zis));
+			}
+		} finally {
+			Files.delete(archivePath);
+		}
+
+		assertEquals(2, documentContents.size());
+		assertTrue(documentContents.containsKey(DataHelper.getShortUuid(secondCase.getUuid()) + "-Quarantine.docx"));
+		verifyGeneratedDocument(
+			caseDataDto.toReference(),
+			workflow,
+			"QuarantineCase.cmp",
+			documentContents.get(DataHelper.getShortUuid(caseDataDto.getUuid()) + "-Quarantine.docx"));
+	}
+
 	private void generateQuarantineOrderTest(
 		ReferenceDto rootEntityReference,
 		DocumentWorkflow documentWorkflow,
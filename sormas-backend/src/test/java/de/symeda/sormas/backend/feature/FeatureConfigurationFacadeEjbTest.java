@@ -1,11 +1,17 @@
 package de.symeda.sormas.backend.feature;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.hibernate.internal.SessionImpl;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 
+import de.symeda.sormas.api.caze.CaseCriteria;
 import de.symeda.sormas.api.caze.CaseDataDto;
 import de.symeda.sormas.api.feature.FeatureConfigurationIndexDto;
 import de.symeda.sormas.api.feature.FeatureType;
@@ -35,4 +41,39 @@ public class FeatureConfigurationFacadeEjbTest extends AbstractBeanTest {
 		List<TaskDto> caseTasks = getTaskFacade().getAllPendingByCase(caze.toReference());
 		assertEquals(0, caseTasks.size());
 	}
+
+	@Test
+	public void testIsFeatureDisabledAfterSave() {
+
+		assertTrue(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+
+		FeatureConfigurationIndexDto featureConfiguration =
+			new FeatureConfigurationIndexDto(DataHelper.createUuid(), null, null, null, null, null, false, null);
+		getFeatureConfigurationFacade().saveFeatureConfiguration(featureConfiguration, FeatureType.TASK_GENERATION_CASE_SURVEILLANCE);
+
+		assertFalse(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+	}
+
+	@Test
+	public void testNoFeatureConfigurationQueriesOnCaseIndex() {
+
+		RDCFEntities rdcf = creator.createRDCFEntities();
+		UserReferenceDto user = creator.createUser(rdcf, UserRole.SURVEILLANCE_SUPERVISOR).toReference();
+		creator.createCase(user, creator.createPerson("Case", "Person").toReference(), rdcf);
+
+		// load the feature configuration snapshot
+		getCaseFacade().getIndexList(new CaseCriteria(), 0, 100, null);
+
+		Statistics statistics = ((SessionImpl) getEntityManager()).getSessionFactory().getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		try {
+			assertEquals(1, getCaseFacade().getIndexList(new CaseCriteria(), 0, 100, null).size());
+			assertTrue(
+				Arrays.toString(statistics.getQueries()),
+				Arrays.stream(statistics.getQueries()).noneMatch(query -> query.contains(FeatureConfiguration.TABLE_NAME)));
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
 }
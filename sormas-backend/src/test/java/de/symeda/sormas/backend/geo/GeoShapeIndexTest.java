@@ -0,0 +1,57 @@
+package de.symeda.sormas.backend.geo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+import de.symeda.sormas.api.geo.GeoLatLon;
+
+public class GeoShapeIndexTest {
+
+	private final GeometryFactory factory = new GeometryFactory();
+
+	@Test
+	public void testFind() {
+
+		Map<String, MultiPolygon> multiPolygons = new HashMap<>();
+		multiPolygons.put("west", multiPolygon(square(0, 0, 10), square(20, 0, 10)));
+		multiPolygons.put("east", multiPolygon(square(10, 0, 10)));
+
+		GeoShapeIndex<String> index = new GeoShapeIndex<>(multiPolygons);
+
+		assertEquals("west", index.find(new GeoLatLon(5, 5)));
+		assertEquals("west", index.find(new GeoLatLon(5, 25)));
+		assertEquals("east", index.find(new GeoLatLon(5, 15)));
+		// inside the envelope of "west", but not inside one of its polygons
+		assertEquals("east", index.find(new GeoLatLon(9, 11)));
+		assertNull(index.find(new GeoLatLon(15, 5)));
+		assertNull(index.find(new GeoLatLon(5, 35)));
+	}
+
+	@Test
+	public void testFindWithoutShapes() {
+		assertNull(new GeoShapeIndex<String>(new HashMap<>()).find(new GeoLatLon(5, 5)));
+	}
+
+	private MultiPolygon multiPolygon(Polygon... polygons) {
+		return factory.createMultiPolygon(polygons);
+	}
+
+	private Polygon square(double lon, double lat, double size) {
+		return factory.createPolygon(
+			new Coordinate[] {
+				new Coordinate(lon, lat),
+				new Coordinate(lon + size, lat),
+				new Coordinate(lon + size, lat + size),
+				new Coordinate(lon, lat + size),
+				new Coordinate(lon, lat) });
+	}
+}
@@ -2,19 +2,72 @@ package de.symeda.sormas.backend.importexport;
 
 import static org.hamcrest.Matchers.isEmptyString;
 import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
 
 import de.symeda.sormas.api.importexport.DatabaseTable;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 
 /**
  * @see DatabaseExportService
  * @author Stefan Kock
  */
+@RunWith(MockitoJUnitRunner.class)
 public class DatabaseExportServiceTest {
 
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@Mock
+	private EntityManager em;
+	@Mock
+	private Query snapshotQuery;
+	@Mock
+	private ConfigFacadeEjbLocal configFacade;
+	@Mock
+	private DatabaseExportWorker databaseExportWorker;
+	@InjectMocks
+	private DatabaseExportService databaseExportService;
+
 	/**
 	 * Assure, that every {@link DatabaseTable} has an export configuration defined.
 	 */
@@ -36,4 +89,70 @@ public class DatabaseExportServiceTest {
 			}
 		}
 	}
+
+	@Test
+	public void testExportInParallel() throws IOException {
+
+		List<DatabaseTable> databaseTables = Arrays.asList(DatabaseTable.CASES, DatabaseTable.CONTACTS, DatabaseTable.PERSONS);
+		mockParallelExport();
+		doAnswer(invocation -> {
+			List<DatabaseTable> tables = invocation.getArgument(1);
+			Map<DatabaseTable, CompletableFuture<Path>> tableFiles = invocation.getArgument(2);
+			Path directory = invocation.getArgument(3);
+			for (DatabaseTable table : tables) {
+				Path tableFile = directory.resolve(table.getFileName() + ".csv");
+				Files.write(tableFile, table.name().getBytes(StandardCharsets.UTF_8));
+				tableFiles.get(table).complete(tableFile);
+			}
+			return null;
+		}).when(databaseExportWorker).exportTables(eq("snapshot-1"), anyList(), anyMap(), any(Path.class));
+
+		ByteArrayOutputStream archive = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+			databaseExportService.exportAsCsvFiles(zos, databaseTables);
+		}
+
+		// one worker gets the first and the third table, the other one the second table
+		verify(databaseExportWorker, times(2)).exportTables(eq("snapshot-1"), anyList(), anyMap(), any(Path.class));
+		try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+			for (DatabaseTable table : databaseTables) {
+				ZipEntry entry = zis.getNextEntry();
+				assertEquals(table.getFileName() + ".csv", entry.getName());
+				assertArrayEquals(table.name().getBytes(StandardCharsets.UTF_8), IOUtils.toByteArray(zis));
+			}
+			assertNull(zis.getNextEntry());
+		}
+		assertArrayEquals(new String[0], tempFolder.getRoot().list());
+	}
+
+	@Test
+	public void testExportInParallelDeletesTemporaryFilesOnFailure() {
+
+		mockParallelExport();
+		doAnswer(invocation -> {
+			List<DatabaseTable> tables = invocation.getArgument(1);
+			Map<DatabaseTable, CompletableFuture<Path>> tableFiles = invocation.getArgument(2);
+			Path directory = invocation.getArgument(3);
+			Files.write(directory.resolve("partial.csv"), new byte[1]);
+			tables.forEach(t -> tableFiles.get(t).completeExceptionally(new IOException("Export failed")));
+			return null;
+		}).when(databaseExportWorker).exportTables(eq("snapshot-1"), anyList(), anyMap(), any(Path.class));
+
+		try {
+			databaseExportService
+				.exportAsCsvFiles(new ZipOutputStream(new ByteArrayOutputStream()), Arrays.asList(DatabaseTable.CASES, DatabaseTable.CONTACTS));
+			fail("The failed export has to be reported");
+		} catch (IOException e) {
+			assertEquals("Export failed", e.getMessage());
+		}
+		assertArrayEquals(new String[0], tempFolder.getRoot().list());
+	}
+
+	private void mockParallelExport() {
+
+		when(configFacade.getDatabaseExportWorkers()).thenReturn(2);
+		when(configFacade.getTempFilesPath()).thenReturn(tempFolder.getRoot().getPath());
+		when(em.createNativeQuery(anyString())).thenReturn(snapshotQuery);
+		when(snapshotQuery.getSingleResult()).thenReturn("snapshot-1");
+	}
 }
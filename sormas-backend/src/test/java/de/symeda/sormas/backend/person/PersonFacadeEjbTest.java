@@ -4,6 +4,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isEmptyOrNullString;
@@ -605,6 +606,35 @@ public class PersonFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(2, personsAfterT1.size());
 	}
 
+	@Test
+	public void testGetPersonsAfterInBatches() {
+		UserDto natUser = useNationalUserLogin();
+
+		Date t1 = new Date();
+
+		PersonDto contactPerson = creator.createPerson();
+		creator.createContact(natUser.toReference(), contactPerson.toReference());
+		PersonDto casePerson = creator.createPerson();
+		creator.createCase(natUser.toReference(), casePerson.toReference(), creator.createRDCF());
+		PersonDto otherPerson = creator.createPerson();
+
+		List<PersonDto> firstBatch = getPersonFacade().getPersonsAfter(t1, 1, null, null);
+		assertEquals(1, firstBatch.size());
+		PersonDto lastPerson = firstBatch.get(0);
+		List<PersonDto> secondBatch = getPersonFacade().getPersonsAfter(t1, 1, lastPerson.getChangeDate(), lastPerson.getUuid());
+		assertEquals(1, secondBatch.size());
+		lastPerson = secondBatch.get(0);
+		assertTrue(getPersonFacade().getPersonsAfter(t1, 1, lastPerson.getChangeDate(), lastPerson.getUuid()).isEmpty());
+
+		// persons without a visible case, contact, event participant, immunization or travel entry are not synchronized
+		assertThat(
+			Arrays.asList(firstBatch.get(0).getUuid(), secondBatch.get(0).getUuid()),
+			containsInAnyOrder(contactPerson.getUuid(), casePerson.getUuid()));
+		assertThat(
+			getPersonFacade().getPersonsAfter(t1).stream().map(PersonDto::getUuid).collect(Collectors.toList()),
+			not(hasItem(otherPerson.getUuid())));
+	}
+
 	@Test
 	public void testCreateWithoutUuid() {
 		PersonDto person = new PersonDto();
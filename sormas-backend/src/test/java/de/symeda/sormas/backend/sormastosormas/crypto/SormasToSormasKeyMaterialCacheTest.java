@@ -0,0 +1,93 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.sormastosormas.crypto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.symeda.sormas.backend.sormastosormas.SormasToSormasFacadeTest;
+
+public class SormasToSormasKeyMaterialCacheTest {
+
+	private static final Path DEFAULT_SERVER_ACCESS = Paths.get("src/test/java/de/symeda/sormas/backend/sormastosormas/serveraccessdefault");
+	private static final Path SECOND_SERVER_ACCESS = Paths.get("src/test/java/de/symeda/sormas/backend/sormastosormas/serveraccesssecond");
+
+	@Test
+	public void testKeystoreReloadedOnFileChange() throws Exception {
+
+		Path keystorePath = Files.createTempFile("sormas2sormas", ".keystore.p12");
+		try {
+			Files.copy(DEFAULT_SERVER_ACCESS.resolve("sormas_a.sormas2sormas.keystore.p12"), keystorePath, StandardCopyOption.REPLACE_EXISTING);
+			SormasToSormasKeyMaterialCache cache = new SormasToSormasKeyMaterialCache();
+
+			KeyStore keystore = cache.getStore(keystorePath, "1234");
+			PrivateKey privateKey = cache.getPrivateKey(keystorePath, "1234", SormasToSormasFacadeTest.DEFAULT_SERVER_ID);
+			assertNotNull(privateKey);
+			assertSame(keystore, cache.getStore(keystorePath, "1234"));
+			assertSame(privateKey, cache.getPrivateKey(keystorePath, "1234", SormasToSormasFacadeTest.DEFAULT_SERVER_ID));
+
+			Files.setLastModifiedTime(
+				keystorePath,
+				FileTime.fromMillis(Files.getLastModifiedTime(keystorePath).toMillis() + TimeUnit.MINUTES.toMillis(1)));
+			assertNotSame(keystore, cache.getStore(keystorePath, "1234"));
+			assertNotSame(privateKey, cache.getPrivateKey(keystorePath, "1234", SormasToSormasFacadeTest.DEFAULT_SERVER_ID));
+		} finally {
+			Files.delete(keystorePath);
+		}
+	}
+
+	@Test
+	public void testOtherCertificateFetchedOnce() throws Exception {
+
+		SormasToSormasKeyMaterialCache cache = new SormasToSormasKeyMaterialCache();
+		X509Certificate rootCa = (X509Certificate) cache.getStore(DEFAULT_SERVER_ACCESS.resolve("sormas2sormas.truststore.p12"), "password")
+			.getCertificate("S2SCA");
+		X509Certificate otherCertificate = (X509Certificate) cache
+			.getStore(SECOND_SERVER_ACCESS.resolve("sormas_b.sormas2sormas.keystore.p12"), "1234")
+			.getCertificate(SormasToSormasFacadeTest.SECOND_SERVER_ID);
+
+		// stands in for the cert endpoint of the other server
+		AtomicInteger fetchCount = new AtomicInteger();
+		SormasToSormasKeyMaterialCache.CertificateLoader otherServer = () -> {
+			fetchCount.incrementAndGet();
+			return otherCertificate;
+		};
+
+		for (int i = 0; i < 200; i++) {
+			assertSame(otherCertificate, cache.getOtherCertificate(SormasToSormasFacadeTest.SECOND_SERVER_ID, rootCa, otherServer));
+		}
+		assertEquals(1, fetchCount.get());
+
+		// a certificate verified with another root certificate has to be verified again
+		cache.getOtherCertificate(SormasToSormasFacadeTest.SECOND_SERVER_ID, otherCertificate, otherServer);
+		assertEquals(2, fetchCount.get());
+	}
+}
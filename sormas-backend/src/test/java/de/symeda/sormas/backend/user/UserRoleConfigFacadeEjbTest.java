@@ -10,10 +10,12 @@ import java.util.Set;
 import org.hamcrest.collection.IsEmptyCollection;
 import org.junit.Test;
 
+import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.api.user.UserRoleConfigDto;
 import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator;
 
 public class UserRoleConfigFacadeEjbTest extends AbstractBeanTest {
 
@@ -47,6 +49,30 @@ public class UserRoleConfigFacadeEjbTest extends AbstractBeanTest {
 		assertThat(mixedUserRights, is(expectedUserRights));
 	}
 
+	@Test
+	public void testUserRightsChangedByUserRoleConfig() {
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF();
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+		loginWith(user);
+		assertThat(getUserService().hasRight(UserRight.CASE_EDIT), is(true));
+
+		UserRoleConfigDto userRoleConfig =
+			getUserRoleConfigFacade().saveUserRoleConfig(UserRoleConfigDto.build(UserRole.SURVEILLANCE_SUPERVISOR));
+		assertThat(getUserService().hasRight(UserRight.CASE_EDIT), is(false));
+
+		userRoleConfig.getUserRights().add(UserRight.CASE_EDIT);
+		userRoleConfig = getUserRoleConfigFacade().saveUserRoleConfig(userRoleConfig);
+		assertThat(getUserService().hasRight(UserRight.CASE_EDIT), is(true));
+		assertThat(getUserService().hasRight(UserRight.CASE_CREATE), is(false));
+
+		getUserRoleConfigFacade().deleteUserRoleConfig(userRoleConfig);
+		assertThat(
+			getUserService().hasRight(UserRight.CASE_CREATE),
+			is(UserRole.SURVEILLANCE_SUPERVISOR.getDefaultUserRights().contains(UserRight.CASE_CREATE)));
+	}
+
 	// not testable, because history tables don't work with H2
 //	@Test
 //	public void testGetDeletedUuids() {
@@ -0,0 +1,47 @@
+package de.symeda.sormas.backend.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import de.symeda.sormas.api.user.UserRight;
+import de.symeda.sormas.api.user.UserRole;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UserRoleRightsCacheTest {
+
+	@Mock
+	private UserRoleConfigService userRoleConfigService;
+	@InjectMocks
+	private UserRoleRightsCache userRoleRightsCache;
+
+	@Test
+	public void testSnapshotLoadedDuringInvalidationIsNotKept() {
+
+		UserRoleConfig config = new UserRoleConfig();
+		config.setUserRole(UserRole.SURVEILLANCE_OFFICER);
+		config.setUserRights(EnumSet.of(UserRight.CASE_VIEW));
+
+		// the configuration is changed while the old one is being loaded
+		when(userRoleConfigService.getAll()).then(invocation -> {
+			userRoleRightsCache.invalidate();
+			return Collections.emptyList();
+		}).thenReturn(Collections.singletonList(config));
+
+		assertEquals(
+			UserRole.SURVEILLANCE_OFFICER.getDefaultUserRights(),
+			userRoleRightsCache.getUserRoleRights().get(UserRole.SURVEILLANCE_OFFICER));
+		assertEquals(EnumSet.of(UserRight.CASE_VIEW), userRoleRightsCache.getUserRoleRights().get(UserRole.SURVEILLANCE_OFFICER));
+		assertTrue(
+			userRoleRightsCache.getEffectiveUserRights(Collections.singleton(UserRole.SURVEILLANCE_OFFICER)).contains(UserRight.CASE_VIEW));
+	}
+}
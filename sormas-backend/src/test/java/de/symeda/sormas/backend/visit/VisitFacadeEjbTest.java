@@ -11,6 +11,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -433,4 +434,38 @@ public class VisitFacadeEjbTest extends AbstractBeanTest {
 			assertEquals(indexVisits.get(i).getUuid(), indexVisits2.get(i).getUuid());
 		}
 	}
+
+	@Test
+	public void testSaveVisits() {
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF("Region", "District", "Community", "Facility");
+		UserDto user = useSurveillanceOfficerLogin(rdcf);
+		PersonDto cazePerson = creator.createPerson("Case", "Person");
+		CaseDataDto caze = creator.createCase(
+			user.toReference(),
+			cazePerson.toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+
+		VisitDto visit = VisitDto.build(cazePerson.toReference(), caze.getDisease(), VisitOrigin.USER);
+		visit.setVisitUser(user.toReference());
+		visit.setVisitStatus(VisitStatus.COOPERATIVE);
+		visit.getSymptoms().setAbdominalPain(SymptomState.YES);
+		VisitDto visit2 = VisitDto.build(cazePerson.toReference(), caze.getDisease(), VisitOrigin.USER);
+		visit2.setVisitUser(user.toReference());
+		visit2.setVisitStatus(VisitStatus.COOPERATIVE);
+		visit2.getSymptoms().setAgitation(SymptomState.YES);
+
+		List<VisitDto> savedVisits = getVisitFacade().saveVisits(Arrays.asList(visit, visit2));
+		assertThat(savedVisits, hasSize(2));
+		assertThat(getVisitFacade().getVisitsByCase(caze.toReference()), hasSize(2));
+
+		// the symptoms of all visits of the batch are applied to the case
+		CaseDataDto updatedCase = getCaseFacade().getCaseDataByUuid(caze.getUuid());
+		assertEquals(SymptomState.YES, updatedCase.getSymptoms().getAbdominalPain());
+		assertEquals(SymptomState.YES, updatedCase.getSymptoms().getAgitation());
+	}
 }
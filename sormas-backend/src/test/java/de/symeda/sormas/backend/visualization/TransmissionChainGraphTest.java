@@ -0,0 +1,121 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2021 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.visualization;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.contact.ContactProximity;
+
+public class TransmissionChainGraphTest {
+
+	private static final int MAX_CONTACTS_SUPPORTED = 5000;
+
+	@Test
+	public void testNodesAndEdges() throws IOException {
+
+		TransmissionChainGraph graph = new TransmissionChainGraph();
+
+		// the earliest case of a person wins, contacts without case come last
+		graph.addPerson(1, null, null, null);
+		graph.addPerson(1, "BBBBBB-BBBBBB-BBBBBB-BBBBBBBB", new Date(2000), CaseClassification.CONFIRMED);
+		graph.addPerson(1, "AAAAAA-AAAAAA-AAAAAA-AAAAAAAA", new Date(1000), CaseClassification.SUSPECT);
+		graph.addPerson(2, null, null, null);
+		graph.addPerson(3, "CCCCCC-CCCCCC-CCCCCC-CCCCCCCC", new Date(1000), CaseClassification.NO_CASE);
+
+		graph.addContact(1, 2, ContactProximity.CLOSE_CONTACT);
+		graph.addContact(1, 2, ContactProximity.PHYSICAL_CONTACT);
+		graph.addContact(1, 3, null);
+		graph.addContact(1, 1, ContactProximity.PHYSICAL_CONTACT);
+
+		JsonNode x = new ObjectMapper().readTree(graph.toJson()).get("x");
+
+		JsonNode nodes = x.get("nodes");
+		assertThat(nodes.size(), is(3));
+		assertThat(nodes.get(0).get("id").asLong(), is(1L));
+		assertThat(nodes.get(0).get("label").asText(), is("AAAAAA"));
+		assertThat(nodes.get(0).get("group").asText(), is("{Classification.SUSPECT}"));
+		assertThat(nodes.get(1).get("label").isNull(), is(true));
+		assertThat(nodes.get(1).get("group").asText(), is("{Classification.HEALTHY}"));
+		assertThat(nodes.get(2).get("Classification").asText(), is("{Classification.HEALTHY}"));
+
+		// high risk contacts first, self contacts are dropped
+		JsonNode edges = x.get("edges");
+		assertThat(edges.size(), is(2));
+		assertThat(edges.get(0).get("to").asLong(), is(2L));
+		assertThat(edges.get(0).get("label").asText(), is("1"));
+		assertThat(edges.get(0).get("dashes").asBoolean(), is(false));
+		assertThat(edges.get(1).get("to").asLong(), is(3L));
+		assertThat(edges.get(1).get("label").asText(), is("2"));
+		assertThat(edges.get(1).get("dashes").asBoolean(), is(true));
+	}
+
+	@Test
+	public void testGraphWithMaxContacts() throws IOException {
+
+		Random random = new Random(42);
+		Set<Long> personIds = new HashSet<>();
+		Set<List<Long>> contacts = new HashSet<>();
+
+		TransmissionChainGraph graph = new TransmissionChainGraph();
+		for (int i = 0; i < MAX_CONTACTS_SUPPORTED; i++) {
+			long casePersonId = random.nextInt(MAX_CONTACTS_SUPPORTED / 4);
+			long contactPersonId = random.nextInt(MAX_CONTACTS_SUPPORTED);
+			graph.addPerson(casePersonId, "CASE-" + casePersonId, new Date(random.nextInt(1000)), CaseClassification.CONFIRMED);
+			graph.addPerson(contactPersonId, null, null, null);
+			graph.addContact(casePersonId, contactPersonId, ContactProximity.values()[random.nextInt(ContactProximity.values().length)]);
+
+			personIds.add(casePersonId);
+			personIds.add(contactPersonId);
+			if (casePersonId != contactPersonId) {
+				contacts.add(Arrays.asList(casePersonId, contactPersonId));
+			}
+		}
+
+		JsonNode x = new ObjectMapper().readTree(graph.toJson()).get("x");
+
+		// one node per person and one edge per pair of persons in contact, high risk contacts first
+		Set<Long> nodeIds = new HashSet<>();
+		x.get("nodes").forEach(node -> nodeIds.add(node.get("id").asLong()));
+		assertThat(x.get("nodes").size(), is(personIds.size()));
+		assertThat(nodeIds, is(personIds));
+
+		Set<List<Long>> edges = new HashSet<>();
+		boolean lowRiskEdgeFound = false;
+		for (JsonNode edge : x.get("edges")) {
+			edges.add(Arrays.asList(edge.get("from").asLong(), edge.get("to").asLong()));
+			boolean lowRisk = edge.get("dashes").asBoolean();
+			assertThat(lowRiskEdgeFound && !lowRisk, is(false));
+			lowRiskEdgeFound |= lowRisk;
+		}
+		assertThat(x.get("edges").size(), is(contacts.size()));
+		assertThat(edges, is(contacts));
+	}
+}
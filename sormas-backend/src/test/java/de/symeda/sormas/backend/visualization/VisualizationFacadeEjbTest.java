@@ -1,99 +1,77 @@
 package de.symeda.sormas.backend.visualization;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.endsWith;
-import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
-import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.Matchers.nullValue;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.EnumSet;
 
-import org.hamcrest.Matchers;
-import org.junit.Ignore;
-import org.junit.Rule;
 import org.junit.Test;
-import org.junit.rules.TemporaryFolder;
 
-import de.symeda.sormas.api.Language;
-
-public class VisualizationFacadeEjbTest { // extends AbstractBeanTest {
-
-	@Rule
-	public TemporaryFolder temp = new TemporaryFolder();
-
-	@Test
-	@Ignore
-	public void testStaticBuildTransmissionChainJson() {
-
-		// FIXME depends on local database
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-		List<Long> contactIds = Arrays.asList(30481L, 30478L);
-
-		String[] rscriptExecutableLocs = {
-			"C:\\Program Files\\R\\R-3.6.2\\bin\\Rscript.exe",
-			"C:\\Program Files\\R\\R-3.6.3\\bin\\Rscript.exe" };
-
-		Optional<String> rscriptExecutable = Arrays.stream(rscriptExecutableLocs).filter(p -> Files.isExecutable(Paths.get(p))).findFirst();
-
-		rscriptExecutable.ifPresent(r -> {
-
-			Path domainXmlPath = writeDomainXml();
-
-			String result = VisualizationFacadeEjb.buildTransmissionChainJson(r, temp.getRoot().toPath(), domainXmlPath, contactIds, Language.EN);
-			assertThat(result, startsWith("{"));
-			assertThat(result, endsWith("}"));
-		});
-	}
-
-	@Test
-	public void testExtractJson() {
-		String json = VisualizationFacadeEjb.extractJson(
-			"<!DOCTYPE html>\r\n" + "<html>\r\n" + "<head>\r\n" + "<meta charset=\"utf-8\"/>\r\n" + "<style>body{background-color:white;}</style>\r\n"
-				+ "<script src=\"result_files/htmlwidgets-1.5.1/htmlwidgets.js\"></script>\r\n"
-				+ "<link href=\"result_files/vis-4.20.1/vis.css\" rel=\"stylesheet\" />\r\n" + "</head>\r\n" + "<body>\r\n"
-				+ "<div id=\"htmlwidget_container\">\r\n"
-				+ "  <div id=\"htmlwidget-b9f896960aa32dc1f3e5\" style=\"width:90%;height:700px;\" class=\"visNetwork html-widget\"></div>\r\n"
-				+ "</div>\r\n" + "<script type=\"application/json\" data-for=\"htmlwidget-b9f896960aa32dc1f3e5\">{\"x\":\"a\\/b\"}</script>\r\n"
-				+ "</body>\r\n" + "</html>",
-			Language.EN);
-		assertThat(json, is("{\"x\":\"a\\/b\"}"));
-	}
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.Language;
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.contact.ContactDto;
+import de.symeda.sormas.api.contact.ContactProximity;
+import de.symeda.sormas.api.i18n.I18nProperties;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.user.UserRole;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+
+public class VisualizationFacadeEjbTest extends AbstractBeanTest {
 
 	@Test
-	public void testReadDbConection() throws IOException {
-
-		Path domainXmlPath = writeDomainXml();
-
-		Map<String, String> dbProperties =
-			VisualizationFacadeEjb.getConnectionPoolProperties(domainXmlPath, VisualizationFacadeEjb.SORMAS_DATA_POOL_JNDI);
-		assertThat(dbProperties.entrySet(), hasSize(5));
-		assertThat(dbProperties, Matchers.hasEntry("user", "sormas_user"));
-		assertThat(dbProperties, Matchers.hasEntry("password", "sormas_user"));
-		assertThat(dbProperties, Matchers.hasEntry("portNumber", "5432"));
-		assertThat(dbProperties, Matchers.hasEntry("databaseName", "sormas_db"));
-		assertThat(dbProperties, Matchers.hasEntry("serverName", "localhost"));
-	}
-
-	private Path writeDomainXml() {
-		try {
-			Path domPath = Files.createTempFile(temp.getRoot().toPath(), "domain", ".xml");
-
-			try (InputStream in = getClass().getResourceAsStream("/domain.xml")) {
-				Files.copy(in, domPath, StandardCopyOption.REPLACE_EXISTING);
+	public void testBuildTransmissionChainJson() throws IOException {
+
+		assertThat(
+			getVisualizationFacade().buildTransmissionChainJson(null, null, null, null, EnumSet.allOf(Disease.class), Language.EN),
+			is(nullValue()));
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createUser(rdcf, UserRole.NATIONAL_USER);
+		PersonDto casePerson = creator.createPerson("Case", "Person");
+		CaseDataDto caze =
+			creator.createCase(user.toReference(), casePerson.toReference(), rdcf, c -> c.setCaseClassification(CaseClassification.CONFIRMED));
+
+		PersonDto contactPerson = creator.createPerson("Contact", "Person");
+		ContactDto contact = creator.createContact(user.toReference(), contactPerson.toReference(), caze);
+		contact.setContactProximity(ContactProximity.PHYSICAL_CONTACT);
+		getContactFacade().saveContact(contact);
+		creator.createContact(user.toReference(), creator.createPerson("Other", "Person").toReference(), caze);
+
+		String json = getVisualizationFacade().buildTransmissionChainJson(null, null, null, null, EnumSet.allOf(Disease.class), Language.EN);
+		JsonNode x = new ObjectMapper().readTree(json).get("x");
+
+		long casePersonId = getPersonService().getByUuid(casePerson.getUuid()).getId();
+		long contactPersonId = getPersonService().getByUuid(contactPerson.getUuid()).getId();
+
+		JsonNode nodes = x.get("nodes");
+		assertThat(nodes.size(), is(3));
+		for (JsonNode node : nodes) {
+			if (node.get("id").asLong() == casePersonId) {
+				assertThat(node.get("uuid").asText(), is(caze.getUuid()));
+				assertThat(node.get("label").asText(), is(caze.getUuid().substring(0, 6).toUpperCase()));
+				assertThat(node.get("Classification").asText(), is(I18nProperties.getEnumCaption(Language.EN, CaseClassification.CONFIRMED)));
+			} else {
+				assertThat(node.get("uuid").isNull(), is(true));
+				assertThat(node.get("Classification").asText(), is(I18nProperties.getString(Language.EN, "DiseaseNetworkDiagram.Classification.HEALTHY")));
 			}
-			return domPath;
-		} catch (IOException e) {
-			throw new UncheckedIOException(e);
 		}
+
+		JsonNode edges = x.get("edges");
+		assertThat(edges.size(), is(2));
+		assertThat(edges.get(0).get("from").asLong(), is(casePersonId));
+		assertThat(edges.get(0).get("to").asLong(), is(contactPersonId));
+		assertThat(edges.get(0).get("dashes").asBoolean(), is(false));
+		assertThat(edges.get(1).get("dashes").asBoolean(), is(true));
+
+		assertThat(x.get("main").get("text").asText(), is(I18nProperties.getString(Language.EN, "DiseaseNetworkDiagram.heading")));
 	}
 }
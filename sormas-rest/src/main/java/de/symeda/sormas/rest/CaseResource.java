@@ -19,6 +19,7 @@ package de.symeda.sormas.rest;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.annotation.security.RolesAllowed;
 import javax.validation.Valid;
@@ -58,8 +59,12 @@ public class CaseResource extends EntityDtoResource {
 
 	@GET
 	@Path("/all/{since}")
-	public List<CaseDataDto> getAllCases(@PathParam("since") long since) {
-		return FacadeProvider.getCaseFacade().getAllActiveCasesAfter(new Date(since));
+	public List<CaseDataDto> getAllCases(
+		@PathParam("since") long since,
+		@QueryParam("size") Integer size,
+		@QueryParam("lastChangeDate") Long lastChangeDate,
+		@QueryParam("lastUuid") String lastUuid) {
+		return FacadeProvider.getCaseFacade().getAllActiveCasesAfter(new Date(since), size, toLastChangeDate(lastChangeDate), lastUuid);
 	}
 
 	@POST
@@ -77,7 +82,10 @@ public class CaseResource extends EntityDtoResource {
 	@POST
 	@Path("/push")
 	public List<PushResult> postCases(@Valid List<CaseDataDto> dtos) {
-		return savePushedDto(dtos, FacadeProvider.getCaseFacade()::saveCase);
+		return savePushedDtoInChunks(
+			dtos,
+			chunk -> chunk.stream().map(FacadeProvider.getCaseFacade()::saveCase).collect(Collectors.toList()),
+			FacadeProvider.getCaseFacade()::saveCase);
 	}
 
 	@GET
@@ -19,6 +19,7 @@ package de.symeda.sormas.rest;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.annotation.security.RolesAllowed;
 import javax.validation.Valid;
@@ -61,8 +62,12 @@ public class ContactResource extends EntityDtoResource {
 
 	@GET
 	@Path("/all/{since}")
-	public List<ContactDto> getAllContacts(@PathParam("since") long since) {
-		return FacadeProvider.getContactFacade().getAllActiveContactsAfter(new Date(since));
+	public List<ContactDto> getAllContacts(
+		@PathParam("since") long since,
+		@QueryParam("size") Integer size,
+		@QueryParam("lastChangeDate") Long lastChangeDate,
+		@QueryParam("lastUuid") String lastUuid) {
+		return FacadeProvider.getContactFacade().getAllActiveContactsAfter(new Date(since), size, toLastChangeDate(lastChangeDate), lastUuid);
 	}
 
 	@POST
@@ -83,7 +88,10 @@ public class ContactResource extends EntityDtoResource {
 	@Path("/push")
 	public List<PushResult> postContacts(@Valid List<ContactDto> dtos) {
 
-		List<PushResult> result = savePushedDto(dtos, FacadeProvider.getContactFacade()::saveContact);
+		List<PushResult> result = savePushedDtoInChunks(
+			dtos,
+			chunk -> chunk.stream().map(FacadeProvider.getContactFacade()::saveContact).collect(Collectors.toList()),
+			FacadeProvider.getContactFacade()::saveContact);
 		return result;
 	}
 
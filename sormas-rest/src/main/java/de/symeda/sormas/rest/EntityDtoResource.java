@@ -2,6 +2,8 @@ package de.symeda.sormas.rest;
 
 import java.text.DateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.function.Function;
 
@@ -17,6 +19,11 @@ import de.symeda.sormas.api.utils.OutdatedEntityException;
 
 public abstract class EntityDtoResource {
 
+	/**
+	 * Number of pushed entities that are saved in one transaction by {@link #savePushedDtoInChunks}.
+	 */
+	private static final int PUSH_CHUNK_SIZE = 100;
+
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	@EJB
@@ -46,6 +53,53 @@ public abstract class EntityDtoResource {
 		return results;
 	}
 
+	/**
+	 * Saves the pushed entities in chunks of {@link #PUSH_CHUNK_SIZE}, each chunk in one transaction, instead of committing every
+	 * entity on its own.
+	 * <p>
+	 * When saving a chunk fails, its transaction is rolled back and the entities of the chunk are saved one by one with
+	 * {@code saveEntityDto}, so every entity still gets its own {@link PushResult}. A rollback of single entities inside the chunk
+	 * is not possible, because a failing facade call marks the whole transaction for rollback.
+	 *
+	 * @param saveChunk
+	 *            Saves all entities of a chunk within the transaction of the caller, e.g. with side effects deferred to the end of the
+	 *            chunk.
+	 * @param saveEntityDto
+	 *            Saves a single entity.
+	 */
+	protected <T> List<PushResult> savePushedDtoInChunks(List<T> dtos, Function<List<T>, List<T>> saveChunk, Function<T, T> saveEntityDto) {
+
+		List<PushResult> results = new ArrayList<>(dtos.size());
+		for (int i = 0; i < dtos.size(); i += PUSH_CHUNK_SIZE) {
+			List<T> chunk = dtos.subList(i, Math.min(i + PUSH_CHUNK_SIZE, dtos.size()));
+			try {
+				transactionWrapper.execute(c -> saveChunk(c, saveChunk), chunk);
+				results.addAll(Collections.nCopies(chunk.size(), PushResult.OK));
+			} catch (Exception e) {
+				logger.info("Saving a chunk of {} pushed entities failed, saving them one by one: {}", chunk.size(), e.getMessage());
+				results.addAll(savePushedDto(chunk, saveEntityDto));
+			}
+		}
+		return results;
+	}
+
+	private static <T> List<T> saveChunk(List<T> chunk, Function<List<T>, List<T>> saveChunk) {
+
+		try {
+			return saveChunk.apply(chunk);
+		} catch (RuntimeException e) {
+			// also roll back for application exceptions that would otherwise commit the entities saved so far
+			throw new PushChunkFailedException(e);
+		}
+	}
+
+	/**
+	 * Converts the optional change date of the last synchronized entity that is passed to the paged /all/{since} calls.
+	 */
+	protected Date toLastChangeDate(Long lastChangeDate) {
+		return lastChangeDate != null ? new Date(lastChangeDate) : null;
+	}
+
 	protected <T extends Object> String createErrorMessage(T dto) {
 
 		final EntityDto entityDto = (EntityDto) dto;
@@ -56,4 +110,13 @@ public abstract class EntityDtoResource {
 				+ DateFormat.getDateTimeInstance().format(entityDto.getChangeDate()) + "\n";
 		}
 	}
+
+	private static final class PushChunkFailedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private PushChunkFailedException(Throwable cause) {
+			super(cause);
+		}
+	}
 }
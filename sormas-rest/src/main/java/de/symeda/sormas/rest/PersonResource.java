@@ -61,8 +61,12 @@ public class PersonResource extends EntityDtoResource {
 
 	@GET
 	@Path("/all/{since}")
-	public List<PersonDto> getAllPersons(@PathParam("since") long since) {
-		return FacadeProvider.getPersonFacade().getPersonsAfter(new Date(since));
+	public List<PersonDto> getAllPersons(
+		@PathParam("since") long since,
+		@QueryParam("size") Integer size,
+		@QueryParam("lastChangeDate") Long lastChangeDate,
+		@QueryParam("lastUuid") String lastUuid) {
+		return FacadeProvider.getPersonFacade().getPersonsAfter(new Date(since), size, toLastChangeDate(lastChangeDate), lastUuid);
 	}
 
 	@POST
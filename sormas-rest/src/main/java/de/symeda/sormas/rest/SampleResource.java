@@ -50,8 +50,12 @@ public class SampleResource extends EntityDtoResource {
 
 	@GET
 	@Path("/all/{since}")
-	public List<SampleDto> getAllSamples(@PathParam("since") long since) {
-		return FacadeProvider.getSampleFacade().getAllActiveSamplesAfter(new Date(since));
+	public List<SampleDto> getAllSamples(
+		@PathParam("since") long since,
+		@QueryParam("size") Integer size,
+		@QueryParam("lastChangeDate") Long lastChangeDate,
+		@QueryParam("lastUuid") String lastUuid) {
+		return FacadeProvider.getSampleFacade().getAllActiveSamplesAfter(new Date(since), size, toLastChangeDate(lastChangeDate), lastUuid);
 	}
 
 	@GET
@@ -58,8 +58,12 @@ public class TaskResource extends EntityDtoResource {
 
 	@GET
 	@Path("/all/{since}")
-	public List<TaskDto> getAll(@PathParam("since") long since) {
-		return FacadeProvider.getTaskFacade().getAllActiveTasksAfter(new Date(since));
+	public List<TaskDto> getAll(
+		@PathParam("since") long since,
+		@QueryParam("size") Integer size,
+		@QueryParam("lastChangeDate") Long lastChangeDate,
+		@QueryParam("lastUuid") String lastUuid) {
+		return FacadeProvider.getTaskFacade().getAllActiveTasksAfter(new Date(since), size, toLastChangeDate(lastChangeDate), lastUuid);
 	}
 
 	@POST
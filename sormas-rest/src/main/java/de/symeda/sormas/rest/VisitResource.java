@@ -61,9 +61,12 @@ public class VisitResource extends EntityDtoResource {
 	 */
 	@GET
 	@Path("/all/{since}")
-	public List<VisitDto> getAllVisits(@PathParam("since") long since) {
-
-		return FacadeProvider.getVisitFacade().getAllActiveVisitsAfter(new Date(since));
+	public List<VisitDto> getAllVisits(
+		@PathParam("since") long since,
+		@QueryParam("size") Integer size,
+		@QueryParam("lastChangeDate") Long lastChangeDate,
+		@QueryParam("lastUuid") String lastUuid) {
+		return FacadeProvider.getVisitFacade().getAllActiveVisitsAfter(new Date(since), size, toLastChangeDate(lastChangeDate), lastUuid);
 	}
 
 	@POST
@@ -78,7 +81,8 @@ public class VisitResource extends EntityDtoResource {
 	@Path("/push")
 	public List<PushResult> postVisits(@Valid List<VisitDto> dtos) {
 
-		List<PushResult> result = savePushedDto(dtos, FacadeProvider.getVisitFacade()::saveVisit);
+		List<PushResult> result =
+			savePushedDtoInChunks(dtos, FacadeProvider.getVisitFacade()::saveVisits, FacadeProvider.getVisitFacade()::saveVisit);
 		return result;
 	}
 
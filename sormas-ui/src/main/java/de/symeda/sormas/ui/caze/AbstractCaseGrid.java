@@ -25,8 +25,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.data.provider.DataProvider;
-import com.vaadin.data.provider.DataProviderListener;
-import com.vaadin.data.provider.ListDataProvider;
 import com.vaadin.shared.data.sort.SortDirection;
 import com.vaadin.ui.Label;
 import com.vaadin.ui.renderers.DateRenderer;
@@ -50,6 +48,7 @@ import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.SortProperty;
+import de.symeda.sormas.api.utils.criteria.BulkSelection;
 import de.symeda.sormas.ui.ControllerProvider;
 import de.symeda.sormas.ui.UserProvider;
 import de.symeda.sormas.ui.ViewModelProviders;
@@ -70,7 +69,7 @@ public abstract class AbstractCaseGrid<IndexDto extends CaseIndexDto> extends Fi
 	private final boolean caseFollowUpEnabled;
 	private final boolean externalSurveillanceToolShareEnabled;
 
-	private DataProviderListener<IndexDto> dataProviderListener;
+	private boolean allMatchingSelected;
 
 	public AbstractCaseGrid(Class<IndexDto> beanType, CaseCriteria criteria) {
 
@@ -79,15 +78,12 @@ public abstract class AbstractCaseGrid<IndexDto extends CaseIndexDto> extends Fi
 		caseFollowUpEnabled = FacadeProvider.getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.CASE_FOLLOWUP);
 		externalSurveillanceToolShareEnabled = FacadeProvider.getExternalSurveillanceToolFacade().isFeatureEnabled();
 
-		ViewConfiguration viewConfiguration = ViewModelProviders.of(CasesView.class).get(CasesViewConfiguration.class);
-		setInEagerMode(viewConfiguration.isInEagerMode());
+		setLazyDataProvider();
+		setCriteria(criteria);
 
-		if (isInEagerMode() && UserProvider.getCurrent().hasUserRight(UserRight.PERFORM_BULK_OPERATIONS)) {
-			setCriteria(criteria);
-			setEagerDataProvider();
-		} else {
-			setLazyDataProvider();
-			setCriteria(criteria);
+		ViewConfiguration viewConfiguration = ViewModelProviders.of(CasesView.class).get(CasesViewConfiguration.class);
+		if (viewConfiguration.isInEagerMode() && UserProvider.getCurrent().hasUserRight(UserRight.PERFORM_BULK_OPERATIONS)) {
+			setSelectionMode(SelectionMode.MULTI);
 		}
 
 		initColumns();
@@ -288,7 +284,7 @@ public abstract class AbstractCaseGrid<IndexDto extends CaseIndexDto> extends Fi
 		}
 
 		if (ViewModelProviders.of(CasesView.class).get(CasesViewConfiguration.class).isInEagerMode()) {
-			setEagerDataProvider();
+			setSelectionMode(allMatchingSelected ? SelectionMode.NONE : SelectionMode.MULTI);
 		}
 
 		getDataProvider().refreshAll();
@@ -305,24 +301,37 @@ public abstract class AbstractCaseGrid<IndexDto extends CaseIndexDto> extends Fi
 					.stream()
 					.map(sortOrder -> new SortProperty(sortOrder.getSorted(), sortOrder.getDirection() == SortDirection.ASCENDING))
 					.collect(Collectors.toList())).stream(),
-			query -> (int) FacadeProvider.getCaseFacade().count(query.getFilter().orElse(null)));
+			estimatedCount(
+				criteria -> FacadeProvider.getCaseFacade().getEstimatedCount(criteria),
+				criteria -> FacadeProvider.getCaseFacade().count(criteria)));
 		setDataProvider(dataProvider);
 		setSelectionMode(SelectionMode.NONE);
 	}
 
-	public void setEagerDataProvider() {
+	/**
+	 * Selects all cases matching the criteria for bulk operations without loading them. Rows can't be selected individually
+	 * meanwhile.
+	 */
+	public void setAllMatchingSelected(boolean allMatchingSelected) {
 
-		ListDataProvider<IndexDto> dataProvider = DataProvider.fromStream(getGridData(getCriteria(), null, null, null).stream());
-		setDataProvider(dataProvider);
-		setSelectionMode(SelectionMode.MULTI);
+		this.allMatchingSelected = allMatchingSelected;
+		setSelectionMode(allMatchingSelected ? SelectionMode.NONE : SelectionMode.MULTI);
+	}
 
-		if (dataProviderListener != null) {
-			dataProvider.addDataProviderListener(dataProviderListener);
-		}
+	public boolean isAllMatchingSelected() {
+		return allMatchingSelected;
 	}
 
-	public void setDataProviderListener(DataProviderListener<IndexDto> dataProviderListener) {
-		this.dataProviderListener = dataProviderListener;
+	/**
+	 * @return The cases to perform a bulk operation on; a selection of all matching cases keeps the current criteria.
+	 */
+	public BulkSelection<CaseCriteria> getBulkSelection() {
+
+		if (allMatchingSelected) {
+			return BulkSelection.allMatching(getCriteria().clone());
+		}
+
+		return BulkSelection.ofUuids(getSelectedItems().stream().map(CaseIndexDto::getUuid).collect(Collectors.toList()));
 	}
 
 	protected abstract List<IndexDto> getGridData(CaseCriteria caseCriteria, Integer first, Integer max, List<SortProperty> sortProperties);
@@ -98,6 +98,7 @@ import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.HtmlHelper;
 import de.symeda.sormas.api.utils.ValidationRuntimeException;
 import de.symeda.sormas.api.utils.YesNoUnknown;
+import de.symeda.sormas.api.utils.criteria.BulkSelection;
 import de.symeda.sormas.api.utils.fieldaccess.UiFieldAccessCheckers;
 import de.symeda.sormas.api.visit.VisitDto;
 import de.symeda.sormas.ui.ControllerProvider;
@@ -861,9 +862,13 @@ public class CaseController {
 		return editView;
 	}
 
-	public void showBulkCaseDataEditComponent(Collection<? extends CaseIndexDto> selectedCases) {
+	/**
+	 * @param selectedCases
+	 *            The loaded cases of the selection; empty if all matching cases are selected.
+	 */
+	public void showBulkCaseDataEditComponent(BulkSelection<CaseCriteria> selection, Collection<? extends CaseIndexDto> selectedCases) {
 
-		if (selectedCases.size() == 0) {
+		if (FacadeProvider.getCaseFacade().countSelectedCases(selection, true) == 0) {
 			new Notification(
 				I18nProperties.getString(Strings.headingNoCasesSelected),
 				I18nProperties.getString(Strings.messageNoCasesSelected),
@@ -932,7 +937,7 @@ public class CaseController {
 					500,
 					e -> {
 						bulkEditWithFacilities(
-							selectedCases,
+							selection,
 							updatedBulkEditData,
 							diseaseChange,
 							classificationChange,
@@ -949,7 +954,7 @@ public class CaseController {
 
 			} else {
 				bulkEdit(
-					selectedCases,
+					selection,
 					updatedBulkEditData,
 					diseaseChange,
 					classificationChange,
@@ -968,7 +973,7 @@ public class CaseController {
 	}
 
 	private void bulkEdit(
-		Collection<? extends CaseIndexDto> selectedCases,
+		BulkSelection<CaseCriteria> selection,
 		CaseBulkEditData updatedCaseBulkEditData,
 		boolean diseaseChange,
 		boolean classificationChange,
@@ -978,7 +983,7 @@ public class CaseController {
 		CaseFacade caseFacade) {
 
 		caseFacade.saveBulkCase(
-			selectedCases.stream().map(CaseIndexDto::getUuid).collect(Collectors.toList()),
+			selection,
 			updatedCaseBulkEditData,
 			diseaseChange,
 			classificationChange,
@@ -988,7 +993,7 @@ public class CaseController {
 	}
 
 	private void bulkEditWithFacilities(
-		Collection<? extends CaseIndexDto> selectedCases,
+		BulkSelection<CaseCriteria> selection,
 		CaseBulkEditData updatedCaseBulkEditData,
 		boolean diseaseChange,
 		boolean classificationChange,
@@ -999,7 +1004,7 @@ public class CaseController {
 		CaseFacade caseFacade) {
 
 		caseFacade.saveBulkEditWithFacilities(
-			selectedCases.stream().map(CaseIndexDto::getUuid).collect(Collectors.toList()),
+			selection,
 			updatedCaseBulkEditData,
 			diseaseChange,
 			classificationChange,
@@ -1379,9 +1384,10 @@ public class CaseController {
 		popupWindow.setCaption(I18nProperties.getString(Strings.classificationRulesFor) + " " + diseaseCriteria.getDisease().toString());
 	}
 
-	public void deleteAllSelectedItems(Collection<? extends CaseIndexDto> selectedRows, Runnable callback) {
+	public void deleteAllSelectedItems(BulkSelection<CaseCriteria> selection, Runnable callback) {
 
-		if (selectedRows.size() == 0) {
+		long selectedCount = FacadeProvider.getCaseFacade().countSelectedCases(selection, false);
+		if (selectedCount == 0) {
 			new Notification(
 				I18nProperties.getString(Strings.headingNoCasesSelected),
 				I18nProperties.getString(Strings.messageNoCasesSelected),
@@ -1389,20 +1395,16 @@ public class CaseController {
 				false).show(Page.getCurrent());
 		} else {
 			VaadinUiUtil
-				.showDeleteConfirmationWindow(String.format(I18nProperties.getString(Strings.confirmationDeleteCases), selectedRows.size()), () -> {
-					int countNotDeletedCases = 0;
-					StringBuilder nonDeletableCases = new StringBuilder();
-					for (CaseIndexDto selectedRow : selectedRows) {
-						try {
-							FacadeProvider.getCaseFacade().deleteCase(selectedRow.getUuid());
-						} catch (ExternalSurveillanceToolException e) {
-							countNotDeletedCases++;
-							nonDeletableCases.append(selectedRow.getUuid(), 0, 6).append(", ");
-						}
-					}
-					if (nonDeletableCases.length() > 0) {
-						nonDeletableCases = new StringBuilder(" " + nonDeletableCases.substring(0, nonDeletableCases.length() - 2) + ". ");
-					}
+				.showDeleteConfirmationWindow(String.format(I18nProperties.getString(Strings.confirmationDeleteCases), selectedCount), () -> {
+					List<String> deletedCaseUuids = FacadeProvider.getCaseFacade().deleteCases(selection);
+					long countNotDeletedCases = Math.max(selectedCount - deletedCaseUuids.size(), 0);
+					// The cases not deleted are only known for explicitly selected cases
+					List<String> nonDeletableCaseUuids = selection.getIncludedUuids()
+						.stream()
+						.filter(uuid -> !deletedCaseUuids.contains(uuid))
+						.map(uuid -> uuid.substring(0, 6))
+						.collect(Collectors.toList());
+					String nonDeletableCases = nonDeletableCaseUuids.isEmpty() ? "" : " " + String.join(", ", nonDeletableCaseUuids) + ". ";
 					callback.run();
 					if (countNotDeletedCases == 0) {
 						new Notification(
@@ -1418,7 +1420,7 @@ public class CaseController {
 								String.format(
 									I18nProperties.getString(Strings.messageCountCasesNotDeleted),
 									String.format("<b>%s</b>", countNotDeletedCases),
-									String.format("<b>%s</b>", HtmlHelper.cleanHtml(nonDeletableCases.toString()))),
+									String.format("<b>%s</b>", HtmlHelper.cleanHtml(nonDeletableCases))),
 								I18nProperties.getString(Strings.messageCasesNotDeletedReasonExternalSurveillanceTool)),
 							ContentMode.HTML);
 						response.setWidth(600, Sizeable.Unit.PIXELS);
@@ -1454,9 +1456,10 @@ public class CaseController {
 		}
 	}
 
-	public void archiveAllSelectedItems(Collection<? extends CaseIndexDto> selectedRows, Runnable callback) {
+	public void archiveAllSelectedItems(BulkSelection<CaseCriteria> selection, Runnable callback) {
 
-		if (selectedRows.size() == 0) {
+		long selectedCount = FacadeProvider.getCaseFacade().countSelectedCases(selection, false);
+		if (selectedCount == 0) {
 			new Notification(
 				I18nProperties.getString(Strings.headingNoCasesSelected),
 				I18nProperties.getString(Strings.messageNoCasesSelected),
@@ -1465,14 +1468,13 @@ public class CaseController {
 		} else {
 			VaadinUiUtil.showConfirmationPopup(
 				I18nProperties.getString(Strings.headingConfirmArchiving),
-				new Label(String.format(I18nProperties.getString(Strings.confirmationArchiveCases), selectedRows.size())),
+				new Label(String.format(I18nProperties.getString(Strings.confirmationArchiveCases), selectedCount)),
 				I18nProperties.getString(Strings.yes),
 				I18nProperties.getString(Strings.no),
 				null,
 				e -> {
 					if (e.booleanValue() == true) {
-						List<String> caseUuids = selectedRows.stream().map(r -> r.getUuid()).collect(Collectors.toList());
-						FacadeProvider.getCaseFacade().updateArchived(caseUuids, true);
+						FacadeProvider.getCaseFacade().updateArchived(selection, true);
 						callback.run();
 						new Notification(
 							I18nProperties.getString(Strings.headingCasesArchived),
@@ -1484,9 +1486,10 @@ public class CaseController {
 		}
 	}
 
-	public void dearchiveAllSelectedItems(Collection<? extends CaseIndexDto> selectedRows, Runnable callback) {
+	public void dearchiveAllSelectedItems(BulkSelection<CaseCriteria> selection, Runnable callback) {
 
-		if (selectedRows.size() == 0) {
+		long selectedCount = FacadeProvider.getCaseFacade().countSelectedCases(selection, false);
+		if (selectedCount == 0) {
 			new Notification(
 				I18nProperties.getString(Strings.headingNoCasesSelected),
 				I18nProperties.getString(Strings.messageNoCasesSelected),
@@ -1495,14 +1498,13 @@ public class CaseController {
 		} else {
 			VaadinUiUtil.showConfirmationPopup(
 				I18nProperties.getString(Strings.headingConfirmDearchiving),
-				new Label(String.format(I18nProperties.getString(Strings.confirmationDearchiveCases), selectedRows.size())),
+				new Label(String.format(I18nProperties.getString(Strings.confirmationDearchiveCases), selectedCount)),
 				I18nProperties.getString(Strings.yes),
 				I18nProperties.getString(Strings.no),
 				null,
 				e -> {
 					if (e.booleanValue() == true) {
-						List<String> caseUuids = selectedRows.stream().map(r -> r.getUuid()).collect(Collectors.toList());
-						FacadeProvider.getCaseFacade().updateArchived(caseUuids, false);
+						FacadeProvider.getCaseFacade().updateArchived(selection, false);
 						callback.run();
 						new Notification(
 							I18nProperties.getString(Strings.headingCasesDearchived),
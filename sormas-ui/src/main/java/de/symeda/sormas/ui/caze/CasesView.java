@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -37,6 +38,7 @@ import com.vaadin.server.StreamResource;
 import com.vaadin.shared.ui.ContentMode;
 import com.vaadin.ui.Alignment;
 import com.vaadin.ui.Button;
+import com.vaadin.ui.CheckBox;
 import com.vaadin.ui.Component;
 import com.vaadin.ui.DateField;
 import com.vaadin.ui.HorizontalLayout;
@@ -77,6 +79,7 @@ import de.symeda.sormas.api.sample.SampleDto;
 import de.symeda.sormas.api.sample.SampleExportDto;
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.api.utils.criteria.BulkSelection;
 import de.symeda.sormas.ui.ControllerProvider;
 import de.symeda.sormas.ui.SearchSpecificLayout;
 import de.symeda.sormas.ui.SormasUI;
@@ -140,6 +143,7 @@ public class CasesView extends AbstractView {
 
 	// Bulk operations
 	private MenuBar bulkOperationsDropdown;
+	private CheckBox selectAllMatchingCheckBox;
 	private Button btnEnterBulkEditMode;
 	private Button btnLeaveBulkEditMode;
 
@@ -175,7 +179,6 @@ public class CasesView extends AbstractView {
 		} else {
 			criteria.followUpUntilFrom(null);
 			grid = CasesViewType.DETAILED.equals(viewConfiguration.getViewType()) ? new CaseGridDetailed(criteria) : new CaseGrid(criteria);
-			((AbstractCaseGrid) grid).setDataProviderListener(e -> updateStatusButtons());
 		}
 		final VerticalLayout gridLayout = new VerticalLayout();
 		gridLayout.addComponent(createFilterBar());
@@ -238,7 +241,7 @@ public class CasesView extends AbstractView {
 	private Set<String> getSelectedRows() {
 		AbstractCaseGrid<?> caseGrid = (AbstractCaseGrid<?>) this.grid;
 		return this.viewConfiguration.isInEagerMode()
-			? caseGrid.asMultiSelect().getSelectedItems().stream().map(CaseIndexDto::getUuid).collect(Collectors.toSet())
+			? caseGrid.getSelectedItems().stream().map(CaseIndexDto::getUuid).collect(Collectors.toSet())
 			: Collections.emptySet();
 	}
 
@@ -289,7 +292,7 @@ public class CasesView extends AbstractView {
 			{
 				StreamResource streamResource = GridExportStreamResource.createStreamResourceWithSelectedItems(
 					grid,
-					() -> this.viewConfiguration.isInEagerMode() ? this.grid.asMultiSelect().getSelectedItems() : Collections.emptySet(),
+					() -> this.viewConfiguration.isInEagerMode() ? this.grid.getSelectedItems() : Collections.emptySet(),
 					ExportEntityName.CASES);
 				addExportButton(streamResource, exportPopupButton, exportLayout, VaadinIcons.TABLE, Captions.exportBasic, Strings.infoBasicExport);
 			}
@@ -426,6 +429,7 @@ public class CasesView extends AbstractView {
 
 			btnLeaveBulkEditMode = ButtonHelper.createIconButton(Captions.actionLeaveBulkEditMode, VaadinIcons.CLOSE, e -> {
 				bulkOperationsDropdown.setVisible(false);
+				selectAllMatchingCheckBox.setVisible(false);
 				ViewModelProviders.of(CasesView.class).get(CasesViewConfiguration.class).setInEagerMode(false);
 				btnLeaveBulkEditMode.setVisible(false);
 				btnEnterBulkEditMode.setVisible(true);
@@ -523,6 +527,7 @@ public class CasesView extends AbstractView {
 
 	private void enterBulkEditMode() {
 		bulkOperationsDropdown.setVisible(true);
+		selectAllMatchingCheckBox.setVisible(true);
 		ViewModelProviders.of(CasesView.class).get(CasesViewConfiguration.class).setInEagerMode(true);
 		btnEnterBulkEditMode.setVisible(false);
 		btnLeaveBulkEditMode.setVisible(true);
@@ -654,11 +659,15 @@ public class CasesView extends AbstractView {
 					final List<MenuBarHelper.MenuBarItem> menuBarItems = new ArrayList<>();
 
 					menuBarItems.add(new MenuBarHelper.MenuBarItem(I18nProperties.getCaption(Captions.bulkEdit), VaadinIcons.ELLIPSIS_H, mi -> {
-						grid.bulkActionHandler(items -> ControllerProvider.getCaseController().showBulkCaseDataEditComponent(items));
+						bulkSelectionHandler(
+							caseGrid,
+							selection -> ControllerProvider.getCaseController().showBulkCaseDataEditComponent(selection, caseGrid.getSelectedItems()),
+							false);
 					}, hasBulkOperationsRight));
 					menuBarItems.add(new MenuBarHelper.MenuBarItem(I18nProperties.getCaption(Captions.bulkDelete), VaadinIcons.TRASH, mi -> {
-						grid.bulkActionHandler(
-							items -> ControllerProvider.getCaseController().deleteAllSelectedItems(items, () -> navigateTo(criteria)),
+						bulkSelectionHandler(
+							caseGrid,
+							selection -> ControllerProvider.getCaseController().deleteAllSelectedItems(selection, () -> navigateTo(criteria)),
 							true);
 					}, hasBulkOperationsRight));
 					final boolean externalMessagesEnabled =
@@ -674,13 +683,15 @@ public class CasesView extends AbstractView {
 							}, hasBulkOperationsRight));
 					}
 					menuBarItems.add(new MenuBarHelper.MenuBarItem(I18nProperties.getCaption(Captions.actionArchive), VaadinIcons.ARCHIVE, mi -> {
-						grid.bulkActionHandler(
-							items -> ControllerProvider.getCaseController().archiveAllSelectedItems(items, () -> navigateTo(criteria)),
+						bulkSelectionHandler(
+							caseGrid,
+							selection -> ControllerProvider.getCaseController().archiveAllSelectedItems(selection, () -> navigateTo(criteria)),
 							true);
 					}, hasBulkOperationsRight && EntityRelevanceStatus.ACTIVE.equals(criteria.getRelevanceStatus())));
 					menuBarItems.add(new MenuBarHelper.MenuBarItem(I18nProperties.getCaption(Captions.actionDearchive), VaadinIcons.ARCHIVE, mi -> {
-						grid.bulkActionHandler(
-							items -> ControllerProvider.getCaseController().dearchiveAllSelectedItems(items, () -> navigateTo(criteria)),
+						bulkSelectionHandler(
+							caseGrid,
+							selection -> ControllerProvider.getCaseController().dearchiveAllSelectedItems(selection, () -> navigateTo(criteria)),
 							true);
 					}, hasBulkOperationsRight && EntityRelevanceStatus.ARCHIVED.equals(criteria.getRelevanceStatus())));
 					menuBarItems.add(new MenuBarHelper.MenuBarItem(I18nProperties.getCaption(Captions.sormasToSormasShare), VaadinIcons.SHARE, mi -> {
@@ -702,8 +713,7 @@ public class CasesView extends AbstractView {
 						menuBarItems.add(
 							new MenuBarHelper.MenuBarItem(I18nProperties.getCaption(Captions.bulkActionCreatDocuments), VaadinIcons.FILE_TEXT, mi -> {
 								grid.bulkActionHandler(items -> {
-									List<ReferenceDto> references = caseGrid.asMultiSelect()
-										.getSelectedItems()
+									List<ReferenceDto> references = caseGrid.getSelectedItems()
 										.stream()
 										.map(CaseIndexDto::toReference)
 										.collect(Collectors.toList());
@@ -730,7 +740,7 @@ public class CasesView extends AbstractView {
 								VaadinIcons.PHONE,
 								mi -> grid.bulkActionHandler(items -> {
 									List<CaseIndexDto> selectedCases =
-										caseGrid.asMultiSelect().getSelectedItems().stream().collect(Collectors.toList());
+										caseGrid.getSelectedItems().stream().collect(Collectors.toList());
 
 									if (selectedCases.isEmpty()) {
 										new Notification(
@@ -759,6 +769,14 @@ public class CasesView extends AbstractView {
 
 					bulkOperationsDropdown.setVisible(viewConfiguration.isInEagerMode());
 					actionButtonsLayout.addComponent(bulkOperationsDropdown);
+
+					selectAllMatchingCheckBox = new CheckBox(I18nProperties.getCaption(Captions.bulkSelectAllMatching));
+					selectAllMatchingCheckBox.setId(Captions.bulkSelectAllMatching);
+					selectAllMatchingCheckBox.setValue(caseGrid.isAllMatchingSelected());
+					selectAllMatchingCheckBox.addValueChangeListener(e -> caseGrid.setAllMatchingSelected(e.getValue()));
+					selectAllMatchingCheckBox.setVisible(viewConfiguration.isInEagerMode());
+					actionButtonsLayout.addComponent(selectAllMatchingCheckBox);
+					actionButtonsLayout.setComponentAlignment(selectAllMatchingCheckBox, Alignment.MIDDLE_LEFT);
 				}
 			}
 		}
@@ -769,6 +787,23 @@ public class CasesView extends AbstractView {
 		return statusFilterLayout;
 	}
 
+	/**
+	 * Bulk operations that accept a {@link BulkSelection} also work when all matching cases are selected. Explicitly selected
+	 * pseudonymized cases are handled by {@link de.symeda.sormas.ui.utils.FilteredGrid#bulkActionHandler}; when all matching cases
+	 * are selected, the backend leaves out the cases the user is not allowed to edit, with the same admin override.
+	 */
+	private void bulkSelectionHandler(
+		AbstractCaseGrid<?> caseGrid,
+		Consumer<BulkSelection<CaseCriteria>> callback,
+		boolean allowAdminOverride) {
+
+		if (caseGrid.isAllMatchingSelected()) {
+			callback.accept(caseGrid.getBulkSelection());
+		} else {
+			caseGrid.bulkActionHandler(items -> callback.accept(caseGrid.getBulkSelection()), allowAdminOverride);
+		}
+	}
+
 	@Override
 	public void enter(ViewChangeEvent event) {
 		String params = event.getParameters().trim();
@@ -777,11 +812,6 @@ public class CasesView extends AbstractView {
 			criteria.fromUrlParams(params);
 		}
 
-		if (viewConfiguration.isInEagerMode() && viewConfiguration.getViewType() != CasesViewType.FOLLOW_UP_VISITS_OVERVIEW) {
-			AbstractCaseGrid<?> caseGrid = (AbstractCaseGrid<?>) this.grid;
-			caseGrid.setEagerDataProvider();
-		}
-
 		updateFilterComponents();
 	}
 
@@ -16,10 +16,15 @@ package de.symeda.sormas.ui.caze.importer;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import com.opencsv.exceptions.CsvValidationException;
 import com.vaadin.server.Sizeable.Unit;
@@ -46,6 +51,7 @@ import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.ui.importer.CaseImportSimilarityInput;
 import de.symeda.sormas.ui.importer.CaseImportSimilarityResult;
+import de.symeda.sormas.ui.importer.ChunkedImport;
 import de.symeda.sormas.ui.importer.DataImporter;
 import de.symeda.sormas.ui.importer.ImportLineResult;
 import de.symeda.sormas.ui.importer.ImportSimilarityResultOption;
@@ -67,7 +73,7 @@ import de.symeda.sormas.ui.utils.VaadinUiUtil;
  * - Save the person and case to the database (unless the case was skipped or the import
  * was canceled)
  */
-public class CaseImporter extends DataImporter {
+public class CaseImporter extends DataImporter implements ChunkedImport {
 
 	private UI currentUI;
 	private final CaseImportFacade caseImportFacade;
@@ -101,11 +107,7 @@ public class CaseImporter extends DataImporter {
 		boolean firstLine)
 		throws IOException, InvalidColumnException, InterruptedException {
 
-		// regenerate the UUID to prevent overwrite in case of export and import of the same entities
-		int uuidIndex = ArrayUtils.indexOf(entityProperties, CaseDataDto.UUID);
-		if (uuidIndex >= 0) {
-			values[uuidIndex] = DataHelper.createUuid();
-		}
+		regenerateUuid(values, entityProperties);
 
 		ImportLineResultDto<CaseImportEntities> importResult =
 			caseImportFacade.importCaseData(values, entityClasses, entityProperties, entityPropertyPaths, !firstLine);
@@ -114,122 +116,193 @@ public class CaseImporter extends DataImporter {
 			writeImportError(values, importResult.getMessage());
 			return ImportLineResult.ERROR;
 		} else if (importResult.isDuplicate()) {
-			CaseImportEntities entities = importResult.getImportEntities();
-			CaseDataDto importCase = entities.getCaze();
-			PersonDto importPerson = entities.getPerson();
-
-			String selectedPersonUuid = null;
-			String selectedCaseUuid = null;
-
-			CaseImportConsumer consumer = new CaseImportConsumer();
-			ImportSimilarityResultOption resultOption = null;
-
-			CaseImportLock personSelectLock = new CaseImportLock();
-			// We need to pause the current thread to prevent the import from continuing until the user has acted
-			synchronized (personSelectLock) {
-				// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
-				// to allow the importer to resume
-				handlePersonSimilarity(
-					importPerson,
-					result -> consumer.onImportResult(result, personSelectLock),
-					(person, similarityResultOption) -> new CaseImportSimilarityResult(person, null, similarityResultOption),
-					Strings.infoSelectOrCreatePersonForImport,
-					currentUI);
-
-				try {
-					if (!personSelectLock.wasNotified) {
-						personSelectLock.wait();
-					}
-				} catch (InterruptedException e) {
-					logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
-					throw e;
-				}
+			return handleDuplicateImportResult(values, importResult, entityClasses, entityPropertyPaths);
+		}
 
-				if (consumer.result != null) {
-					resultOption = consumer.result.getResultOption();
-				}
+		return ImportLineResult.SUCCESS;
+	}
+
+	@Override
+	public List<ImportLineResultDto<CaseImportEntities>> importDataFromCsvLines(
+		List<String[]> lines,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean ignoreEmptyEntries)
+		throws InvalidColumnException {
+
+		for (String[] values : lines) {
+			regenerateUuid(values, entityProperties);
+		}
+
+		return caseImportFacade.importCaseData(lines, entityClasses, entityProperties, entityPropertyPaths, ignoreEmptyEntries);
+	}
+
+	@Override
+	public Collection<String> getDuplicateKeys(String[] values, String[] entityProperties) {
+
+		List<String> keys = new ArrayList<>(3);
+		String firstName = getValue(values, entityProperties, CaseDataDto.PERSON + "." + PersonDto.FIRST_NAME);
+		String lastName = getValue(values, entityProperties, CaseDataDto.PERSON + "." + PersonDto.LAST_NAME);
+		// Persons are similar regardless of case, accents and the order of their names
+		String fullName = StringUtils.stripAccents(StringUtils.join(firstName, " ", lastName)).toLowerCase();
+		String name = Arrays.stream(fullName.split("[^\\p{L}]+"))
+			.filter(StringUtils::isNotEmpty)
+			.sorted()
+			.collect(Collectors.joining(" "));
+		if (!name.isEmpty()) {
+			keys.add(name);
+		}
+		String passportNumber = getValue(values, entityProperties, CaseDataDto.PERSON + "." + PersonDto.PASSPORT_NUMBER);
+		if (StringUtils.isNotBlank(passportNumber)) {
+			keys.add(PersonDto.PASSPORT_NUMBER + ":" + passportNumber.trim());
+		}
+		String nationalHealthId = getValue(values, entityProperties, CaseDataDto.PERSON + "." + PersonDto.NATIONAL_HEALTH_ID);
+		if (StringUtils.isNotBlank(nationalHealthId)) {
+			keys.add(PersonDto.NATIONAL_HEALTH_ID + ":" + nationalHealthId.trim());
+		}
+
+		return keys;
+	}
+
+	private static String getValue(String[] values, String[] entityProperties, String property) {
+		int index = ArrayUtils.indexOf(entityProperties, property);
+		return index >= 0 && index < values.length ? values[index] : null;
+	}
+
+	@Override
+	public ImportLineResult handleDuplicateImportResult(
+		String[] values,
+		ImportLineResultDto<?> importResult,
+		String[] entityClasses,
+		String[][] entityPropertyPaths)
+		throws IOException, InvalidColumnException, InterruptedException {
 
-				// If the user picked an existing person, override the case person with it
-				if (ImportSimilarityResultOption.PICK.equals(resultOption)) {
-					selectedPersonUuid = consumer.result.getMatchingPerson().getUuid();
-					// Reset the importResult option for case selection
-					resultOption = null;
+		CaseImportEntities entities = (CaseImportEntities) importResult.getImportEntities();
+		CaseDataDto importCase = entities.getCaze();
+		PersonDto importPerson = entities.getPerson();
+
+		String selectedPersonUuid = null;
+		String selectedCaseUuid = null;
+
+		CaseImportConsumer consumer = new CaseImportConsumer();
+		ImportSimilarityResultOption resultOption = null;
+
+		CaseImportLock personSelectLock = new CaseImportLock();
+		// We need to pause the current thread to prevent the import from continuing until the user has acted
+		synchronized (personSelectLock) {
+			// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
+			// to allow the importer to resume
+			handlePersonSimilarity(
+				importPerson,
+				result -> consumer.onImportResult(result, personSelectLock),
+				(person, similarityResultOption) -> new CaseImportSimilarityResult(person, null, similarityResultOption),
+				Strings.infoSelectOrCreatePersonForImport,
+				currentUI);
+
+			try {
+				if (!personSelectLock.wasNotified) {
+					personSelectLock.wait();
 				}
+			} catch (InterruptedException e) {
+				logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
+				throw e;
 			}
 
-			if (ImportSimilarityResultOption.SKIP.equals(resultOption)) {
-				return ImportLineResult.SKIPPED;
-			} else {
-				final CaseImportLock caseSelectLock = new CaseImportLock();
-				synchronized (caseSelectLock) {
-					// Retrieve all similar cases from the database
-					CaseSimilarityCriteria criteria =
-						CaseSimilarityCriteria.forCase(importCase, selectedPersonUuid != null ? selectedPersonUuid : importPerson.getUuid());
-
-					List<CaseIndexDto> similarCases = caseFacade.getSimilarCases(criteria);
-
-					if (similarCases.size() > 0) {
-						// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
-						// to allow the importer to resume
-						if (selectedPersonUuid != null) {
-							importPerson = personFacade.getPersonByUuid(selectedPersonUuid);
-						}
+			if (consumer.result != null) {
+				resultOption = consumer.result.getResultOption();
+			}
 
-						handleCaseSimilarity(
-							new CaseImportSimilarityInput(importCase, importPerson, similarCases),
-							result -> consumer.onImportResult(result, caseSelectLock));
-
-						try {
-							if (!caseSelectLock.wasNotified) {
-								caseSelectLock.wait();
-							}
-						} catch (InterruptedException e) {
-							logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
-							throw e;
-						}
+			// If the user picked an existing person, override the case person with it
+			if (ImportSimilarityResultOption.PICK.equals(resultOption)) {
+				selectedPersonUuid = consumer.result.getMatchingPerson().getUuid();
+				// Reset the importResult option for case selection
+				resultOption = null;
+			}
+		}
 
-						if (consumer.result != null) {
-							resultOption = consumer.result.getResultOption();
-						}
+		if (ImportSimilarityResultOption.SKIP.equals(resultOption)) {
+			return ImportLineResult.SKIPPED;
+		} else {
+			final CaseImportLock caseSelectLock = new CaseImportLock();
+			synchronized (caseSelectLock) {
+				// Retrieve all similar cases from the database
+				CaseSimilarityCriteria criteria =
+					CaseSimilarityCriteria.forCase(importCase, selectedPersonUuid != null ? selectedPersonUuid : importPerson.getUuid());
+
+				List<CaseIndexDto> similarCases = caseFacade.getSimilarCases(criteria);
+
+				if (similarCases.size() > 0) {
+					// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
+					// to allow the importer to resume
+					if (selectedPersonUuid != null) {
+						importPerson = personFacade.getPersonByUuid(selectedPersonUuid);
+					}
 
-						// If the user chose to override an existing case with the imported case, insert the new data into the existing case and associate the imported samples with it
-						if (resultOption == ImportSimilarityResultOption.OVERRIDE
-							&& consumer.result != null
-							&& consumer.result.getMatchingCase() != null) {
-							selectedCaseUuid = consumer.result.getMatchingCase().getUuid();
+					handleCaseSimilarity(
+						new CaseImportSimilarityInput(importCase, importPerson, similarCases),
+						result -> consumer.onImportResult(result, caseSelectLock));
+
+					try {
+						if (!caseSelectLock.wasNotified) {
+							caseSelectLock.wait();
 						}
+					} catch (InterruptedException e) {
+						logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
+						throw e;
+					}
+
+					if (consumer.result != null) {
+						resultOption = consumer.result.getResultOption();
+					}
+
+					// If the user chose to override an existing case with the imported case, insert the new data into the existing case and associate the imported samples with it
+					if (resultOption == ImportSimilarityResultOption.OVERRIDE
+						&& consumer.result != null
+						&& consumer.result.getMatchingCase() != null) {
+						selectedCaseUuid = consumer.result.getMatchingCase().getUuid();
 					}
 				}
 			}
+		}
 
-			if (resultOption == ImportSimilarityResultOption.SKIP) {
-				consumer.result = null;
-				return ImportLineResult.SKIPPED;
-			} else if (resultOption == ImportSimilarityResultOption.PICK) {
-				consumer.result = null;
-				return ImportLineResult.DUPLICATE;
-			} else if (resultOption == ImportSimilarityResultOption.CANCEL) {
-				cancelImport();
-				return ImportLineResult.SKIPPED;
+		if (resultOption == ImportSimilarityResultOption.SKIP) {
+			consumer.result = null;
+			return ImportLineResult.SKIPPED;
+		} else if (resultOption == ImportSimilarityResultOption.PICK) {
+			consumer.result = null;
+			return ImportLineResult.DUPLICATE;
+		} else if (resultOption == ImportSimilarityResultOption.CANCEL) {
+			cancelImport();
+			return ImportLineResult.SKIPPED;
+		} else {
+			ImportLineResultDto<CaseImportEntities> saveResult;
+			if (selectedPersonUuid != null || selectedCaseUuid != null) {
+				saveResult =
+					caseImportFacade.updateCaseWithImportData(selectedPersonUuid, selectedCaseUuid, values, entityClasses, entityPropertyPaths);
 			} else {
-				ImportLineResultDto<CaseImportEntities> saveResult;
-				if (selectedPersonUuid != null || selectedCaseUuid != null) {
-					saveResult =
-						caseImportFacade.updateCaseWithImportData(selectedPersonUuid, selectedCaseUuid, values, entityClasses, entityPropertyPaths);
-				} else {
-					saveResult = caseImportFacade.saveImportedEntities(entities);
-				}
+				saveResult = caseImportFacade.saveImportedEntities(entities);
+			}
 
-				if (saveResult.isError()) {
-					writeImportError(values, importResult.getMessage());
-					return ImportLineResult.ERROR;
-				}
+			if (saveResult.isError()) {
+				writeImportError(values, importResult.getMessage());
+				return ImportLineResult.ERROR;
 			}
 		}
 
 		return ImportLineResult.SUCCESS;
 	}
 
+	/**
+	 * Regenerates the UUID to prevent overwrite in case of export and import of the same entities.
+	 */
+	private void regenerateUuid(String[] values, String[] entityProperties) {
+		int uuidIndex = ArrayUtils.indexOf(entityProperties, CaseDataDto.UUID);
+		if (uuidIndex >= 0) {
+			values[uuidIndex] = DataHelper.createUuid();
+		}
+	}
+
 	/**
 	 * Presents a popup window to the user that allows them to deal with detected potentially duplicate cases.
 	 * By passing the desired result to the resultConsumer, the importer decided how to proceed with the import process.
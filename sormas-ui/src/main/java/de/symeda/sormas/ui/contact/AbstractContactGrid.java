@@ -254,7 +254,9 @@ public abstract class AbstractContactGrid<IndexDto extends ContactIndexDto> exte
 					.stream()
 					.map(sortOrder -> new SortProperty(sortOrder.getSorted(), sortOrder.getDirection() == SortDirection.ASCENDING))
 					.collect(Collectors.toList())).stream(),
-			query -> (int) FacadeProvider.getContactFacade().count(query.getFilter().orElse(null)));
+			estimatedCount(
+				criteria -> FacadeProvider.getContactFacade().getEstimatedCount(criteria),
+				criteria -> FacadeProvider.getContactFacade().count(criteria)));
 		setDataProvider(dataProvider);
 		setSelectionMode(SelectionMode.NONE);
 	}
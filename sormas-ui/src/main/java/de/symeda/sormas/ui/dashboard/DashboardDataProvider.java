@@ -30,9 +30,9 @@ import org.apache.commons.lang3.time.DateUtils;
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.FacadeProvider;
 import de.symeda.sormas.api.caze.CaseClassification;
-import de.symeda.sormas.api.caze.CaseReferenceDefinition;
 import de.symeda.sormas.api.caze.NewCaseDateType;
 import de.symeda.sormas.api.dashboard.DashboardCaseDto;
+import de.symeda.sormas.api.dashboard.DashboardCaseStatisticsDto;
 import de.symeda.sormas.api.dashboard.DashboardContactDto;
 import de.symeda.sormas.api.dashboard.DashboardCriteria;
 import de.symeda.sormas.api.dashboard.DashboardEventDto;
@@ -68,7 +68,8 @@ public class DashboardDataProvider {
 
 	// disease specific
 	private List<DashboardCaseDto> cases = new ArrayList<>();
-	private List<DashboardCaseDto> previousCases = new ArrayList<>();
+	private DashboardCaseStatisticsDto caseStatistics = new DashboardCaseStatisticsDto();
+	private DashboardCaseStatisticsDto previousCaseStatistics = new DashboardCaseStatisticsDto();
 	private Map<CaseClassification, Integer> casesCountByClassification = new HashMap<>();
 	private Long outbreakDistrictCount = 0L;
 	private String lastReportedDistrict = "";
@@ -110,20 +111,6 @@ public class DashboardDataProvider {
 		setContactsPlacedInQuarantineCount(dashboardContactsPlacedInQuarantineCount);
 	}
 
-	private void refreshDataForQuarantinedCases() {
-
-		List<DashboardQuarantineDataDto> casesInQuarantineDtos = getCases().stream()
-			.map(DashboardCaseDto::getDashboardQuarantineDataDto)
-			.filter(quarantineData(fromDate, toDate))
-			.collect(Collectors.toList());
-
-		setCasesInQuarantineCount((long) casesInQuarantineDtos.size());
-
-		Long dashboardCasesPlacedInQuarantineCount = getPlacedInQuarantine(casesInQuarantineDtos);
-
-		setCasesPlacedInQuarantineCount(dashboardCasesPlacedInQuarantineCount);
-	}
-
 	private Predicate<DashboardQuarantineDataDto> quarantineData(Date fromDate, Date toDate) {
 		return p -> {
 			Date quarantineFrom = p.getQuarantineFrom();
@@ -170,10 +157,12 @@ public class DashboardDataProvider {
 		setContactsConvertedToCaseCount(FacadeProvider.getDashboardFacade().countCasesConvertedFromContacts(dashboardCriteria));
 	}
 
-	private void refreshDataForCasesWithReferenceDefinitionFulfilled() {
-		List<DashboardCaseDto> casesWithReferenceDefinitionFulfilled =
-			getCases().stream().filter(cases -> cases.getCaseReferenceDefinition() == CaseReferenceDefinition.FULFILLED).collect(Collectors.toList());
-		setCaseWithReferenceDefinitionFulfilledCount(Long.valueOf(casesWithReferenceDefinitionFulfilled.size()));
+	private void refreshDataForCaseStatistics() {
+		setCasesCountByClassification(caseStatistics.getCaseCountByClassification());
+		setTestResultCountByResultType(caseStatistics.getTestResultCountByResultType());
+		setCasesInQuarantineCount(caseStatistics.getInQuarantineCount());
+		setCasesPlacedInQuarantineCount(caseStatistics.getPlacedInQuarantineCount());
+		setCaseWithReferenceDefinitionFulfilledCount(caseStatistics.getReferenceDefinitionFulfilledCount());
 	}
 
 	private void refreshDataForSelectedDisease() {
@@ -196,18 +185,17 @@ public class DashboardDataProvider {
 				.disease(disease)
 				.newCaseDateType(newCaseDateType)
 				.dateBetween(fromDate, toDate);
-			setCases(FacadeProvider.getDashboardFacade().getCases(dashboardCriteria));
 			setLastReportedDistrict(FacadeProvider.getDashboardFacade().getLastReportedDistrictName(dashboardCriteria));
 
-			dashboardCriteria.dateBetween(previousFromDate, previousToDate);
-			setPreviousCases(FacadeProvider.getDashboardFacade().getCases(dashboardCriteria));
+			if (getDashboardType() == DashboardType.CONTACTS) {
+				// the contacts dashboard needs the case uuids, the surveillance dashboard only shows counts
+				setCases(FacadeProvider.getDashboardFacade().getCases(dashboardCriteria));
+			} else {
+				setCaseStatistics(FacadeProvider.getDashboardFacade().getCaseStatistics(dashboardCriteria));
 
-			if (getDashboardType() != DashboardType.CONTACTS) {
-				setTestResultCountByResultType(FacadeProvider.getDashboardFacade().getTestResultCountByResultType(getCases()));
+				dashboardCriteria.dateBetween(previousFromDate, previousToDate);
+				setPreviousCaseStatistics(FacadeProvider.getDashboardFacade().getCaseStatistics(dashboardCriteria));
 			}
-
-			dashboardCriteria.dateBetween(fromDate, toDate).includeNotACaseClassification(true);
-			setCasesCountByClassification(FacadeProvider.getDashboardFacade().getCasesCountByClassification(dashboardCriteria));
 		}
 
 		if (this.disease == null || getDashboardType() == DashboardType.CONTACTS) {
@@ -225,9 +213,8 @@ public class DashboardDataProvider {
 				.getOutbreakDistrictCount(
 					new OutbreakCriteria().region(region).district(district).disease(disease).reportedBetween(fromDate, toDate)));
 
-		refreshDataForQuarantinedCases();
+		refreshDataForCaseStatistics();
 		refreshDataForConvertedContactsToCase();
-		refreshDataForCasesWithReferenceDefinitionFulfilled();
 	}
 
 	public List<DashboardCaseDto> getCases() {
@@ -238,12 +225,20 @@ public class DashboardDataProvider {
 		this.cases = cases;
 	}
 
-	public List<DashboardCaseDto> getPreviousCases() {
-		return previousCases;
+	public DashboardCaseStatisticsDto getCaseStatistics() {
+		return caseStatistics;
+	}
+
+	public void setCaseStatistics(DashboardCaseStatisticsDto caseStatistics) {
+		this.caseStatistics = caseStatistics;
+	}
+
+	public DashboardCaseStatisticsDto getPreviousCaseStatistics() {
+		return previousCaseStatistics;
 	}
 
-	public void setPreviousCases(List<DashboardCaseDto> previousCases) {
-		this.previousCases = previousCases;
+	public void setPreviousCaseStatistics(DashboardCaseStatisticsDto previousCaseStatistics) {
+		this.previousCaseStatistics = previousCaseStatistics;
 	}
 
 	public Map<CaseClassification, Integer> getCasesCountByClassification() {
@@ -310,7 +310,9 @@ public class EventGrid extends FilteredGrid<EventIndexDto, EventCriteria> {
 						.map(sortOrder -> new SortProperty(sortOrder.getSorted(), sortOrder.getDirection() == SortDirection.ASCENDING))
 						.collect(Collectors.toList()))
 				.stream(),
-			query -> (int) FacadeProvider.getEventFacade().count(query.getFilter().orElse(null)));
+			estimatedCount(
+				criteria -> FacadeProvider.getEventFacade().getEstimatedCount(criteria),
+				criteria -> FacadeProvider.getEventFacade().count(criteria)));
 		setDataProvider(dataProvider);
 		setSelectionMode(SelectionMode.NONE);
 	}
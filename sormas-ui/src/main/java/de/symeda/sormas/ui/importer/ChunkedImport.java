@@ -0,0 +1,51 @@
+package de.symeda.sormas.ui.importer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+import de.symeda.sormas.api.importexport.ImportLineResultDto;
+import de.symeda.sormas.api.importexport.InvalidColumnException;
+
+/**
+ * Implemented by importers whose lines can be imported without any user interaction, so {@link DataImporter} can import the file
+ * in chunks by several threads. Potential duplicates are not imported with the chunk, but presented to the user afterwards in the
+ * order of the file.
+ */
+public interface ChunkedImport {
+
+	/**
+	 * Imports several lines in one transaction. Might be called by several threads at the same time.
+	 *
+	 * @param ignoreEmptyEntries
+	 *            Whether empty entries are ignored, which is the case for all lines but the first one
+	 * @return One result per line in the order of {@code lines}; potential duplicates are passed to
+	 *         {@link #handleDuplicateImportResult} afterwards
+	 */
+	List<? extends ImportLineResultDto<?>> importDataFromCsvLines(
+		List<String[]> lines,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean ignoreEmptyEntries)
+		throws InvalidColumnException;
+
+	/**
+	 * Lets the user decide what to do with a line that has not been imported because it is a potential duplicate. Called in the
+	 * order of the import file.
+	 */
+	ImportLineResult handleDuplicateImportResult(
+		String[] values,
+		ImportLineResultDto<?> importResult,
+		String[] entityClasses,
+		String[][] entityPropertyPaths)
+		throws IOException, InvalidColumnException, InterruptedException;
+
+	/**
+	 * The duplicate check of a line only sees the data of other chunks once they have been committed. Lines that share one of these
+	 * keys with a line of a chunk that is still being imported are therefore only imported after that chunk has been processed.
+	 *
+	 * @return Keys identifying the entity the line might duplicate, e.g. the normalized name of its person
+	 */
+	Collection<String> getDuplicateKeys(String[] values, String[] entityProperties);
+}
@@ -17,11 +17,21 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.ParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -30,7 +40,6 @@ import java.util.stream.Collectors;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
 
 import org.apache.commons.io.input.BOMInputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -46,6 +55,7 @@ import com.vaadin.ui.UI;
 import com.vaadin.ui.Window;
 
 import de.symeda.sormas.api.FacadeProvider;
+import de.symeda.sormas.api.Language;
 import de.symeda.sormas.api.caze.CaseDataDto;
 import de.symeda.sormas.api.i18n.Captions;
 import de.symeda.sormas.api.i18n.I18nProperties;
@@ -92,6 +102,9 @@ public abstract class DataImporter {
 
 	protected static final String ERROR_COLUMN_NAME = I18nProperties.getCaption(Captions.importErrorDescription);
 
+	// building a validator factory is expensive, but the validator is thread-safe and can be shared by all imported lines
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
 	/**
@@ -270,19 +283,27 @@ public abstract class DataImporter {
 			errorReportCsvWriter.writeNext(columnNames);
 
 			// Read and import all lines from the import file
-			String[] nextLine = readNextValidLine(csvReader);
 			int lineCounter = 0;
-			while (nextLine != null) {
-				ImportLineResult lineResult = importDataFromCsvLine(nextLine, entityClasses, entityProperties, entityPropertyPaths, lineCounter == 0);
-				logger.debug("runImport - line {}", lineCounter);
-				if (importedLineCallback != null) {
-					importedLineCallback.accept(lineResult);
-				}
-				if (cancelAfterCurrent) {
-					break;
+			int chunkSize = FacadeProvider.getConfigFacade().getImportChunkSize();
+			int workers = FacadeProvider.getConfigFacade().getImportWorkers();
+			if (this instanceof ChunkedImport && (chunkSize > 1 || workers > 1)) {
+				lineCounter =
+					importInChunks((ChunkedImport) this, csvReader, entityClasses, entityProperties, entityPropertyPaths, chunkSize, workers);
+			} else {
+				String[] nextLine = readNextValidLine(csvReader);
+				while (nextLine != null) {
+					ImportLineResult lineResult =
+						importDataFromCsvLine(nextLine, entityClasses, entityProperties, entityPropertyPaths, lineCounter == 0);
+					logger.debug("runImport - line {}", lineCounter);
+					if (importedLineCallback != null) {
+						importedLineCallback.accept(lineResult);
+					}
+					if (cancelAfterCurrent) {
+						break;
+					}
+					nextLine = readNextValidLine(csvReader);
+					lineCounter++;
 				}
-				nextLine = readNextValidLine(csvReader);
-				lineCounter++;
 			}
 
 			if (logger.isDebugEnabled()) {
@@ -309,6 +330,146 @@ public abstract class DataImporter {
 		}
 	}
 
+	/**
+	 * Reads the file in chunks of {@code chunkSize} lines that are imported by {@code workers} threads while the file is still
+	 * being read. The results are processed in this thread and in the order of the file, so the error report is written as the
+	 * import goes on and potential duplicates are still presented to the user one after the other. A chunk that might duplicate a
+	 * line of a chunk that is still being imported is only dispatched after that chunk has been processed, so the duplicate check
+	 * sees it.
+	 * 
+	 * @return The number of lines that have been read
+	 */
+	private int importInChunks(
+		ChunkedImport chunkedImport,
+		CSVReader csvReader,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		int chunkSize,
+		int workers)
+		throws IOException, CsvValidationException, InvalidColumnException, InterruptedException {
+
+		ExecutorService executor = null;
+		if (workers > 1) {
+			Language language = I18nProperties.getUserLanguage();
+			executor = Executors.newFixedThreadPool(workers, runnable -> new Thread(() -> {
+				I18nProperties.setUserLanguage(language);
+				FacadeProvider.getI18nFacade().setUserLanguage(language);
+				runnable.run();
+			}));
+		}
+
+		// Chunks that have been read, but whose results have not been processed yet; limited so the file is not read ahead too far
+		Deque<ImportChunk> pendingChunks = new ArrayDeque<>();
+		int lineCounter = 0;
+		try {
+			String[] nextLine = readNextValidLine(csvReader);
+			while (nextLine != null && !cancelAfterCurrent) {
+				// Empty entries of the first line are not ignored, so it is imported on its own
+				int size = lineCounter == 0 ? 1 : Math.max(chunkSize, 1);
+				List<String[]> lines = new ArrayList<>(size);
+				while (nextLine != null && lines.size() < size) {
+					lines.add(nextLine);
+					nextLine = readNextValidLine(csvReader);
+				}
+
+				ImportChunk chunk = new ImportChunk(lines, lineCounter > 0);
+				for (String[] values : lines) {
+					chunk.duplicateKeys.addAll(chunkedImport.getDuplicateKeys(values, entityProperties));
+				}
+				if (pendingChunks.stream().anyMatch(pendingChunk -> !Collections.disjoint(pendingChunk.duplicateKeys, chunk.duplicateKeys))) {
+					while (!pendingChunks.isEmpty()) {
+						processChunkResults(chunkedImport, pendingChunks.poll(), entityClasses, entityProperties, entityPropertyPaths);
+					}
+				}
+
+				Callable<List<? extends ImportLineResultDto<?>>> task = () -> chunkedImport
+					.importDataFromCsvLines(lines, entityClasses, entityProperties, entityPropertyPaths, chunk.ignoreEmptyEntries);
+				if (executor != null) {
+					chunk.results = executor.submit(task);
+				} else {
+					FutureTask<List<? extends ImportLineResultDto<?>>> futureTask = new FutureTask<>(task);
+					futureTask.run();
+					chunk.results = futureTask;
+				}
+				pendingChunks.add(chunk);
+				lineCounter += lines.size();
+
+				while (pendingChunks.size() > workers) {
+					processChunkResults(chunkedImport, pendingChunks.poll(), entityClasses, entityProperties, entityPropertyPaths);
+				}
+			}
+
+			while (!pendingChunks.isEmpty()) {
+				processChunkResults(chunkedImport, pendingChunks.poll(), entityClasses, entityProperties, entityPropertyPaths);
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+
+		return lineCounter;
+	}
+
+	private void processChunkResults(
+		ChunkedImport chunkedImport,
+		ImportChunk chunk,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths)
+		throws IOException, InvalidColumnException, InterruptedException {
+
+		List<? extends ImportLineResultDto<?>> results;
+		try {
+			results = chunk.results.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof InvalidColumnException) {
+				throw (InvalidColumnException) e.getCause();
+			}
+			// The transaction of the chunk has been rolled back, so its lines are imported again one by one
+			logger.warn("Import of a chunk of {} lines failed, importing them one by one: {}", chunk.lines.size(), e.getCause().getMessage());
+			results = null;
+		}
+
+		for (int i = 0; i < chunk.lines.size(); i++) {
+			String[] values = chunk.lines.get(i);
+			ImportLineResultDto<?> result;
+			if (results != null) {
+				result = results.get(i);
+			} else {
+				try {
+					result = chunkedImport.importDataFromCsvLines(
+						Collections.singletonList(values),
+						entityClasses,
+						entityProperties,
+						entityPropertyPaths,
+						chunk.ignoreEmptyEntries).get(0);
+				} catch (RuntimeException e) {
+					logger.error("Unexpected error when importing a line: " + e.getMessage(), e);
+					result = ImportLineResultDto.errorResult(I18nProperties.getValidationError(Validations.importUnexpectedError));
+				}
+			}
+
+			ImportLineResult lineResult;
+			if (result.isError()) {
+				writeImportError(values, result.getMessage());
+				lineResult = ImportLineResult.ERROR;
+			} else if (result.isDuplicate()) {
+				// Potential duplicates of lines that were already imported when the import was canceled are not presented anymore
+				lineResult = cancelAfterCurrent
+					? ImportLineResult.SKIPPED
+					: chunkedImport.handleDuplicateImportResult(values, result, entityClasses, entityPropertyPaths);
+			} else {
+				lineResult = ImportLineResult.SUCCESS;
+			}
+
+			if (importedLineCallback != null) {
+				importedLineCallback.accept(lineResult);
+			}
+		}
+	}
+
 	public void cancelImport() {
 		cancelAfterCurrent = true;
 	}
@@ -680,10 +841,7 @@ public abstract class DataImporter {
 	}
 
 	protected <T> ImportLineResultDto<T> validateConstraints(T object) {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		Validator validator = factory.getValidator();
-
-		Set<ConstraintViolation<T>> constraintViolations = validator.validate(object);
+		Set<ConstraintViolation<T>> constraintViolations = VALIDATOR.validate(object);
 		if (constraintViolations.size() > 0) {
 			return ImportLineResultDto.errorResult(
 				ConstrainValidationHelper.getPropertyErrors(constraintViolations)
@@ -699,4 +857,17 @@ public abstract class DataImporter {
 	protected Path getErrorReportFolderPath() {
 		return Paths.get(FacadeProvider.getConfigFacade().getTempFilesPath());
 	}
+
+	private static final class ImportChunk {
+
+		private final List<String[]> lines;
+		private final boolean ignoreEmptyEntries;
+		private final Set<String> duplicateKeys = new HashSet<>();
+		private Future<List<? extends ImportLineResultDto<?>>> results;
+
+		private ImportChunk(List<String[]> lines, boolean ignoreEmptyEntries) {
+			this.lines = lines;
+			this.ignoreEmptyEntries = ignoreEmptyEntries;
+		}
+	}
 }
@@ -236,7 +236,9 @@ public class SampleGrid extends FilteredGrid<SampleIndexDto, SampleCriteria> {
 						.map(sortOrder -> new SortProperty(sortOrder.getSorted(), sortOrder.getDirection() == SortDirection.ASCENDING))
 						.collect(Collectors.toList()))
 				.stream(),
-			query -> (int) FacadeProvider.getSampleFacade().count(query.getFilter().orElse(null)));
+			estimatedCount(
+				criteria -> FacadeProvider.getSampleFacade().getEstimatedCount(criteria),
+				criteria -> FacadeProvider.getSampleFacade().count(criteria)));
 		setDataProvider(dataProvider);
 		setSelectionMode(SelectionMode.NONE);
 	}
@@ -214,7 +214,9 @@ public class TaskGrid extends FilteredGrid<TaskIndexDto, TaskCriteria> {
 						.map(sortOrder -> new SortProperty(sortOrder.getSorted(), sortOrder.getDirection() == SortDirection.ASCENDING))
 						.collect(Collectors.toList()))
 				.stream(),
-			query -> (int) FacadeProvider.getTaskFacade().count(query.getFilter().orElse(null)));
+			estimatedCount(
+				criteria -> FacadeProvider.getTaskFacade().getEstimatedCount(criteria),
+				criteria -> FacadeProvider.getTaskFacade().count(criteria)));
 		setDataProvider(dataProvider);
 		setSelectionMode(SelectionMode.NONE);
 	}
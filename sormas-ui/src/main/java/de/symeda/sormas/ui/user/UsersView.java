@@ -18,7 +18,7 @@
 package de.symeda.sormas.ui.user;
 
 import java.io.File;
-import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.Collections;
 
@@ -28,13 +28,13 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.navigator.ViewChangeListener.ViewChangeEvent;
 import com.vaadin.server.FileDownloader;
-import com.vaadin.server.Page;
 import com.vaadin.server.StreamResource;
 import com.vaadin.ui.Alignment;
 import com.vaadin.ui.Button;
 import com.vaadin.ui.HorizontalLayout;
 import com.vaadin.ui.MenuBar;
 import com.vaadin.ui.Notification;
+import com.vaadin.ui.UI;
 import com.vaadin.ui.VerticalLayout;
 import com.vaadin.ui.themes.ValoTheme;
 import com.vaadin.v7.ui.ComboBox;
@@ -136,19 +136,21 @@ public class UsersView extends AbstractView {
 			Button exportUserRightsButton =
 				ButtonHelper.createIconButton(Captions.exportUserRoles, VaadinIcons.DOWNLOAD, null, ValoTheme.BUTTON_PRIMARY);
 
+			UI ui = UI.getCurrent();
 			new FileDownloader(new StreamResource(() -> new DownloadUtil.DelayedInputStream((out) -> {
-				try {
-					String documentPath = FacadeProvider.getUserRightsFacade().generateUserRightsDocument(true);
-					IOUtils.copy(Files.newInputStream(new File(documentPath).toPath()), out);
-				} catch (IOException e) {
-					LoggerFactory.getLogger(DownloadUtil.class).error(e.getMessage(), e);
-					new Notification(
+				String documentPath = FacadeProvider.getUserRightsFacade().generateUserRightsDocument(true);
+				try (InputStream document = Files.newInputStream(new File(documentPath).toPath())) {
+					IOUtils.copy(document, out);
+				}
+			}, (e) -> {
+				LoggerFactory.getLogger(DownloadUtil.class).error(e.getMessage(), e);
+				// the document is generated and downloaded outside of the UI's request handling
+				ui.access(
+					() -> new Notification(
 						I18nProperties.getString(Strings.headingExportUserRightsFailed),
 						I18nProperties.getString(Strings.messageUserRightsExportFailed),
 						Notification.Type.ERROR_MESSAGE,
-						false).show(Page.getCurrent());
-				}
-			}, (e) -> {
+						false).show(ui.getPage()));
 			}), createFileNameWithCurrentDate(ExportEntityName.USER_ROLES, ".xlsx"))).extend(exportUserRightsButton);
 
 			addHeaderComponent(exportUserRightsButton);
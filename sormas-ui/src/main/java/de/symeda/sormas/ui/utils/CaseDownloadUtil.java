@@ -42,11 +42,19 @@ public class CaseDownloadUtil {
 		CaseExportType exportType,
 		ExportConfigurationDto exportConfiguration) {
 
-		return DownloadUtil.createCsvExportStreamResource(
+		return DownloadUtil.createKeysetCsvExportStreamResource(
 			CaseExportDto.class,
 			exportType,
-			(Integer start, Integer max) -> FacadeProvider.getCaseFacade()
-				.getExportList(criteria, selectedRows.get(), exportType, start, max, exportConfiguration, I18nProperties.getUserLanguage()),
+			(CaseExportDto lastExportedCase, Integer max) -> FacadeProvider.getCaseFacade()
+				.getExportListAfter(
+					criteria,
+					selectedRows.get(),
+					exportType,
+					lastExportedCase != null ? lastExportedCase.getReportDate() : null,
+					lastExportedCase != null ? lastExportedCase.getId() : null,
+					max,
+					exportConfiguration,
+					I18nProperties.getUserLanguage()),
 			CaseDownloadUtil::captionProvider,
 			ExportEntityName.CASES,
 			exportConfiguration);
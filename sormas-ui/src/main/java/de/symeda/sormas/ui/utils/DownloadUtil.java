@@ -18,17 +18,18 @@
 package de.symeda.sormas.ui.utils;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
@@ -40,14 +41,16 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.slf4j.LoggerFactory;
 
 import com.opencsv.CSVWriter;
@@ -71,6 +74,7 @@ import com.vaadin.v7.ui.CheckBox;
 import com.vaadin.v7.ui.Grid.Column;
 
 import de.symeda.sormas.api.AgeGroup;
+import de.symeda.sormas.api.Language;
 import de.symeda.sormas.api.FacadeProvider;
 import de.symeda.sormas.api.caze.CaseCriteria;
 import de.symeda.sormas.api.caze.CaseExportType;
@@ -357,36 +361,30 @@ public final class DownloadUtil {
 			ExportEntityName.CLINICAL_VISITS,
 			null);
 
-		StreamResource caseManagementStreamResource = new StreamResource(() -> {
-			String zipFile = FacadeProvider.getExportFacade()
-				.generateZipArchive(DateHelper.formatDateForExport(new Date()), new Random().nextInt(Integer.MAX_VALUE));
-			try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zipFile)))) {
-				writeCsvToZip(zos, casesResource.getStreamSource(), "cases.csv");
-				writeCsvToZip(zos, prescriptionsResource.getStreamSource(), "prescriptions.csv");
-				writeCsvToZip(zos, treatmentsResource.getStreamSource(), "treatments.csv");
-				writeCsvToZip(zos, clinicalVisitsResource.getStreamSource(), "clinical_assessments.csv");
-				zos.close();
-				return new BufferedInputStream(new FileInputStream(new File(zipFile)));
-			} catch (IOException e) {
-				LoggerFactory.getLogger(DownloadUtil.class).error("Failed to generate a zip file for case management export.");
-				return null;
-			}
-		}, exportFileName);
+		StreamResource caseManagementStreamResource = new StreamResource(() -> new DelayedInputStream((out) -> {
+			//The zip is streamed directly, no file or byte array holds the whole export
+			ZipOutputStream zos = new ZipOutputStream(out);
+			writeCsvToZip(zos, casesResource.getStreamSource(), "cases.csv");
+			writeCsvToZip(zos, prescriptionsResource.getStreamSource(), "prescriptions.csv");
+			writeCsvToZip(zos, treatmentsResource.getStreamSource(), "treatments.csv");
+			writeCsvToZip(zos, clinicalVisitsResource.getStreamSource(), "clinical_assessments.csv");
+			zos.finish();
+		}, e -> LoggerFactory.getLogger(DownloadUtil.class).error("Failed to generate a zip file for case management export.", e)),
+			exportFileName);
 		caseManagementStreamResource.setMIMEType("application/zip");
 		caseManagementStreamResource.setCacheTime(0);
 		return caseManagementStreamResource;
 	}
 
-	private static void writeCsvToZip(ZipOutputStream zos, StreamSource source, String fileName) throws IOException {
+	static void writeCsvToZip(ZipOutputStream zos, StreamSource source, String fileName) throws IOException {
 		zos.putNextEntry(new ZipEntry(fileName));
-		ByteArrayOutputStream result = new ByteArrayOutputStream();
-		byte[] buffer = new byte[1024];
-		int length;
-		InputStream input = source.getStream();
-		while ((length = input.read(buffer)) != -1) {
-			result.write(buffer, 0, length);
+		try (InputStream input = source.getStream()) {
+			if (input instanceof DelayedInputStream) {
+				((DelayedInputStream) input).writeTo(new CloseShieldOutputStream(zos));
+			} else {
+				IOUtils.copy(input, zos);
+			}
 		}
-		result.writeTo(zos);
 		zos.closeEntry();
 	}
 
@@ -396,22 +394,186 @@ public final class DownloadUtil {
 	}
 
 	/**
-	 * The buffer can be used for an input stream without having to copy it
+	 * Reads what an {@link OutputStreamConsumer} writes while it is still writing. The consumer runs on a thread of its own and blocks
+	 * whenever {@link #PIPE_SIZE} bytes have not been read yet, so an export never needs more memory than that.
+	 * <p>
+	 * The export thread is started by the request reading the stream, so it inherits the security context of the user who
+	 * downloads the export. Pooled threads would keep the context of whichever request created them. At most {@link #EXPORT_THREADS}
+	 * exports run at the same time.
+	 * <p>
+	 * The consumer is stopped with an {@link InterruptedIOException} once the stream is closed or nothing has been read from it for
+	 * the stall timeout, so an abandoned download doesn't keep its export thread.
 	 */
-	private static class SharedByteArrayOutputStream extends ByteArrayOutputStream {
+	static class StreamingInputStream extends PipedInputStream {
+
+		private static final int PIPE_SIZE = 64 * 1024;
+		private static final int EXPORT_THREADS = 16;
+		private static final long STALL_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+		private static final long EXPORT_PERMIT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+		private static final Semaphore EXPORT_PERMITS = new Semaphore(EXPORT_THREADS);
+
+		private final Consumer<IOException> exceptionHandler;
+		private final long stallTimeoutMillis;
+		private volatile Exception writeException;
+		private volatile boolean closed;
+		private long lastReadMillis = System.currentTimeMillis();
+
+		public StreamingInputStream(OutputStreamConsumer osConsumer, Consumer<IOException> exceptionHandler) throws IOException {
+			this(osConsumer, exceptionHandler, STALL_TIMEOUT_MILLIS);
+		}
+
+		StreamingInputStream(OutputStreamConsumer osConsumer, Consumer<IOException> exceptionHandler, long stallTimeoutMillis)
+			throws IOException {
+			super(PIPE_SIZE);
+			this.exceptionHandler = exceptionHandler;
+			this.stallTimeoutMillis = stallTimeoutMillis;
+
+			PipedOutputStream os = new PipedOutputStream(this);
+			acquireExportPermit();
+			try {
+				Language userLanguage = I18nProperties.getUserLanguage();
+				Thread writeThread = new Thread(() -> {
+					I18nProperties.setUserLanguage(userLanguage);
+					try {
+						osConsumer.writeTo(new StallAwareOutputStream(os));
+					} catch (Exception e) {
+						// has to be set before the pipe is closed, so the reader does not mistake the end for a complete export
+						writeException = e;
+					} finally {
+						IOUtils.closeQuietly(os);
+						I18nProperties.removeUserLanguage();
+						EXPORT_PERMITS.release();
+					}
+				}, "export-" + Thread.currentThread().getName());
+				writeThread.setDaemon(true);
+				writeThread.start();
+			} catch (RuntimeException | Error e) {
+				EXPORT_PERMITS.release();
+				throw e;
+			}
+		}
+
+		private static void acquireExportPermit() throws IOException {
+
+			try {
+				if (!EXPORT_PERMITS.tryAcquire(EXPORT_PERMIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					throw new IOException("Too many exports are running at the same time");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+		}
+
+		@Override
+		public synchronized int read() throws IOException {
+			int read = super.read();
+			lastReadMillis = System.currentTimeMillis();
+			if (read == -1) {
+				checkWriteException();
+			}
+			return read;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			lastReadMillis = System.currentTimeMillis();
+			if (read == -1) {
+				checkWriteException();
+			}
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+			super.close();
+			synchronized (this) {
+				// wakes up the writer
+				notifyAll();
+			}
+		}
+
+		private void checkWriteException() throws IOException {
+			Exception e = writeException;
+			if (e instanceof IOException) {
+				exceptionHandler.accept((IOException) e);
+				throw (IOException) e;
+			} else if (e instanceof RuntimeException) {
+				throw (RuntimeException) e;
+			} else if (e != null) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * Waits until bytes can be written to the pipe without blocking.
+		 *
+		 * @return The number of bytes that can be written
+		 */
+		private synchronized int awaitSpace() throws IOException {
+
+			while (!closed && in == out) {
+				if (System.currentTimeMillis() - lastReadMillis > stallTimeoutMillis) {
+					throw new InterruptedIOException("Export has not been read for " + stallTimeoutMillis + "ms");
+				}
+				try {
+					// reading notifies
+					wait(Math.min(1000, stallTimeoutMillis));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException();
+				}
+			}
+			if (closed) {
+				throw new InterruptedIOException("Export has been closed before it was read completely");
+			}
 
-		public SharedByteArrayOutputStream() {
-			super(2048);
+			if (in < 0) {
+				return buffer.length;
+			} else if (in > out) {
+				return buffer.length - (in - out);
+			} else {
+				return out - in;
+			}
 		}
 
-		public ByteArrayInputStream toInputStream() {
-			return new ByteArrayInputStream(buf, 0, count);
+		/**
+		 * Only writes as much as fits into the pipe, so the writer never blocks inside the pipe, where it doesn't notice that the
+		 * reader is gone.
+		 */
+		private class StallAwareOutputStream extends FilterOutputStream {
+
+			private StallAwareOutputStream(OutputStream out) {
+				super(out);
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				awaitSpace();
+				out.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				while (len > 0) {
+					int chunk = Math.min(len, awaitSpace());
+					out.write(b, off, chunk);
+					off += chunk;
+					len -= chunk;
+				}
+				// notifies the reader
+				out.flush();
+			}
 		}
 	}
 
 	public static class DelayedInputStream extends FilterInputStream {
 
 		private Supplier<InputStream> lazyInputStreamSupplier;
+		private OutputStreamConsumer osConsumer;
 
 		protected DelayedInputStream(Supplier<InputStream> lazyInputStreamSupplier) {
 			super(null);
@@ -420,14 +582,33 @@ public final class DownloadUtil {
 
 		public DelayedInputStream(OutputStreamConsumer osConsumer, Consumer<IOException> exceptionHandler) {
 			this(() -> {
-				try (SharedByteArrayOutputStream os = new SharedByteArrayOutputStream()) {
-					osConsumer.writeTo(os);
-					return os.toInputStream();
+				try {
+					return new StreamingInputStream(osConsumer, exceptionHandler);
 				} catch (IOException e) {
 					exceptionHandler.accept(e);
 					throw new UncheckedIOException(e);
 				}
 			});
+			this.osConsumer = osConsumer;
+		}
+
+		/**
+		 * Writes the content to {@code out} in the current thread. Must be called instead of reading this stream.
+		 */
+		public void writeTo(OutputStream out) throws IOException {
+			if (osConsumer != null && lazyInputStreamSupplier != null) {
+				lazyInputStreamSupplier = null;
+				osConsumer.writeTo(out);
+			} else {
+				IOUtils.copy(this, out);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (in != null) {
+				super.close();
+			}
 		}
 
 		private void ensureInited() {
@@ -564,17 +745,48 @@ public final class DownloadUtil {
 		ExportEntityName entityName,
 		ExportConfigurationDto exportConfiguration) {
 
+		return createCsvExportStreamResource(
+			out -> CsvStreamUtils.writeCsvContentToStream(
+				exportRowClass,
+				exportRowsSupplier,
+				propertyIdCaptionFunction,
+				exportConfiguration,
+				(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
+				FacadeProvider.getConfigFacade(),
+				out),
+			entityName);
+	}
+
+	/**
+	 * Like {@link #createCsvExportStreamResource(Class, Enum, CsvStreamUtils.SupplierBiFunction, CsvStreamUtils.SupplierBiFunction, ExportEntityName, ExportConfigurationDto)},
+	 * but the {@code exportRowsSupplier} is called with the last row of the previous chunk instead of an offset.
+	 */
+	public static <T> StreamResource createKeysetCsvExportStreamResource(
+		Class<T> exportRowClass,
+		Enum<?> exportType,
+		CsvStreamUtils.SupplierBiFunction<T, Integer, List<T>> exportRowsSupplier,
+		CsvStreamUtils.SupplierBiFunction<String, Class<?>, String> propertyIdCaptionFunction,
+		ExportEntityName entityName,
+		ExportConfigurationDto exportConfiguration) {
+
+		return createCsvExportStreamResource(
+			out -> CsvStreamUtils.writeCsvContentToStreamByKeyset(
+				exportRowClass,
+				exportRowsSupplier,
+				propertyIdCaptionFunction,
+				exportConfiguration,
+				(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
+				FacadeProvider.getConfigFacade(),
+				out),
+			entityName);
+	}
+
+	private static StreamResource createCsvExportStreamResource(Consumer<OutputStream> csvContentWriter, ExportEntityName entityName) {
+
 		String exportFileName = createFileNameWithCurrentDate(entityName, ".csv");
 		StreamResource extendedStreamResource = new StreamResource(() -> new DelayedInputStream((out) -> {
 			try {
-				CsvStreamUtils.writeCsvContentToStream(
-					exportRowClass,
-					exportRowsSupplier,
-					propertyIdCaptionFunction,
-					exportConfiguration,
-					(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
-					FacadeProvider.getConfigFacade(),
-					out);
+				csvContentWriter.accept(out);
 			} catch (Exception e) {
 				LoggerFactory.getLogger(DownloadUtil.class).error(e.getMessage(), e);
 
@@ -5,13 +5,19 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import org.apache.commons.lang3.SerializationUtils;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.data.provider.CallbackDataProvider.CountCallback;
 import com.vaadin.data.provider.ConfigurableFilterDataProvider;
 import com.vaadin.data.provider.DataProvider;
 import com.vaadin.data.provider.Query;
 import com.vaadin.icons.VaadinIcons;
+import com.vaadin.server.SerializableFunction;
 import com.vaadin.server.SerializableSupplier;
 import com.vaadin.ui.Grid;
 import com.vaadin.ui.Label;
+import com.vaadin.ui.UI;
 import com.vaadin.ui.renderers.HtmlRenderer;
 
 import de.symeda.sormas.api.i18n.Captions;
@@ -32,10 +38,19 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 	 * For lazy loading: Defines how many entries are loaded into the grid when new data needs to be loaded for the visible range.
 	 */
 	private static final int LAZY_BATCH_SIZE = 100;
+	private static final int POLL_INTERVAL_MILLIS = 300;
 
 	private C criteria;
 	private boolean inEagerMode;
 
+	/**
+	 * Number of counts requested by the data provider, so the exact count determined in the background is only used for the count
+	 * right after it.
+	 */
+	private int countRequests;
+	private Integer exactCount;
+	private int exactCountRequest;
+
 	public FilteredGrid(Class<T> beanType) {
 		super(beanType);
 		getDataCommunicator().setMinPushSize(LAZY_BATCH_SIZE);
@@ -126,6 +141,64 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 		return getDataProvider().size(new Query<>());
 	}
 
+	/**
+	 * Count callback for lazy data providers of large index lists. If an estimate is available (e.g. the last count of the
+	 * criteria), it is returned right away and the exact count is determined in a thread of its own, so the grid is rendered
+	 * without waiting for the count. Once the exact count is known and differs from the estimate, the grid is refreshed with it.
+	 */
+	protected CountCallback<T, C> estimatedCount(SerializableFunction<C, Long> estimateFunction, SerializableFunction<C, Long> countFunction) {
+
+		return query -> {
+			C filter = query.getFilter().orElse(null);
+			int request = ++countRequests;
+			if (exactCount != null && exactCountRequest == request - 1) {
+				// the grid has been refreshed with the exact count determined for the previous request
+				int count = exactCount;
+				exactCount = null;
+				return count;
+			}
+			exactCount = null;
+
+			Long estimate = estimateFunction.apply(filter);
+			UI ui = UI.getCurrent();
+			if (estimate == null || ui == null) {
+				return countFunction.apply(filter).intValue();
+			}
+
+			// the criteria might be changed by the user while they are counted
+			C criteriaCopy = filter != null ? SerializationUtils.clone(filter) : null;
+			boolean enablePolling = ui.getPollInterval() < 0;
+			if (enablePolling) {
+				ui.setPollInterval(POLL_INTERVAL_MILLIS);
+			}
+			// the thread is started by the current request, so it runs in the security context of the user
+			Thread countThread = new Thread(() -> {
+				Long count = null;
+				try {
+					count = countFunction.apply(criteriaCopy);
+				} catch (RuntimeException e) {
+					LoggerFactory.getLogger(getClass()).error("Counting the entries of the grid failed", e);
+				}
+
+				Long exact = count;
+				ui.access(() -> {
+					if (enablePolling) {
+						ui.setPollInterval(-1);
+					}
+					if (exact != null && exact.longValue() != estimate && countRequests == request) {
+						exactCount = exact.intValue();
+						exactCountRequest = request;
+						getDataProvider().refreshAll();
+					}
+				});
+			}, "count-" + Thread.currentThread().getName());
+			countThread.setDaemon(true);
+			countThread.start();
+
+			return estimate.intValue();
+		};
+	}
+
 	/**
 	 * Add's a column to the left hand side of the grid complete with an edit-logo
 	 *
@@ -8,7 +8,9 @@ import java.io.Writer;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -28,6 +30,7 @@ import de.symeda.sormas.api.person.SimilarPersonDto;
 import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.user.UserRole;
 import de.symeda.sormas.ui.AbstractBeanTest;
+import de.symeda.sormas.ui.MockProducer;
 import de.symeda.sormas.ui.TestDataCreator;
 import de.symeda.sormas.ui.importer.CaseImportSimilarityInput;
 import de.symeda.sormas.ui.importer.CaseImportSimilarityResult;
@@ -226,6 +229,123 @@ public class CaseImporterTest extends AbstractBeanTest {
 		assertEquals(12, getCaseFacade().count(null));
 	}
 
+	@Test
+	public void testImportCasesInChunks() throws IOException, InvalidColumnException, InterruptedException, CsvValidationException, URISyntaxException {
+
+		TestDataCreator creator = new TestDataCreator();
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF("Abia", "Umuahia North", "Urban Ward 2", "Anelechi Hospital");
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+
+		MockProducer.getProperties().setProperty("importChunkSize", "2");
+		try {
+			// Successful import of 5 cases
+			File csvFile = new File(getClass().getClassLoader().getResource("sormas_import_test_success.csv").toURI());
+			CaseImporterExtension caseImporter = new CaseImporterExtension(csvFile, true, user);
+			ImportResultStatus importResult = caseImporter.runImport();
+
+			assertEquals(caseImporter.stringBuilder.toString(), ImportResultStatus.COMPLETED, importResult);
+			assertEquals(5, getCaseFacade().count(null));
+
+			// Errors are reported per line
+			csvFile = new File(getClass().getClassLoader().getResource("sormas_import_test_errors.csv").toURI());
+			caseImporter = new CaseImporterExtension(csvFile, true, user);
+			importResult = caseImporter.runImport();
+
+			assertEquals(ImportResultStatus.COMPLETED_WITH_ERRORS, importResult);
+			assertEquals(5, getCaseFacade().count(null));
+
+			// Similarities are still resolved by the user
+			csvFile = new File(getClass().getClassLoader().getResource("sormas_import_test_similarities.csv").toURI());
+			caseImporter = new CaseImporterExtension(csvFile, true, user) {
+
+				@Override
+				protected <T extends PersonImportSimilarityResult> void handlePersonSimilarity(
+					PersonDto newPerson,
+					Consumer<T> resultConsumer,
+					BiFunction<SimilarPersonDto, ImportSimilarityResultOption, T> createSimilarityResult,
+					String infoText,
+					UI currentUI) {
+					resultConsumer.accept((T) new CaseImportSimilarityResult(null, null, ImportSimilarityResultOption.SKIP));
+				}
+			};
+			importResult = caseImporter.runImport();
+
+			assertEquals(ImportResultStatus.COMPLETED, importResult);
+			assertEquals(5, getCaseFacade().count(null));
+		} finally {
+			MockProducer.getProperties().remove("importChunkSize");
+		}
+	}
+
+	@Test
+	public void testImportCasesInChunksWithDuplicatesInFile()
+		throws IOException, InvalidColumnException, InterruptedException, CsvValidationException, URISyntaxException {
+
+		TestDataCreator creator = new TestDataCreator();
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF("Abia", "Umuahia North", "Urban Ward 2", "Anelechi Hospital");
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+
+		MockProducer.getProperties().setProperty("importChunkSize", "2");
+		try {
+			File csvFile = new File(getClass().getClassLoader().getResource("sormas_import_test_file_duplicates.csv").toURI());
+			AtomicInteger similarities = new AtomicInteger();
+			CaseImporterExtension caseImporter = new CaseImporterExtension(csvFile, true, user) {
+
+				@Override
+				protected <T extends PersonImportSimilarityResult> void handlePersonSimilarity(
+					PersonDto newPerson,
+					Consumer<T> resultConsumer,
+					BiFunction<SimilarPersonDto, ImportSimilarityResultOption, T> createSimilarityResult,
+					String infoText,
+					UI currentUI) {
+					similarities.incrementAndGet();
+					resultConsumer.accept((T) new CaseImportSimilarityResult(null, null, ImportSimilarityResultOption.SKIP));
+				}
+			};
+			ImportResultStatus importResult = caseImporter.runImport();
+
+			// The second line of the same person is a potential duplicate of the first one
+			assertEquals(ImportResultStatus.COMPLETED, importResult);
+			assertEquals(1, similarities.get());
+			assertEquals(2, getCaseFacade().count(null));
+		} finally {
+			MockProducer.getProperties().remove("importChunkSize");
+		}
+	}
+
+	@Test
+	public void testDuplicateKeysIgnoreCaseAccentsAndNameOrder() throws IOException {
+
+		TestDataCreator.RDCF rdcf = new TestDataCreator().createRDCF("Abia", "Umuahia North", "Urban Ward 2", "Anelechi Hospital");
+		UserDto user = creator
+			.createUser(rdcf.region.getUuid(), rdcf.district.getUuid(), rdcf.facility.getUuid(), "Surv", "Sup", UserRole.SURVEILLANCE_SUPERVISOR);
+		CaseImporter caseImporter = new CaseImporterExtension(null, true, user);
+
+		String[] entityProperties = new String[] {
+			"person.firstName",
+			"person.lastName",
+			"person.passportNumber" };
+		assertEquals(
+			caseImporter.getDuplicateKeys(new String[] {
+				"Import Tést",
+				"One",
+				"" }, entityProperties),
+			caseImporter.getDuplicateKeys(new String[] {
+				"one",
+				"IMPORT-test",
+				null }, entityProperties));
+		assertEquals(
+			Arrays.asList("import one test", "passportNumber:X123"),
+			caseImporter.getDuplicateKeys(new String[] {
+				"Import Test",
+				"One",
+				" X123 " }, entityProperties));
+	}
+
 	@Test
 	public void testLineListingImport() throws IOException, InvalidColumnException, InterruptedException, CsvValidationException, URISyntaxException {
 		TestDataCreator.RDCF rdcf = new TestDataCreator().createRDCF("Abia", "Bende", "Bende Ward", "Bende Maternity Home");
@@ -1,11 +1,25 @@
 package de.symeda.sormas.ui.utils;
 
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.Assert;
@@ -106,4 +120,104 @@ public class DownloadUtilTest extends AbstractBeanTest {
 				+ "\",\"Available and cooperative\",\"\",\"" + shortDate + "\",\"Available and " + "cooperative\",\"\"\n",
 			IOUtils.toString(stream, StandardCharsets.UTF_8.name()));
 	}
+
+	@Test
+	public void testStreamingInputStreamPipesMoreThanItsBuffer() throws IOException {
+
+		byte[] content = new byte[1024 * 1024];
+		new Random(1).nextBytes(content);
+
+		try (InputStream stream = new DownloadUtil.StreamingInputStream(out -> out.write(content), e -> {
+		})) {
+			Assert.assertArrayEquals(content, IOUtils.toByteArray(stream));
+		}
+	}
+
+	@Test
+	public void testStreamingInputStreamPassesWriteExceptionToReader() throws IOException {
+
+		IOException writeException = new IOException("Export failed");
+		List<IOException> handledExceptions = new ArrayList<>();
+		try (InputStream stream = new DownloadUtil.StreamingInputStream(out -> {
+			out.write(new byte[10]);
+			throw writeException;
+		}, handledExceptions::add)) {
+			IOUtils.toByteArray(stream);
+			Assert.fail("The reader has to fail instead of seeing an incomplete export");
+		} catch (IOException e) {
+			Assert.assertSame(writeException, e);
+		}
+		Assert.assertEquals(Collections.singletonList(writeException), handledExceptions);
+
+		IllegalStateException runtimeException = new IllegalStateException("Export failed");
+		try (InputStream stream = new DownloadUtil.StreamingInputStream(out -> {
+			throw runtimeException;
+		}, handledExceptions::add)) {
+			IOUtils.toByteArray(stream);
+			Assert.fail("The reader has to fail instead of seeing an incomplete export");
+		} catch (IllegalStateException e) {
+			Assert.assertSame(runtimeException, e);
+		}
+	}
+
+	@Test
+	public void testAbandonedStreamingInputStreamStopsWriter() throws Exception {
+
+		CompletableFuture<IOException> writerResult = new CompletableFuture<>();
+		try (InputStream stream = new DownloadUtil.StreamingInputStream(out -> writeUntilFailure(out, writerResult), e -> {
+		}, 100)) {
+			// nothing is read
+			Assert.assertThat(writerResult.get(10, TimeUnit.SECONDS), instanceOf(InterruptedIOException.class));
+		}
+	}
+
+	@Test
+	public void testClosedStreamingInputStreamStopsWriter() throws Exception {
+
+		CompletableFuture<IOException> writerResult = new CompletableFuture<>();
+		InputStream stream = new DownloadUtil.StreamingInputStream(out -> writeUntilFailure(out, writerResult), e -> {
+		});
+		Assert.assertEquals(10, IOUtils.read(stream, new byte[10]));
+		stream.close();
+
+		Assert.assertThat(writerResult.get(10, TimeUnit.SECONDS), instanceOf(IOException.class));
+	}
+
+	private static void writeUntilFailure(OutputStream out, CompletableFuture<IOException> writerResult) throws IOException {
+
+		try {
+			while (true) {
+				out.write(new byte[1024]);
+			}
+		} catch (IOException e) {
+			writerResult.complete(e);
+			throw e;
+		}
+	}
+
+	@Test
+	public void testWriteCsvToZip() throws IOException {
+
+		Map<String, String> entries = new LinkedHashMap<>();
+		try (ZipInputStream zip = new ZipInputStream(new DownloadUtil.StreamingInputStream(out -> {
+			ZipOutputStream zos = new ZipOutputStream(out);
+			DownloadUtil.writeCsvToZip(
+				zos,
+				() -> new DownloadUtil.DelayedInputStream(csv -> csv.write("\"a\",\"b\"\n".getBytes(StandardCharsets.UTF_8)), e -> {
+				}),
+				"streamed.csv");
+			DownloadUtil.writeCsvToZip(zos, () -> new ByteArrayInputStream("\"c\",\"d\"\n".getBytes(StandardCharsets.UTF_8)), "buffered.csv");
+			zos.finish();
+		}, e -> {
+		}))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entries.put(entry.getName(), IOUtils.toString(zip, StandardCharsets.UTF_8));
+			}
+		}
+
+		Assert.assertEquals(2, entries.size());
+		Assert.assertEquals("\"a\",\"b\"\n", entries.get("streamed.csv"));
+		Assert.assertEquals("\"c\",\"d\"\n", entries.get("buffered.csv"));
+	}
 }